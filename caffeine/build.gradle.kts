@@ -61,6 +61,7 @@ dependencies {
   jmh(libs.bundles.coherence)
   jmh(libs.concurrentlinkedhashmap)
   jmh(sourceSets["codeGen"].output)
+  jmh(project(":simulator"))
 
   javaPoetImplementation(libs.guava)
   javaPoetImplementation(libs.javapoet)
@@ -172,7 +173,7 @@ tasks.jar {
   dependsOn(compileCodeGenJava)
   bundle.bnd(mapOf(
     "Bundle-SymbolicName" to "com.github.ben-manes.caffeine",
-    "Import-Package" to "",
+    "Import-Package" to "javax.management;resolution:=optional,jdk.jfr;resolution:=optional",
     "Export-Package" to listOf(
       "com.github.benmanes.caffeine",
       "com.github.benmanes.caffeine.cache",
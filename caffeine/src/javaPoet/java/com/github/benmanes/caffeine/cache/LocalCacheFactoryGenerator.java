@@ -16,6 +16,7 @@
 package com.github.benmanes.caffeine.cache;
 
 import static com.github.benmanes.caffeine.cache.Specifications.BOUNDED_LOCAL_CACHE;
+import static com.github.benmanes.caffeine.cache.Specifications.LOCAL_CACHE_FACTORY;
 import static com.github.benmanes.caffeine.cache.Specifications.kTypeVar;
 import static com.github.benmanes.caffeine.cache.Specifications.vTypeVar;
 import static com.google.common.collect.ImmutableList.toImmutableList;
@@ -32,11 +33,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Stream;
 
+import javax.lang.model.element.Modifier;
+
 import com.github.benmanes.caffeine.cache.local.AddConstructor;
 import com.github.benmanes.caffeine.cache.local.AddDeques;
 import com.github.benmanes.caffeine.cache.local.AddExpirationTicker;
@@ -60,8 +64,11 @@ import com.google.common.collect.Sets;
 import com.google.common.io.Resources;
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
+import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
@@ -80,6 +87,16 @@ public final class LocalCacheFactoryGenerator {
       new AddExpirationTicker(), new AddMaximum(), new AddFastPath(), new AddDeques(),
       new AddExpireAfterAccess(), new AddExpireAfterWrite(), new AddRefreshAfterWrite(),
       new AddPacer(), new Finalize());
+  private final Map<Feature, Integer> featureBits = Map.of(
+      Feature.WEAK_KEYS, 1 << 0,
+      Feature.INFIRM_VALUES, 1 << 1,
+      Feature.LISTENING, 1 << 2,
+      Feature.STATS, 1 << 3,
+      Feature.MAXIMUM_SIZE, 1 << 4,
+      Feature.MAXIMUM_WEIGHT, 1 << 5,
+      Feature.EXPIRE_ACCESS, 1 << 6,
+      Feature.EXPIRE_WRITE, 1 << 7,
+      Feature.REFRESH_WRITE, 1 << 8);
   private final List<TypeSpec> factoryTypes;
   private final Path directory;
 
@@ -132,6 +149,45 @@ public final class LocalCacheFactoryGenerator {
       TypeSpec cacheSpec = makeLocalCacheSpec(className, isLeaf, features);
       factoryTypes.add(cacheSpec);
     });
+    factoryTypes.add(makeRegistrySpec(classNameToFeatures));
+  }
+
+  /**
+   * Returns a registry that maps the bitmask of features to the cache's factory, which allows the
+   * lookup to avoid reflection. The bitmask must match {@code LocalCacheFactory.getFeatures}.
+   */
+  private TypeSpec makeRegistrySpec(NavigableMap<String, Set<Feature>> classNameToFeatures) {
+    var lookup = CodeBlock.builder().beginControlFlow("switch (features)");
+    classNameToFeatures.forEach((className, features) -> {
+      lookup.add("case $L:\n", encodeFeatures(features)).indent()
+          .addStatement("return $L.FACTORY", className).unindent();
+    });
+    lookup.add("default:\n").indent().addStatement("return null").unindent().endControlFlow();
+
+    return TypeSpec.classBuilder("LocalCacheFactories")
+        .addJavadoc("<em>WARNING: GENERATED CODE</em>\n\n"
+            + "The cache factories keyed by the bitmask of their features.\n")
+        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+            .addMember("value", "$S", "NullAway").build())
+        .addModifiers(Modifier.FINAL)
+        .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+        .addMethod(MethodSpec.methodBuilder("get")
+            .addJavadoc("Returns the factory for the features, or null if unknown.\n")
+            .addModifiers(Modifier.STATIC)
+            .addParameter(int.class, "features")
+            .returns(LOCAL_CACHE_FACTORY)
+            .addCode(lookup.build())
+            .build())
+        .build();
+  }
+
+  /** Returns the bitmask of the features, where the strong reference features are implied. */
+  private int encodeFeatures(Set<Feature> features) {
+    int bits = 0;
+    for (Feature feature : features) {
+      bits |= featureBits.getOrDefault(feature, 0);
+    }
+    return bits;
   }
 
   private NavigableMap<String, Set<Feature>> getClassNameToFeatures() {
@@ -31,11 +31,14 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Stream;
 
+import javax.lang.model.element.Modifier;
+
 import com.github.benmanes.caffeine.cache.node.AddConstructors;
 import com.github.benmanes.caffeine.cache.node.AddDeques;
 import com.github.benmanes.caffeine.cache.node.AddExpiration;
@@ -55,8 +58,11 @@ import com.google.common.collect.Sets;
 import com.google.common.io.Resources;
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
+import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
@@ -83,6 +89,15 @@ public final class NodeFactoryGenerator {
       new AddFactoryMethods(),  new AddHealth(), new Finalize());
   private final Feature[] featureByIndex = { null, null, Feature.EXPIRE_ACCESS,
       Feature.EXPIRE_WRITE, Feature.REFRESH_WRITE, Feature.MAXIMUM_SIZE, Feature.MAXIMUM_WEIGHT };
+  private final Map<Feature, Integer> featureBits = Map.of(
+      Feature.WEAK_KEYS, 1 << 0,
+      Feature.WEAK_VALUES, 1 << 1,
+      Feature.SOFT_VALUES, 1 << 2,
+      Feature.EXPIRE_ACCESS, 1 << 3,
+      Feature.EXPIRE_WRITE, 1 << 4,
+      Feature.REFRESH_WRITE, 1 << 5,
+      Feature.MAXIMUM_SIZE, 1 << 6,
+      Feature.MAXIMUM_WEIGHT, 1 << 7);
   private final List<TypeSpec> nodeTypes;
   private final Path directory;
 
@@ -135,6 +150,47 @@ public final class NodeFactoryGenerator {
       TypeSpec nodeSpec = makeNodeSpec(className, isLeaf, features);
       nodeTypes.add(nodeSpec);
     });
+    nodeTypes.add(makeRegistrySpec(classNameToFeatures));
+  }
+
+  /**
+   * Returns a registry that maps the bitmask of features to a new node factory, which allows the
+   * lookup to avoid reflection. The bitmask must match {@code NodeFactory.getFeatures}.
+   */
+  private TypeSpec makeRegistrySpec(NavigableMap<String, Set<Feature>> classNameToFeatures) {
+    var lookup = CodeBlock.builder().beginControlFlow("switch (features)");
+    classNameToFeatures.forEach((className, features) -> {
+      lookup.add("case $L:\n", encodeFeatures(features)).indent()
+          .addStatement("return new $L<>()", className).unindent();
+    });
+    lookup.add("default:\n").indent().addStatement("return null").unindent().endControlFlow();
+
+    var factoryType = ParameterizedTypeName.get(
+        ClassName.get(PACKAGE_NAME, "NodeFactory"), TypeName.OBJECT, TypeName.OBJECT);
+    return TypeSpec.classBuilder("NodeFactories")
+        .addJavadoc("<em>WARNING: GENERATED CODE</em>\n\n"
+            + "The node factories keyed by the bitmask of their features.\n")
+        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+            .addMember("value", "$S", "NullAway").build())
+        .addModifiers(Modifier.FINAL)
+        .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+        .addMethod(MethodSpec.methodBuilder("get")
+            .addJavadoc("Returns a factory for the features, or null if unknown.\n")
+            .addModifiers(Modifier.STATIC)
+            .addParameter(int.class, "features")
+            .returns(factoryType)
+            .addCode(lookup.build())
+            .build())
+        .build();
+  }
+
+  /** Returns the bitmask of the features, where the strong reference features are implied. */
+  private int encodeFeatures(Set<Feature> features) {
+    int bits = 0;
+    for (Feature feature : features) {
+      bits |= featureBits.getOrDefault(feature, 0);
+    }
+    return bits;
   }
 
   private NavigableMap<String, Set<Feature>> getClassNameToFeatures() {
@@ -73,7 +73,7 @@ public final class AddMaximum extends LocalCacheRule {
     context.cache.addField(FieldSpec.builder(
         FREQUENCY_SKETCH, "sketch", Modifier.FINAL).build());
     context.constructor.addCode(CodeBlock.builder()
-        .addStatement("this.sketch = new $T()", FREQUENCY_SKETCH)
+        .addStatement("this.sketch = new $T(builder.hasAdmissionDoorkeeper())", FREQUENCY_SKETCH)
         .beginControlFlow("if (builder.hasInitialCapacity())")
             .addStatement("long capacity = Math.min($L, $L)",
                 "builder.getMaximum()", "builder.getInitialCapacity()")
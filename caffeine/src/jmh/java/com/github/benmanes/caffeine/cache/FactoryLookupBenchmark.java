@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.benmanes.caffeine.FactoryBenchmark;
+
+/**
+ * Compares the strategies for resolving the generated cache and node classes when a cache is
+ * constructed, which dominates the startup cost of applications that create many caches. The
+ * reflective lookups are performed without the factory caches to capture the first-use cost.
+ * <p>
+ * <pre>{@code
+ *   ./gradlew jmh -PincludePattern=FactoryLookupBenchmark --no-daemon
+ * }</pre>
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@State(Scope.Benchmark)
+public class FactoryLookupBenchmark extends FactoryBenchmark {
+  private final Caffeine<Object, Object> builder = Caffeine.newBuilder()
+      .expireAfterAccess(Duration.ofMinutes(1))
+      .maximumSize(100);
+  private final String cacheClassName = LocalCacheFactory.getClassName(builder);
+  private final String nodeClassName = NodeFactory.getClassName(builder, /* isAsync */ false);
+
+  @Benchmark
+  public void lookup_registry(Blackhole blackhole) {
+    blackhole.consume(LocalCacheFactories.get(LocalCacheFactory.getFeatures(builder)));
+    blackhole.consume(NodeFactories.get(NodeFactory.getFeatures(builder, /* isAsync */ false)));
+  }
+
+  @Benchmark
+  public void lookup_cachedByName(Blackhole blackhole) {
+    blackhole.consume(LocalCacheFactory.loadFactory(LocalCacheFactory.getClassName(builder)));
+    blackhole.consume(NodeFactory.loadFactory(NodeFactory.getClassName(builder, false)));
+  }
+
+  @Benchmark
+  public void lookup_reflection(Blackhole blackhole) {
+    blackhole.consume(LocalCacheFactory.newFactory(cacheClassName));
+    blackhole.consume(NodeFactory.newFactory(nodeClassName));
+  }
+
+  @Benchmark
+  public void build(Blackhole blackhole) {
+    blackhole.consume(builder.build());
+  }
+}
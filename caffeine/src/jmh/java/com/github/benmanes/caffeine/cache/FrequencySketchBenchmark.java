@@ -28,6 +28,8 @@ import com.github.benmanes.caffeine.cache.sketch.TinyLfuSketch;
 import site.ycsb.generator.ScrambledZipfianGenerator;
 
 /**
+ * Compares the sketch implementations, where {@code BlockScalar} is the baseline for the
+ * vectorization friendly {@code Block} sketch used by the cache.
  * <pre>{@code
  *   ./gradlew jmh -PincludePattern=FrequencySketchBenchmark
  * }</pre>
@@ -41,7 +43,7 @@ public class FrequencySketchBenchmark {
   private static final int MASK = SIZE - 1;
   private static final int ITEMS = SIZE / 3;
 
-  @Param({"Flat", "Block"})
+  @Param({"Flat", "BlockScalar", "Block"})
   SketchType sketchType;
 
   @Param({"32768", "524288", "8388608", "134217728"})
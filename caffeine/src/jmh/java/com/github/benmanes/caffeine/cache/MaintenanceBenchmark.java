@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark that samples the latency of a write, which performs the cache's maintenance on the
+ * calling thread, in order to observe the worst case pause. The popularity sketch is brought close
+ * to the end of its sample period before every iteration so that each one includes its aging.
+ * <p>
+ * <pre>{@code
+ *   ./gradlew jmh -PincludePattern=MaintenanceBenchmark
+ * }</pre>
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("LexicographicalAnnotationAttributeListing")
+public class MaintenanceBenchmark {
+  /** The additions remaining in the sketch's sample period at the start of an iteration. */
+  static final int SAMPLE_HEADROOM = 100_000;
+
+  @Param("10000000")
+  int size;
+
+  BoundedLocalCache<Integer, Boolean> cache;
+  int key;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    Cache<Integer, Boolean> external = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .maximumSize(size)
+        .build();
+    for (key = 0; key < size; key++) {
+      external.put(key, Boolean.TRUE);
+    }
+    cache = (BoundedLocalCache<Integer, Boolean>) CacheGroup.boundedLocalCacheOf(external);
+    cache.cleanUp();
+  }
+
+  @Setup(Level.Iteration)
+  public void nearSampleEnd() {
+    cache.evictionLock.lock();
+    try {
+      var sketch = cache.frequencySketch();
+      sketch.size = Math.max(sketch.size, sketch.sampleSize - SAMPLE_HEADROOM);
+    } finally {
+      cache.evictionLock.unlock();
+    }
+  }
+
+  @Benchmark
+  public Boolean put() {
+    return cache.put(key++, Boolean.TRUE);
+  }
+}
@@ -78,6 +78,8 @@ public final class MemoryBenchmark {
     weakKeys_weakValues();
     weakKeys_softValues();
     softValues();
+    compactNodeTable();
+    frequencySketch();
   }
 
   private Caffeine<Object, Object> builder() {
@@ -205,6 +207,58 @@ public final class MemoryBenchmark {
     compare("Soft Values", caffeine, guava);
   }
 
+  private void compactNodeTable() {
+    int leftPadded = Math.max((36 - "Compact Node Table".length()) / 2 - 1, 1);
+    System.out.printf(US, " %2$-" + leftPadded + "s %s%n", "Compact Node Table", " ");
+    String result = FlipTable.of(new String[] { "Layout", "Baseline", "Per Entry" },
+        new String[][] {
+          evaluate("Maximum Size", new CompactNodeTable<>(FUZZY_SIZE, false, false, false)),
+          evaluate("Maximum Weight", new CompactNodeTable<>(FUZZY_SIZE, true, false, false)),
+          evaluate("Expire after Access", new CompactNodeTable<>(FUZZY_SIZE, false, true, false)),
+          evaluate("Expire after Write", new CompactNodeTable<>(FUZZY_SIZE, false, true, true)),
+    });
+    System.out.println(result);
+  }
+
+  private void frequencySketch() {
+    int leftPadded = Math.max((36 - "Frequency Sketch".length()) / 2 - 1, 1);
+    System.out.printf(US, " %2$-" + leftPadded + "s %s%n", "Frequency Sketch", " ");
+    String result = FlipTable.of(new String[] { "Mode", "Total", "Per Entry" },
+        new String[][] {
+          evaluate("Counters", new FrequencySketch<Integer>(/* useDoorkeeper */ false)),
+          evaluate("Doorkeeper", new FrequencySketch<Integer>(/* useDoorkeeper */ true)),
+    });
+    System.out.println(result);
+  }
+
+  private String[] evaluate(String label, FrequencySketch<Integer> sketch) {
+    sketch.ensureCapacity(MAXIMUM_SIZE);
+    long total = meter.measureDeep(sketch);
+    return new String[] {
+        label,
+        String.format(US, "%,d bytes", total),
+        String.format(US, "%.2f bytes", (double) total / MAXIMUM_SIZE)
+    };
+  }
+
+  private String[] evaluate(String label, CompactNodeTable<Integer, Integer> table) {
+    long base = meter.measureDeep(table);
+    workingSet.forEach((key, value) -> {
+      int slot = table.add(key, value);
+      table.accessOrderWindowDeque.offerLast(slot);
+    });
+
+    long populated = meter.measureDeep(table);
+    long entryOverhead = 2 * FUZZY_SIZE * meter.measureDeep(workingSet.keySet().iterator().next());
+    long perEntry = LongMath.divide(populated - entryOverhead - base,
+        FUZZY_SIZE, RoundingMode.HALF_EVEN);
+    return new String[] {
+        label,
+        String.format(US, "%,d bytes", base),
+        String.format(US, "%,d bytes", perEntry)
+    };
+  }
+
   private void compare(String label, Cache<Integer, Integer> caffeine,
       com.google.common.cache.Cache<Integer, Integer> guava) {
     caffeine.cleanUp();
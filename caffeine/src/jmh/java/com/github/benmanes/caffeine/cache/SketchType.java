@@ -16,6 +16,7 @@
 package com.github.benmanes.caffeine.cache;
 
 import com.github.benmanes.caffeine.cache.sketch.CountMinSketch;
+import com.github.benmanes.caffeine.cache.sketch.ScalarBlockSketch;
 import com.github.benmanes.caffeine.cache.sketch.TinyLfuSketch;
 
 /**
@@ -29,6 +30,11 @@ public enum SketchType {
       return new CountMinSketch<>(estimatedSize);
     }
   },
+  BlockScalar {
+    @Override public <E> TinyLfuSketch<E> create(long estimatedSize) {
+      return new ScalarBlockSketch<>(estimatedSize);
+    }
+  },
   Block {
     @Override public <E> TinyLfuSketch<E> create(long estimatedSize) {
       var frequencySketch = new FrequencySketch<E>();
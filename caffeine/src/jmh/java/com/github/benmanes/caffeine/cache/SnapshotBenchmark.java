@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+
+/**
+ * A benchmark that samples the latency of a write while another thread repeatedly snapshots the
+ * coldest entries. The {@code locked} mode holds the eviction lock for the entire traversal, so a
+ * writer that needs to perform the maintenance is stalled, whereas the {@code chunked} mode
+ * releases the lock between each chunk.
+ * <p>
+ * <pre>{@code
+ *   ./gradlew jmh -PincludePattern=SnapshotBenchmark
+ * }</pre>
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("LexicographicalAnnotationAttributeListing")
+public class SnapshotBenchmark {
+  static final int SNAPSHOT_SIZE = 100_000;
+  static final int CHUNK_SIZE = 1_000;
+
+  @Param("1000000")
+  int size;
+
+  @Param({"locked", "chunked"})
+  String mode;
+
+  Eviction<Integer, Boolean> eviction;
+  BoundedLocalCache<Integer, Boolean> cache;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    Cache<Integer, Boolean> external = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .maximumSize(size)
+        .build();
+    for (int i = 0; i < size; i++) {
+      external.put(i, Boolean.TRUE);
+    }
+    cache = (BoundedLocalCache<Integer, Boolean>) CacheGroup.boundedLocalCacheOf(external);
+    eviction = external.policy().eviction().orElseThrow();
+    cache.cleanUp();
+  }
+
+  @Benchmark @Group @GroupThreads(1)
+  public Boolean put() {
+    int key = ThreadLocalRandom.current().nextInt(2 * size);
+    return cache.put(key, Boolean.TRUE);
+  }
+
+  @Benchmark @Group @GroupThreads(1)
+  public long snapshot() {
+    if (mode.equals("locked")) {
+      return eviction.coldest(stream -> stream.limit(SNAPSHOT_SIZE).count());
+    }
+    return eviction.coldestInChunks(CHUNK_SIZE).limit(SNAPSHOT_SIZE).count();
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static java.util.Locale.US;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.github.benmanes.caffeine.cache.simulator.parser.TraceFormat;
+import com.github.benmanes.caffeine.cache.simulator.policy.AccessEvent;
+import com.google.common.base.Splitter;
+
+/**
+ * A benchmark that replays a trace concurrently from multiple threads, where a miss loads the
+ * value into the cache. Each thread starts at a random offset and cycles through the trace, so the
+ * key distribution and the resulting contention on the read and write buffers follows that of the
+ * recorded workload. The throughput mode reports the operations per second along with the hit and
+ * miss counts, and the hit ratio of each iteration is printed from those counters. The sample mode reports the latency
+ * percentiles.
+ * <p>
+ * A trace is specified as {@code format:path}, where the format is a simulator
+ * {@link TraceFormat} and the path is either a file or the name of a trace that is bundled in the
+ * format's package.
+ * <p>
+ * <pre>{@code
+ *   ./gradlew jmh -PincludePattern=TraceReplayBenchmark -PbenchmarkMode=thrpt,sample \
+ *       -PbenchmarkParameters=trace=wikipedia:/traces/wiki.1190153705.gz&maximumSize=100000 \
+ *       -Pthreads=16
+ * }</pre>
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@Threads(8)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@SuppressWarnings({"LexicographicalAnnotationAttributeListing", "PMD.SystemPrintln"})
+public class TraceReplayBenchmark {
+  /** The maximum number of events to retain from the trace. */
+  static final int MAX_EVENTS = 20_000_000;
+
+  @Param({
+    "Caffeine",
+    "Guava",
+    "Cache2k",
+    "Ehcache3",
+    "Coherence_Hybrid",
+    "LinkedHashMap_Lru",
+  })
+  CacheType cacheType;
+
+  @Param({
+    "cache2k:web07.trace.xz",
+    "corda:trace_vaultservice.gz",
+  })
+  String trace;
+
+  @Param("10000")
+  int maximumSize;
+
+  Set<Outcome> outcomes;
+  BasicCache<Long, Boolean> cache;
+  int distinctKeys;
+  Long[] keys;
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    int index;
+
+    @Setup
+    public void setup(TraceReplayBenchmark benchmark) {
+      index = ThreadLocalRandom.current().nextInt(benchmark.keys.length);
+    }
+  }
+
+  @AuxCounters
+  @State(Scope.Thread)
+  public static class Outcome {
+    public long hits;
+    public long misses;
+
+    @Setup
+    public void register(TraceReplayBenchmark benchmark) {
+      benchmark.outcomes.add(this);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      hits = 0;
+      misses = 0;
+    }
+  }
+
+  @Setup
+  public void setup() {
+    List<String> parts = Splitter.on(':').limit(2).splitToList(trace);
+    if (parts.size() != 2) {
+      throw new IllegalArgumentException("Expected format:path but was " + trace);
+    }
+
+    // Share the key instances, as a real workload would, so that the replay does not allocate
+    var canonical = new HashMap<Long, Long>();
+    try (var events = TraceFormat.named(parts.get(0))
+        .readFiles(List.of(parts.get(1))).events()) {
+      keys = events.limit(MAX_EVENTS)
+          .map(AccessEvent::key)
+          .map(key -> canonical.computeIfAbsent(key, k -> k))
+          .toArray(Long[]::new);
+    }
+    if (keys.length == 0) {
+      throw new IllegalArgumentException("Empty trace: " + trace);
+    }
+
+    outcomes = ConcurrentHashMap.newKeySet();
+    cache = cacheType.create(maximumSize);
+    distinctKeys = canonical.size();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    long hitCount = 0L;
+    long missCount = 0L;
+    for (var outcome : outcomes) {
+      hitCount += outcome.hits;
+      missCount += outcome.misses;
+    }
+    long requests = hitCount + missCount;
+    if (requests > 0) {
+      System.out.printf(US, "%nhit ratio: %.2f%% (%,d requests, %,d distinct keys)%n",
+          (100.0 * hitCount) / requests, requests, distinctKeys);
+    }
+    cache.cleanUp();
+  }
+
+  @Benchmark
+  public Boolean replay(ThreadState threadState, Outcome outcome) {
+    Long key = keys[threadState.index];
+    if (++threadState.index == keys.length) {
+      threadState.index = 0;
+    }
+
+    Boolean value = cache.get(key);
+    if (value == null) {
+      cache.put(key, Boolean.TRUE);
+      outcome.misses++;
+      return Boolean.FALSE;
+    }
+    outcome.hits++;
+    return value;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache.sketch;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import com.google.common.math.IntMath;
+
+/**
+ * The block-based frequency sketch as it was implemented before its operations were restructured
+ * to be friendly to the JIT compiler's vectorization. The reset traverses the table a word at a
+ * time and counts the odd counters using a population count per word, while the frequency and
+ * increment operations gather the counter positions into temporary arrays. This is retained as a
+ * baseline for comparison.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class ScalarBlockSketch<E> implements TinyLfuSketch<E> {
+  static final long RESET_MASK = 0x7777777777777777L;
+  static final long ONE_MASK = 0x1111111111111111L;
+
+  final int sampleSize;
+  final int blockMask;
+  final long[] table;
+  int size;
+
+  public ScalarBlockSketch(@NonNegative long maximumSize) {
+    checkArgument(maximumSize >= 0);
+    int maximum = (int) Math.min(maximumSize, Integer.MAX_VALUE >>> 1);
+    table = new long[Math.max(IntMath.ceilingPowerOfTwo(Math.max(maximum, 1)), 8)];
+    int samples = (maximumSize == 0) ? 10 : (10 * maximum);
+    sampleSize = (samples <= 0) ? Integer.MAX_VALUE : samples;
+    blockMask = (table.length >>> 3) - 1;
+  }
+
+  @Override
+  @NonNegative
+  public int frequency(E e) {
+    int[] count = new int[4];
+    int blockHash = spread(e.hashCode());
+    int counterHash = rehash(blockHash);
+    int block = (blockHash & blockMask) << 3;
+    for (int i = 0; i < 4; i++) {
+      int h = counterHash >>> (i << 3);
+      int index = (h >>> 1) & 15;
+      int offset = h & 1;
+      count[i] = (int) ((table[block + offset + (i << 1)] >>> (index << 2)) & 0xfL);
+    }
+    return Math.min(Math.min(count[0], count[1]), Math.min(count[2], count[3]));
+  }
+
+  @Override
+  @SuppressWarnings("ShortCircuitBoolean")
+  public void increment(E e) {
+    int[] index = new int[8];
+    int blockHash = spread(e.hashCode());
+    int counterHash = rehash(blockHash);
+    int block = (blockHash & blockMask) << 3;
+    for (int i = 0; i < 4; i++) {
+      int h = counterHash >>> (i << 3);
+      index[i] = (h >>> 1) & 15;
+      int offset = h & 1;
+      index[i + 4] = block + offset + (i << 1);
+    }
+    boolean added =
+          incrementAt(index[4], index[0])
+        | incrementAt(index[5], index[1])
+        | incrementAt(index[6], index[2])
+        | incrementAt(index[7], index[3]);
+
+    if (added && (++size == sampleSize)) {
+      reset();
+    }
+  }
+
+  /** Increments the specified counter by 1 if it is not already at the maximum value (15). */
+  boolean incrementAt(int i, int j) {
+    int offset = j << 2;
+    long mask = (0xfL << offset);
+    if ((table[i] & mask) != mask) {
+      table[i] += (1L << offset);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void reset() {
+    int count = 0;
+    for (int i = 0; i < table.length; i++) {
+      count += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    size = (size - (count >>> 2)) >>> 1;
+  }
+
+  /** Applies a supplemental hash functions to defends against poor quality hash. */
+  static int spread(int x) {
+    x ^= x >>> 17;
+    x *= 0xed5ad4bb;
+    x ^= x >>> 11;
+    x *= 0xac4c1b51;
+    x ^= x >>> 15;
+    return x;
+  }
+
+  /** Applies another round of hashing for additional randomization. */
+  static int rehash(int x) {
+    x *= 0x31848bab;
+    x ^= x >>> 14;
+    return x;
+  }
+}
@@ -16,10 +16,12 @@
 package com.github.benmanes.caffeine.cache;
 
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -159,6 +161,41 @@ public interface AsyncCache<K, V> {
       BiFunction<? super Set<? extends K>, ? super Executor,
           ? extends CompletableFuture<? extends Map<? extends K, ? extends V>>> mappingFunction);
 
+  /**
+   * Returns a publisher of the entries associated with {@code keys}, creating or retrieving those
+   * values if necessary. Unlike {@link #getAll}, an entry is emitted as soon as its value is
+   * available rather than after all of the values have been loaded, so the entries that were
+   * already cached are emitted first and the newly loaded entries follow in the order that they
+   * complete. The publisher never emits null keys or values, nor an entry for a key that was not
+   * found. If any of the asynchronous computations fail then the stream is terminated with that
+   * error and the failed entries are automatically removed from this cache.
+   * <p>
+   * Each subscription performs its own lookup when it is subscribed. A single request to the
+   * {@code mappingFunction} is performed for all keys which are not already present in the cache,
+   * and the subscriber's demand is forwarded to the publisher that it returns. The entries that are
+   * loaded are stored into the cache as they arrive, so a subscriber that consumes them at its own
+   * pace does not require the results to be held until the load completes. Any loaded values for
+   * keys that were not specifically requested will not be emitted, but will be stored in the
+   * cache. If the subscription is cancelled then the load is cancelled and the entries that were
+   * not yet loaded are removed from this cache, unless another caller is waiting on one of those
+   * entries in which case the load continues in the background for them.
+   * <p>
+   * Note that duplicate elements in {@code keys}, as determined by {@link Object#equals}, will be
+   * ignored.
+   *
+   * @param keys the keys whose associated values are to be emitted
+   * @param mappingFunction the function to publish the computed entries, optionally using the
+   *        given executor
+   * @return a publisher of the mappings of the specified keys in this cache
+   * @throws NullPointerException if the specified collection or mappingFunction is null
+   * @throws UnsupportedOperationException if this cache does not support streaming lookups
+   */
+  default Publisher<Entry<K, V>> getAllPublisher(Iterable<? extends K> keys,
+      BiFunction<? super Set<? extends K>, ? super Executor,
+          ? extends Publisher<? extends Entry<? extends K, ? extends V>>> mappingFunction) {
+    throw new UnsupportedOperationException();
+  }
+
   // 插入操作
 
   /**
@@ -18,9 +18,11 @@ package com.github.benmanes.caffeine.cache;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -88,6 +90,37 @@ public interface AsyncCacheLoader<K, V> {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Asynchronously computes or retrieves the values corresponding to {@code keys} as a stream of
+   * entries. This method is called by {@link AsyncLoadingCache#getAllPublisher}, which forwards its
+   * subscriber's demand to the returned publisher and stores each entry in the cache as it arrives.
+   * <p>
+   * If the stream completes without an entry for each of the requested {@code keys} then those
+   * keys are treated as absent. If the stream contains extra keys not present in {@code keys} then
+   * those entries will be cached, but will not be emitted by {@code getAllPublisher}. If the
+   * stream fails then the entries that were not yet loaded are removed from the cache.
+   * <p>
+   * This method should be overridden when the values are retrieved from a source that produces its
+   * results incrementally, such as a paged query. Note that
+   * {@link AsyncLoadingCache#getAllPublisher} will defer to {@link AsyncLoadingCache#getAll} if
+   * this method is not overridden.
+   * <p>
+   * <b>Warning:</b> loading <b>must not</b> attempt to update any mappings of this cache directly.
+   *
+   * @param keys the unique, non-null keys whose values should be loaded
+   * @param executor the executor with which the entries may be asynchronously loaded with
+   * @return a publisher of the entries for the keys in {@code keys}; <b>may not contain null
+   *         values</b>
+   * @throws Exception or Error, in which case the mappings are unchanged
+   * @throws InterruptedException if this method is interrupted. {@code InterruptedException} is
+   *         treated like any other {@code Exception} in all respects except that, when it is
+   *         caught, the thread's interrupt status is set
+   */
+  default Publisher<? extends Entry<? extends K, ? extends V>> asyncLoadAllPublisher(
+      Set<? extends K> keys, Executor executor) throws Exception {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Asynchronously computes or retrieves a replacement value corresponding to an already-cached
    * {@code key}. If the replacement value is not found then the mapping will be removed if
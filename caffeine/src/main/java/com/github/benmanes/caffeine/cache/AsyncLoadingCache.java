@@ -16,7 +16,9 @@
 package com.github.benmanes.caffeine.cache;
 
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
 
 /**
  * A semi-persistent mapping from keys to values. Values are automatically loaded by the cache
@@ -82,6 +84,33 @@ public interface AsyncLoadingCache<K, V> extends AsyncCache<K, V> {
    */
   CompletableFuture<Map<K, V>> getAll(Iterable<? extends K> keys);
 
+  /**
+   * Returns a publisher of the entries associated with {@code keys}, creating or retrieving those
+   * values if necessary. An entry is emitted as soon as its value is available, so the entries that
+   * were already cached are emitted first and the newly loaded entries follow in the order that
+   * they complete. The publisher never emits null keys or values, nor an entry for a key that was
+   * not found. If any of the asynchronous computations fail then the stream is terminated with that
+   * error and the failed entries are automatically removed from this cache.
+   * <p>
+   * Caches loaded by a {@link AsyncCacheLoader} that implements
+   * {@link AsyncCacheLoader#asyncLoadAllPublisher} will issue a single request to it for all keys
+   * which are not already present in the cache, forward the subscriber's demand to the loader, and
+   * store each loaded entry as it arrives. Otherwise the keys are loaded as by {@link #getAll} and
+   * each entry is emitted once its load completes. Each subscription performs its own lookup when
+   * it is subscribed, and cancelling it cancels the streaming load.
+   * <p>
+   * Note that duplicate elements in {@code keys}, as determined by {@link Object#equals}, will be
+   * ignored.
+   *
+   * @param keys the keys whose associated values are to be emitted
+   * @return a publisher of the mappings of the specified keys in this cache
+   * @throws NullPointerException if the specified collection is null
+   * @throws UnsupportedOperationException if this cache does not support streaming lookups
+   */
+  default Publisher<Entry<K, V>> getAllPublisher(Iterable<? extends K> keys) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Returns a view of the entries stored in this cache as a synchronous {@link LoadingCache}. A
    * mapping is not present if the value is currently being loaded. Modifications made to the
@@ -50,11 +50,12 @@ import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -64,6 +65,7 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.Spliterators.AbstractSpliterator;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -80,6 +82,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -231,14 +234,23 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
   static final long WARN_AFTER_LOCK_WAIT_NANOS = TimeUnit.SECONDS.toNanos(30);
   /** The number of retries before computing to validate the entry's integrity; pow2 modulus. */
   static final int MAX_PUT_SPIN_WAIT_ATTEMPTS = 1024 - 1;
+  /** The minimum number of entries for a clear to replace the table rather than empty it. */
+  static final int LAZY_CLEAR_THRESHOLD = 1 << 16;
+  /** The maximum number of cleared entries to reclaim per maintenance cycle. */
+  static final int RECLAIM_BATCH_SIZE = 1 << 12;
   /** The handle for the in-flight refresh operations. */
   static final VarHandle REFRESHES;
 
   final @Nullable RemovalListener<K, V> evictionListener;
   final @Nullable AsyncCacheLoader<K, V> cacheLoader;
+  @GuardedBy("evictionLock")
+  final @Nullable TagIndex<K, V> tagIndex;
+  final @Nullable Supplier<? extends WindowClimber> climberSupplier;
+  @GuardedBy("evictionLock")
+  final @Nullable WindowClimber climber;
 
   final MpscGrowableArrayQueue<Runnable> writeBuffer;
-  final ConcurrentHashMap<Object, Node<K, V>> data;
+  volatile ConcurrentHashMap<Object, Node<K, V>> data;
   final PerformCleanupTask drainBuffersTask;
   final Consumer<Node<K, V>> accessPolicy;
   final Buffer<Node<K, V>> readBuffer;
@@ -247,6 +259,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
   final Weigher<K, V> weigher;
   final Executor executor;
 
+  final boolean coalesceWeights;
   final boolean isWeighted;
   final boolean isAsync;
 
@@ -254,6 +267,9 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
   @Nullable Collection<V> values;
   @Nullable Set<Entry<K, V>> entrySet;
   @Nullable volatile ConcurrentMap<Object, CompletableFuture<?>> refreshes;
+  @GuardedBy("evictionLock") CacheGroup.@Nullable Member groupMember;
+  @GuardedBy("evictionLock") @Nullable ArrayDeque<ConcurrentHashMap<Object, Node<K, V>>> cleared;
+  @GuardedBy("evictionLock") @Nullable Iterator<Node<K, V>> reclaiming;
 
   /** Creates an instance based on the builder's configuration. */
   @SuppressWarnings("GuardedBy")
@@ -263,12 +279,17 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     this.cacheLoader = cacheLoader;
     executor = builder.getExecutor();
     isWeighted = builder.isWeighted();
+    coalesceWeights = builder.isCoalescingWeights();
     evictionLock = new ReentrantLock();
     weigher = builder.getWeigher(isAsync);
     drainBuffersTask = new PerformCleanupTask(this);
     nodeFactory = NodeFactory.newFactory(builder, isAsync);
     evictionListener = builder.getEvictionListener(isAsync);
     data = new ConcurrentHashMap<>(builder.getInitialCapacity());
+    Function<K, ?> tagExtractor = builder.getTagExtractor();
+    tagIndex = (tagExtractor == null) ? null : new TagIndex<>(tagExtractor);
+    climberSupplier = builder.getWindowClimberSupplier();
+    climber = builder.getWindowClimber();
     readBuffer = evicts() || collectKeys() || collectValues() || expiresAfterAccess()
         ? new BoundedBuffer<>()
         : Buffer.disabled();
@@ -705,8 +726,11 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     if (!evicts()) {
       return;
     }
+    var event = CacheEvents.beginEviction();
+    long weightedSize = weightedSize();
     var candidate = evictFromWindow();
     evictFromMain(candidate);
+    CacheEvents.commitEviction(event, this, weightedSize - weightedSize());
   }
 
   /**
@@ -1020,6 +1044,13 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
   @GuardedBy("evictionLock")
   @SuppressWarnings({"GuardedByChecker", "NullAway", "PMD.CollapsibleIfStatements"})
   boolean evictEntry(Node<K, V> node, RemovalCause cause, long now) {
+    // A cleared entry is discarded explicitly rather than evicted when chosen as a victim
+    var table = clearedTableOf(node);
+    if (table != null) {
+      removeNode(table, node, expirationTicker().read());
+      return true;
+    }
+
     K key = node.getKey();
     @SuppressWarnings("unchecked")
     V[] value = (V[]) new Object[1];
@@ -1112,16 +1143,31 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     return true;
   }
 
-  /** Adapts the eviction policy to towards the optimal recency / frequency configuration. */
+  /**
+   * Adapts the eviction policy to towards the optimal recency / frequency configuration, using the
+   * configured {@link WindowClimber} if present or else the built-in hill climber.
+   */
   @GuardedBy("evictionLock")
   void climb() {
     if (!evicts()) {
       return;
     }
 
-    determineAdjustment();
+    if (climber == null) {
+      determineAdjustment();
+    } else {
+      long step = climber.adapt(windowMaximum(), maximum());
+      if (step != 0) {
+        setAdjustment(step);
+      }
+
+      // The sample is only evaluated by the built-in climber, so discard it to stay bounded
+      setMissesInSample(0);
+      setHitsInSample(0);
+    }
     demoteFromMainProtected();
     long amount = adjustment();
+    long windowMaximum = windowMaximum();
     if (amount == 0) {
       return;
     } else if (amount > 0) {
@@ -1129,6 +1175,17 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     } else {
       decreaseWindow();
     }
+    if (windowMaximum != windowMaximum()) {
+      CacheEvents.adaptation(this, windowMaximum() - windowMaximum);
+    }
+  }
+
+  /** Performs a bounded amount of the popularity sketch's incremental aging, if in progress. */
+  @GuardedBy("evictionLock")
+  void ageSketch() {
+    if (evicts()) {
+      frequencySketch().age();
+    }
   }
 
   /** Calculates the amount to adapt the window by and sets {@link #adjustment()} accordingly. */
@@ -1318,6 +1375,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         && ((writeTime & 1L) == 0L) && !(refreshes = refreshes()).containsKey(keyReference)
         && node.isAlive() && node.casWriteTime(writeTime, refreshWriteTime)) {
       long[] startTime = new long[1];
+      long eventStartTime = CacheEvents.refreshStartTime();
       @SuppressWarnings({"rawtypes", "unchecked"})
       CompletableFuture<? extends V>[] refreshFuture = new CompletableFuture[1];
       try {
@@ -1360,6 +1418,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
       var refreshed = refreshFuture[0].handle((newValue, error) -> {
         long loadTime = statsTicker().read() - startTime[0];
+        CacheEvents.refresh(this, eventStartTime, newValue != null);
         if (error != null) {
           if (!(error instanceof CancellationException) && !(error instanceof TimeoutException)) {
             logger.log(Level.WARNING, "Exception thrown during refresh", error);
@@ -1519,6 +1578,28 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     }
   }
 
+  /**
+   * Performs the post-processing work required after a write that updated an existing entry. When
+   * the weight changes are coalesced and an earlier update is still pending, as indicated by the
+   * policy's weight lagging behind the entry's prior weight, then the pending task applies this
+   * change as well and another is not scheduled. The full fence pairs with the one in
+   * {@link #reconcileWeight} so that either this writer observes the policy's weight catching up
+   * and schedules a task, or the maintenance observes this writer's weight.
+   *
+   * @param node the entry that was updated
+   * @param oldWeight the entry's weight prior to the write
+   * @param weightDifference the change in the entry's weight
+   */
+  void afterUpdate(Node<K, V> node, int oldWeight, int weightDifference) {
+    if (coalesceWeights && (weightDifference != 0)) {
+      VarHandle.fullFence();
+      if (node.getPolicyWeight() != oldWeight) {
+        return;
+      }
+    }
+    afterWrite(new UpdateTask(node, weightDifference));
+  }
+
   /**
    * Performs the post-processing work required after a write.
    *
@@ -1543,6 +1624,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     // running computation due to an eviction listener, the victim is being computed on by a writer,
     // or the victim residing in the same hash bin as a computing entry. In those cases a warning is
     // logged to encourage the application to decouple these computations from the map operations.
+    var event = CacheEvents.beginBackpressure();
     lock();
     try {
       maintenance(task);
@@ -1551,6 +1633,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     } finally {
       evictionLock.unlock();
     }
+    CacheEvents.commitBackpressure(event, this);
     rescheduleCleanUpIfIncomplete();
   }
 
@@ -1704,6 +1787,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
    */
   @GuardedBy("evictionLock")
   void maintenance(@Nullable Runnable task) {
+    var event = CacheEvents.beginMaintenance();
     setDrainStatusRelease(PROCESSING_TO_IDLE);
 
     try {
@@ -1716,16 +1800,19 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
       drainKeyReferences();
       drainValueReferences();
+      reclaimClearedEntries();
 
       expireEntries();
       evictEntries();
 
       climb();
+      ageSketch();
     } finally {
       if ((drainStatusOpaque() != PROCESSING_TO_IDLE)
           || !casDrainStatus(PROCESSING_TO_IDLE, IDLE)) {
         setDrainStatusOpaque(REQUIRED);
       }
+      CacheEvents.commitMaintenance(event, this);
     }
   }
 
@@ -1761,6 +1848,49 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     }
   }
 
+  /**
+   * Removes a batch of the entries that remain in the tables that were replaced by a clear. If the
+   * batch was exhausted before the tables were emptied then another maintenance cycle is requested.
+   */
+  @GuardedBy("evictionLock")
+  void reclaimClearedEntries() {
+    if (cleared == null) {
+      return;
+    }
+    long now = expirationTicker().read();
+    for (int i = 0; i < RECLAIM_BATCH_SIZE; i++) {
+      var table = cleared.peek();
+      if (table == null) {
+        cleared = null;
+        return;
+      }
+      if (reclaiming == null) {
+        reclaiming = table.values().iterator();
+      }
+      if (reclaiming.hasNext()) {
+        removeNode(table, reclaiming.next(), now);
+      } else {
+        reclaiming = null;
+        cleared.poll();
+      }
+    }
+    setDrainStatusOpaque(REQUIRED);
+  }
+
+  /** Returns the table replaced by a clear that the node remains in, or null if not present. */
+  @GuardedBy("evictionLock")
+  @Nullable ConcurrentHashMap<Object, Node<K, V>> clearedTableOf(Node<K, V> node) {
+    if (cleared != null) {
+      Object keyReference = node.getKeyReference();
+      for (var table : cleared) {
+        if (table.get(keyReference) == node) {
+          return table;
+        }
+      }
+    }
+    return null;
+  }
+
   /** Drains the read buffer. */
   @GuardedBy("evictionLock")
   void drainReadBuffer() {
@@ -1778,6 +1908,9 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         return;
       }
       frequencySketch().increment(key);
+      if (groupMember != null) {
+        groupMember.recordHit();
+      }
       if (node.inWindow()) {
         reorder(accessOrderWindowDeque(), node);
       } else if (node.inMainProbation()) {
@@ -1786,6 +1919,9 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         reorder(accessOrderProtectedDeque(), node);
       }
       setHitsInSample(hitsInSample() + 1);
+      if (climber != null) {
+        climber.onHit(key);
+      }
     } else if (expiresAfterAccess()) {
       reorder(accessOrderWindowDeque(), node);
     }
@@ -1837,8 +1973,8 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
   }
 
   /**
-   * Atomically transitions the node to the <tt>dead</tt> state and decrements the
-   * <tt>weightedSize</tt>.
+   * Atomically transitions the node to the <tt>dead</tt> state, decrements the
+   * <tt>weightedSize</tt>, and removes it from the tag index.
    *
    * @param node the entry in the page replacement policy
    */
@@ -1851,13 +1987,19 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
       if (evicts()) {
         // The node's policy weight may be out of sync due to a pending update waiting to be
         // processed. At this point the node's weight is finalized, so the weight can be safely
-        // taken from the node's perspective and the sizes will be adjusted correctly.
+        // taken from the node's perspective and the sizes will be adjusted correctly. When the
+        // updates are coalesced, a pending task skips an entry that is no longer alive, so the
+        // weight that the policy applied is removed instead.
+        int weight = coalesceWeights ? node.getPolicyWeight() : node.getWeight();
         if (node.inWindow()) {
-          setWindowWeightedSize(windowWeightedSize() - node.getWeight());
+          setWindowWeightedSize(windowWeightedSize() - weight);
         } else if (node.inMainProtected()) {
-          setMainProtectedWeightedSize(mainProtectedWeightedSize() - node.getWeight());
+          setMainProtectedWeightedSize(mainProtectedWeightedSize() - weight);
         }
-        setWeightedSize(weightedSize() - node.getWeight());
+        setWeightedSize(weightedSize() - weight);
+      }
+      if (tagIndex != null) {
+        tagIndex.remove(node);
       }
       node.die();
     }
@@ -1877,6 +2019,12 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     @GuardedBy("evictionLock")
     @SuppressWarnings("FutureReturnValueIgnored")
     public void run() {
+      // when coalescing, the entry may have been resized since it was added or already removed
+      int weight = this.weight;
+      if (coalesceWeights) {
+        VarHandle.fullFence();
+        weight = node.isAlive() ? (node.getWeight() - node.getPolicyWeight()) : 0;
+      }
       if (evicts()) {
         setWeightedSize(weightedSize() + weight);
         setWindowWeightedSize(windowWeightedSize() + weight);
@@ -1895,7 +2043,14 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
         K key = node.getKey();
         if (key != null) {
+          if (groupMember != null) {
+            // A miss for a recently observed key indicates that a larger cache would have hit
+            groupMember.recordMiss(frequencySketch().frequency(key) > 0);
+          }
           frequencySketch().increment(key);
+          if (climber != null) {
+            climber.onMiss(key);
+          }
         }
 
         setMissesInSample(missesInSample() + 1);
@@ -1907,6 +2062,9 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         isAlive = node.isAlive();
       }
       if (isAlive) {
+        if (tagIndex != null) {
+          tagIndex.add(node);
+        }
         if (expiresAfterWrite()) {
           writeOrderDeque().offerLast(node);
         }
@@ -1937,6 +2095,10 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
           }
         }
       }
+
+      if (coalesceWeights) {
+        reconcileWeight(node);
+      }
     }
   }
 
@@ -1989,39 +2151,77 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         timerWheel().reschedule(node);
       }
       if (evicts()) {
-        int oldWeightedSize = node.getPolicyWeight();
-        node.setPolicyWeight(oldWeightedSize + weightDifference);
-        if (node.inWindow()) {
-          setWindowWeightedSize(windowWeightedSize() + weightDifference);
-          if (node.getPolicyWeight() > maximum()) {
-            evictEntry(node, RemovalCause.SIZE, expirationTicker().read());
-          } else if (node.getPolicyWeight() <= windowMaximum()) {
-            onAccess(node);
-          } else if (accessOrderWindowDeque().contains(node)) {
-            accessOrderWindowDeque().moveToFront(node);
-          }
-        } else if (node.inMainProbation()) {
-            if (node.getPolicyWeight() <= maximum()) {
-              onAccess(node);
-            } else {
-              evictEntry(node, RemovalCause.SIZE, expirationTicker().read());
-            }
-        } else if (node.inMainProtected()) {
-          setMainProtectedWeightedSize(mainProtectedWeightedSize() + weightDifference);
-          if (node.getPolicyWeight() <= maximum()) {
-            onAccess(node);
-          } else {
-            evictEntry(node, RemovalCause.SIZE, expirationTicker().read());
-          }
+        if (coalesceWeights) {
+          reconcileWeight(node);
+        } else {
+          updateWeight(node, weightDifference);
         }
+      } else if (expiresAfterAccess()) {
+        onAccess(node);
+      }
+    }
+  }
 
-        setWeightedSize(weightedSize() + weightDifference);
-        if (weightedSize() > MAXIMUM_CAPACITY) {
-          evictEntries();
+  /**
+   * Applies the change in the entry's weight to the eviction policy, evicting it if it now exceeds
+   * the maximum.
+   *
+   * @param node the entry that was resized
+   * @param weightDifference the change in the entry's weight
+   */
+  @GuardedBy("evictionLock")
+  void updateWeight(Node<K, V> node, int weightDifference) {
+    int oldWeightedSize = node.getPolicyWeight();
+    node.setPolicyWeight(oldWeightedSize + weightDifference);
+    if (node.inWindow()) {
+      setWindowWeightedSize(windowWeightedSize() + weightDifference);
+      if (node.getPolicyWeight() > maximum()) {
+        evictEntry(node, RemovalCause.SIZE, expirationTicker().read());
+      } else if (node.getPolicyWeight() <= windowMaximum()) {
+        onAccess(node);
+      } else if (accessOrderWindowDeque().contains(node)) {
+        accessOrderWindowDeque().moveToFront(node);
+      }
+    } else if (node.inMainProbation()) {
+        if (node.getPolicyWeight() <= maximum()) {
+          onAccess(node);
+        } else {
+          evictEntry(node, RemovalCause.SIZE, expirationTicker().read());
         }
-      } else if (expiresAfterAccess()) {
+    } else if (node.inMainProtected()) {
+      setMainProtectedWeightedSize(mainProtectedWeightedSize() + weightDifference);
+      if (node.getPolicyWeight() <= maximum()) {
         onAccess(node);
+      } else {
+        evictEntry(node, RemovalCause.SIZE, expirationTicker().read());
+      }
+    }
+
+    setWeightedSize(weightedSize() + weightDifference);
+    if (weightedSize() > MAXIMUM_CAPACITY) {
+      evictEntries();
+    }
+  }
+
+  /**
+   * Applies the weight changes that writers coalesced into the entry's pending task. A writer that
+   * resized the entry while the task was running may have observed it as pending and skipped
+   * scheduling another, so the entry is rechecked after the policy's weight was written. The full
+   * fence pairs with the one in {@link #afterUpdate} so that the recheck observes the writer's
+   * weight if the writer observed the stale policy weight. An entry that is no longer alive is
+   * skipped, as its removal subtracts the policy's weight.
+   *
+   * @param node the entry that may have been resized
+   */
+  @GuardedBy("evictionLock")
+  void reconcileWeight(Node<K, V> node) {
+    for (;;) {
+      VarHandle.fullFence();
+      int weightDifference = node.getWeight() - node.getPolicyWeight();
+      if ((weightDifference == 0) || !node.isAlive()) {
+        return;
       }
+      updateWeight(node, weightDifference);
     }
   }
 
@@ -2044,7 +2244,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
   @Override
   public void clear() {
-    Deque<Node<K, V>> entries;
+    Iterator<Node<K, V>> entries;
     evictionLock.lock();
     try {
       // Discard all pending reads
@@ -2062,21 +2262,40 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         pacer.cancel();
       }
 
-      // Discard all entries, falling back to one-by-one to avoid excessive lock hold times
-      long now = expirationTicker().read();
-      int threshold = (WRITE_BUFFER_MAX / 2);
-      entries = new ArrayDeque<>(data.values());
-      while (!entries.isEmpty() && (writeBuffer.size() < threshold)) {
-        removeNode(entries.poll(), now);
+      // A large table is replaced so that the cache is emptied in constant time, and its entries
+      // are removed from the policy in batches by the subsequent maintenance cycles
+      var table = data;
+      if (table.mappingCount() >= LAZY_CLEAR_THRESHOLD) {
+        var pending = refreshes;
+        if (pending != null) {
+          pending.clear();
+        }
+        if (cleared == null) {
+          cleared = new ArrayDeque<>();
+        }
+        cleared.add(table);
+        data = new ConcurrentHashMap<>();
+        setDrainStatusOpaque(REQUIRED);
+        entries = Collections.emptyIterator();
+      } else {
+        // Discard all entries, falling back to one-by-one to avoid excessive lock hold times. The
+        // table is traversed in place rather than copied, as a snapshot of a large cache is costly.
+        long now = expirationTicker().read();
+        int threshold = (WRITE_BUFFER_MAX / 2);
+        entries = table.values().iterator();
+        while (entries.hasNext() && (writeBuffer.size() < threshold)) {
+          removeNode(table, entries.next(), now);
+        }
       }
     } finally {
       evictionLock.unlock();
     }
+    rescheduleCleanUpIfIncomplete();
 
     // Remove any stragglers if released early to more aggressively flush incoming writes
     boolean cleanUp = false;
-    for (var node : entries) {
-      var key = node.getKey();
+    while (entries.hasNext()) {
+      var key = entries.next().getKey();
       if (key == null) {
         cleanUp = true;
       } else {
@@ -2088,16 +2307,52 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     }
   }
 
+  /**
+   * Discards all of the entries whose key is assigned the tag. The pending writes are applied first
+   * so that the entries added prior to this call are indexed.
+   *
+   * @param tag the tag of the entries to discard
+   */
+  void invalidateTag(Object tag) {
+    for (var node : nodesOfTag(tag)) {
+      K key = node.getKey();
+      if ((key != null) && node.isAlive()) {
+        remove(key);
+      }
+    }
+  }
+
+  /** Returns a snapshot of the indexed entries that are assigned the tag. */
+  List<Node<K, V>> nodesOfTag(Object tag) {
+    requireNonNull(tag);
+    evictionLock.lock();
+    try {
+      maintenance(/* ignored */ null);
+      var nodes = requireNonNull(tagIndex).nodesOf(tag);
+      if ((cleared != null) && !nodes.isEmpty()) {
+        nodes.removeIf(node -> clearedTableOf(node) != null);
+      }
+      return nodes;
+    } finally {
+      evictionLock.unlock();
+      rescheduleCleanUpIfIncomplete();
+    }
+  }
+
+  /**
+   * Removes the node from the table and the policy, where the table is either the current one or a
+   * table that was replaced by a clear.
+   */
   @GuardedBy("evictionLock")
   @SuppressWarnings("GuardedByChecker")
-  void removeNode(Node<K, V> node, long now) {
+  void removeNode(ConcurrentHashMap<Object, Node<K, V>> table, Node<K, V> node, long now) {
     K key = node.getKey();
     @SuppressWarnings("unchecked")
     V[] value = (V[]) new Object[1];
     RemovalCause[] cause = new RemovalCause[1];
     Object keyReference = node.getKeyReference();
 
-    data.computeIfPresent(keyReference, (k, n) -> {
+    table.computeIfPresent(keyReference, (k, n) -> {
       if (n != node) {
         return n;
       }
@@ -2116,7 +2371,10 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
           notifyEviction(key, value[0], cause[0]);
         }
 
-        discardRefresh(node.getKeyReference());
+        // A cleared entry's refresh was discarded and its key may now be mapped to a new entry
+        if (table == data) {
+          discardRefresh(node.getKeyReference());
+        }
         node.retire();
         return null;
       }
@@ -2147,6 +2405,49 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     }
   }
 
+  /**
+   * Removes the added node if its table was concurrently replaced by a clear, as the reclamation of
+   * that table's entries may have already traversed past it.
+   *
+   * @param table the table that the node was added to
+   * @param node the entry that was added
+   */
+  void removeIfCleared(ConcurrentHashMap<Object, Node<K, V>> table, Node<K, V> node) {
+    if (table == data) {
+      return;
+    }
+
+    K key = node.getKey();
+    @SuppressWarnings("unchecked")
+    V[] value = (V[]) new Object[1];
+    RemovalCause[] cause = new RemovalCause[1];
+    table.computeIfPresent(node.getKeyReference(), (k, n) -> {
+      if (n != node) {
+        return n;
+      }
+      synchronized (n) {
+        value[0] = n.getValue();
+        if ((key == null) || (value[0] == null)) {
+          cause[0] = RemovalCause.COLLECTED;
+        } else if (hasExpired(n, expirationTicker().read())) {
+          cause[0] = RemovalCause.EXPIRED;
+        } else {
+          cause[0] = RemovalCause.EXPLICIT;
+        }
+        if (cause[0].wasEvicted()) {
+          notifyEviction(key, value[0], cause[0]);
+        }
+        n.retire();
+        return null;
+      }
+    });
+
+    if (cause[0] != null) {
+      afterWrite(new RemovalTask(node));
+      notifyRemoval(key, value[0], cause[0]);
+    }
+  }
+
   @Override
   public boolean containsKey(Object key) {
     Node<K, V> node = data.get(nodeFactory.newLookupKey(key));
@@ -2308,9 +2609,11 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
               value, valueReferenceQueue(), newWeight, now);
           setVariableTime(node, expireAfterCreate(key, value, expiry, now));
         }
-        prior = data.putIfAbsent(node.getKeyReference(), node);
+        var table = data;
+        prior = table.putIfAbsent(node.getKeyReference(), node);
         if (prior == null) {
           afterWrite(new AddTask(node, newWeight));
+          removeIfCleared(table, node);
           return null;
         } else if (onlyIfAbsent) {
           // An optimistic fast path to avoid unnecessary locking
@@ -2414,7 +2717,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
       int weightedDifference = mayUpdate ? (newWeight - oldWeight) : 0;
       if ((oldValue == null) || (weightedDifference != 0) || expired) {
-        afterWrite(new UpdateTask(prior, weightedDifference));
+        afterUpdate(prior, oldWeight, weightedDifference);
       } else if (!onlyIfAbsent && exceedsTolerance) {
         afterWrite(new UpdateTask(prior, weightedDifference));
       } else {
@@ -2558,7 +2861,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
     int weightedDifference = (weight - oldWeight[0]);
     if (expiresAfterWrite() || (weightedDifference != 0)) {
-      afterWrite(new UpdateTask(node, weightedDifference));
+      afterUpdate(node, oldWeight[0], weightedDifference);
     } else {
       afterRead(node, now[0], /* recordHit */ false);
     }
@@ -2619,7 +2922,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
     int weightedDifference = (weight - oldWeight[0]);
     if (expiresAfterWrite() || (weightedDifference != 0)) {
-      afterWrite(new UpdateTask(node, weightedDifference));
+      afterUpdate(node, oldWeight[0], weightedDifference);
     } else {
       afterRead(node, now[0], /* recordHit */ false);
     }
@@ -2682,7 +2985,8 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
 
     int[] weight = new int[2]; // old, new
     RemovalCause[] cause = new RemovalCause[1];
-    Node<K, V> node = data.compute(keyRef, (k, n) -> {
+    var table = data;
+    Node<K, V> node = table.compute(keyRef, (k, n) -> {
       if (n == null) {
         newValue[0] = mappingFunction.apply(key);
         if (newValue[0] == null) {
@@ -2756,9 +3060,10 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     }
     if ((oldValue[0] == null) && (cause[0] == null)) {
       afterWrite(new AddTask(node, weight[1]));
+      removeIfCleared(table, node);
     } else {
       int weightedDifference = (weight[1] - weight[0]);
-      afterWrite(new UpdateTask(node, weightedDifference));
+      afterUpdate(node, weight[0], weightedDifference);
     }
 
     return newValue[0];
@@ -2849,7 +3154,8 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     int[] weight = new int[2]; // old, new
     RemovalCause[] cause = new RemovalCause[1];
 
-    Node<K, V> node = data.compute(keyRef, (kr, n) -> {
+    var table = data;
+    Node<K, V> node = table.compute(keyRef, (kr, n) -> {
       if (n == null) {
         if (!computeIfAbsent) {
           return null;
@@ -2940,10 +3246,11 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
       // absent and not computable
     } else if ((oldValue[0] == null) && (cause[0] == null)) {
       afterWrite(new AddTask(node, weight[1]));
+      removeIfCleared(table, node);
     } else {
       int weightedDifference = weight[1] - weight[0];
       if (expiresAfterWrite() || (weightedDifference != 0)) {
-        afterWrite(new UpdateTask(node, weightedDifference));
+        afterUpdate(node, weight[0], weightedDifference);
       } else {
         afterRead(node, now[0], /* recordHit */ false);
         if ((cause[0] != null) && cause[0].wasEvicted()) {
@@ -2965,6 +3272,43 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     }
   }
 
+  /**
+   * Performs the action for each live entry, in parallel if the map's estimated size exceeds the
+   * threshold. The entries are filtered by the time when the traversal began and the eviction lock
+   * is not acquired, so this operation does not interfere with the cache's maintenance.
+   */
+  void forEach(long parallelismThreshold, BiConsumer<? super K, ? super V> action) {
+    requireNonNull(action);
+    long now = expirationTicker().read();
+    data.forEachValue(parallelismThreshold, node -> {
+      K key = node.getKey();
+      V value = node.getValue();
+      if ((key != null) && (value != null) && node.isAlive() && !hasExpired(node, now)) {
+        action.accept(key, value);
+      }
+    });
+  }
+
+  /**
+   * Returns the accumulation of the transformed live entries, or {@code null} if none, in parallel
+   * if the map's estimated size exceeds the threshold. A transformation that is {@code null} is
+   * ignored.
+   */
+  <U> @Nullable U reduce(long parallelismThreshold,
+      BiFunction<? super K, ? super V, ? extends @Nullable U> transformer,
+      BiFunction<? super U, ? super U, ? extends U> reducer) {
+    requireNonNull(transformer);
+    requireNonNull(reducer);
+    long now = expirationTicker().read();
+    return data.reduceValues(parallelismThreshold, node -> {
+      K key = node.getKey();
+      V value = node.getValue();
+      return ((key != null) && (value != null) && node.isAlive() && !hasExpired(node, now))
+          ? transformer.apply(key, value)
+          : null;
+    }, reducer);
+  }
+
   @Override
   public Set<K> keySet() {
     final Set<K> ks = keySet;
@@ -3087,10 +3431,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
   @SuppressWarnings("GuardedByChecker")
   <T> T evictionOrder(boolean hottest, Function<V, V> transformer,
       Function<Stream<CacheEntry<K, V>>, T> mappingFunction) {
-    Comparator<Node<K, V>> comparator = Comparator.comparingInt(node -> {
-      K key = node.getKey();
-      return (key == null) ? 0 : frequencySketch().frequency(key);
-    });
+    Comparator<Node<K, V>> comparator = frequencyComparator();
     Iterable<Node<K, V>> iterable;
     if (hottest) {
       iterable = () -> {
@@ -3111,6 +3452,32 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     return snapshot(iterable, transformer, mappingFunction);
   }
 
+  /** Returns a comparator of the nodes by their key's estimated popularity. */
+  @SuppressWarnings("GuardedByChecker")
+  Comparator<Node<K, V>> frequencyComparator() {
+    return Comparator.comparingInt(node -> {
+      K key = node.getKey();
+      return (key == null) ? 0 : frequencySketch().frequency(key);
+    });
+  }
+
+  /**
+   * Returns a lazy traversal of the cache entries in eviction order that is obtained in chunks. The
+   * eviction lock is held only while a chunk is gathered so that the maintenance is not stalled.
+   *
+   * @param hottest the coldest or hottest iteration order
+   * @param transformer a function that unwraps the value
+   * @param chunkSize the maximum number of entries to visit while holding the lock
+   * @return a stream of the entries in the iteration order
+   */
+  Stream<CacheEntry<K, V>> evictionOrder(boolean hottest,
+      Function<V, V> transformer, int chunkSize) {
+    requireNonNull(transformer);
+    requireArgument(chunkSize > 0, "chunkSize must be positive: %s", chunkSize);
+    var spliterator = new EvictionOrderSpliterator(hottest, transformer, chunkSize);
+    return StreamSupport.stream(spliterator, /* parallel */ false);
+  }
+
   /**
    * Returns the computed result from the ordered traversal of the cache entries.
    *
@@ -3170,6 +3537,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
       try (var stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(
            iterable.iterator(), DISTINCT | ORDERED | NONNULL | IMMUTABLE), /* parallel */ false)) {
         return mappingFunction.apply(stream
+            .filter(node -> clearedTableOf(node) == null)
             .map(node -> nodeToCacheEntry(node, transformer))
             .filter(Objects::nonNull));
       }
@@ -3179,6 +3547,179 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     }
   }
 
+  /**
+   * A traversal in eviction order that gathers the entries in chunks, releasing the eviction lock
+   * between them. The positions in the deques are revalidated when the lock is reacquired because
+   * the nodes may have been reordered or removed in the meantime. The visited nodes are remembered
+   * so that an entry is not emitted twice if a node was moved ahead of the traversal or if the
+   * traversal restarted from the head of a deque. A chunk is bounded by the number of entries
+   * emitted, and the visited nodes that it may skip are bounded to the same amount, so that every
+   * lock hold performs at most twice the chunk size of work.
+   */
+  final class EvictionOrderSpliterator extends AbstractSpliterator<CacheEntry<K, V>> {
+    final ArrayDeque<CacheEntry<K, V>> chunk;
+    final Set<Node<K, V>> visited;
+    final Function<V, V> transformer;
+    final boolean hottest;
+    final int chunkSize;
+
+    @Nullable PeekingIterator<Node<K, V>> iterator;
+    @Nullable List<DequeCursor<K, V>> cursors;
+    boolean exhausted;
+    int lastFillVisits;
+
+    EvictionOrderSpliterator(boolean hottest, Function<V, V> transformer, int chunkSize) {
+      super(Long.MAX_VALUE, DISTINCT | ORDERED | NONNULL);
+      this.visited = Collections.newSetFromMap(new IdentityHashMap<>());
+      this.chunk = new ArrayDeque<>(Math.min(chunkSize, 1024));
+      this.transformer = transformer;
+      this.chunkSize = chunkSize;
+      this.hottest = hottest;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CacheEntry<K, V>> action) {
+      requireNonNull(action);
+      while (chunk.isEmpty() && !exhausted) {
+        fill();
+      }
+      CacheEntry<K, V> entry = chunk.poll();
+      if (entry == null) {
+        return false;
+      }
+      action.accept(entry);
+      return true;
+    }
+
+    /** Gathers the next chunk of entries while holding the eviction lock. */
+    void fill() {
+      evictionLock.lock();
+      try {
+        var nodes = iterator;
+        if (nodes == null) {
+          maintenance(/* ignored */ null);
+          nodes = iterator = newIterator();
+        } else {
+          for (var cursor : requireNonNull(cursors)) {
+            cursor.revalidate();
+          }
+        }
+        int emitted = 0;
+        int skipped = 0;
+        while ((emitted < chunkSize) && (skipped < chunkSize)) {
+          if (!nodes.hasNext()) {
+            exhausted = true;
+            break;
+          }
+          if (visit(nodes.next())) {
+            emitted++;
+          } else {
+            skipped++;
+          }
+        }
+        lastFillVisits = emitted + skipped;
+      } finally {
+        evictionLock.unlock();
+        rescheduleCleanUpIfIncomplete();
+      }
+    }
+
+    /** Adds the node's entry to the chunk if not previously visited, returning if it was added. */
+    @GuardedBy("evictionLock")
+    boolean visit(Node<K, V> node) {
+      if (!visited.add(node) || (clearedTableOf(node) != null)) {
+        return false;
+      }
+      var entry = nodeToCacheEntry(node, transformer);
+      if (entry == null) {
+        return false;
+      }
+      chunk.add(entry);
+      return true;
+    }
+
+    /** Returns an iterator over the deques in the same order as the locked snapshot. */
+    @GuardedBy("evictionLock")
+    PeekingIterator<Node<K, V>> newIterator() {
+      Comparator<Node<K, V>> comparator = frequencyComparator();
+      var window = new DequeCursor<K, V>(accessOrderWindowDeque(), WINDOW, hottest);
+      var probation = new DequeCursor<K, V>(accessOrderProbationDeque(), PROBATION, hottest);
+      var protectedCursor = new DequeCursor<K, V>(accessOrderProtectedDeque(), PROTECTED, hottest);
+      cursors = List.of(window, probation, protectedCursor);
+      return hottest
+          ? PeekingIterator.concat(protectedCursor,
+              PeekingIterator.comparing(probation, window, comparator))
+          : PeekingIterator.concat(
+              PeekingIterator.comparing(window, probation, comparator.reversed()),
+              protectedCursor);
+    }
+  }
+
+  /**
+   * A position within an access-order deque that may be resumed after the eviction lock was
+   * released. The traversal continues if the last visited node is still linked to the next one, and
+   * otherwise restarts from the beginning of the deque where the visited nodes will be skipped. A
+   * traversal that reached the end of the deque is not resumed.
+   */
+  static final class DequeCursor<K, V> implements PeekingIterator<Node<K, V>> {
+    final AccessOrderDeque<Node<K, V>> deque;
+    final boolean descending;
+    final int queueType;
+
+    @Nullable Node<K, V> previous;
+    @Nullable Node<K, V> next;
+
+    DequeCursor(AccessOrderDeque<Node<K, V>> deque, int queueType, boolean descending) {
+      this.next = descending ? deque.peekLast() : deque.peekFirst();
+      this.descending = descending;
+      this.queueType = queueType;
+      this.deque = deque;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return (next != null);
+    }
+
+    @Override
+    public Node<K, V> next() {
+      Node<K, V> node = next;
+      if (node == null) {
+        throw new NoSuchElementException();
+      }
+      previous = node;
+      next = successor(node);
+      return node;
+    }
+
+    @Override
+    public @Nullable Node<K, V> peek() {
+      return next;
+    }
+
+    /** Re-establishes the position after the deque may have been modified. */
+    void revalidate() {
+      Node<K, V> node = next;
+      if (node == null) {
+        return;
+      }
+      Node<K, V> prior = previous;
+      if ((prior == null) || !isMember(prior) || (successor(prior) != node)) {
+        next = descending ? deque.peekLast() : deque.peekFirst();
+      }
+    }
+
+    /** Returns if the node is still in this deque. */
+    boolean isMember(Node<K, V> node) {
+      return (node.getQueueType() == queueType) && node.isAlive() && deque.contains(node);
+    }
+
+    /** Returns the node that follows in the traversal order. */
+    @Nullable Node<K, V> successor(Node<K, V> node) {
+      return descending ? node.getPreviousInAccessOrder() : node.getNextInAccessOrder();
+    }
+  }
+
   /** Returns an entry for the given node if it can be used externally, else null. */
   @Nullable CacheEntry<K, V> nodeToCacheEntry(Node<K, V> node, Function<V, V> transformer) {
     V value = transformer.apply(node.getValue());
@@ -3372,10 +3913,10 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     @Override
     public void forEachRemaining(Consumer<? super K> action) {
       requireNonNull(action);
+      long now = cache.expirationTicker().read();
       Consumer<Node<K, V>> consumer = node -> {
         K key = node.getKey();
         V value = node.getValue();
-        long now = cache.expirationTicker().read();
         if ((key != null) && (value != null) && node.isAlive() && !cache.hasExpired(node, now)) {
           action.accept(key);
         }
@@ -3554,10 +4095,10 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     @Override
     public void forEachRemaining(Consumer<? super V> action) {
       requireNonNull(action);
+      long now = cache.expirationTicker().read();
       Consumer<Node<K, V>> consumer = node -> {
         K key = node.getKey();
         V value = node.getValue();
-        long now = cache.expirationTicker().read();
         if ((key != null) && (value != null) && node.isAlive() && !cache.hasExpired(node, now)) {
           action.accept(value);
         }
@@ -3807,10 +4348,10 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     @Override
     public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
       requireNonNull(action);
+      long now = cache.expirationTicker().read();
       Consumer<Node<K, V>> consumer = node -> {
         K key = node.getKey();
         V value = node.getValue();
-        long now = cache.expirationTicker().read();
         if ((key != null) && (value != null) && node.isAlive() && !cache.hasExpired(node, now)) {
           action.accept(new WriteThroughEntry<>(cache, key, value));
         }
@@ -3926,9 +4467,15 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
       if (cache.isWeighted) {
         proxy.weigher = cache.weigher;
         proxy.maximumWeight = cache.maximum();
+        proxy.coalesceWeights = cache.coalesceWeights;
       } else {
         proxy.maximumSize = cache.maximum();
       }
+      proxy.windowClimberSupplier = cache.climberSupplier;
+      proxy.doorkeeper = cache.frequencySketch().useDoorkeeper;
+    }
+    if (cache.tagIndex != null) {
+      proxy.tagExtractor = cache.tagIndex.tagExtractor;
     }
     proxy.cacheLoader = cache.cacheLoader;
     proxy.async = cache.isAsync;
@@ -3983,6 +4530,7 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
     @Nullable Optional<FixedExpiration<K, V>> afterWrite;
     @Nullable Optional<FixedExpiration<K, V>> afterAccess;
     @Nullable Optional<VarExpiration<K, V>> variable;
+    @Nullable Optional<Tagging<K, V>> tagging;
 
     BoundedPolicy(BoundedLocalCache<K, V> cache, Function<V, V> transformer, boolean isWeighted) {
       this.transformer = transformer;
@@ -4000,6 +4548,25 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
       Node<K, V> node = cache.data.get(cache.nodeFactory.newLookupKey(key));
       return (node == null) ? null : cache.nodeToCacheEntry(node, transformer);
     }
+    @Override public void forEach(long parallelismThreshold,
+        BiConsumer<? super K, ? super V> action) {
+      requireNonNull(action);
+      cache.forEach(parallelismThreshold, (key, value) -> {
+        V transformed = transformer.apply(value);
+        if (transformed != null) {
+          action.accept(key, transformed);
+        }
+      });
+    }
+    @Override public <U> @Nullable U reduce(long parallelismThreshold,
+        BiFunction<? super K, ? super V, ? extends @Nullable U> transformer,
+        BiFunction<? super U, ? super U, ? extends U> reducer) {
+      requireNonNull(transformer);
+      return cache.reduce(parallelismThreshold, (key, value) -> {
+        V transformed = this.transformer.apply(value);
+        return (transformed == null) ? null : transformer.apply(key, transformed);
+      }, reducer);
+    }
     @Override public Map<K, CompletableFuture<V>> refreshes() {
       var refreshes = cache.refreshes;
       if ((refreshes == null) || refreshes.isEmpty()) {
@@ -4060,6 +4627,14 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
           ? (refreshes = Optional.of(new BoundedRefreshAfterWrite()))
           : refreshes;
     }
+    @Override public Optional<Tagging<K, V>> tagging() {
+      if (cache.tagIndex == null) {
+        return Optional.empty();
+      }
+      return (tagging == null)
+          ? (tagging = Optional.of(new BoundedTagging()))
+          : tagging;
+    }
 
     final class BoundedEviction implements Eviction<K, V> {
       @Override public boolean isWeighted() {
@@ -4131,6 +4706,9 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         requireNonNull(mappingFunction);
         return cache.evictionOrder(/* hottest */ false, transformer, mappingFunction);
       }
+      @Override public Stream<CacheEntry<K, V>> coldestInChunks(int chunkSize) {
+        return cache.evictionOrder(/* hottest */ false, transformer, chunkSize);
+      }
       @Override public Map<K, V> hottest(int limit) {
         int expectedSize = Math.min(limit, cache.size());
         var limiter = new SizeLimiter<K, V>(expectedSize, limit);
@@ -4147,6 +4725,9 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         requireNonNull(mappingFunction);
         return cache.evictionOrder(/* hottest */ true, transformer, mappingFunction);
       }
+      @Override public Stream<CacheEntry<K, V>> hottestInChunks(int chunkSize) {
+        return cache.evictionOrder(/* hottest */ true, transformer, chunkSize);
+      }
     }
 
     @SuppressWarnings("PreferJavaTimeOverload")
@@ -4434,6 +5015,24 @@ abstract class BoundedLocalCache<K, V> extends BLCHeader.DrainStatusRef
         cache.scheduleAfterWrite();
       }
     }
+
+    final class BoundedTagging implements Tagging<K, V> {
+      @Override public Set<K> keysWithTag(Object tag) {
+        var nodes = cache.nodesOfTag(tag);
+        long now = cache.expirationTicker().read();
+        var keys = new HashSet<K>(nodes.size());
+        for (var node : nodes) {
+          K key = node.getKey();
+          if ((key != null) && node.isAlive() && !cache.hasExpired(node, now)) {
+            keys.add(key);
+          }
+        }
+        return Collections.unmodifiableSet(keys);
+      }
+      @Override public void invalidateTag(Object tag) {
+        cache.invalidateTag(tag);
+      }
+    }
   }
 
   /* --------------- Loading Cache --------------- */
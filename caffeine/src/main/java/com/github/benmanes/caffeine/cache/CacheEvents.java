@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The Java Flight Recorder events that describe the cache's internal activity, such as when the
+ * maintenance ran, how much was evicted, and how the policy adapted. The events are grouped under
+ * the {@code com.github.benmanes.caffeine} category so that they can be inspected with
+ * {@code jfr print --categories com.github.benmanes.caffeine} or Mission Control.
+ * <p>
+ * The {@code jdk.jfr} module is an optional dependency, so the event types are only referenced by
+ * a holder class that is loaded once the recorder is known to be available. When the module is
+ * absent or an event is not enabled by the recording's settings, the instrumentation is reduced to
+ * a constant check and the event is not allocated. The load and refresh events are disabled by
+ * default due to their volume and may be enabled by the recording's settings, for example
+ * {@code com.github.benmanes.caffeine.Load#enabled=true}.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+final class CacheEvents {
+  static final boolean AVAILABLE = isAvailable();
+
+  private CacheEvents() {}
+
+  /** Returns if the flight recorder's event types can be linked against by this class. */
+  static boolean isAvailable() {
+    try {
+      Class<?> type = Class.forName("jdk.jfr.Event",
+          /* initialize */ false, CacheEvents.class.getClassLoader());
+      return CacheEvents.class.getModule().canRead(type.getModule());
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /** Returns an in-progress maintenance event, or {@code null} if not enabled. */
+  static @Nullable Object beginMaintenance() {
+    return AVAILABLE ? Recorder.beginMaintenance() : null;
+  }
+
+  /** Records the maintenance event, if in progress. */
+  static void commitMaintenance(@Nullable Object event, BoundedLocalCache<?, ?> cache) {
+    if (event != null) {
+      Recorder.commitMaintenance(event, cache);
+    }
+  }
+
+  /** Returns an in-progress eviction event, or {@code null} if not enabled. */
+  static @Nullable Object beginEviction() {
+    return AVAILABLE ? Recorder.beginEviction() : null;
+  }
+
+  /** Records the eviction event if in progress and any weight was evicted. */
+  static void commitEviction(@Nullable Object event,
+      BoundedLocalCache<?, ?> cache, long evictedWeight) {
+    if ((event != null) && (evictedWeight > 0)) {
+      Recorder.commitEviction(event, cache, evictedWeight);
+    }
+  }
+
+  /** Returns an in-progress write buffer backpressure event, or {@code null} if not enabled. */
+  static @Nullable Object beginBackpressure() {
+    return AVAILABLE ? Recorder.beginBackpressure() : null;
+  }
+
+  /** Records the write buffer backpressure event, if in progress. */
+  static void commitBackpressure(@Nullable Object event, BoundedLocalCache<?, ?> cache) {
+    if (event != null) {
+      Recorder.commitBackpressure(event, cache);
+    }
+  }
+
+  /** Records that the hill climber resized the admission window by the given amount. */
+  static void adaptation(BoundedLocalCache<?, ?> cache, long amount) {
+    if (AVAILABLE) {
+      Recorder.adaptation(cache, amount);
+    }
+  }
+
+  /** Records that the popularity sketch completed halving its counters. */
+  static void sketchReset(FrequencySketch<?> sketch, int sizeBefore) {
+    if (AVAILABLE) {
+      Recorder.sketchReset(sketch, sizeBefore);
+    }
+  }
+
+  /** Decorates the mapping function to record a load event if enabled. */
+  static <T, R> Function<? super T, ? extends R> loadAware(
+      LocalCache<?, ?> cache, Function<? super T, ? extends R> mappingFunction) {
+    if (!AVAILABLE || !Recorder.isLoadEnabled()) {
+      return mappingFunction;
+    }
+    return key -> {
+      long startTime = System.nanoTime();
+      boolean success = false;
+      try {
+        R value = mappingFunction.apply(key);
+        success = (value != null);
+        return value;
+      } finally {
+        Recorder.load(cache, startTime, success);
+      }
+    };
+  }
+
+  /** Decorates the remapping function to record a load event if enabled. */
+  static <T, U, R> BiFunction<? super T, ? super U, ? extends R> loadAware(
+      LocalCache<?, ?> cache, BiFunction<? super T, ? super U, ? extends R> remappingFunction) {
+    if (!AVAILABLE || !Recorder.isLoadEnabled()) {
+      return remappingFunction;
+    }
+    return (t, u) -> {
+      long startTime = System.nanoTime();
+      boolean success = false;
+      try {
+        R result = remappingFunction.apply(t, u);
+        success = (result != null);
+        return result;
+      } finally {
+        Recorder.load(cache, startTime, success);
+      }
+    };
+  }
+
+  /** Returns the start time of a load, in nanoseconds, or {@code 0} if not enabled. */
+  static long loadStartTime() {
+    return (AVAILABLE && Recorder.isLoadEnabled()) ? System.nanoTime() : 0L;
+  }
+
+  /** Records the load's outcome if it was started while the event was enabled. */
+  static void load(LocalCache<?, ?> cache, long startTime, boolean success) {
+    if (startTime != 0L) {
+      Recorder.load(cache, startTime, success);
+    }
+  }
+
+  /** Returns the start time of a refresh, in nanoseconds, or {@code 0} if not enabled. */
+  static long refreshStartTime() {
+    return (AVAILABLE && Recorder.isRefreshEnabled()) ? System.nanoTime() : 0L;
+  }
+
+  /** Records the refresh's outcome if it was started while the event was enabled. */
+  static void refresh(LocalCache<?, ?> cache, long startTime, boolean success) {
+    if (startTime != 0L) {
+      Recorder.refresh(cache, startTime, success);
+    }
+  }
+
+  /**
+   * The event types, which are only resolved if the flight recorder is available. The prototypes
+   * are never committed and are only used to query whether the event type is enabled.
+   */
+  static final class Recorder {
+    static final MaintenanceEvent MAINTENANCE = new MaintenanceEvent();
+    static final BackpressureEvent BACKPRESSURE = new BackpressureEvent();
+    static final SketchResetEvent SKETCH_RESET = new SketchResetEvent();
+    static final AdaptationEvent ADAPTATION = new AdaptationEvent();
+    static final EvictionEvent EVICTION = new EvictionEvent();
+    static final RefreshEvent REFRESH = new RefreshEvent();
+    static final LoadEvent LOAD = new LoadEvent();
+
+    private Recorder() {}
+
+    static @Nullable Object beginMaintenance() {
+      if (!MAINTENANCE.isEnabled()) {
+        return null;
+      }
+      var event = new MaintenanceEvent();
+      event.begin();
+      return event;
+    }
+
+    static @Nullable Object beginEviction() {
+      if (!EVICTION.isEnabled()) {
+        return null;
+      }
+      var event = new EvictionEvent();
+      event.begin();
+      return event;
+    }
+
+    static @Nullable Object beginBackpressure() {
+      if (!BACKPRESSURE.isEnabled()) {
+        return null;
+      }
+      var event = new BackpressureEvent();
+      event.begin();
+      return event;
+    }
+
+    static boolean isLoadEnabled() {
+      return LOAD.isEnabled();
+    }
+
+    static boolean isRefreshEnabled() {
+      return REFRESH.isEnabled();
+    }
+
+    static void commitMaintenance(Object inProgress, BoundedLocalCache<?, ?> cache) {
+      var event = (MaintenanceEvent) inProgress;
+      event.end();
+      if (event.shouldCommit()) {
+        event.cacheId = System.identityHashCode(cache);
+        event.estimatedSize = cache.estimatedSize();
+        event.weightedSize = cache.evicts() ? cache.weightedSize() : event.estimatedSize;
+        event.commit();
+      }
+    }
+
+    static void commitEviction(Object inProgress,
+        BoundedLocalCache<?, ?> cache, long evictedWeight) {
+      var event = (EvictionEvent) inProgress;
+      event.end();
+      if (event.shouldCommit()) {
+        event.cacheId = System.identityHashCode(cache);
+        event.evictedWeight = evictedWeight;
+        event.weightedSize = cache.weightedSize();
+        event.maximum = cache.maximum();
+        event.commit();
+      }
+    }
+
+    static void commitBackpressure(Object inProgress, BoundedLocalCache<?, ?> cache) {
+      var event = (BackpressureEvent) inProgress;
+      event.end();
+      if (event.shouldCommit()) {
+        event.cacheId = System.identityHashCode(cache);
+        event.estimatedSize = cache.estimatedSize();
+        event.commit();
+      }
+    }
+
+    static void adaptation(BoundedLocalCache<?, ?> cache, long amount) {
+      if (!ADAPTATION.isEnabled()) {
+        return;
+      }
+      var event = new AdaptationEvent();
+      if (event.shouldCommit()) {
+        event.cacheId = System.identityHashCode(cache);
+        event.hitRate = cache.previousSampleHitRate();
+        event.adjustment = amount;
+        event.stepSize = (long) cache.stepSize();
+        event.windowMaximum = cache.windowMaximum();
+        event.mainProtectedMaximum = cache.mainProtectedMaximum();
+        event.commit();
+      }
+    }
+
+    static void sketchReset(FrequencySketch<?> sketch, int sizeBefore) {
+      if (!SKETCH_RESET.isEnabled()) {
+        return;
+      }
+      var event = new SketchResetEvent();
+      if (event.shouldCommit()) {
+        event.counters = 16L * sketch.table.length;
+        event.sampleSize = sketch.sampleSize;
+        event.sizeBefore = sizeBefore;
+        event.sizeAfter = sketch.size;
+        event.commit();
+      }
+    }
+
+    static void load(LocalCache<?, ?> cache, long startTime, boolean success) {
+      commit(new LoadEvent(), cache, startTime, success);
+    }
+
+    static void refresh(LocalCache<?, ?> cache, long startTime, boolean success) {
+      commit(new RefreshEvent(), cache, startTime, success);
+    }
+
+    static void commit(AbstractLoadEvent event,
+        LocalCache<?, ?> cache, long startTime, boolean success) {
+      if (event.shouldCommit()) {
+        event.cacheId = System.identityHashCode(cache);
+        event.loadTime = System.nanoTime() - startTime;
+        event.success = success;
+        event.commit();
+      }
+    }
+  }
+
+  @StackTrace(false)
+  @Label("Maintenance")
+  @Name("com.github.benmanes.caffeine.Maintenance")
+  @Category("com.github.benmanes.caffeine")
+  @Description("The cache's maintenance cycle, which is performed while holding the eviction lock")
+  static final class MaintenanceEvent extends Event {
+    @Label("Cache Id") int cacheId;
+    @Label("Estimated Size") long estimatedSize;
+    @Label("Weighted Size") long weightedSize;
+  }
+
+  @StackTrace(false)
+  @Label("Eviction")
+  @Name("com.github.benmanes.caffeine.Eviction")
+  @Category("com.github.benmanes.caffeine")
+  @Description("A batch of size-based evictions performed during the maintenance cycle")
+  static final class EvictionEvent extends Event {
+    @Label("Cache Id") int cacheId;
+    @Label("Evicted Weight") long evictedWeight;
+    @Label("Weighted Size") long weightedSize;
+    @Label("Maximum") long maximum;
+  }
+
+  @StackTrace(false)
+  @Label("Write Buffer Backpressure")
+  @Name("com.github.benmanes.caffeine.WriteBufferBackpressure")
+  @Category("com.github.benmanes.caffeine")
+  @Description("A writer blocked on performing the maintenance because the write buffer was full")
+  static final class BackpressureEvent extends Event {
+    @Label("Cache Id") int cacheId;
+    @Label("Estimated Size") long estimatedSize;
+  }
+
+  @StackTrace(false)
+  @Label("Adaptation")
+  @Name("com.github.benmanes.caffeine.Adaptation")
+  @Category("com.github.benmanes.caffeine")
+  @Description("The hill climber resized the admission window based on the sampled hit rate")
+  static final class AdaptationEvent extends Event {
+    @Label("Cache Id") int cacheId;
+    @Label("Hit Rate") @Percentage double hitRate;
+    @Label("Adjustment") long adjustment;
+    @Label("Step Size") long stepSize;
+    @Label("Window Maximum") long windowMaximum;
+    @Label("Protected Maximum") long mainProtectedMaximum;
+  }
+
+  @StackTrace(false)
+  @Label("Sketch Reset")
+  @Name("com.github.benmanes.caffeine.SketchReset")
+  @Category("com.github.benmanes.caffeine")
+  @Description("The popularity sketch completed halving its counters to age the frequencies")
+  static final class SketchResetEvent extends Event {
+    @Label("Counters") long counters;
+    @Label("Sample Size") int sampleSize;
+    @Label("Size Before") int sizeBefore;
+    @Label("Size After") int sizeAfter;
+  }
+
+  @StackTrace(false)
+  abstract static class AbstractLoadEvent extends Event {
+    @Label("Cache Id") int cacheId;
+    @Label("Load Time") @Timespan long loadTime;
+    @Label("Success") boolean success;
+  }
+
+  @Enabled(false)
+  @Label("Load")
+  @Name("com.github.benmanes.caffeine.Load")
+  @Category("com.github.benmanes.caffeine")
+  @Description("A value was computed or loaded into the cache")
+  static final class LoadEvent extends AbstractLoadEvent {}
+
+  @Enabled(false)
+  @Label("Refresh")
+  @Name("com.github.benmanes.caffeine.Refresh")
+  @Category("com.github.benmanes.caffeine")
+  @Description("A value was reloaded by a refresh")
+  static final class RefreshEvent extends AbstractLoadEvent {}
+}
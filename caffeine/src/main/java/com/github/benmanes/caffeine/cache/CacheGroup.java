@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.requireArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import com.github.benmanes.caffeine.cache.LocalAsyncCache.AbstractCacheView;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+
+/**
+ * A shared capacity that is distributed across multiple bounded caches. Each registered cache
+ * draws its maximum size (or weight) from the group, and the group periodically moves capacity
+ * towards the caches that are estimated to benefit the most from additional space.
+ * <p>
+ * The benefit is estimated from the cache's popularity sketch. When an entry is added to a cache
+ * whose sketch has recently observed the key, then that miss would likely have been a hit if the
+ * cache had been larger. These ghost hits, relative to the cache's current maximum, approximate
+ * the marginal gain of growing that cache. A cache that does not use its full capacity, or whose
+ * misses are mostly of never seen keys, gives up capacity to the member with the highest gain.
+ * <p>
+ * The capacity is only redistributed when {@link #rebalance()} is called, which should be done
+ * periodically, such as by a {@link java.util.concurrent.ScheduledExecutorService}. A single
+ * rebalance transfers at most a small percentage of the group's capacity so that the caches adapt
+ * gradually and the eviction policy discards the coldest entries of a shrinking cache.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ *   CacheGroup group = CacheGroup.withMaximum(1_000_000);
+ *   Cache<Key, Graph> graphs = Caffeine.newBuilder().maximumSize(0).build();
+ *   Cache<Key, User> users = Caffeine.newBuilder().maximumSize(0).build();
+ *   group.register(graphs);
+ *   group.register(users);
+ *
+ *   scheduledExecutor.scheduleWithFixedDelay(group::rebalance, 1, 1, TimeUnit.MINUTES);
+ * }</pre>
+ * <p>
+ * The members are expected to agree on the unit of capacity, either all being bounded by the
+ * number of entries or all by a weight whose unit has the same meaning.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class CacheGroup {
+  /** The percent of the group's capacity that a single rebalance may transfer. */
+  static final double STEP_PERCENT = 0.01d;
+  /** The percent of a fair share that a member retains regardless of its estimated gain. */
+  static final double MINIMUM_SHARE_PERCENT = 0.10d;
+  /** The minimum number of ghost hits in a sample before the estimate is considered useful. */
+  static final int MINIMUM_GHOST_HITS = 16;
+
+  @GuardedBy("this")
+  final List<Member> members;
+  final long maximum;
+
+  private CacheGroup(long maximum) {
+    this.members = new ArrayList<>();
+    this.maximum = maximum;
+  }
+
+  /**
+   * Returns a new group whose members share the total capacity.
+   *
+   * @param maximum the maximum size or weight that is shared across the members
+   * @return a new group without any members
+   * @throws IllegalArgumentException if {@code maximum} is negative
+   */
+  public static CacheGroup withMaximum(@NonNegative long maximum) {
+    requireArgument(maximum >= 0, "maximum must not be negative: %s", maximum);
+    return new CacheGroup(maximum);
+  }
+
+  /** Returns the capacity that is shared across the members. */
+  public long maximum() {
+    return maximum;
+  }
+
+  /** Returns the number of caches that draw their capacity from this group. */
+  public synchronized int size() {
+    return members.size();
+  }
+
+  /**
+   * Adds the cache to this group and assigns it a fair share of the capacity, which is taken
+   * proportionally from the existing members. The cache's configured maximum is replaced.
+   *
+   * @param cache a cache built with a maximum size or weight
+   * @throws IllegalArgumentException if the cache is not bounded by a maximum size or weight, or if
+   *         it is already a member of a group
+   */
+  public synchronized void register(Cache<?, ?> cache) {
+    var bounded = boundedLocalCacheOf(cache);
+    var eviction = cache.policy().eviction();
+    requireArgument(bounded.evicts() && eviction.isPresent(),
+        "The cache must be bounded by a maximum size or weight");
+
+    var member = new Member(cache, bounded, eviction.get());
+    bounded.evictionLock.lock();
+    try {
+      requireArgument(bounded.groupMember == null, "The cache is already a member of a group");
+      bounded.groupMember = member;
+    } finally {
+      bounded.evictionLock.unlock();
+    }
+
+    long share = maximum / (members.size() + 1);
+    double scale = (maximum == 0) ? 0.0 : (double) (maximum - share) / maximum;
+    long assigned = 0;
+    for (var existing : members) {
+      long scaled = (long) (scale * existing.maximum);
+      existing.setMaximum(scaled);
+      assigned += scaled;
+    }
+    members.add(member);
+    member.setMaximum(maximum - assigned);
+  }
+
+  /**
+   * Removes the cache from this group and distributes its capacity evenly to the remaining members.
+   * The cache retains its current maximum.
+   *
+   * @param cache a cache previously registered with this group
+   * @return if the cache was a member of this group
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean unregister(Cache<?, ?> cache) {
+    requireNonNull(cache);
+    for (int i = 0; i < members.size(); i++) {
+      var member = members.get(i);
+      if (member.external != cache) {
+        continue;
+      }
+
+      members.remove(i);
+      member.cache.evictionLock.lock();
+      try {
+        member.cache.groupMember = null;
+      } finally {
+        member.cache.evictionLock.unlock();
+      }
+      if (!members.isEmpty()) {
+        long released = member.maximum;
+        long share = released / members.size();
+        for (var remaining : members) {
+          remaining.setMaximum(remaining.maximum + share);
+        }
+        long remainder = released - (share * members.size());
+        if (remainder != 0) {
+          var first = members.get(0);
+          first.setMaximum(first.maximum + remainder);
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Transfers capacity from the member with the lowest estimated gain to the member with the
+   * highest, if doing so is expected to improve the group's overall hit rate. The sampled
+   * statistics are reset on every call.
+   */
+  public synchronized void rebalance() {
+    for (var member : members) {
+      member.sample();
+    }
+    if (members.size() < 2) {
+      return;
+    }
+
+    Member donor = null;
+    Member recipient = null;
+    long step = Math.max(1, (long) (STEP_PERCENT * maximum));
+    long minimumShare = (long) (MINIMUM_SHARE_PERCENT * (maximum / members.size()));
+    for (var member : members) {
+      if ((member.maximum - step >= minimumShare)
+          && ((donor == null) || (member.donorGain(step) < donor.donorGain(step)))) {
+        donor = member;
+      }
+      if (member.isSaturated(step) && (member.sampledGhostHits >= MINIMUM_GHOST_HITS)
+          && ((recipient == null) || (member.gain() > recipient.gain()))) {
+        recipient = member;
+      }
+    }
+    if ((donor == null) || (recipient == null)
+        || (donor == recipient) || (recipient.gain() <= donor.donorGain(step))) {
+      return;
+    }
+
+    // Shrink before growing so that the group never exceeds its capacity
+    donor.setMaximum(donor.maximum - step);
+    recipient.setMaximum(recipient.maximum + step);
+  }
+
+  /** Returns the maximum currently assigned to the member cache, or -1 if not a member. */
+  synchronized long maximumOf(Cache<?, ?> cache) {
+    for (var member : members) {
+      if (member.external == cache) {
+        return member.maximum;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the bounded cache that backs the external facade. */
+  static BoundedLocalCache<?, ?> boundedLocalCacheOf(Cache<?, ?> cache) {
+    requireNonNull(cache);
+    @Nullable LocalCache<?, ?> local = null;
+    if (cache instanceof LocalManualCache<?, ?>) {
+      local = ((LocalManualCache<?, ?>) cache).cache();
+    } else if (cache instanceof AbstractCacheView<?, ?>) {
+      local = ((AbstractCacheView<?, ?>) cache).asyncCache().cache();
+    }
+    requireArgument(local instanceof BoundedLocalCache<?, ?>,
+        "The cache must be bounded by a maximum size or weight");
+    return (BoundedLocalCache<?, ?>) local;
+  }
+
+  /** A cache that draws its capacity from the group. */
+  static final class Member {
+    final BoundedLocalCache<?, ?> cache;
+    final Eviction<?, ?> eviction;
+    final Cache<?, ?> external;
+
+    /* The statistics recorded by the cache's maintenance since the last sample. */
+    @GuardedBy("cache.evictionLock") long requests;
+    @GuardedBy("cache.evictionLock") long ghostHits;
+
+    /* The sampled statistics used for the rebalancing decision. */
+    long maximum;
+    long weightedSize;
+    long sampledRequests;
+    long sampledGhostHits;
+
+    Member(Cache<?, ?> external, BoundedLocalCache<?, ?> cache, Eviction<?, ?> eviction) {
+      this.external = external;
+      this.eviction = eviction;
+      this.cache = cache;
+    }
+
+    /** Records an access to an entry that was present. */
+    @GuardedBy("cache.evictionLock")
+    void recordHit() {
+      requests++;
+    }
+
+    /** Records the addition of an entry and whether the popularity sketch knew of the key. */
+    @GuardedBy("cache.evictionLock")
+    void recordMiss(boolean ghostHit) {
+      requests++;
+      if (ghostHit) {
+        ghostHits++;
+      }
+    }
+
+    /** Captures and resets the statistics recorded by the cache. */
+    void sample() {
+      cache.evictionLock.lock();
+      try {
+        sampledRequests = requests;
+        sampledGhostHits = ghostHits;
+        weightedSize = Math.max(0, cache.weightedSize());
+        requests = 0;
+        ghostHits = 0;
+      } finally {
+        cache.evictionLock.unlock();
+      }
+    }
+
+    /** Returns the estimated hit rate gain per unit of capacity. */
+    double gain() {
+      return (sampledRequests == 0) ? 0.0 : (double) sampledGhostHits
+          / sampledRequests / Math.max(1, maximum);
+    }
+
+    /** Returns the estimated gain that would be lost by giving up a step of capacity. */
+    double donorGain(long step) {
+      // Unused capacity can be released without any loss
+      return (maximum - weightedSize >= step) ? -1.0 : gain();
+    }
+
+    /** Returns if the cache is using its capacity, so that growing it may be beneficial. */
+    boolean isSaturated(long step) {
+      return (maximum - weightedSize) < step;
+    }
+
+    /** Updates the cache's maximum, evicting if necessary. */
+    void setMaximum(long maximum) {
+      this.maximum = maximum;
+      eviction.setMaximum(maximum);
+    }
+  }
+}
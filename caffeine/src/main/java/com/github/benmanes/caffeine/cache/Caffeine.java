@@ -34,6 +34,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -150,6 +151,8 @@ public final class Caffeine<K, V> {
   static final int DEFAULT_REFRESH_NANOS = 0;
 
   boolean strictParsing = true;
+  boolean coalesceWeights;
+  boolean doorkeeper;
   boolean interner;
 
   long maximumSize = UNSET_INT;
@@ -166,6 +169,8 @@ public final class Caffeine<K, V> {
   @Nullable Weigher<? super K, ? super V> weigher;
   @Nullable Expiry<? super K, ? super V> expiry;
   @Nullable Scheduler scheduler;
+  @Nullable Supplier<? extends WindowClimber> windowClimberSupplier;
+  @Nullable Function<? super K, ?> tagExtractor;
   @Nullable Executor executor;
   @Nullable Ticker ticker;
 
@@ -502,6 +507,56 @@ public final class Caffeine<K, V> {
     return isAsync ? (Weigher<K1, V1>) new AsyncWeigher(delegate) : delegate;
   }
 
+  /**
+   * Specifies that the weight changes of an entry are coalesced until the cache's maintenance
+   * applies them. By default every write that changes an entry's weight schedules its own task to
+   * adjust the eviction policy, so a cache whose entries are resized constantly, such as growing
+   * collections, may flood its write buffer. When coalescing, a write skips scheduling a task while
+   * an earlier task for the entry is still pending, and that task applies the net change in weight
+   * when it runs. This bounds the maintenance work to one task per entry per cycle, at the cost of
+   * the eviction policy observing fewer of the entry's writes.
+   * <p>
+   * This feature requires that the cache is bounded by {@link #maximumWeight(long)}.
+   *
+   * @return this {@code Caffeine} instance (for chaining)
+   * @throws IllegalStateException if weight coalescing was already set
+   */
+  @CanIgnoreReturnValue
+  public Caffeine<K, V> coalesceWeightUpdates() {
+    requireState(!coalesceWeights, "weight coalescing was already set");
+    coalesceWeights = true;
+    return this;
+  }
+
+  boolean isCoalescingWeights() {
+    return coalesceWeights;
+  }
+
+  /**
+   * Specifies that the frequency sketch used by the admission policy is preceded by a doorkeeper, a
+   * Bloom filter that absorbs the first occurrence of a key within the sketch's sample period. The
+   * majority of the keys in a typical workload are accessed only once, so when these do not occupy
+   * the counters then a smaller sketch retains a similar accuracy. This halves the sketch's memory
+   * footprint at the cost of an additional memory access when the popularity of a key is recorded
+   * or estimated.
+   * <p>
+   * This feature requires that the cache is bounded by {@link #maximumSize(long)} or
+   * {@link #maximumWeight(long)}.
+   *
+   * @return this {@code Caffeine} instance (for chaining)
+   * @throws IllegalStateException if the doorkeeper was already set
+   */
+  @CanIgnoreReturnValue
+  public Caffeine<K, V> admissionDoorkeeper() {
+    requireState(!doorkeeper, "admission doorkeeper was already set");
+    doorkeeper = true;
+    return this;
+  }
+
+  boolean hasAdmissionDoorkeeper() {
+    return doorkeeper;
+  }
+
   /**
    * Specifies that each key (not value) stored in the cache should be wrapped in a
    * {@link WeakReference} (by default, strong references are used).
@@ -575,6 +630,8 @@ public final class Caffeine<K, V> {
    * <b>Warning:</b> in most circumstances it is better to set a per-cache
    * {@linkplain #maximumSize(long) maximum size} instead of using soft references. You should only
    * use this method if you are very familiar with the practical consequences of soft references.
+   * A {@link HeapPressureController} may be used to instead reduce the maximum size when the heap
+   * is under pressure, so that the eviction policy discards the least valuable entries first.
    * <p>
    * <b>Note:</b> when this method is used, the resulting cache will use identity ({@code ==})
    * comparison to determine equality of values.
@@ -970,6 +1027,84 @@ public final class Caffeine<K, V> {
         : castedListener;
   }
 
+  /**
+   * Specifies a function that assigns each key to a tag, such as the tenant or product that the
+   * entry belongs to. The cache maintains an index of the entries by their tag so that all of the
+   * entries with a tag may be discarded using {@link Policy.Tagging#invalidateTag(Object)}, in time
+   * proportional to the number of tagged entries rather than to the size of the cache. A key that
+   * is assigned a {@code null} tag is not indexed.
+   * <p>
+   * The function is evaluated once per entry during the cache's maintenance, so it should be
+   * inexpensive. If the function throws an exception then it is logged and the entry is stored
+   * without a tag, so it is not discarded by an invalidation of a tag. The tag is retained by the
+   * index until the entry is removed, and a replacement of the entry's value does not change its
+   * tag.
+   * <p>
+   * <b>Important note:</b> after invoking this method, do not continue to use <i>this</i> cache
+   * builder reference; instead use the reference this method <i>returns</i>. At runtime, these
+   * point to the same instance, but only the returned reference has the correct generic type
+   * information so as to ensure type safety. For best results, use the standard method-chaining
+   * idiom illustrated in the class documentation above, configuring a builder and building your
+   * cache in a single statement. Failure to heed this advice can result in a
+   * {@link ClassCastException} being thrown by a cache operation at some <i>undefined</i> point in
+   * the future.
+   *
+   * @param tagExtractor a function that returns the tag of a key, or {@code null} if untagged
+   * @param <K1> the key type of the function
+   * @return the cache builder reference that should be used instead of {@code this} for any
+   *         remaining configuration and cache building
+   * @throws IllegalStateException if a tag extractor was already set
+   * @throws NullPointerException if the specified function is null
+   */
+  @CanIgnoreReturnValue
+  public <K1 extends K> Caffeine<K1, V> tagExtractor(Function<? super K1, ?> tagExtractor) {
+    requireState(this.tagExtractor == null,
+        "tag extractor was already set to %s", this.tagExtractor);
+
+    @SuppressWarnings("unchecked")
+    Caffeine<K1, V> self = (Caffeine<K1, V>) this;
+    self.tagExtractor = requireNonNull(tagExtractor);
+    return self;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Nullable <K1 extends K> Function<K1, ?> getTagExtractor() {
+    return (Function<K1, ?>) tagExtractor;
+  }
+
+  /**
+   * Specifies the strategy that adapts the size of the admission window, which by default is a
+   * hill climber that walks the window size by the sampled hit rate. An alternative strategy, such
+   * as {@link WindowClimber#miniSimulation()}, may converge faster when the workload shifts between
+   * recency-biased and frequency-biased phases. The supplier is invoked once per cache that is
+   * built, because a strategy is stateful and must not be shared.
+   * <p>
+   * This feature requires that the cache is bounded by {@link #maximumSize(long)} or
+   * {@link #maximumWeight(long)}.
+   *
+   * @param windowClimberSupplier a supplier that returns a new {@link WindowClimber}
+   * @return this {@code Caffeine} instance (for chaining)
+   * @throws IllegalStateException if a window climber was already set
+   * @throws NullPointerException if the specified supplier is null
+   */
+  @CanIgnoreReturnValue
+  public Caffeine<K, V> windowClimber(Supplier<? extends WindowClimber> windowClimberSupplier) {
+    requireState(this.windowClimberSupplier == null,
+        "window climber was already set to %s", this.windowClimberSupplier);
+    this.windowClimberSupplier = requireNonNull(windowClimberSupplier);
+    return this;
+  }
+
+  @Nullable Supplier<? extends WindowClimber> getWindowClimberSupplier() {
+    return windowClimberSupplier;
+  }
+
+  @Nullable WindowClimber getWindowClimber() {
+    return (windowClimberSupplier == null)
+        ? null
+        : requireNonNull(windowClimberSupplier.get(), "Null window climber");
+  }
+
   /**
    * Enables the accumulation of {@link CacheStats} during the operation of the cache. Without this
    * {@link Cache#stats} will return zero for all statistics. Note that recording statistics
@@ -1020,7 +1155,8 @@ public final class Caffeine<K, V> {
         || (expireAfterWriteNanos != UNSET_INT)
         || (expiry != null)
         || (keyStrength != null)
-        || (valueStrength != null);
+        || (valueStrength != null)
+        || (tagExtractor != null);
   }
 
   /**
@@ -1040,6 +1176,9 @@ public final class Caffeine<K, V> {
    */
   public <K1 extends K, V1 extends V> Cache<K1, V1> build() {
     requireWeightWithWeigher();
+    requireMaximumWithWindowClimber();
+    requireMaximumWithDoorkeeper();
+    requireWeigherWithCoalescing();
     requireNonLoadingCache();
 
     @SuppressWarnings("unchecked")
@@ -1066,6 +1205,9 @@ public final class Caffeine<K, V> {
   public <K1 extends K, V1 extends V> LoadingCache<K1, V1> build(
       CacheLoader<? super K1, V1> loader) {
     requireWeightWithWeigher();
+    requireMaximumWithWindowClimber();
+    requireMaximumWithDoorkeeper();
+    requireWeigherWithCoalescing();
 
     @SuppressWarnings("unchecked")
     Caffeine<K1, V1> self = (Caffeine<K1, V1>) this;
@@ -1099,6 +1241,9 @@ public final class Caffeine<K, V> {
     requireState(isStrongKeys() || (evictionListener == null),
         "Weak keys cannot be combined eviction listener and with AsyncLoadingCache");
     requireWeightWithWeigher();
+    requireMaximumWithWindowClimber();
+    requireMaximumWithDoorkeeper();
+    requireWeigherWithCoalescing();
     requireNonLoadingCache();
 
     @SuppressWarnings("unchecked")
@@ -1156,6 +1301,9 @@ public final class Caffeine<K, V> {
     requireState(isStrongKeys() || (evictionListener == null),
         "Weak keys cannot be combined eviction listener and with AsyncLoadingCache");
     requireWeightWithWeigher();
+    requireMaximumWithWindowClimber();
+    requireMaximumWithDoorkeeper();
+    requireWeigherWithCoalescing();
     requireNonNull(loader);
 
     @SuppressWarnings("unchecked")
@@ -1169,6 +1317,21 @@ public final class Caffeine<K, V> {
     requireState(refreshAfterWriteNanos == UNSET_INT, "refreshAfterWrite requires a LoadingCache");
   }
 
+  void requireMaximumWithWindowClimber() {
+    requireState((windowClimberSupplier == null) || evicts(),
+        "windowClimber requires maximumSize or maximumWeight");
+  }
+
+  void requireMaximumWithDoorkeeper() {
+    requireState(!doorkeeper || evicts(),
+        "admissionDoorkeeper requires maximumSize or maximumWeight");
+  }
+
+  void requireWeigherWithCoalescing() {
+    requireState(!coalesceWeights || (isWeighted() && evicts()),
+        "coalesceWeightUpdates requires maximumWeight");
+  }
+
   void requireWeightWithWeigher() {
     if (weigher == null) {
       requireState(maximumWeight == UNSET_INT, "maximumWeight requires weigher");
@@ -1238,6 +1401,18 @@ public final class Caffeine<K, V> {
     if (removalListener != null) {
       s.append("removalListener, ");
     }
+    if (tagExtractor != null) {
+      s.append("tagExtractor, ");
+    }
+    if (windowClimberSupplier != null) {
+      s.append("windowClimber, ");
+    }
+    if (coalesceWeights) {
+      s.append("coalesceWeightUpdates, ");
+    }
+    if (doorkeeper) {
+      s.append("admissionDoorkeeper, ");
+    }
     if (s.length() > baseLength) {
       s.delete(s.length() - 2, s.length());
     }
@@ -22,7 +22,11 @@ import static java.util.Locale.US;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -66,7 +70,8 @@ import com.github.benmanes.caffeine.cache.Caffeine.Strength;
  * parameters. These must be configured in code.
  * <p>
  * A new {@code Caffeine} builder can be instantiated from a {@code CaffeineSpec} using
- * {@link Caffeine#from(CaffeineSpec)} or {@link Caffeine#from(String)}.
+ * {@link Caffeine#from(CaffeineSpec)} or {@link Caffeine#from(String)}. A running cache may be
+ * retuned by {@link #applyTo(Policy)}, which adjusts the settings that can be changed at runtime.
  *
  * @author ben.manes@gmail.com (Ben Manes)
  */
@@ -133,6 +138,87 @@ public final class CaffeineSpec {
     return builder;
   }
 
+  /**
+   * Applies this specification to a running cache by adjusting the settings that can be changed
+   * without rebuilding it. The maximum size or weight, the expire after access and write durations,
+   * and the refresh after write duration are updated through the cache's {@link Policy} if the
+   * cache was built with that feature. A setting that is not present in this specification is left
+   * unchanged.
+   * <p>
+   * The settings that cannot be applied are returned by their keys rather than ignored. This
+   * includes a feature that the cache was not built with, such as {@code maximumWeight} on a cache
+   * bounded by size or {@code recordStats} on a cache that does not record statistics, as well as
+   * {@code initialCapacity} and the reference strength keys, which are fixed when the cache is
+   * built.
+   *
+   * @param policy the policy of the cache to reconfigure
+   * @return the keys of the settings that could not be applied, in the order that they are listed
+   *         in the class documentation
+   * @throws IllegalArgumentException if a setting is rejected by the policy
+   */
+  public Set<String> applyTo(Policy<?, ?> policy) {
+    requireNonNull(policy);
+    var unapplied = new LinkedHashSet<String>();
+    if (initialCapacity != UNSET_INT) {
+      unapplied.add("initialCapacity");
+    }
+    if (maximumSize != UNSET_INT) {
+      applyMaximum(policy, "maximumSize", maximumSize, /* weighted */ false, unapplied);
+    }
+    if (maximumWeight != UNSET_INT) {
+      applyMaximum(policy, "maximumWeight", maximumWeight, /* weighted */ true, unapplied);
+    }
+    if (expireAfterAccess != null) {
+      applyExpiration(policy.expireAfterAccess(), "expireAfterAccess",
+          expireAfterAccess, unapplied);
+    }
+    if (expireAfterWrite != null) {
+      applyExpiration(policy.expireAfterWrite(), "expireAfterWrite",
+          expireAfterWrite, unapplied);
+    }
+    if (refreshAfterWrite != null) {
+      var refresh = policy.refreshAfterWrite();
+      if (refresh.isPresent()) {
+        refresh.get().setRefreshesAfter(refreshAfterWrite);
+      } else {
+        unapplied.add("refreshAfterWrite");
+      }
+    }
+    if (keyStrength != null) {
+      unapplied.add("weakKeys");
+    }
+    if (valueStrength == Strength.WEAK) {
+      unapplied.add("weakValues");
+    } else if (valueStrength == Strength.SOFT) {
+      unapplied.add("softValues");
+    }
+    if (recordStats && !policy.isRecordingStats()) {
+      unapplied.add("recordStats");
+    }
+    return Collections.unmodifiableSet(unapplied);
+  }
+
+  /** Sets the maximum if the cache is bounded by the same measure, else records the key. */
+  static void applyMaximum(Policy<?, ?> policy, String key,
+      long maximum, boolean weighted, Set<String> unapplied) {
+    var eviction = policy.eviction();
+    if (eviction.isPresent() && (eviction.get().isWeighted() == weighted)) {
+      eviction.get().setMaximum(maximum);
+    } else {
+      unapplied.add(key);
+    }
+  }
+
+  /** Sets the duration if the cache has the expiration policy, else records the key. */
+  static void applyExpiration(Optional<? extends Policy.FixedExpiration<?, ?>> expiration,
+      String key, Duration duration, Set<String> unapplied) {
+    if (expiration.isPresent()) {
+      expiration.get().setExpiresAfter(duration);
+    } else {
+      unapplied.add(key);
+    }
+  }
+
   /**
    * Creates a CaffeineSpec from a string.
    *
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A subscription to the entries of a bulk lookup on an asynchronous cache. An entry is emitted to
+ * the subscriber once its future completes, so the cache hits are available immediately and the
+ * loaded entries follow in the order that they arrive. An absent value is not emitted and a failed
+ * future terminates the stream with its error. The completed entries are drained by whichever
+ * thread requests or completes them, up to the subscriber's outstanding demand.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+final class EntrySubscription<K, V> implements Subscription {
+  static final Logger logger = System.getLogger(EntrySubscription.class.getName());
+
+  final Subscriber<? super Entry<K, V>> subscriber;
+  final AtomicReference<@Nullable Throwable> error;
+  final @Nullable LoadSubscriber<K, V> loader;
+  final Queue<Entry<K, V>> ready;
+  final AtomicInteger remaining;
+  final AtomicLong requested;
+  final AtomicInteger wip;
+
+  volatile boolean done;
+
+  EntrySubscription(Subscriber<? super Entry<K, V>> subscriber,
+      @Nullable LoadSubscriber<K, V> loader) {
+    this.subscriber = requireNonNull(subscriber);
+    this.ready = new ConcurrentLinkedQueue<>();
+    this.error = new AtomicReference<>();
+    this.remaining = new AtomicInteger(1);
+    this.requested = new AtomicLong();
+    this.wip = new AtomicInteger();
+    this.loader = loader;
+  }
+
+  /**
+   * Subscribes to the entries of the futures, which are emitted as they complete.
+   *
+   * @param subscriber the subscriber to emit the entries to
+   * @param futures the futures of the entries in the lookup
+   * @param loader the subscriber to the loaded entries, which receives the subscriber's demand
+   */
+  static <K, V> void subscribe(Subscriber<? super Entry<K, V>> subscriber,
+      Map<K, CompletableFuture<V>> futures, @Nullable LoadSubscriber<K, V> loader) {
+    var subscription = new EntrySubscription<K, V>(subscriber, loader);
+    subscriber.onSubscribe(subscription);
+    subscription.await(futures);
+  }
+
+  /** Subscribes to a lookup that failed before any of its entries could be emitted. */
+  static <K, V> void error(Subscriber<? super Entry<K, V>> subscriber, Throwable t) {
+    var subscription = new EntrySubscription<K, V>(subscriber, /* loader */ null);
+    subscription.error.set(t);
+    subscriber.onSubscribe(subscription);
+    subscription.await(Map.of());
+  }
+
+  /** Registers for the completion of the futures. */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  void await(Map<K, CompletableFuture<V>> futures) {
+    remaining.addAndGet(futures.size());
+    futures.forEach((key, future) -> future.whenComplete((value, e) -> {
+      if (e != null) {
+        error.compareAndSet(null, ((e instanceof CompletionException) && (e.getCause() != null))
+            ? e.getCause()
+            : e);
+      } else if (value != null) {
+        ready.add(new SimpleImmutableEntry<>(key, value));
+      }
+      remaining.decrementAndGet();
+      drain();
+    }));
+    remaining.decrementAndGet();
+    drain();
+  }
+
+  @Override
+  public void request(long n) {
+    if (n <= 0) {
+      error.compareAndSet(null, new IllegalArgumentException("non-positive request: " + n));
+    } else {
+      requested.getAndUpdate(current -> addCapped(current, n));
+      if (loader != null) {
+        loader.request(n);
+      }
+    }
+    drain();
+  }
+
+  @Override
+  public void cancel() {
+    if (!done) {
+      done = true;
+      if (loader != null) {
+        loader.cancel();
+      }
+      drain();
+    }
+  }
+
+  /** Emits the completed entries up to the demand, or the terminal signal if finished. */
+  void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+
+    int missed = 1;
+    for (;;) {
+      long demand = requested.get();
+      long emitted = 0;
+      while ((emitted != demand) && !done && (error.get() == null)) {
+        var entry = ready.poll();
+        if (entry == null) {
+          break;
+        }
+        subscriber.onNext(entry);
+        emitted++;
+      }
+
+      var failure = error.get();
+      if (done) {
+        ready.clear();
+        return;
+      } else if (failure != null) {
+        done = true;
+        ready.clear();
+        if (loader != null) {
+          loader.cancel();
+        }
+        subscriber.onError(failure);
+        return;
+      } else if ((remaining.get() == 0) && ready.isEmpty()) {
+        done = true;
+        subscriber.onComplete();
+        return;
+      }
+
+      if ((emitted != 0) && (demand != Long.MAX_VALUE)) {
+        requested.addAndGet(-emitted);
+      }
+      missed = wip.addAndGet(-missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  /** Returns the sum of the demands, saturating at {@code Long.MAX_VALUE}. */
+  static long addCapped(long current, long n) {
+    long sum = current + n;
+    return (sum < 0) ? Long.MAX_VALUE : sum;
+  }
+
+  /**
+   * A subscriber to a streaming bulk load that completes the cache's proxy futures as the entries
+   * arrive. The demand of the downstream subscriber is forwarded to the loader, and an element that
+   * is not emitted downstream, such as an extra key or an absent value, is replenished so that the
+   * loader's demand tracks the entries that are still owed. Any proxies that were not loaded when
+   * the stream terminates are removed from the cache.
+   * <p>
+   * If the subscription is cancelled while another caller is waiting on one of the unloaded
+   * proxies, such as by a {@code get} that joined the in-flight load, then the load is detached
+   * rather than cancelled so that it completes for those callers. Otherwise the load is cancelled
+   * and the unloaded proxies are failed with a {@link CancellationException}.
+   */
+  static final class LoadSubscriber<K, V> implements Subscriber<Entry<? extends K, ? extends V>> {
+    final AtomicReference<@Nullable Subscription> upstream;
+    final LocalCache<K, CompletableFuture<V>> cache;
+    final ConcurrentMap<K, CompletableFuture<V>> proxies;
+    final AtomicBoolean finished;
+    final AtomicLong deferred;
+    final long startTime;
+
+    volatile boolean detached;
+
+    LoadSubscriber(LocalCache<K, CompletableFuture<V>> cache,
+        Map<K, CompletableFuture<V>> proxies) {
+      this.proxies = new ConcurrentHashMap<>(proxies);
+      this.startTime = cache.statsTicker().read();
+      this.upstream = new AtomicReference<>();
+      this.finished = new AtomicBoolean();
+      this.deferred = new AtomicLong();
+      this.cache = cache;
+    }
+
+    /** Requests more entries from the loader, deferring until it has subscribed. */
+    void request(long n) {
+      var subscription = upstream.get();
+      if (subscription == null) {
+        deferred.getAndUpdate(current -> addCapped(current, n));
+        subscription = upstream.get();
+        if (subscription == null) {
+          return;
+        }
+        long pending = deferred.getAndSet(0L);
+        if (pending != 0L) {
+          subscription.request(pending);
+        }
+      } else {
+        subscription.request(n);
+      }
+    }
+
+    /**
+     * Stops the load and removes the proxies that were not loaded, unless another caller depends on
+     * them in which case the load continues without the downstream subscriber.
+     */
+    void cancel() {
+      if (detached || finished.get()) {
+        return;
+      }
+      for (var proxy : proxies.values()) {
+        // the downstream subscription is the only expected dependent of an unshared proxy
+        if (proxy.getNumberOfDependents() > 1) {
+          detached = true;
+          request(Long.MAX_VALUE);
+          return;
+        }
+      }
+      finish(new CancellationException());
+      var subscription = upstream.get();
+      if (subscription != null) {
+        subscription.cancel();
+      }
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      requireNonNull(subscription);
+      if (!upstream.compareAndSet(null, subscription) || finished.get()) {
+        subscription.cancel();
+        return;
+      }
+      long pending = deferred.getAndSet(0L);
+      if (pending != 0L) {
+        subscription.request(pending);
+      }
+    }
+
+    @Override
+    public void onNext(Entry<? extends K, ? extends V> entry) {
+      K key = entry.getKey();
+      V value = entry.getValue();
+      if (key == null) {
+        replenish();
+        return;
+      }
+
+      var proxy = proxies.remove(key);
+      if (proxy == null) {
+        if ((value != null) && !finished.get()) {
+          cache.put(key, CompletableFuture.completedFuture(value));
+        }
+        replenish();
+        return;
+      }
+
+      proxy.obtrudeValue(value);
+      if (value == null) {
+        cache.remove(key, proxy);
+        replenish();
+      } else {
+        // update the weight and expiration timestamps
+        cache.replace(key, proxy, proxy);
+      }
+    }
+
+    /** Requests another entry in place of one that was consumed without being emitted. */
+    void replenish() {
+      var subscription = upstream.get();
+      if ((subscription != null) && !detached && !finished.get()) {
+        subscription.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      finish(requireNonNull(t));
+    }
+
+    @Override
+    public void onComplete() {
+      finish(/* error */ null);
+    }
+
+    /** Completes the proxies that were not loaded and records the load. */
+    void finish(@Nullable Throwable error) {
+      if (!finished.compareAndSet(false, true)) {
+        return;
+      }
+
+      long loadTime = cache.statsTicker().read() - startTime;
+      for (K key : proxies.keySet()) {
+        var proxy = proxies.remove(key);
+        if (proxy == null) {
+          continue;
+        } else if (error == null) {
+          proxy.obtrudeValue(null);
+          cache.remove(key, proxy);
+        } else {
+          cache.remove(key, proxy);
+          proxy.obtrudeException(error);
+        }
+      }
+
+      if (error == null) {
+        cache.statsCounter().recordLoadSuccess(loadTime);
+      } else {
+        cache.statsCounter().recordLoadFailure(loadTime);
+        if (!(error instanceof CancellationException) && !(error instanceof TimeoutException)) {
+          logger.log(Level.WARNING, "Exception thrown during asynchronous load", error);
+        }
+      }
+    }
+  }
+}
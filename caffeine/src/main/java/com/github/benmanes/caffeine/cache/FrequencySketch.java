@@ -17,7 +17,10 @@ package com.github.benmanes.caffeine.cache;
 
 import static com.github.benmanes.caffeine.cache.Caffeine.requireArgument;
 
+import java.util.Arrays;
+
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A probabilistic multiset for estimating the popularity of an element within a time window. The
@@ -52,7 +55,29 @@ final class FrequencySketch<E> {
    * number of entries in the cache. This is referred to as the reset operation by TinyLfu and keeps
    * the sketch fresh by dividing all counters by two and subtracting based on the number of odd
    * counters found. The O(n) cost of aging is amortized, ideal for hardware prefetching, and uses
-   * inexpensive bit manipulations per array location.
+   * inexpensive bit manipulations per array location. The table is traversed a block at a time so
+   * that the odd counters are summed lane-wise within a word (SWAR), requiring only a single
+   * horizontal reduction per block, and the fixed trip count of the inner loop allows the JIT
+   * compiler to unroll and vectorize it.
+   *
+   * The sketch may optionally be preceded by a doorkeeper [2], a Bloom filter that absorbs the
+   * first occurrence of an element within the sample period. The majority of the elements in a
+   * typical stream are one-hit wonders, so when these do not occupy the counters then a smaller
+   * counter matrix retains the same accuracy. In this mode the counter matrix and the doorkeeper
+   * are each a quarter of the default table's length, halving the memory footprint, and the
+   * doorkeeper is cleared by the aging process. The doorkeeper is a blocked Bloom filter that sets
+   * four bits within a single word, so that a lookup costs one additional memory access. The word
+   * and bits are selected by a separately mixed hash, so elements that share counters are unlikely
+   * to also share their doorkeeper bits. A false positive only increases an element's estimate by
+   * one. This mode is enabled per cache by the builder's admissionDoorkeeper() option.
+   *
+   * A large table is aged incrementally so that the cost is not incurred as a single pause. When
+   * the sample period has elapsed the aging begins, and each call to age() halves a bounded slice
+   * of the table until it is complete. The cache's maintenance performs this work, so no single
+   * maintenance cycle is required to traverse the entire table while holding the eviction lock. An
+   * element's counters are colocated within a block and the slices are block aligned, so the
+   * counters of an element are always halved together. The additions during the aging process
+   * count towards the next sample period.
    *
    * [1] An Improved Data Stream Summary: The Count-Min Sketch and its Applications
    * http://dimacs.rutgers.edu/~graham/pubs/papers/cm-full.pdf
@@ -63,17 +88,41 @@ final class FrequencySketch<E> {
   static final long RESET_MASK = 0x7777777777777777L;
   static final long ONE_MASK = 0x1111111111111111L;
 
+  /** The reduction of the table's length when the doorkeeper is enabled. */
+  static final int DOORKEEPER_SHIFT = 2;
+  /** The maximum number of table slots that are halved by a single call to age(). */
+  static final int AGING_SLICE = 8 * 1024;
+
+  final boolean useDoorkeeper;
+
   int sampleSize;
   int blockMask;
   long[] table;
   int size;
 
+  int agingIndex;
+  int agingOddCount;
+
+  long @Nullable [] doorkeeper;
+  int doorkeeperMask;
+
   /**
    * Creates a lazily initialized frequency sketch, requiring {@link #ensureCapacity} be called
    * when the maximum size of the cache has been determined.
    */
+  public FrequencySketch() {
+    this(/* useDoorkeeper */ false);
+  }
+
+  /**
+   * Creates a lazily initialized frequency sketch.
+   *
+   * @param useDoorkeeper if the first occurrence of an element is recorded by a Bloom filter
+   */
   @SuppressWarnings("NullAway.Init")
-  public FrequencySketch() {}
+  FrequencySketch(boolean useDoorkeeper) {
+    this.useDoorkeeper = useDoorkeeper;
+  }
 
   /**
    * Initializes and increases the capacity of this <tt>FrequencySketch</tt> instance, if necessary,
@@ -85,16 +134,27 @@ final class FrequencySketch<E> {
   public void ensureCapacity(@NonNegative long maximumSize) {
     requireArgument(maximumSize >= 0);
     int maximum = (int) Math.min(maximumSize, Integer.MAX_VALUE >>> 1);
-    if ((table != null) && (table.length >= maximum)) {
+    int length = Caffeine.ceilingPowerOfTwo(maximum);
+    if (useDoorkeeper) {
+      length >>>= DOORKEEPER_SHIFT;
+    }
+    length = Math.max(length, 8);
+    if ((table != null) && (table.length >= length)) {
       return;
     }
 
-    table = new long[Math.max(Caffeine.ceilingPowerOfTwo(maximum), 8)];
+    table = new long[length];
+    if (useDoorkeeper) {
+      doorkeeper = new long[length];
+      doorkeeperMask = length - 1;
+    }
     sampleSize = (maximumSize == 0) ? 10 : (10 * maximum);
     blockMask = (table.length >>> 3) - 1;
     if (sampleSize <= 0) {
       sampleSize = Integer.MAX_VALUE;
     }
+    agingIndex = table.length;
+    agingOddCount = 0;
     size = 0;
   }
 
@@ -118,7 +178,7 @@ final class FrequencySketch<E> {
       return 0;
     }
 
-    int[] count = new int[4];
+    int frequency = 15;
     int blockHash = spread(e.hashCode());
     int counterHash = rehash(blockHash);
     int block = (blockHash & blockMask) << 3;
@@ -126,9 +186,18 @@ final class FrequencySketch<E> {
       int h = counterHash >>> (i << 3);
       int index = (h >>> 1) & 15;
       int offset = h & 1;
-      count[i] = (int) ((table[block + offset + (i << 1)] >>> (index << 2)) & 0xfL);
+      int count = (int) ((table[block + offset + (i << 1)] >>> (index << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
     }
-    return Math.min(Math.min(count[0], count[1]), Math.min(count[2], count[3]));
+    if ((doorkeeper != null) && (frequency != 15)) {
+      long doorkeeperHash = doorkeeperHash(blockHash);
+      int index = (int) (doorkeeperHash >>> 32) & doorkeeperMask;
+      long mask = doorkeeperBits(doorkeeperHash);
+      if ((doorkeeper[index] & mask) == mask) {
+        frequency++;
+      }
+    }
+    return frequency;
   }
 
   /**
@@ -144,25 +213,79 @@ final class FrequencySketch<E> {
       return;
     }
 
-    int[] index = new int[8];
+    boolean added = false;
     int blockHash = spread(e.hashCode());
     int counterHash = rehash(blockHash);
     int block = (blockHash & blockMask) << 3;
+    if ((doorkeeper != null) && admitToDoorkeeper(doorkeeper, doorkeeperHash(blockHash))) {
+      recordAddition();
+      return;
+    }
+
     for (int i = 0; i < 4; i++) {
       int h = counterHash >>> (i << 3);
-      index[i] = (h >>> 1) & 15;
+      int index = (h >>> 1) & 15;
       int offset = h & 1;
-      index[i + 4] = block + offset + (i << 1);
+      added |= incrementAt(block + offset + (i << 1), index);
+    }
+
+    if (added) {
+      recordAddition();
+    }
+  }
+
+  /**
+   * Records that an element was added and begins to age the sketch if the sample period has
+   * elapsed. A small table is aged immediately, whereas a large table is aged incrementally by
+   * subsequent calls to {@link #age()}.
+   */
+  void recordAddition() {
+    if ((++size >= sampleSize) && !isAging()) {
+      if (table.length <= AGING_SLICE) {
+        reset();
+      } else {
+        agingIndex = 0;
+      }
+    }
+  }
+
+  /**
+   * Records the element in the doorkeeper if it was absent.
+   *
+   * @param doorkeeper the Bloom filter's table
+   * @param doorkeeperHash the element's hash that selects its doorkeeper word and bits
+   * @return if the element was added to the doorkeeper
+   */
+  boolean admitToDoorkeeper(long[] doorkeeper, long doorkeeperHash) {
+    int index = (int) (doorkeeperHash >>> 32) & doorkeeperMask;
+    long mask = doorkeeperBits(doorkeeperHash);
+    if ((doorkeeper[index] & mask) == mask) {
+      return false;
     }
-    boolean added =
-          incrementAt(index[4], index[0])
-        | incrementAt(index[5], index[1])
-        | incrementAt(index[6], index[2])
-        | incrementAt(index[7], index[3]);
+    doorkeeper[index] |= mask;
+    return true;
+  }
 
-    if (added && (++size == sampleSize)) {
-      reset();
+  /** Returns the four bits within a doorkeeper word that represent the element. */
+  static long doorkeeperBits(long doorkeeperHash) {
+    long mask = 0L;
+    for (int i = 0; i < 4; i++) {
+      mask |= 1L << ((doorkeeperHash >>> (i << 3)) & 63);
     }
+    return mask;
+  }
+
+  /**
+   * Applies an independent round of hashing that selects the element's doorkeeper word and bits, so
+   * that the elements which collide on their counters are not also likely to collide in the
+   * doorkeeper.
+   */
+  static long doorkeeperHash(int blockHash) {
+    long x = blockHash * 0x9e3779b97f4a7c15L;
+    x ^= x >>> 30;
+    x *= 0xbf58476d1ce4e5b9L;
+    x ^= x >>> 27;
+    return x;
   }
 
   /** Applies a supplemental hash functions to defends against poor quality hash. */
@@ -199,13 +322,64 @@ final class FrequencySketch<E> {
     return false;
   }
 
-  /** Reduces every counter by half of its original value. */
+  /** Returns if the sketch is being aged incrementally. */
+  boolean isAging() {
+    return (agingIndex < table.length);
+  }
+
+  /** Halves the next slice of the counters, if the sketch is being aged incrementally. */
+  public void age() {
+    if (!isNotInitialized() && isAging()) {
+      halve(AGING_SLICE);
+    }
+  }
+
+  /** Reduces every counter by half of its original value, completing any incremental aging. */
   void reset() {
+    if (!isAging()) {
+      agingIndex = 0;
+    }
+    halve(table.length);
+  }
+
+  /**
+   * Reduces the counters in the next slots by half of their original value. When the end of the
+   * table is reached, the sample size is reduced accordingly and the aging is complete.
+   *
+   * @param slots the maximum number of table slots to halve
+   */
+  void halve(int slots) {
+    int start = agingIndex;
+    int end = (int) Math.min(table.length, (long) start + slots);
     int count = 0;
-    for (int i = 0; i < table.length; i++) {
-      count += Long.bitCount(table[i] & ONE_MASK);
-      table[i] = (table[i] >>> 1) & RESET_MASK;
+    for (int block = start; block < end; block += 8) {
+      long odd = 0L;
+      for (int i = block; i < block + 8; i++) {
+        odd += (table[i] & ONE_MASK);
+        table[i] = (table[i] >>> 1) & RESET_MASK;
+      }
+      count += sumOfNibbles(odd);
     }
-    size = (size - (count >>> 2)) >>> 1;
+    if (doorkeeper != null) {
+      Arrays.fill(doorkeeper, start, end, 0L);
+    }
+    agingOddCount += count;
+    agingIndex = end;
+
+    if (end == table.length) {
+      int sizeBefore = size;
+      size = (size - (agingOddCount >>> 2)) >>> 1;
+      agingOddCount = 0;
+      CacheEvents.sketchReset(this, sizeBefore);
+    }
+  }
+
+  /**
+   * Returns the sum of the 4-bit lanes, where each lane is at most eight because it accumulated
+   * the low bit of the counters in a block's eight slots.
+   */
+  static int sumOfNibbles(long lanes) {
+    long bytes = (lanes & 0x0f0f0f0f0f0f0f0fL) + ((lanes >>> 4) & 0x0f0f0f0f0f0f0f0fL);
+    return (int) ((bytes * 0x0101010101010101L) >>> 56);
   }
 }
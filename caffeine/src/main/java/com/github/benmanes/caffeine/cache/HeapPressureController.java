@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.requireArgument;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+
+/**
+ * A controller that resizes a bounded cache in response to the heap's occupancy after a garbage
+ * collection. This is an alternative to {@link Caffeine#softValues()}, where instead of the
+ * collector clearing arbitrary entries when the heap is exhausted, the cache's maximum is lowered
+ * so that the eviction policy discards the least valuable entries first.
+ * <p>
+ * The controller observes the usage of the tenured memory pools after each major collection, as
+ * reported by the garbage collector's notifications. A minor collection is ignored, as it does not
+ * refresh the tenured pools' usage, even when its collector also manages those pools. When the
+ * occupancy exceeds a high watermark then the maximum is decreased by a percentage of its current
+ * value, and when it falls below a low watermark then the maximum is gradually increased towards
+ * its original value. The gap between the watermarks provides hysteresis so that the cache does
+ * not oscillate in size, a cool-down period spaces the adjustments apart so that the collector may
+ * observe the effect of the prior one, and the adjustments are performed on the cache's executor.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ *   Cache<Key, Graph> graphs = Caffeine.newBuilder()
+ *       .maximumWeight(1_000_000)
+ *       .weigher((Key key, Graph graph) -> graph.vertices().size())
+ *       .build();
+ *   HeapPressureController controller = HeapPressureController.start(graphs, 10_000);
+ *   ...
+ *   controller.close();
+ * }</pre>
+ * <p>
+ * This feature requires the {@code java.management} module and a garbage collector whose
+ * management beans emit notifications, such as HotSpot's.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class HeapPressureController implements AutoCloseable {
+  static final Logger logger = System.getLogger(HeapPressureController.class.getName());
+
+  /** The heap occupancy after a collection that causes the cache to shrink. */
+  static final double HIGH_WATERMARK = 0.85d;
+  /** The heap occupancy after a collection that allows the cache to grow. */
+  static final double LOW_WATERMARK = 0.65d;
+  /** The percent of the current maximum to release when the heap is under pressure. */
+  static final double SHRINK_PERCENT = 0.10d;
+  /** The percent of the original maximum to restore when the heap has headroom. */
+  static final double GROW_PERCENT = 0.02d;
+  /** The minimum duration between adjustments of the maximum. */
+  static final long COOL_DOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+  /** The notification type emitted by HotSpot's garbage collector beans after a collection. */
+  static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+  /** The notification's action when the collection included the tenured generation. */
+  static final String MAJOR_GC_ACTION = "end of major GC";
+
+  final List<GarbageCollectorMXBean> collectors;
+  final List<NotificationEmitter> emitters;
+  final List<MemoryPoolMXBean> tenured;
+  final NotificationListener listener;
+  final Eviction<?, ?> eviction;
+  final Executor executor;
+  final Ticker ticker;
+  final long minimum;
+  final long maximum;
+
+  @GuardedBy("this")
+  long collectionCount;
+  @GuardedBy("this")
+  long lastAdjustment;
+  @GuardedBy("this")
+  boolean closed;
+
+  HeapPressureController(Eviction<?, ?> eviction, Executor executor,
+      Ticker ticker, long minimum) {
+    this.lastAdjustment = ticker.read() - COOL_DOWN_NANOS;
+    this.listener = this::onNotification;
+    this.maximum = eviction.getMaximum();
+    this.collectors = new ArrayList<>();
+    this.emitters = new ArrayList<>();
+    this.tenured = new ArrayList<>();
+    this.collectionCount = -1;
+    this.executor = executor;
+    this.eviction = eviction;
+    this.minimum = minimum;
+    this.ticker = ticker;
+  }
+
+  /**
+   * Returns a controller that is observing the heap and resizing the cache between its current
+   * maximum and the given minimum.
+   *
+   * @param cache a cache built with a maximum size or weight
+   * @param minimum the smallest maximum size or weight that the cache may be reduced to
+   * @return a running controller that should be closed when the cache is no longer used
+   * @throws IllegalArgumentException if the cache is not bounded by a maximum size or weight, or if
+   *         the minimum is negative or exceeds the cache's maximum
+   */
+  public static HeapPressureController start(Cache<?, ?> cache, @NonNegative long minimum) {
+    var bounded = CacheGroup.boundedLocalCacheOf(cache);
+    var eviction = cache.policy().eviction();
+    requireArgument(bounded.evicts() && eviction.isPresent(),
+        "The cache must be bounded by a maximum size or weight");
+    requireArgument((minimum >= 0) && (minimum <= eviction.get().getMaximum()),
+        "minimum must be between zero and the cache's maximum: %s", minimum);
+
+    var controller = new HeapPressureController(eviction.get(),
+        bounded.executor(), Ticker.systemTicker(), minimum);
+    controller.register();
+    return controller;
+  }
+
+  /**
+   * Subscribes to the notifications of the garbage collectors that manage a tenured pool. A young
+   * pool does not support a usage threshold, which distinguishes it from the tenured pools. A young
+   * collector may also list the tenured pools, such as G1's, so its notifications are filtered by
+   * their action rather than by the collector.
+   */
+  synchronized void register() {
+    var names = new ArrayList<String>();
+    for (var pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if ((pool.getType() == MemoryType.HEAP) && pool.isUsageThresholdSupported()
+          && pool.isCollectionUsageThresholdSupported()) {
+        names.add(pool.getName());
+        tenured.add(pool);
+      }
+    }
+    for (var collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (!List.of(collector.getMemoryPoolNames()).stream().anyMatch(names::contains)) {
+        continue;
+      }
+      collectors.add(collector);
+      if (collector instanceof NotificationEmitter) {
+        var emitter = (NotificationEmitter) collector;
+        emitter.addNotificationListener(listener, /* filter */ null, /* handback */ null);
+        emitters.add(emitter);
+      }
+    }
+    collectionCount = collectionCount();
+  }
+
+  /** Returns the maximum size or weight that the cache was configured with. */
+  public long maximum() {
+    return maximum;
+  }
+
+  /** Returns the smallest maximum size or weight that the cache may be reduced to. */
+  public long minimum() {
+    return minimum;
+  }
+
+  /**
+   * Stops observing the heap. The cache retains its current maximum, which may be restored by using
+   * {@link Policy.Eviction#setMaximum(long)}.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    for (var emitter : emitters) {
+      try {
+        emitter.removeNotificationListener(listener);
+      } catch (ListenerNotFoundException e) {
+        logger.log(Level.WARNING, "Failed to unsubscribe from the memory notifications", e);
+      }
+    }
+    emitters.clear();
+    collectors.clear();
+    tenured.clear();
+  }
+
+  /** Evaluates the heap's occupancy after a major garbage collection. */
+  void onNotification(Notification notification, @Nullable Object handback) {
+    if (isMajorCollection(notification)) {
+      long count;
+      double occupancy;
+      synchronized (this) {
+        count = collectionCount();
+        occupancy = tenuredOccupancy();
+      }
+      try {
+        executor.execute(() -> onCollection(count, occupancy));
+      } catch (Throwable t) {
+        logger.log(Level.WARNING, "Exception thrown when submitting the resize task", t);
+      }
+    }
+  }
+
+  /** Returns if the notification reports the end of a collection of the tenured generation. */
+  static boolean isMajorCollection(Notification notification) {
+    if (!GC_NOTIFICATION.equals(notification.getType())
+        || !(notification.getUserData() instanceof CompositeData)) {
+      return false;
+    }
+    var info = (CompositeData) notification.getUserData();
+    return info.containsKey("gcAction") && MAJOR_GC_ACTION.equals(info.get("gcAction"));
+  }
+
+  /** Returns the number of collections by the collectors of the tenured pools. */
+  @GuardedBy("this")
+  long collectionCount() {
+    long count = 0L;
+    for (var collector : collectors) {
+      count += Math.max(0L, collector.getCollectionCount());
+    }
+    return count;
+  }
+
+  /** Returns the highest fraction of a tenured pool's capacity that remained after a collection. */
+  @GuardedBy("this")
+  double tenuredOccupancy() {
+    double occupancy = 0.0;
+    for (var pool : tenured) {
+      var usage = pool.getCollectionUsage();
+      if ((usage != null) && (usage.getMax() > 0)) {
+        occupancy = Math.max(occupancy, (double) usage.getUsed() / usage.getMax());
+      }
+    }
+    return occupancy;
+  }
+
+  /**
+   * Adjusts the cache's maximum if the tenured pools were collected since the last observation, so
+   * that a single collection is acted upon once regardless of how many notifications it emitted.
+   *
+   * @param count the number of collections by the collectors of the tenured pools
+   * @param occupancy the fraction of the tenured pools that remained in use after the collection
+   */
+  void onCollection(long count, double occupancy) {
+    synchronized (this) {
+      if (count == collectionCount) {
+        return;
+      }
+      collectionCount = count;
+    }
+    adjust(occupancy);
+  }
+
+  /**
+   * Adjusts the cache's maximum based on the heap's occupancy. The cache shrinks multiplicatively
+   * under pressure and grows additively when there is headroom, so that it backs off quickly and
+   * probes cautiously. An adjustment is skipped if the prior one was within the cool-down period.
+   * The resize evicts on the calling thread, so it is performed outside of the monitor that the
+   * notification thread acquires.
+   *
+   * @param occupancy the fraction of the heap that remained in use after a collection
+   */
+  void adjust(double occupancy) {
+    long target = target(occupancy);
+    if (target >= 0) {
+      eviction.setMaximum(target);
+    }
+  }
+
+  /**
+   * Returns the cache's new maximum, or {@code -1} if it should not be adjusted, and starts the
+   * cool-down period if it should be.
+   *
+   * @param occupancy the fraction of the heap that remained in use after a collection
+   */
+  synchronized long target(double occupancy) {
+    long now = ticker.read();
+    if (closed || ((now - lastAdjustment) < COOL_DOWN_NANOS)) {
+      return -1;
+    }
+
+    long current = eviction.getMaximum();
+    long target = current;
+    if (occupancy >= HIGH_WATERMARK) {
+      long step = Math.max(1, (long) (SHRINK_PERCENT * current));
+      target = Math.max(minimum, current - step);
+    } else if (occupancy <= LOW_WATERMARK) {
+      long step = Math.max(1, (long) (GROW_PERCENT * maximum));
+      target = Math.min(maximum, current + step);
+    }
+    if (target == current) {
+      return -1;
+    }
+    lastAdjustment = now;
+    return target;
+  }
+}
@@ -15,11 +15,18 @@
  */
 package com.github.benmanes.caffeine.cache;
 
+import static java.util.Objects.requireNonNull;
+
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToIntFunction;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.github.benmanes.caffeine.cache.References.LookupKeyEqualsReference;
 import com.github.benmanes.caffeine.cache.References.WeakKeyEqualsReference;
@@ -74,6 +81,54 @@ public interface Interner<E> {
   static <E> Interner<E> newWeakInterner() {
     return new WeakInterner<>();
   }
+
+  /**
+   * Returns a new thread-safe interner which retains a strong reference to the instances that it
+   * has interned, up to a maximum total weight. When the maximum is exceeded the interner evicts
+   * instances using the cache's TinyLFU policy, which admits a newly interned instance only if it
+   * has been requested more frequently than the instance that it would replace. This favors
+   * retaining the instances that are seen often while the ones that are seen rarely are quickly
+   * discarded. An instance that was evicted is replaced by the next sample that is interned.
+   *
+   * @param maximumWeight the maximum total weight of the interned instances
+   * @param weigher the function to calculate the weight of an instance
+   * @param <E> the type of elements
+   * @return an interner for retrieving the canonical instance
+   * @throws IllegalArgumentException if {@code maximumWeight} is negative
+   */
+  static <E> Interner<E> newBoundedInterner(
+      @NonNegative long maximumWeight, ToIntFunction<? super E> weigher) {
+    requireNonNull(weigher);
+    return new BoundedInterner<>(maximumWeight, weigher);
+  }
+
+  /**
+   * Returns a new thread-safe interner of strings which is bounded by the total length of the
+   * instances that it has interned. See {@link #newBoundedInterner} for the eviction behavior.
+   *
+   * @param maximumLength the maximum total number of characters of the interned instances
+   * @return an interner for retrieving the canonical instance
+   * @throws IllegalArgumentException if {@code maximumLength} is negative
+   */
+  static Interner<String> newBoundedStringInterner(@NonNegative long maximumLength) {
+    return new BoundedInterner<>(maximumLength, String::length);
+  }
+
+  /**
+   * Returns a new thread-safe interner of byte arrays which considers two arrays to be equal if
+   * they have the same contents, and which is bounded by the total length of the instances that it
+   * has interned. A lookup of an array that was already interned does not allocate. See
+   * {@link #newBoundedInterner} for the eviction behavior.
+   * <p>
+   * <b>Warning:</b> do not modify an array after it has been interned.
+   *
+   * @param maximumLength the maximum total number of bytes of the interned instances
+   * @return an interner for retrieving the canonical instance
+   * @throws IllegalArgumentException if {@code maximumLength} is negative
+   */
+  static Interner<byte[]> newBoundedByteArrayInterner(@NonNegative long maximumLength) {
+    return new ByteArrayInterner(maximumLength);
+  }
 }
 
 final class StrongInterner<E> implements Interner<E> {
@@ -114,6 +169,82 @@ final class WeakInterner<E> implements Interner<E> {
   }
 }
 
+final class BoundedInterner<E> implements Interner<E> {
+  final Cache<E, E> cache;
+
+  BoundedInterner(long maximumWeight, ToIntFunction<? super E> weigher) {
+    cache = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .maximumWeight(maximumWeight)
+        .<E, E>weigher((key, value) -> weigher.applyAsInt(key))
+        .build();
+  }
+  @Override public E intern(E sample) {
+    E canonical = cache.getIfPresent(sample);
+    if (canonical != null) {
+      return canonical;
+    }
+
+    var value = cache.asMap().putIfAbsent(sample, sample);
+    return (value == null) ? sample : value;
+  }
+}
+
+final class ByteArrayInterner implements Interner<byte[]> {
+  /** A reusable key per thread so that a lookup does not allocate. */
+  static final ThreadLocal<ByteArrayKey> lookupKey = ThreadLocal.withInitial(ByteArrayKey::new);
+
+  final Cache<ByteArrayKey, byte[]> cache;
+
+  ByteArrayInterner(long maximumLength) {
+    cache = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .maximumWeight(maximumLength)
+        .<ByteArrayKey, byte[]>weigher((key, value) -> value.length)
+        .build();
+  }
+  @Override public byte[] intern(byte[] sample) {
+    requireNonNull(sample);
+    var lookup = lookupKey.get();
+    lookup.set(sample);
+    try {
+      byte[] canonical = cache.getIfPresent(lookup);
+      if (canonical != null) {
+        return canonical;
+      }
+    } finally {
+      lookup.set(null);
+    }
+
+    var value = cache.asMap().putIfAbsent(new ByteArrayKey(sample), sample);
+    return (value == null) ? sample : value;
+  }
+
+  /** A key that compares the contents of the array. */
+  static final class ByteArrayKey {
+    byte @Nullable [] bytes;
+    int hash;
+
+    ByteArrayKey() {}
+
+    ByteArrayKey(byte[] bytes) {
+      set(bytes);
+    }
+
+    void set(byte @Nullable [] bytes) {
+      this.bytes = bytes;
+      this.hash = Arrays.hashCode(bytes);
+    }
+    @Override public boolean equals(@Nullable Object o) {
+      return (o == this) || ((o instanceof ByteArrayKey)
+          && Arrays.equals(bytes, ((ByteArrayKey) o).bytes));
+    }
+    @Override public int hashCode() {
+      return hash;
+    }
+  }
+}
+
 @SuppressWarnings({"NullAway", "unchecked"})
 final class Interned<K, V> extends Node<K, V> implements NodeFactory<K, V> {
   static final NodeFactory<Object, Object> FACTORY = new Interned<>();
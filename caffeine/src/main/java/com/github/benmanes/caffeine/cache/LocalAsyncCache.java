@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -37,6 +38,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
@@ -47,6 +49,7 @@ import java.util.function.Predicate;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import com.github.benmanes.caffeine.cache.EntrySubscription.LoadSubscriber;
 import com.github.benmanes.caffeine.cache.LocalAsyncCache.AsyncBulkCompleter.NullMapCompletionException;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
@@ -110,16 +113,86 @@ interface LocalAsyncCache<K, V> extends AsyncCache<K, V> {
   }
 
   @Override
-  @SuppressWarnings("FutureReturnValueIgnored")
   default CompletableFuture<Map<K, V>> getAll(Iterable<? extends K> keys,
       BiFunction<? super Set<? extends K>, ? super Executor,
           ? extends CompletableFuture<? extends Map<? extends K, ? extends V>>> mappingFunction) {
+    return composeResult(getAllFutures(keys, mappingFunction));
+  }
+
+  /**
+   * Returns the futures of the values associated with the keys, where the absent entries are
+   * loaded by a single request to the mapping function.
+   */
+  @SuppressWarnings("FutureReturnValueIgnored")
+  default Map<K, CompletableFuture<V>> getAllFutures(Iterable<? extends K> keys,
+      BiFunction<? super Set<? extends K>, ? super Executor,
+          ? extends CompletableFuture<? extends Map<? extends K, ? extends V>>> mappingFunction) {
     requireNonNull(mappingFunction);
     requireNonNull(keys);
 
-    int initialCapacity = calculateHashMapCapacity(keys);
-    var futures = new LinkedHashMap<K, CompletableFuture<V>>(initialCapacity);
-    var proxies = new HashMap<K, CompletableFuture<V>>(initialCapacity);
+    var proxies = new HashMap<K, CompletableFuture<V>>(calculateHashMapCapacity(keys));
+    var futures = lookupAll(keys, proxies);
+    if (proxies.isEmpty()) {
+      return futures;
+    }
+
+    var completer = new AsyncBulkCompleter<>(cache(), proxies);
+    try {
+      var loader = mappingFunction.apply(
+          Collections.unmodifiableSet(proxies.keySet()), cache().executor());
+      loader.whenComplete(completer);
+      return futures;
+    } catch (Throwable t) {
+      completer.accept(/* result */ null, t);
+      throw t;
+    }
+  }
+
+  @Override
+  default Publisher<Entry<K, V>> getAllPublisher(Iterable<? extends K> keys,
+      BiFunction<? super Set<? extends K>, ? super Executor,
+          ? extends Publisher<? extends Entry<? extends K, ? extends V>>> mappingFunction) {
+    requireNonNull(mappingFunction);
+    requireNonNull(keys);
+    return subscriber -> {
+      requireNonNull(subscriber);
+      var proxies = new HashMap<K, CompletableFuture<V>>(calculateHashMapCapacity(keys));
+      Map<K, CompletableFuture<V>> futures;
+      try {
+        futures = lookupAll(keys, proxies);
+      } catch (Throwable t) {
+        proxies.forEach((key, proxy) -> {
+          cache().remove(key, proxy);
+          proxy.obtrudeException(t);
+        });
+        EntrySubscription.error(subscriber, t);
+        return;
+      }
+      if (proxies.isEmpty()) {
+        EntrySubscription.subscribe(subscriber, futures, /* loader */ null);
+        return;
+      }
+
+      var loader = new LoadSubscriber<>(cache(), proxies);
+      EntrySubscription.subscribe(subscriber, futures, loader);
+      try {
+        var publisher = mappingFunction.apply(
+            Collections.unmodifiableSet(proxies.keySet()), cache().executor());
+        publisher.subscribe(loader);
+      } catch (Throwable t) {
+        loader.onError(t);
+      }
+    };
+  }
+
+  /**
+   * Returns the futures of the values associated with the keys, in iteration order. An absent
+   * entry is reserved by inserting an incomplete future, which is also added to {@code proxies}
+   * for the caller to complete.
+   */
+  default Map<K, CompletableFuture<V>> lookupAll(Iterable<? extends K> keys,
+      Map<K, CompletableFuture<V>> proxies) {
+    var futures = new LinkedHashMap<K, CompletableFuture<V>>(calculateHashMapCapacity(keys));
     for (K key : keys) {
       if (futures.containsKey(key)) {
         continue;
@@ -137,20 +210,7 @@ interface LocalAsyncCache<K, V> extends AsyncCache<K, V> {
     }
     cache().statsCounter().recordMisses(proxies.size());
     cache().statsCounter().recordHits(futures.size() - proxies.size());
-    if (proxies.isEmpty()) {
-      return composeResult(futures);
-    }
-
-    var completer = new AsyncBulkCompleter<>(cache(), proxies);
-    try {
-      var loader = mappingFunction.apply(
-          Collections.unmodifiableSet(proxies.keySet()), cache().executor());
-      loader.whenComplete(completer);
-      return composeResult(futures);
-    } catch (Throwable t) {
-      completer.accept(/* result */ null, t);
-      throw t;
-    }
+    return futures;
   }
 
   /**
@@ -199,12 +259,14 @@ interface LocalAsyncCache<K, V> extends AsyncCache<K, V> {
   default void handleCompletion(K key, CompletableFuture<? extends V> valueFuture,
       long startTime, boolean recordMiss) {
     var completed = new AtomicBoolean();
+    long eventStartTime = CacheEvents.loadStartTime();
     valueFuture.whenComplete((value, error) -> {
       if (!completed.compareAndSet(false, true)) {
         // Ignore multiple invocations due to ForkJoinPool retrying on delays
         return;
       }
       long loadTime = cache().statsTicker().read() - startTime;
+      CacheEvents.load(cache(), eventStartTime, value != null);
       if (value == null) {
         if ((error != null) && !(error instanceof CancellationException)
             && !(error instanceof TimeoutException)) {
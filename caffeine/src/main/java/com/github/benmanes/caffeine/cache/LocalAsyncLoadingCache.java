@@ -24,11 +24,13 @@ import java.lang.System.Logger.Level;
 import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -47,6 +49,8 @@ abstract class LocalAsyncLoadingCache<K, V>
 
   final @Nullable BiFunction<? super Set<? extends K>, ? super Executor,
       ? extends CompletableFuture<? extends Map<? extends K, ? extends V>>> bulkMappingFunction;
+  final @Nullable BiFunction<? super Set<? extends K>, ? super Executor,
+      ? extends Publisher<? extends Entry<? extends K, ? extends V>>> publisherMappingFunction;
   final BiFunction<? super K, ? super Executor,
       ? extends CompletableFuture<? extends V>> mappingFunction;
   final AsyncCacheLoader<K, V> cacheLoader;
@@ -55,6 +59,7 @@ abstract class LocalAsyncLoadingCache<K, V>
 
   @SuppressWarnings("unchecked")
   LocalAsyncLoadingCache(AsyncCacheLoader<? super K, V> cacheLoader) {
+    this.publisherMappingFunction = newPublisherMappingFunction(cacheLoader);
     this.bulkMappingFunction = newBulkMappingFunction(cacheLoader);
     this.cacheLoader = (AsyncCacheLoader<K, V>) cacheLoader;
     this.mappingFunction = newMappingFunction(cacheLoader);
@@ -103,6 +108,47 @@ abstract class LocalAsyncLoadingCache<K, V>
     };
   }
 
+  /**
+   * Returns a mapping function that adapts to {@link AsyncCacheLoader#asyncLoadAllPublisher}, if
+   * implemented.
+   */
+  @Nullable BiFunction<Set<? extends K>, Executor,
+      Publisher<? extends Entry<? extends K, ? extends V>>> newPublisherMappingFunction(
+          AsyncCacheLoader<? super K, V> cacheLoader) {
+    if (!canStreamLoad(cacheLoader)) {
+      return null;
+    }
+    return (keysToLoad, executor) -> {
+      try {
+        @SuppressWarnings("unchecked")
+        var loaded = (Publisher<? extends Entry<? extends K, ? extends V>>)
+            cacheLoader.asyncLoadAllPublisher(keysToLoad, executor);
+        return loaded;
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CompletionException(e);
+      } catch (Exception e) {
+        throw new CompletionException(e);
+      }
+    };
+  }
+
+  /** Returns whether the supplied cache loader has streaming bulk load functionality. */
+  boolean canStreamLoad(AsyncCacheLoader<?, ?> loader) {
+    try {
+      Method classLoadAll = loader.getClass().getMethod(
+          "asyncLoadAllPublisher", Set.class, Executor.class);
+      Method defaultLoadAll = AsyncCacheLoader.class.getMethod(
+          "asyncLoadAllPublisher", Set.class, Executor.class);
+      return !classLoadAll.equals(defaultLoadAll);
+    } catch (NoSuchMethodException | SecurityException e) {
+      logger.log(Level.WARNING, "Cannot determine if CacheLoader can stream a bulk load", e);
+      return false;
+    }
+  }
+
   /** Returns whether the supplied cache loader has bulk load functionality. */
   boolean canBulkLoad(AsyncCacheLoader<?, ?> loader) {
     try {
@@ -135,8 +181,32 @@ abstract class LocalAsyncLoadingCache<K, V>
 
   @Override
   public CompletableFuture<Map<K, V>> getAll(Iterable<? extends K> keys) {
+    return composeResult(getAllFutures(keys));
+  }
+
+  @Override
+  public Publisher<Entry<K, V>> getAllPublisher(Iterable<? extends K> keys) {
+    if (publisherMappingFunction != null) {
+      return getAllPublisher(keys, publisherMappingFunction);
+    }
+    requireNonNull(keys);
+    return subscriber -> {
+      requireNonNull(subscriber);
+      Map<K, CompletableFuture<V>> futures;
+      try {
+        futures = getAllFutures(keys);
+      } catch (Throwable t) {
+        EntrySubscription.error(subscriber, t);
+        return;
+      }
+      EntrySubscription.subscribe(subscriber, futures, /* loader */ null);
+    };
+  }
+
+  /** Returns the futures of the values associated with the keys, loading the absent entries. */
+  Map<K, CompletableFuture<V>> getAllFutures(Iterable<? extends K> keys) {
     if (bulkMappingFunction != null) {
-      return getAll(keys, bulkMappingFunction);
+      return getAllFutures(keys, bulkMappingFunction);
     }
 
     Function<K, CompletableFuture<V>> mappingFunction = this::get;
@@ -145,7 +215,7 @@ abstract class LocalAsyncLoadingCache<K, V>
       var future = result.computeIfAbsent(key, mappingFunction);
       requireNonNull(future);
     }
-    return composeResult(result);
+    return result;
   }
 
   @Override
@@ -250,6 +320,7 @@ abstract class LocalAsyncLoadingCache<K, V>
     @SuppressWarnings("FutureReturnValueIgnored")
     private @Nullable CompletableFuture<V> tryComputeRefresh(K key, Object keyReference) {
       long[] startTime = new long[1];
+      long eventStartTime = CacheEvents.refreshStartTime();
       boolean[] refreshed = new boolean[1];
       @SuppressWarnings({"rawtypes", "unchecked"})
       CompletableFuture<V>[] oldValueFuture = new CompletableFuture[1];
@@ -286,6 +357,7 @@ abstract class LocalAsyncLoadingCache<K, V>
       if (refreshed[0]) {
         castedFuture.whenComplete((newValue, error) -> {
           long loadTime = asyncCache.cache().statsTicker().read() - startTime[0];
+          CacheEvents.refresh(asyncCache.cache(), eventStartTime, newValue != null);
           if (error != null) {
             if (!(error instanceof CancellationException) && !(error instanceof TimeoutException)) {
               logger.log(Level.WARNING, "Exception thrown during refresh", error);
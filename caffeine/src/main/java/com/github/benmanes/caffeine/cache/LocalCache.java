@@ -153,18 +153,21 @@ interface LocalCache<K, V> extends ConcurrentMap<K, V> {
     }
   }
 
-  /** Decorates the remapping function to record statistics if enabled. */
+  /** Decorates the mapping function to record statistics and events if enabled. */
   default <T, R> Function<? super T, ? extends R> statsAware(
       Function<? super T, ? extends R> mappingFunction, boolean recordLoad) {
+    Function<? super T, ? extends R> function = recordLoad
+        ? CacheEvents.loadAware(this, mappingFunction)
+        : mappingFunction;
     if (!isRecordingStats()) {
-      return mappingFunction;
+      return function;
     }
     return key -> {
       R value;
       statsCounter().recordMisses(1);
       long startTime = statsTicker().read();
       try {
-        value = mappingFunction.apply(key);
+        value = function.apply(key);
       } catch (RuntimeException | Error e) {
         statsCounter().recordLoadFailure(statsTicker().read() - startTime);
         throw e;
@@ -187,18 +190,21 @@ interface LocalCache<K, V> extends ConcurrentMap<K, V> {
     return statsAware(remappingFunction, /* recordLoad */ true, /* recordLoadFailure */ true);
   }
 
-  /** Decorates the remapping function to record statistics if enabled. */
+  /** Decorates the remapping function to record statistics and events if enabled. */
   default <T, U, R> BiFunction<? super T, ? super U, ? extends R> statsAware(
       BiFunction<? super T, ? super U, ? extends R> remappingFunction,
       boolean recordLoad, boolean recordLoadFailure) {
+    BiFunction<? super T, ? super U, ? extends R> function = recordLoad
+        ? CacheEvents.loadAware(this, remappingFunction)
+        : remappingFunction;
     if (!isRecordingStats()) {
-      return remappingFunction;
+      return function;
     }
     return (t, u) -> {
       R result;
       long startTime = statsTicker().read();
       try {
-        result = remappingFunction.apply(t, u);
+        result = function.apply(t, u);
       } catch (RuntimeException | Error e) {
         if (recordLoadFailure) {
           statsCounter().recordLoadFailure(statsTicker().read() - startTime);
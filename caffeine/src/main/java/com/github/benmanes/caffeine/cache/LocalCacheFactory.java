@@ -34,6 +34,17 @@ interface LocalCacheFactory {
       void.class, Caffeine.class, AsyncCacheLoader.class, boolean.class);
   ConcurrentMap<String, LocalCacheFactory> FACTORIES = new ConcurrentHashMap<>();
 
+  /* The feature bits, which must match the bitmask encoding in LocalCacheFactoryGenerator */
+  int WEAK_KEYS = 1 << 0;
+  int INFIRM_VALUES = 1 << 1;
+  int LISTENING = 1 << 2;
+  int STATS = 1 << 3;
+  int MAXIMUM_SIZE = 1 << 4;
+  int MAXIMUM_WEIGHT = 1 << 5;
+  int EXPIRE_ACCESS = 1 << 6;
+  int EXPIRE_WRITE = 1 << 7;
+  int REFRESH_WRITE = 1 << 8;
+
   /** Returns a cache optimized for this configuration. */
   <K, V> BoundedLocalCache<K, V> newInstance(Caffeine<K, V> builder,
       @Nullable AsyncCacheLoader<? super K, V> cacheLoader, boolean async) throws Throwable;
@@ -41,15 +52,57 @@ interface LocalCacheFactory {
   /** Returns a cache optimized for this configuration. */
   static <K, V> BoundedLocalCache<K, V> newBoundedLocalCache(Caffeine<K, V> builder,
       @Nullable AsyncCacheLoader<? super K, V> cacheLoader, boolean async) {
-    var className = getClassName(builder);
-    var factory = loadFactory(className);
+    var factory = LocalCacheFactories.get(getFeatures(builder));
+    if (factory == null) {
+      // Slow path when the configuration is not known to the generated registry
+      factory = loadFactory(getClassName(builder));
+    }
+    return newInstance(factory, builder, cacheLoader, async);
+  }
+
+  /** Returns a cache created by the factory, propagating any failure as an unchecked exception. */
+  static <K, V> BoundedLocalCache<K, V> newInstance(LocalCacheFactory factory,
+      Caffeine<K, V> builder, @Nullable AsyncCacheLoader<? super K, V> cacheLoader, boolean async) {
     try {
       return factory.newInstance(builder, cacheLoader, async);
     } catch (RuntimeException | Error e) {
       throw e;
     } catch (Throwable t) {
-      throw new IllegalStateException(className, t);
+      throw new IllegalStateException(getClassName(builder), t);
+    }
+  }
+
+  /**
+   * Returns the bitmask of the features used by the configuration, which identifies the generated
+   * cache class without building its name.
+   */
+  static int getFeatures(Caffeine<?, ?> builder) {
+    int features = 0;
+    if (!builder.isStrongKeys()) {
+      features |= WEAK_KEYS;
+    }
+    if (!builder.isStrongValues()) {
+      features |= INFIRM_VALUES;
+    }
+    if (builder.removalListener != null) {
+      features |= LISTENING;
+    }
+    if (builder.isRecordingStats()) {
+      features |= STATS;
+    }
+    if (builder.evicts()) {
+      features |= builder.isWeighted() ? MAXIMUM_WEIGHT : MAXIMUM_SIZE;
+    }
+    if (builder.expiresAfterAccess() || builder.expiresVariable()) {
+      features |= EXPIRE_ACCESS;
+    }
+    if (builder.expiresAfterWrite()) {
+      features |= EXPIRE_WRITE;
+    }
+    if (builder.refreshAfterWrite()) {
+      features |= REFRESH_WRITE;
     }
+    return features;
   }
 
   static String getClassName(Caffeine<?, ?> builder) {
@@ -104,6 +104,7 @@ interface LocalLoadingCache<K, V> extends LocalManualCache<K, V>, LoadingCache<K
     @SuppressWarnings({"rawtypes", "unchecked"})
     CompletableFuture<? extends V>[] reloading = new CompletableFuture[1];
     Object keyReference = cache().referenceKey(key);
+    long eventStartTime = CacheEvents.refreshStartTime();
 
     var future = cache().refreshes().compute(keyReference, (k, existing) -> {
       if ((existing != null) && !Async.isReady(existing) && !cache().isPendingEviction(key)) {
@@ -131,6 +132,7 @@ interface LocalLoadingCache<K, V> extends LocalManualCache<K, V>, LoadingCache<K
     if (reloading[0] != null) {
       reloading[0].whenComplete((newValue, error) -> {
         long loadTime = cache().statsTicker().read() - startTime[0];
+        CacheEvents.refresh(cache(), eventStartTime, newValue != null);
         if (error != null) {
           if (!(error instanceof CancellationException) && !(error instanceof TimeoutException)) {
             logger.log(Level.WARNING, "Exception thrown during refresh", error);
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A climber that simulates miniature W-TinyLFU caches, each with a different admission window size,
+ * on a spatially hashed sample of the keys. At the end of each period the window is resized to the
+ * configuration that had the fewest misses. The simulations share a single popularity sketch
+ * because it records every sampled access regardless of the window size, so only the queues are
+ * replicated.
+ * <p>
+ * The sampling rate is chosen so that each simulation holds a thousandth of the cache's maximum,
+ * bounded to between a hundred and a few thousand entries, and the window sizes are simulated in
+ * steps of five percent. This bounds the memory of the simulations regardless of the cache's size.
+ * The period is a multiple of the simulated size in sampled accesses, which is only a small
+ * multiple of the cache's maximum in total accesses. The simulations are sized by the number of
+ * entries, so for a weighted cache they approximate the weighted window size.
+ *
+ * @author ohadey@gmail.com (Ohad Eytan)
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+final class MiniSimClimber implements WindowClimber {
+  /** The largest window size that may be selected, as a percent of the maximum. */
+  static final int MAX_WINDOW_PERCENT = 80;
+  /** The difference in the window size between adjacent simulations, as a percent. */
+  static final int WINDOW_STEP_PERCENT = 5;
+  /** The length of the sample period, as a multiple of the simulated size in sampled accesses. */
+  static final int PERIOD_MULTIPLIER = 2;
+  /** The minimum length of the sample period in sampled accesses. */
+  static final int MIN_PERIOD = 200;
+  /** The minimum number of entries in a simulation, unless the cache is smaller. */
+  static final int MIN_MINI_SIZE = 100;
+  /** The maximum number of entries in a simulation. */
+  static final int MAX_MINI_SIZE = 2_048;
+
+  FrequencySketch<Integer> sketch;
+  MiniCache[] minis;
+  long maximum;
+  long period;
+  long sample;
+  int rate;
+
+  MiniSimClimber() {
+    sketch = new FrequencySketch<>();
+    minis = new MiniCache[0];
+  }
+
+  @Override
+  public void onHit(Object key) {
+    onAccess(key);
+  }
+
+  @Override
+  public void onMiss(Object key) {
+    onAccess(key);
+  }
+
+  private void onAccess(Object key) {
+    if (minis.length == 0) {
+      return;
+    }
+
+    int hash = FrequencySketch.spread(key.hashCode());
+    if (Math.floorMod(hash, rate) == 0) {
+      Integer sampled = hash;
+      sample++;
+      sketch.increment(sampled);
+      sketch.age();
+      for (var mini : minis) {
+        mini.record(sampled);
+      }
+    }
+  }
+
+  @Override
+  public long adapt(long windowMaximum, long maximum) {
+    if ((minis.length == 0) || (this.maximum != maximum)) {
+      initialize(maximum);
+      return 0L;
+    } else if (sample < period) {
+      return 0L;
+    }
+
+    int best = 0;
+    for (int i = 1; i < minis.length; i++) {
+      if (minis[i].misses < minis[best].misses) {
+        best = i;
+      }
+    }
+    for (var mini : minis) {
+      mini.misses = 0;
+    }
+    sample = 0;
+
+    long target = (best * WINDOW_STEP_PERCENT * maximum) / 100;
+    return target - windowMaximum;
+  }
+
+  /** Creates the simulations for a cache of the given maximum size. */
+  private void initialize(long maximum) {
+    long target = Math.min(MAX_MINI_SIZE, Math.max(MIN_MINI_SIZE, maximum / 1_000));
+    int miniSize = (int) Math.max(1, Math.min(target, maximum));
+    long rate = Math.min(Integer.MAX_VALUE, Math.max(1, maximum / miniSize));
+
+    this.sample = 0;
+    this.maximum = maximum;
+    this.rate = (int) rate;
+    this.period = Math.max(MIN_PERIOD, (long) PERIOD_MULTIPLIER * miniSize);
+    this.sketch = new FrequencySketch<>();
+    this.sketch.ensureCapacity(miniSize);
+    this.minis = new MiniCache[(MAX_WINDOW_PERCENT / WINDOW_STEP_PERCENT) + 1];
+    for (int i = 0; i < minis.length; i++) {
+      minis[i] = new MiniCache(sketch, miniSize, i * WINDOW_STEP_PERCENT);
+    }
+  }
+
+  /** A miniature W-TinyLFU cache of sampled key hashes. */
+  static final class MiniCache {
+    final LinkedHashMap<Integer, Boolean> probation;
+    final LinkedHashMap<Integer, Boolean> protect;
+    final LinkedHashMap<Integer, Boolean> window;
+    final FrequencySketch<Integer> sketch;
+    final int maxProtected;
+    final int maxWindow;
+    final int maxMain;
+
+    long misses;
+
+    MiniCache(FrequencySketch<Integer> sketch, int maximumSize, int windowPercent) {
+      this.sketch = sketch;
+      this.maxWindow = (int) (((long) windowPercent * maximumSize) / 100);
+      this.maxMain = maximumSize - maxWindow;
+      this.maxProtected = (int) (0.8 * maxMain);
+      this.probation = new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true);
+      this.protect = new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true);
+      this.window = new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true);
+    }
+
+    /** Records an access of the key, updating the queues as the W-TinyLFU policy would. */
+    void record(Integer key) {
+      if ((window.get(key) != null) || (protect.get(key) != null)) {
+        return;
+      } else if (probation.remove(key) != null) {
+        protect.put(key, Boolean.TRUE);
+        if (protect.size() > maxProtected) {
+          Integer demoted = removeEldest(protect);
+          probation.put(demoted, Boolean.TRUE);
+        }
+        return;
+      }
+
+      misses++;
+      window.put(key, Boolean.TRUE);
+      if (window.size() > maxWindow) {
+        admit(removeEldest(window));
+      }
+    }
+
+    /** Moves the candidate into the main space if it is more popular than the victim. */
+    void admit(Integer candidate) {
+      if ((probation.size() + protect.size()) < maxMain) {
+        probation.put(candidate, Boolean.TRUE);
+        return;
+      }
+      var victims = probation.isEmpty() ? protect : probation;
+      Iterator<Integer> iterator = victims.keySet().iterator();
+      if (!iterator.hasNext()) {
+        return;
+      }
+      Integer victim = iterator.next();
+      if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+        iterator.remove();
+        probation.put(candidate, Boolean.TRUE);
+      }
+    }
+
+    static Integer removeEldest(LinkedHashMap<Integer, Boolean> map) {
+      Iterator<Integer> iterator = map.keySet().iterator();
+      Integer eldest = iterator.next();
+      iterator.remove();
+      return eldest;
+    }
+  }
+}
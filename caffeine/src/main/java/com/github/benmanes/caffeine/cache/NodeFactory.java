@@ -34,6 +34,16 @@ interface NodeFactory<K, V> {
   MethodType FACTORY = MethodType.methodType(void.class);
   ConcurrentMap<String, NodeFactory<Object, Object>> FACTORIES = new ConcurrentHashMap<>();
 
+  /* The feature bits, which must match the bitmask encoding in NodeFactoryGenerator */
+  int WEAK_KEYS = 1 << 0;
+  int WEAK_VALUES = 1 << 1;
+  int SOFT_VALUES = 1 << 2;
+  int EXPIRE_ACCESS = 1 << 3;
+  int EXPIRE_WRITE = 1 << 4;
+  int REFRESH_WRITE = 1 << 5;
+  int MAXIMUM_SIZE = 1 << 6;
+  int MAXIMUM_WEIGHT = 1 << 7;
+
   RetiredStrongKey RETIRED_STRONG_KEY = new RetiredStrongKey();
   RetiredWeakKey RETIRED_WEAK_KEY = new RetiredWeakKey();
   DeadStrongKey DEAD_STRONG_KEY = new DeadStrongKey();
@@ -85,8 +95,56 @@ interface NodeFactory<K, V> {
     if (builder.interner) {
       return (NodeFactory<K, V>) Interned.FACTORY;
     }
-    var className = getClassName(builder, isAsync);
-    return loadFactory(className);
+    var factory = NodeFactories.get(getFeatures(builder, isAsync));
+    if (factory == null) {
+      // Slow path when the configuration is not known to the generated registry
+      return loadFactory(getClassName(builder, isAsync));
+    }
+    return (NodeFactory<K, V>) factory;
+  }
+
+  /**
+   * Returns the bitmask of the features used by the configuration, which identifies the generated
+   * node class without building its name.
+   */
+  static int getFeatures(Caffeine<?, ?> builder, boolean isAsync) {
+    int features = 0;
+    if (!builder.isStrongKeys()) {
+      features |= WEAK_KEYS;
+    }
+    if (builder.isWeakValues()) {
+      features |= WEAK_VALUES;
+    } else if (!builder.isStrongValues()) {
+      features |= SOFT_VALUES;
+    }
+    if (builder.expiresVariable()) {
+      if (builder.refreshAfterWrite()) {
+        features |= EXPIRE_ACCESS;
+        if (builder.evicts()) {
+          features |= EXPIRE_WRITE;
+        }
+      } else {
+        features |= EXPIRE_WRITE;
+      }
+    } else {
+      if (builder.expiresAfterAccess()) {
+        features |= EXPIRE_ACCESS;
+      }
+      if (builder.expiresAfterWrite()) {
+        features |= EXPIRE_WRITE;
+      }
+    }
+    if (builder.refreshAfterWrite()) {
+      features |= REFRESH_WRITE;
+    }
+    if (builder.evicts()) {
+      if (isAsync || (builder.isWeighted() && (builder.weigher != Weigher.singletonWeigher()))) {
+        features |= MAXIMUM_WEIGHT;
+      } else {
+        features |= MAXIMUM_SIZE;
+      }
+    }
+    return features;
   }
 
   static String getClassName(Caffeine<?, ?> builder, boolean isAsync) {
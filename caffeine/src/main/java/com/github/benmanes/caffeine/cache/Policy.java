@@ -23,8 +23,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -94,6 +96,49 @@ public interface Policy<K, V> {
    */
   Map<K, CompletableFuture<V>> refreshes();
 
+  /**
+   * Performs the given action for each entry in this cache, in parallel if the cache's estimated
+   * size is at least the given threshold. Unlike {@link Map#forEach}, this method does not produce
+   * any side effects such as updating the eviction policy or resetting the expiration time, and it
+   * does not block the cache's maintenance. The entries that are absent due to expiration, reference
+   * collection, or an incomplete future are skipped.
+   * <p>
+   * The action may be invoked concurrently from multiple threads of the
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()}, so it must be thread-safe. The traversal
+   * is weakly consistent and may or may not observe modifications that occur concurrently.
+   *
+   * @param parallelismThreshold the (estimated) number of entries needed for this operation to be
+   *        executed in parallel, such as {@code 1} for maximal parallelism or
+   *        {@link Long#MAX_VALUE} to suppress it
+   * @param action the action to perform for each entry
+   * @throws NullPointerException if the action is null
+   */
+  default void forEach(long parallelismThreshold, BiConsumer<? super K, ? super V> action) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns the result of accumulating the given transformation of all entries using the given
+   * reducer to combine values, or {@code null} if none, in parallel if the cache's estimated size is
+   * at least the given threshold. A transformation that returns {@code null} causes the entry to be
+   * ignored. As with {@link #forEach(long, BiConsumer)}, this method has no side effects on the
+   * cache, does not block its maintenance, and skips the entries that are absent.
+   *
+   * @param parallelismThreshold the (estimated) number of entries needed for this operation to be
+   *        executed in parallel
+   * @param transformer a function returning the transformation for an entry, or {@code null} if
+   *        there is no transformation (in which case it is not combined)
+   * @param reducer a commutative associative combining function
+   * @param <U> the type of the result
+   * @return the result of accumulating the given transformation of all entries
+   * @throws NullPointerException if the transformer or reducer is null
+   */
+  default <U> @Nullable U reduce(long parallelismThreshold,
+      BiFunction<? super K, ? super V, ? extends @Nullable U> transformer,
+      BiFunction<? super U, ? super U, ? extends U> reducer) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Returns access to perform operations based on the maximum size or maximum weight eviction
    * policy. If the cache was not constructed with a size-based bound or the implementation does
@@ -172,6 +217,20 @@ public interface Policy<K, V> {
    */
   Optional<FixedRefresh<K, V>> refreshAfterWrite();
 
+  /**
+   * Returns access to perform operations on the entries by the tag assigned to their key. The tags
+   * are determined by the {@linkplain Caffeine#tagExtractor(Function) tag extractor} that the cache
+   * was constructed with.
+   * <p>
+   * If the cache was not constructed with a tag extractor or the implementation does not support
+   * these operations, an empty {@link Optional} is returned.
+   *
+   * @return access to low-level operations for this cache if its entries are tagged
+   */
+  default Optional<Tagging<K, V>> tagging() {
+    return Optional.empty();
+  }
+
   /**
    * 具有基于大小的驱逐策略的缓存的低级操作。
    * The low-level operations for a cache with a size-based eviction policy. */
@@ -357,6 +416,55 @@ public interface Policy<K, V> {
       // This method was added & implemented in version 3.0.6
       throw new UnsupportedOperationException();
     }
+
+    /**
+     * Returns a lazily populated stream of the cache entries with ordered traversal. The order of
+     * iteration is from the entries least likely to be retained (coldest) to the entries most likely
+     * to be retained (hottest), as determined by the eviction policy's best guess at the time that
+     * each entry is visited.
+     * <p>
+     * Unlike {@link #coldest(Function)}, the entries are gathered in chunks and the eviction
+     * policy's exclusive lock is held only while a chunk is obtained. This bounds the time that the
+     * eviction maintenance is halted, so that a large snapshot may be taken from an active cache and
+     * the stream may be consumed at any pace. A chunk visits at most twice its size in entries, as
+     * it may skip over those that were already returned. The traversal is weakly consistent: an
+     * entry that is reordered, added, or removed while the lock is released may be omitted or
+     * observed out of order, but no entry is returned more than once.
+     * <p>
+     * Usage example:
+     * <pre>{@code
+     *   try (Stream<CacheEntry<K, V>> stream = cache.policy().eviction().orElseThrow()
+     *       .coldestInChunks(1_000)) {
+     *     stream.limit(100_000).forEach(exporter::write);
+     *   }
+     * }</pre>
+     *
+     * @param chunkSize the maximum number of entries to gather while holding the lock
+     * @return a stream of the entries from the coldest to the hottest
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    default Stream<CacheEntry<K, V>> coldestInChunks(int chunkSize) {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a lazily populated stream of the cache entries with ordered traversal. The order of
+     * iteration is from the entries most likely to be retained (hottest) to the entries least likely
+     * to be retained (coldest), as determined by the eviction policy's best guess at the time that
+     * each entry is visited.
+     * <p>
+     * As with {@link #coldestInChunks(int)}, the entries are gathered in chunks while holding the
+     * eviction policy's exclusive lock and the traversal is weakly consistent. An entry that is
+     * accessed after the traversal has begun is likely to be omitted, as it becomes hotter than the
+     * entries that have already been visited.
+     *
+     * @param chunkSize the maximum number of entries to gather while holding the lock
+     * @return a stream of the entries from the hottest to the coldest
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    default Stream<CacheEntry<K, V>> hottestInChunks(int chunkSize) {
+      throw new UnsupportedOperationException();
+    }
   }
 
   /**
@@ -866,6 +974,32 @@ public interface Policy<K, V> {
     }
   }
 
+  /** The low-level operations for a cache whose entries are indexed by a tag. */
+  interface Tagging<K, V> {
+
+    /**
+     * Returns an unmodifiable snapshot of the keys whose entries are assigned the tag. The view is
+     * computed from the cache's index, so the time taken is proportional to the number of tagged
+     * entries rather than to the size of the cache.
+     *
+     * @param tag the tag of the entries
+     * @return an unmodifiable snapshot of the keys that are assigned the tag
+     * @throws NullPointerException if the tag is null
+     */
+    Set<K> keysWithTag(Object tag);
+
+    /**
+     * Discards all of the entries whose key is assigned the tag. The entries are removed as if by
+     * {@link Cache#invalidate(Object)}, so the removal listener is notified with an
+     * {@linkplain RemovalCause#EXPLICIT explicit} cause. This operation is not atomic, so an entry
+     * that is added concurrently may or may not be discarded.
+     *
+     * @param tag the tag of the entries to discard
+     * @throws NullPointerException if the tag is null
+     */
+    void invalidateTag(Object tag);
+  }
+
   /**
    * A key-value pair that may include policy metadata for the cached entry. Unless otherwise
    * specified, this is a value-based class, it can be assumed that the implementation is an
@@ -19,6 +19,8 @@ import static com.github.benmanes.caffeine.cache.Caffeine.UNSET_INT;
 
 import java.io.Serializable;
 import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -37,6 +39,8 @@ final class SerializationProxy<K, V> implements Serializable {
   boolean weakKeys;
   boolean weakValues;
   boolean softValues;
+  boolean coalesceWeights;
+  boolean doorkeeper;
   boolean isRecordingStats;
   long refreshAfterWriteNanos;
   long expiresAfterWriteNanos;
@@ -50,6 +54,8 @@ final class SerializationProxy<K, V> implements Serializable {
   @Nullable AsyncCacheLoader<?, ?> cacheLoader;
   @Nullable RemovalListener<?, ?> removalListener;
   @Nullable RemovalListener<?, ?> evictionListener;
+  @Nullable Supplier<? extends WindowClimber> windowClimberSupplier;
+  @Nullable Function<?, ?> tagExtractor;
 
   Caffeine<Object, Object> recreateCaffeine() {
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -67,6 +73,20 @@ final class SerializationProxy<K, V> implements Serializable {
       var castedWeigher = (Weigher<Object, Object>) weigher;
       builder.maximumWeight(maximumWeight);
       builder.weigher(castedWeigher);
+      if (coalesceWeights) {
+        builder.coalesceWeightUpdates();
+      }
+    }
+    if (doorkeeper) {
+      builder.admissionDoorkeeper();
+    }
+    if (windowClimberSupplier != null) {
+      builder.windowClimber(windowClimberSupplier);
+    }
+    if (tagExtractor != null) {
+      @SuppressWarnings("unchecked")
+      var castedExtractor = (Function<Object, ?>) tagExtractor;
+      builder.tagExtractor(castedExtractor);
     }
     if (expiry != null) {
       builder.expireAfter(expiry);
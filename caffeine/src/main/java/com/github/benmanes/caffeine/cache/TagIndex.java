@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A secondary index of the cache's entries by the tag assigned to their key. The index is updated
+ * by the cache's maintenance when an entry is added to or removed from the policy, so it shares the
+ * eviction lock rather than adding synchronization to the cache's write path. The tag is captured
+ * when the entry is indexed because a removed node's key is no longer available, e.g. when it has
+ * been retired or garbage collected.
+ * <p>
+ * The tag extractor is invoked during the maintenance, so a failure is logged and the entry is left
+ * untagged rather than disrupting the cache.
+ * <p>
+ * This class is not thread-safe and must be guarded by the cache's eviction lock.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+final class TagIndex<K, V> {
+  static final Logger logger = System.getLogger(TagIndex.class.getName());
+
+  final Map<Object, Map<Node<K, V>, Boolean>> nodesByTag;
+  final Map<Node<K, V>, Object> tagByNode;
+  final Function<K, ?> tagExtractor;
+
+  TagIndex(Function<K, ?> tagExtractor) {
+    this.tagExtractor = requireNonNull(tagExtractor);
+    this.tagByNode = new IdentityHashMap<>();
+    this.nodesByTag = new HashMap<>();
+  }
+
+  /** Adds the live entry to the index if its key is assigned a tag. */
+  void add(Node<K, V> node) {
+    K key = node.getKey();
+    if ((key == null) || tagByNode.containsKey(node)) {
+      return;
+    }
+    @Nullable Object tag;
+    try {
+      tag = tagExtractor.apply(key);
+    } catch (Throwable t) {
+      logger.log(Level.WARNING, "Exception thrown by tag extractor", t);
+      return;
+    }
+    if (tag != null) {
+      nodesByTag.computeIfAbsent(tag, t -> new IdentityHashMap<>()).put(node, Boolean.TRUE);
+      tagByNode.put(node, tag);
+    }
+  }
+
+  /** Removes the entry from the index, discarding the tag if it no longer has any entries. */
+  void remove(Node<K, V> node) {
+    @Nullable Object tag = tagByNode.remove(node);
+    if (tag == null) {
+      return;
+    }
+    var nodes = nodesByTag.get(tag);
+    if (nodes != null) {
+      nodes.remove(node);
+      if (nodes.isEmpty()) {
+        nodesByTag.remove(tag);
+      }
+    }
+  }
+
+  /** Returns a snapshot of the entries that are assigned the tag. */
+  List<Node<K, V>> nodesOf(Object tag) {
+    var nodes = nodesByTag.get(tag);
+    return (nodes == null) ? List.of() : new ArrayList<>(nodes.keySet());
+  }
+
+  /** Returns the number of indexed entries. */
+  int size() {
+    return tagByNode.size();
+  }
+}
@@ -1078,6 +1078,26 @@ final class UnboundedLocalCache<K, V> implements LocalCache<K, V> {
       V value = transformer.apply(cache.data.get(key));
       return (value == null) ? null : SnapshotEntry.forEntry(key, value);
     }
+    @Override public void forEach(long parallelismThreshold,
+        BiConsumer<? super K, ? super V> action) {
+      requireNonNull(action);
+      cache.data.forEach(parallelismThreshold, (key, value) -> {
+        V transformed = transformer.apply(value);
+        if (transformed != null) {
+          action.accept(key, transformed);
+        }
+      });
+    }
+    @Override public <U> @Nullable U reduce(long parallelismThreshold,
+        BiFunction<? super K, ? super V, ? extends @Nullable U> transformer,
+        BiFunction<? super U, ? super U, ? extends U> reducer) {
+      requireNonNull(transformer);
+      requireNonNull(reducer);
+      return cache.data.reduce(parallelismThreshold, (key, value) -> {
+        V transformed = this.transformer.apply(value);
+        return (transformed == null) ? null : transformer.apply(key, transformed);
+      }, reducer);
+    }
     @Override public Map<K, CompletableFuture<V>> refreshes() {
       var refreshes = cache.refreshes;
       if ((refreshes == null) || refreshes.isEmpty()) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+/**
+ * A strategy that adapts the size of the admission window of a cache that is bounded by a maximum
+ * size or weight. The cache divides its capacity between a window, which favors recently used
+ * entries, and a main space, which favors frequently used entries. By default the cache uses a
+ * hill climber that samples the hit rate and walks the window size in the direction that improved
+ * it. An alternative strategy may converge faster when the workload shifts between recency-biased
+ * and frequency-biased phases.
+ * <p>
+ * A strategy instance is stateful and is owned by a single cache. Its methods are invoked by the
+ * cache's maintenance while holding the eviction lock, so an implementation does not need to be
+ * thread-safe, but it should be inexpensive and must not throw an exception.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public interface WindowClimber {
+
+  /**
+   * Records that an entry in the cache was read.
+   *
+   * @param key the key of the entry that was read
+   */
+  void onHit(Object key);
+
+  /**
+   * Records that an entry was added to the cache.
+   *
+   * @param key the key of the entry that was added
+   */
+  void onMiss(Object key);
+
+  /**
+   * Returns the amount to resize the admission window by, where a positive amount increases the
+   * window and a negative amount decreases it. If zero is returned then any remainder of the prior
+   * adjustment, which may be applied incrementally, continues to be applied.
+   *
+   * @param windowMaximum the current maximum weighted size of the admission window
+   * @param maximum the maximum weighted size of the cache
+   * @return the amount to resize the admission window by, or zero to hold
+   */
+  long adapt(long windowMaximum, long maximum);
+
+  /**
+   * Returns a climber that simulates miniature caches with different window sizes on a sample of
+   * the keys and moves directly to the best performing configuration at the end of each period.
+   * This converges on a workload's phase change within a single period, at the cost of retaining
+   * the sampled keys in each of the simulations. The algorithm is explained by the authors in
+   * <a href="https://www.usenix.org/system/files/conference/atc17/atc17-waldspurger.pdf">Cache
+   * Modeling and Optimization using Miniature Simulation</a>.
+   *
+   * @return a climber that selects the window size by miniature simulations
+   */
+  static WindowClimber miniSimulation() {
+    return new MiniSimClimber();
+  }
+}
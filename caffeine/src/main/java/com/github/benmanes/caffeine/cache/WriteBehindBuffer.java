@@ -0,0 +1,455 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.requireArgument;
+import static com.github.benmanes.caffeine.cache.Caffeine.requireState;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+/**
+ * A buffer that defers writes to a system of record so that they may be coalesced and performed
+ * in bulk. The pending writes are coalesced per key and are written in batches to a user-supplied
+ * writer when either the batch size is reached or the oldest pending write exceeds the maximum
+ * delay.
+ * <p>
+ * The buffer is bounded by the number of keys that are pending or being written. When the buffer
+ * is full then a write of a new key blocks until a batch completes, which applies backpressure to
+ * the callers instead of allowing the backlog to grow without bound. A write to a key that is
+ * already pending is coalesced without blocking.
+ * <p>
+ * The batches are written one at a time on the executor, so the writes for a key are observed by
+ * the writer in the order that they were coalesced. A write that arrives while the key is being
+ * written is included in a later batch. If the writer throws an exception then the batch and the
+ * exception are given to the failure handler, which may record the entries to a dead-letter store or
+ * retry them later. By default the failure is logged and the batch is discarded, so an application
+ * that cannot tolerate losing writes should specify a handler.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ *   WriteBehindBuffer<String, Long> counters = WriteBehindBuffer.<String, Long>newBuilder()
+ *       .maximumDelay(Duration.ofSeconds(1))
+ *       .coalescer(Long::sum)
+ *       .build(batch -> repository.incrementAll(batch));
+ *   cache.asMap().merge(key, 1L, Long::sum);
+ *   counters.write(key, 1L);
+ * }</pre>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class WriteBehindBuffer<K, V> implements AutoCloseable {
+  static final Logger logger = System.getLogger(WriteBehindBuffer.class.getName());
+
+  static final int DEFAULT_BATCH_SIZE = 1_000;
+  static final int DEFAULT_MAXIMUM_PENDING = 10_000;
+  static final long DEFAULT_MAXIMUM_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  final BiConsumer<? super Map<K, V>, ? super Throwable> failureHandler;
+  final ConcurrentHashMap<K, V> pending;
+  final Consumer<Map<K, V>> writer;
+  final BinaryOperator<V> coalescer;
+  final AtomicBoolean timerScheduled;
+  final AtomicBoolean flushScheduled;
+  final ReentrantLock flushLock;
+  final long maximumDelayNanos;
+  final Scheduler scheduler;
+  final Executor executor;
+  final Semaphore permits;
+  final int batchSize;
+
+  volatile boolean closed;
+
+  WriteBehindBuffer(Builder<K, V> builder, Consumer<Map<K, V>> writer) {
+    this.pending = new ConcurrentHashMap<>();
+    this.permits = new Semaphore(builder.maximumPending);
+    this.maximumDelayNanos = builder.maximumDelayNanos;
+    this.failureHandler = builder.failureHandler;
+    this.scheduler = builder.getScheduler();
+    this.executor = builder.getExecutor();
+    this.timerScheduled = new AtomicBoolean();
+    this.flushScheduled = new AtomicBoolean();
+    this.coalescer = builder.coalescer;
+    this.batchSize = builder.batchSize;
+    this.flushLock = new ReentrantLock();
+    this.writer = writer;
+  }
+
+  /** Returns a new builder for configuring a write-behind buffer. */
+  public static <K, V> Builder<K, V> newBuilder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Buffers the write of the value for the key, coalescing it with a pending write for that key if
+   * present. If the buffer is full and the key is not pending, then this method blocks until space
+   * becomes available.
+   *
+   * @param key the key to write
+   * @param value the value to write
+   * @throws IllegalStateException if the buffer has been closed
+   */
+  public void write(K key, V value) {
+    requireNonNull(key);
+    requireNonNull(value);
+    enqueue(key, value, /* blocking */ true);
+  }
+
+  /**
+   * Buffers the write of the value for the key, coalescing it with a pending write for that key if
+   * present. If the buffer is full and the key is not pending, then this method returns immediately
+   * instead of waiting for space to become available.
+   *
+   * @param key the key to write
+   * @param value the value to write
+   * @return if the write was buffered
+   * @throws IllegalStateException if the buffer has been closed
+   */
+  public boolean tryWrite(K key, V value) {
+    requireNonNull(key);
+    requireNonNull(value);
+    return enqueue(key, value, /* blocking */ false);
+  }
+
+  /** Buffers the write, returning whether it was added if the buffer is full and not blocking. */
+  boolean enqueue(K key, V value, boolean blocking) {
+    for (;;) {
+      requireState(!closed, "The write-behind buffer has been closed");
+      if (pending.computeIfPresent(key, (k, v) -> coalescer.apply(v, value)) != null) {
+        return true;
+      }
+      if (!permits.tryAcquire()) {
+        // Wait for a batch to complete, which releases the space held by its keys
+        scheduleFlush();
+        if (blocking) {
+          permits.acquireUninterruptibly();
+        } else if (!permits.tryAcquire()) {
+          return false;
+        }
+      }
+      if (pending.putIfAbsent(key, value) == null) {
+        break;
+      }
+      // Raced with another writer adding the key, so coalesce into its entry instead
+      permits.release();
+    }
+
+    if (closed) {
+      // Raced with the buffer being closed, so write the stragglers on the calling thread
+      close();
+    } else if (pending.size() >= batchSize) {
+      scheduleFlush();
+    } else {
+      scheduleTimer();
+    }
+    return true;
+  }
+
+  /** Returns the approximate number of keys that are waiting to be written. */
+  public @NonNegative int pendingCount() {
+    return pending.size();
+  }
+
+  /** Requests that the pending writes be written promptly on the executor. */
+  public void flush() {
+    scheduleFlush();
+  }
+
+  /**
+   * Rejects any further writes and writes the pending entries on the calling thread, waiting for
+   * a batch that is being written on the executor to complete first.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    var failures = new ArrayList<Map.Entry<Map<K, V>, Throwable>>();
+    flushLock.lock();
+    try {
+      while (!pending.isEmpty()) {
+        writeBatch(failures);
+      }
+    } finally {
+      flushLock.unlock();
+    }
+    handleFailures(failures);
+  }
+
+  /** Schedules a flush to run after the maximum delay if one is not already scheduled. */
+  void scheduleTimer() {
+    if ((maximumDelayNanos == Long.MAX_VALUE) || !timerScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      scheduler.schedule(executor, () -> {
+        timerScheduled.set(false);
+        scheduleFlush();
+      }, maximumDelayNanos, TimeUnit.NANOSECONDS);
+    } catch (Throwable t) {
+      logger.log(Level.WARNING, "Exception thrown when scheduling the write-behind flush", t);
+      timerScheduled.set(false);
+    }
+  }
+
+  /** Submits a flush to the executor if one is not already pending. */
+  void scheduleFlush() {
+    if (!flushScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(this::performFlush);
+    } catch (Throwable t) {
+      logger.log(Level.WARNING, "Exception thrown when submitting the write-behind flush", t);
+      flushScheduled.set(false);
+      performFlush();
+    }
+  }
+
+  /**
+   * Writes batches until a partial batch is written, leaving the stragglers for the timer so that
+   * a continuous stream of writes does not monopolize the executor's thread.
+   */
+  void performFlush() {
+    var failures = new ArrayList<Map.Entry<Map<K, V>, Throwable>>();
+    flushLock.lock();
+    try {
+      flushScheduled.set(false);
+      while (writeBatch(failures) == batchSize) {
+        // keep draining while full batches are available
+      }
+    } finally {
+      flushLock.unlock();
+    }
+    handleFailures(failures);
+    if (!pending.isEmpty()) {
+      scheduleTimer();
+    }
+  }
+
+  /**
+   * Removes up to a batch of pending writes, hands them to the writer, and releases their space. A
+   * batch that the writer failed to write is added to the failures rather than handled while the
+   * flush lock is held.
+   */
+  int writeBatch(List<Map.Entry<Map<K, V>, Throwable>> failures) {
+    var batch = new LinkedHashMap<K, V>();
+    for (var key : pending.keySet()) {
+      V value = pending.remove(key);
+      if (value != null) {
+        batch.put(key, value);
+        if (batch.size() == batchSize) {
+          break;
+        }
+      }
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    var entries = Collections.unmodifiableMap(batch);
+    try {
+      writer.accept(entries);
+    } catch (Throwable t) {
+      failures.add(new SimpleImmutableEntry<>(entries, t));
+    } finally {
+      permits.release(batch.size());
+    }
+    return batch.size();
+  }
+
+  /** Hands the batches that could not be written to the failure handler. */
+  void handleFailures(List<Map.Entry<Map<K, V>, Throwable>> failures) {
+    for (var failure : failures) {
+      try {
+        failureHandler.accept(failure.getKey(), failure.getValue());
+      } catch (Throwable t) {
+        logger.log(Level.ERROR, "Exception thrown by the write-behind failure handler", t);
+      }
+    }
+  }
+
+  /** Logs that the writer failed, discarding the batch. */
+  static void logFailure(Map<?, ?> batch, Throwable error) {
+    logger.log(Level.WARNING, "Exception thrown by the write-behind writer, discarding "
+        + batch.size() + " entries", error);
+  }
+
+  /**
+   * A builder of {@link WriteBehindBuffer} instances.
+   *
+   * @param <K> the type of keys
+   * @param <V> the type of values
+   */
+  public static final class Builder<K, V> {
+    int batchSize = DEFAULT_BATCH_SIZE;
+    int maximumPending = DEFAULT_MAXIMUM_PENDING;
+    long maximumDelayNanos = DEFAULT_MAXIMUM_DELAY_NANOS;
+    BinaryOperator<V> coalescer = (oldValue, newValue) -> newValue;
+    BiConsumer<? super Map<K, V>, ? super Throwable> failureHandler =
+        WriteBehindBuffer::logFailure;
+    @Nullable Scheduler scheduler;
+    @Nullable Executor executor;
+
+    Builder() {}
+
+    /**
+     * Specifies the maximum number of entries that are written by a single call to the writer.
+     *
+     * @param batchSize the maximum size of a batch
+     * @return this {@code Builder} instance (for chaining)
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> batchSize(int batchSize) {
+      requireArgument(batchSize > 0, "batch size must be positive: %s", batchSize);
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Specifies the maximum number of keys that may be pending or being written, after which the
+     * writes of new keys block until space becomes available.
+     *
+     * @param maximumPending the capacity of the buffer
+     * @return this {@code Builder} instance (for chaining)
+     * @throws IllegalArgumentException if {@code maximumPending} is not positive
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> maximumPending(int maximumPending) {
+      requireArgument(maximumPending > 0, "maximum pending must be positive: %s", maximumPending);
+      this.maximumPending = maximumPending;
+      return this;
+    }
+
+    /**
+     * Specifies the longest duration that a write may wait before it is written, if the batch size
+     * is not reached earlier. The delay is honored on a best-effort basis by the scheduler.
+     *
+     * @param maximumDelay the longest duration that a write may be buffered
+     * @return this {@code Builder} instance (for chaining)
+     * @throws IllegalArgumentException if {@code maximumDelay} is negative
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> maximumDelay(Duration maximumDelay) {
+      long nanos = Caffeine.saturatedToNanos(maximumDelay);
+      requireArgument(nanos >= 0, "maximum delay must not be negative: %s", maximumDelay);
+      this.maximumDelayNanos = nanos;
+      return this;
+    }
+
+    /**
+     * Specifies how a pending value is combined with a newer write to the same key. By default the
+     * newer value replaces the pending one.
+     *
+     * @param coalescer the function that merges the pending value with the newer value
+     * @return this {@code Builder} instance (for chaining)
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> coalescer(BinaryOperator<V> coalescer) {
+      this.coalescer = requireNonNull(coalescer);
+      return this;
+    }
+
+    /**
+     * Specifies the handler that receives a batch that the writer failed to write, along with the
+     * exception that was thrown. The handler is called on the thread that wrote the batch, after
+     * the batch's space in the buffer was released and outside of the flush, and may record the
+     * entries in a dead-letter store or schedule them to be retried. A handler that re-enqueues the
+     * entries should prefer {@link WriteBehindBuffer#tryWrite}, as a blocking write waits for a
+     * flush that may require the executor's thread that is running the handler. By default the
+     * failure is logged and the batch is discarded.
+     *
+     * @param failureHandler the handler of the batches that could not be written
+     * @return this {@code Builder} instance (for chaining)
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> failureHandler(
+        BiConsumer<? super Map<K, V>, ? super Throwable> failureHandler) {
+      this.failureHandler = requireNonNull(failureHandler);
+      return this;
+    }
+
+    /**
+     * Specifies the executor to use when writing the batches. By default
+     * {@link ForkJoinPool#commonPool()} is used.
+     *
+     * @param executor the executor to use for the writes
+     * @return this {@code Builder} instance (for chaining)
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> executor(Executor executor) {
+      this.executor = requireNonNull(executor);
+      return this;
+    }
+
+    /**
+     * Specifies the scheduler to use when flushing writes that exceed the maximum delay. By default
+     * {@link Scheduler#systemScheduler()} is used.
+     *
+     * @param scheduler the scheduler that submits a flush to the executor
+     * @return this {@code Builder} instance (for chaining)
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> scheduler(Scheduler scheduler) {
+      this.scheduler = Scheduler.guardedScheduler(requireNonNull(scheduler));
+      return this;
+    }
+
+    Executor getExecutor() {
+      return (executor == null) ? ForkJoinPool.commonPool() : executor;
+    }
+
+    Scheduler getScheduler() {
+      return (scheduler == null) ? Scheduler.systemScheduler() : scheduler;
+    }
+
+    /**
+     * Returns a buffer that writes the coalesced entries to the writer in batches. The writer is
+     * called by at most one thread at a time.
+     *
+     * @param writer the bulk operation that writes to the system of record
+     * @return a new buffer with the configured settings
+     */
+    public WriteBehindBuffer<K, V> build(Consumer<Map<K, V>> writer) {
+      requireNonNull(writer);
+      return new WriteBehindBuffer<>(this, writer);
+    }
+  }
+}
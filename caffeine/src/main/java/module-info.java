@@ -2,6 +2,8 @@ module com.github.benmanes.caffeine {
   exports com.github.benmanes.caffeine.cache;
   exports com.github.benmanes.caffeine.cache.stats;
 
+  requires static java.management;
+  requires static jdk.jfr;
   requires static com.google.errorprone.annotations;
   requires static org.checkerframework.checker.qual;
 }
@@ -42,6 +42,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
@@ -63,6 +64,7 @@ import com.github.benmanes.caffeine.cache.testing.CheckMaxLogLevel;
 import com.github.benmanes.caffeine.cache.testing.CheckNoEvictions;
 import com.github.benmanes.caffeine.cache.testing.CheckNoStats;
 import com.github.benmanes.caffeine.testing.Int;
+import com.github.benmanes.caffeine.testing.RecordingSubscriber;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
@@ -882,6 +884,171 @@ public final class AsyncCacheTest {
     }
   }
 
+  /* --------------- getAllPublisher --------------- */
+
+  @CheckNoStats
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_nullKeys(AsyncCache<Int, Int> cache, CacheContext context) {
+    assertThrows(NullPointerException.class, () ->
+        cache.getAllPublisher(null, (keys, executor) -> { throw new AssertionError(); }));
+  }
+
+  @CheckNoStats
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_nullFunction(AsyncCache<Int, Int> cache, CacheContext context) {
+    assertThrows(NullPointerException.class, () ->
+        cache.getAllPublisher(context.original().keySet(), null));
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_nullKey(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(Collections.singletonList(null),
+        (keys, executor) -> { throw new AssertionError(); }).subscribe(subscriber);
+    assertThat(subscriber.awaitTermination().error()).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_absent(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(context.absentKeys(), (keys, executor) ->
+        RecordingSubscriber.publisherOf(context.absent().entrySet())).subscribe(subscriber);
+
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactlyElementsIn(context.absent().entrySet());
+    assertThat(cache.synchronous().asMap()).containsAtLeastEntriesIn(context.absent());
+
+    int count = context.absentKeys().size();
+    assertThat(context).stats().hits(0).misses(count).success(1).failures(0);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(population = { Population.SINGLETON, Population.PARTIAL, Population.FULL },
+      removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_present(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(context.original().keySet(),
+        (keys, executor) -> { throw new AssertionError(); }).subscribe(subscriber);
+
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactlyElementsIn(
+        context.original().entrySet()).inOrder();
+    assertThat(context).stats().hits(context.original().size()).misses(0).success(0).failures(0);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_absent_partial(AsyncCache<Int, Int> cache, CacheContext context) {
+    var key = context.absentKeys().iterator().next();
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(context.absentKeys(), (keys, executor) ->
+        RecordingSubscriber.publisherOf(Map.of(key, key.negate()).entrySet()))
+        .subscribe(subscriber);
+
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactly(Map.entry(key, key.negate()));
+    assertThat(cache).hasSize(context.initialSize() + 1);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = Listener.DISABLED)
+  public void getAllPublisher_backpressure(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = new RecordingSubscriber<Map.Entry<Int, Int>>(0);
+    cache.getAllPublisher(context.absentKeys(), (keys, executor) ->
+        RecordingSubscriber.publisherOf(context.absent().entrySet())).subscribe(subscriber);
+    assertThat(subscriber.items()).isEmpty();
+
+    subscriber.request(1);
+    assertThat(subscriber.items()).hasSize(1);
+    assertThat(subscriber.isCompleted()).isFalse();
+
+    subscriber.request(Long.MAX_VALUE);
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactlyElementsIn(context.absent().entrySet());
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = Listener.DISABLED)
+  public void getAllPublisher_cancel(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = new RecordingSubscriber<Map.Entry<Int, Int>>(1);
+    cache.getAllPublisher(context.absentKeys(), (keys, executor) ->
+        RecordingSubscriber.publisherOf(context.absent().entrySet())).subscribe(subscriber);
+    assertThat(subscriber.items()).hasSize(1);
+
+    subscriber.cancel();
+    assertThat(subscriber.isCompleted()).isFalse();
+    assertThat(subscriber.error()).isNull();
+    assertThat(cache).hasSize(context.initialSize() + 1);
+    assertThat(context).stats().hits(0).misses(context.absentKeys().size()).success(0).failures(1);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = Listener.DISABLED)
+  public void getAllPublisher_cancel_shared(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = new RecordingSubscriber<Map.Entry<Int, Int>>(1);
+    cache.getAllPublisher(context.absentKeys(), (keys, executor) ->
+        RecordingSubscriber.publisherOf(context.absent().entrySet())).subscribe(subscriber);
+    assertThat(subscriber.items()).hasSize(1);
+
+    var key = context.absentKeys().stream()
+        .filter(k -> !subscriber.items().get(0).getKey().equals(k))
+        .findFirst().orElseThrow();
+    var waiter = cache.get(key, k -> { throw new AssertionError(); }).thenApply(identity());
+    subscriber.cancel();
+
+    assertThat(waiter).succeedsWith(context.absent().get(key));
+    assertThat(subscriber.items()).hasSize(1);
+    assertThat(subscriber.isCompleted()).isFalse();
+    assertThat(cache.synchronous().asMap()).containsAtLeastEntriesIn(context.absent());
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_failure(AsyncCache<Int, Int> cache, CacheContext context) {
+    var error = new IllegalStateException();
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(context.absentKeys(), (keys, executor) -> downstream -> {
+      downstream.onSubscribe(new Subscription() {
+        @Override public void request(long n) {}
+        @Override public void cancel() {}
+      });
+      downstream.onError(error);
+    }).subscribe(subscriber);
+
+    assertThat(subscriber.awaitTermination().error()).isSameInstanceAs(error);
+    assertThat(subscriber.items()).isEmpty();
+    assertThat(cache).hasSize(context.initialSize());
+    assertThat(context).stats().hits(0).misses(context.absentKeys().size()).success(0).failures(1);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_badLoader(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(context.absentKeys(),
+        (keys, executor) -> { throw new LoadAllException(); }).subscribe(subscriber);
+
+    assertThat(subscriber.awaitTermination().error()).isInstanceOf(LoadAllException.class);
+    assertThat(cache).hasSize(context.initialSize());
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_invalidRequest(AsyncCache<Int, Int> cache, CacheContext context) {
+    var subscriber = new RecordingSubscriber<Map.Entry<Int, Int>>(0);
+    cache.getAllPublisher(context.absentKeys(), (keys, executor) ->
+        RecordingSubscriber.publisherOf(context.absent().entrySet())).subscribe(subscriber);
+
+    subscriber.request(0);
+    assertThat(subscriber.awaitTermination().error())
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(cache).hasSize(context.initialSize());
+  }
+
   /* --------------- put --------------- */
 
   @Test(dataProvider = "caches")
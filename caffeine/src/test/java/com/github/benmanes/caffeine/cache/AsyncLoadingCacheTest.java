@@ -40,6 +40,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -62,6 +63,7 @@ import com.github.benmanes.caffeine.cache.testing.CheckMaxLogLevel;
 import com.github.benmanes.caffeine.cache.testing.CheckNoEvictions;
 import com.github.benmanes.caffeine.cache.testing.CheckNoStats;
 import com.github.benmanes.caffeine.testing.Int;
+import com.github.benmanes.caffeine.testing.RecordingSubscriber;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -412,6 +414,97 @@ public final class AsyncLoadingCacheTest {
     assertThat(cache).isEmpty();
   }
 
+  /* --------------- getAllPublisher --------------- */
+
+  @CheckNoStats
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_null(AsyncLoadingCache<Int, Int> cache, CacheContext context) {
+    assertThrows(NullPointerException.class, () -> cache.getAllPublisher(null));
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_absent(AsyncLoadingCache<Int, Int> cache, CacheContext context) {
+    var expect = Maps.toMap(context.absentKeys(), Int::negate);
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(expect.keySet()).subscribe(subscriber);
+
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactlyElementsIn(expect.entrySet());
+
+    int misses = expect.size();
+    int loads = context.loader().isBulk() ? 1 : misses;
+    assertThat(context).stats().hits(0).misses(misses).success(loads).failures(0);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(population = { Population.SINGLETON, Population.PARTIAL, Population.FULL },
+      removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_present(AsyncLoadingCache<Int, Int> cache, CacheContext context) {
+    var subscriber = RecordingSubscriber.<Map.Entry<Int, Int>>unbounded();
+    cache.getAllPublisher(context.original().keySet()).subscribe(subscriber);
+
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactlyElementsIn(
+        context.original().entrySet()).inOrder();
+    assertThat(context).stats().hits(context.original().size()).misses(0).success(0).failures(0);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(compute = Compute.ASYNC, removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_streamingLoader(CacheContext context) {
+    var loaded = new ArrayList<Set<? extends Int>>();
+    var loader = new AsyncCacheLoader<Int, Int>() {
+      @Override public CompletableFuture<Int> asyncLoad(Int key, Executor executor) {
+        throw new IllegalStateException();
+      }
+      @Override public Publisher<Map.Entry<Int, Int>> asyncLoadAllPublisher(
+          Set<? extends Int> keys, Executor executor) {
+        loaded.add(Set.copyOf(keys));
+        return RecordingSubscriber.publisherOf(Maps.toMap(keys, Int::negate).entrySet());
+      }
+    };
+    var cache = context.buildAsync(loader);
+    var subscriber = new RecordingSubscriber<Map.Entry<Int, Int>>(1);
+    cache.getAllPublisher(context.absentKeys()).subscribe(subscriber);
+    assertThat(subscriber.items()).hasSize(1);
+
+    subscriber.request(Long.MAX_VALUE);
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactlyElementsIn(
+        Maps.toMap(context.absentKeys(), Int::negate).entrySet());
+    assertThat(loaded).containsExactly(context.absentKeys());
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(compute = Compute.ASYNC, removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void getAllPublisher_streamingLoader_extraKey(CacheContext context) {
+    var extra = Int.valueOf(Integer.MAX_VALUE);
+    var loader = new AsyncCacheLoader<Int, Int>() {
+      @Override public CompletableFuture<Int> asyncLoad(Int key, Executor executor) {
+        throw new IllegalStateException();
+      }
+      @Override public Publisher<Map.Entry<Int, Int>> asyncLoadAllPublisher(
+          Set<? extends Int> keys, Executor executor) {
+        var entries = new ArrayList<Map.Entry<Int, Int>>();
+        entries.add(Map.entry(extra, extra));
+        entries.addAll(Maps.toMap(keys, Int::negate).entrySet());
+        return RecordingSubscriber.publisherOf(entries);
+      }
+    };
+    var cache = context.buildAsync(loader);
+    var subscriber = new RecordingSubscriber<Map.Entry<Int, Int>>(1);
+    cache.getAllPublisher(context.absentKeys()).subscribe(subscriber);
+    assertThat(subscriber.items()).hasSize(1);
+    assertThat(cache.synchronous().getIfPresent(extra)).isEqualTo(extra);
+
+    subscriber.request(Long.MAX_VALUE);
+    assertThat(subscriber.awaitTermination().isCompleted()).isTrue();
+    assertThat(subscriber.items()).containsExactlyElementsIn(
+        Maps.toMap(context.absentKeys(), Int::negate).entrySet());
+  }
+
   private static final class LoadAllException extends RuntimeException {
     private static final long serialVersionUID = 1L;
   }
@@ -601,6 +694,13 @@ public final class AsyncLoadingCacheTest {
         loader.asyncLoadAll(Set.of(), Runnable::run));
   }
 
+  @Test
+  public void asyncLoadAllPublisher() {
+    AsyncCacheLoader<Int, Int> loader = (key, executor) -> key.negate().asFuture();
+    assertThrows(UnsupportedOperationException.class, () ->
+        loader.asyncLoadAllPublisher(Set.of(), Runnable::run));
+  }
+
   @Test
   public void asyncReload() throws Exception {
     AsyncCacheLoader<Int, Int> loader = (key, executor) -> key.negate().asFuture();
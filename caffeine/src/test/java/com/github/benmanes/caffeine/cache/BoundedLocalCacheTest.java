@@ -75,8 +75,10 @@ import java.lang.ref.WeakReference;
 import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -87,7 +89,9 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
@@ -234,6 +238,70 @@ public final class BoundedLocalCacheTest {
     assertThat(cache.writeBuffer).isEmpty();
   }
 
+  @Test
+  public void clear_lazy() {
+    var causes = new EnumMap<RemovalCause, Integer>(RemovalCause.class);
+    RemovalListener<Integer, Integer> removalListener =
+        (k, v, cause) -> causes.merge(cause, 1, Integer::sum);
+    Cache<Integer, Integer> cache = Caffeine.newBuilder()
+        .executor(CacheExecutor.DIRECT.create())
+        .removalListener(removalListener)
+        .maximumSize(Long.MAX_VALUE)
+        .build();
+    var localCache = asBoundedLocalCache(cache);
+    int count = 2 * BoundedLocalCache.LAZY_CLEAR_THRESHOLD;
+    for (int i = 0; i < count; i++) {
+      localCache.put(i, -i);
+    }
+
+    localCache.clear();
+    assertThat(localCache.isEmpty()).isTrue();
+    assertThat(localCache.size()).isEqualTo(0);
+    assertThat(localCache.get(1)).isNull();
+    assertThat(localCache.put(4, 4)).isNull();
+    assertThat(localCache.computeIfAbsent(5, k -> k)).isEqualTo(5);
+    assertThat(Map.copyOf(localCache)).containsExactly(4, 4, 5, 5);
+    assertThat(cache.policy().eviction().orElseThrow().coldest(count))
+        .containsExactly(4, 4, 5, 5);
+
+    while (localCache.cleared != null) {
+      localCache.cleanUp();
+    }
+    assertThat(localCache.weightedSize()).isEqualTo(2);
+    assertThat(causes).containsExactly(EXPLICIT, count);
+  }
+
+  @Test
+  public void clear_lazy_concurrentWrites() {
+    var removed = new LongAdder();
+    var cache = asBoundedLocalCache(Caffeine.newBuilder()
+        .removalListener((Integer k, Integer v, RemovalCause cause) -> removed.increment())
+        .executor(CacheExecutor.DIRECT.create())
+        .maximumSize(Long.MAX_VALUE)
+        .<Integer, Integer>build());
+    int count = BoundedLocalCache.LAZY_CLEAR_THRESHOLD;
+    var keys = new AtomicInteger();
+    ConcurrentTestHarness.timeTasks(4, () -> {
+      for (int i = 0; i < count; i++) {
+        int key = keys.getAndIncrement();
+        if ((key % 2) == 0) {
+          cache.put(key, key);
+        } else {
+          cache.computeIfAbsent(key, k -> k);
+        }
+        if ((key % (2 * count)) == ((2 * count) - 1)) {
+          cache.clear();
+        }
+      }
+    });
+
+    while (cache.cleared != null) {
+      cache.cleanUp();
+    }
+    assertThat(cache.weightedSize()).isEqualTo(cache.size());
+    assertThat(removed.sum() + cache.size()).isEqualTo(keys.get());
+  }
+
   /* --------------- Maintenance --------------- */
 
   @Test
@@ -677,6 +745,76 @@ public final class BoundedLocalCacheTest {
     cache.setWeightedSize(cache.data.values().stream().mapToLong(Node::getWeight).sum());
   }
 
+  @Test(dataProvider = "caches")
+  @CacheSpec(compute = Compute.SYNC, population = Population.EMPTY,
+      maximumSize = Maximum.UNREACHABLE, weigher = CacheWeigher.VALUE,
+      coalesceWeightUpdates = true)
+  public void coalesceWeights_concurrentUpdates(
+      BoundedLocalCache<Int, Int> cache, CacheContext context) {
+    var keys = List.copyOf(context.absentKeys());
+    ConcurrentTestHarness.timeTasks(10, () -> {
+      var random = ThreadLocalRandom.current();
+      for (int i = 0; i < 1_000; i++) {
+        var key = keys.get(random.nextInt(keys.size()));
+        cache.put(key, Int.valueOf(random.nextInt(100)));
+      }
+    });
+    cache.cleanUp();
+
+    long expected = cache.data.values().stream()
+        .mapToLong(node -> Math.abs(((Int) node.getValue()).intValue())).sum();
+    assertThat(cache.weightedSize()).isEqualTo(expected);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(compute = Compute.SYNC, population = Population.EMPTY,
+      maximumSize = Maximum.UNREACHABLE, weigher = CacheWeigher.VALUE,
+      coalesceWeightUpdates = true)
+  public void coalesceWeights_concurrentRemovals(
+      BoundedLocalCache<Int, Int> cache, CacheContext context) {
+    var keys = List.copyOf(context.absentKeys());
+    ConcurrentTestHarness.timeTasks(10, () -> {
+      var random = ThreadLocalRandom.current();
+      for (int i = 0; i < 1_000; i++) {
+        var key = keys.get(random.nextInt(keys.size()));
+        if (random.nextInt(4) == 0) {
+          cache.remove(key);
+        } else {
+          cache.put(key, Int.valueOf(random.nextInt(100)));
+        }
+      }
+    });
+    cache.cleanUp();
+
+    long expected = cache.data.values().stream()
+        .mapToLong(node -> Math.abs(((Int) node.getValue()).intValue())).sum();
+    assertThat(cache.weightedSize()).isEqualTo(expected);
+    assertThat(cache.data.values().stream().mapToLong(Node::getPolicyWeight).sum())
+        .isEqualTo(expected);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(compute = Compute.SYNC, population = Population.EMPTY,
+      maximumSize = Maximum.FULL, weigher = CacheWeigher.VALUE,
+      coalesceWeightUpdates = true)
+  public void coalesceWeights_concurrentEvictions(
+      BoundedLocalCache<Int, Int> cache, CacheContext context) {
+    var keys = List.copyOf(context.absentKeys());
+    ConcurrentTestHarness.timeTasks(10, () -> {
+      var random = ThreadLocalRandom.current();
+      for (int i = 0; i < 1_000; i++) {
+        var key = keys.get(random.nextInt(keys.size()));
+        cache.put(key, Int.valueOf(random.nextInt(25)));
+      }
+    });
+    cache.cleanUp();
+
+    long expected = cache.data.values().stream()
+        .mapToLong(node -> Math.abs(((Int) node.getValue()).intValue())).sum();
+    assertThat(cache.weightedSize()).isEqualTo(expected);
+    assertThat(cache.weightedSize()).isAtMost(context.maximumWeight());
+  }
+
   @CheckNoEvictions
   @Test(dataProvider = "caches")
   @CacheSpec(compute = Compute.SYNC, population = Population.EMPTY, maximumSize = Maximum.ONE)
@@ -1539,6 +1677,29 @@ public final class BoundedLocalCacheTest {
     });
   }
 
+  @Test(dataProvider = "caches")
+  @CacheSpec(compute = Compute.SYNC, population = Population.FULL, maximumSize = Maximum.FULL,
+      initialCapacity = InitialCapacity.EXCESSIVE, weigher = CacheWeigher.DISABLED,
+      removalListener = {Listener.DISABLED, Listener.REJECTING})
+  public void evictionOrderInChunks_boundedLockHold(
+      BoundedLocalCache<Int, Int> cache, CacheContext context) {
+    int chunkSize = 4;
+    var keys = new LinkedHashSet<Int>();
+    var spliterator = cache.new EvictionOrderSpliterator(
+        /* hottest */ false, identity(), chunkSize);
+    while (spliterator.tryAdvance(entry -> assertThat(keys.add(entry.getKey())).isTrue())) {
+      assertThat(spliterator.lastFillVisits).isAtMost(2 * chunkSize);
+
+      // Move the last emitted entry between chunks so that its cursor restarts from the head
+      if (spliterator.chunk.isEmpty()) {
+        var last = keys.stream().reduce((first, second) -> second).orElseThrow();
+        cache.getIfPresent(last, /* recordStats */ false);
+        cache.cleanUp();
+      }
+    }
+    assertThat(keys).containsExactlyElementsIn(context.original().keySet());
+  }
+
   private static Node<Int, Int> firstBeforeAccess(
       BoundedLocalCache<Int, Int> cache, CacheContext context) {
     return context.isZeroWeighted()
@@ -2540,35 +2701,24 @@ public final class BoundedLocalCacheTest {
     assertThrows(IllegalStateException.class, () -> factory.newInstance(builder, null, false));
   }
 
-  @Test(groups = "isolated")
+  @Test
   public void cacheFactory_exception() throws Throwable {
-    try {
-      LocalCacheFactory factory = Mockito.mock();
-      LocalCacheFactory.FACTORIES.put("WS", factory);
-
-      when(factory.newInstance(any(), any(), anyBoolean())).thenThrow(IOException.class);
-      Caffeine<Object, Object> builder = Caffeine.newBuilder().weakKeys();
-      var expected = assertThrows(IllegalStateException.class, () ->
-          LocalCacheFactory.newBoundedLocalCache(builder, /* loader */ null, false));
-      assertThat(expected).hasCauseThat().isInstanceOf(IOException.class);
-    } finally {
-      LocalCacheFactory.FACTORIES.clear();
-    }
+    LocalCacheFactory factory = Mockito.mock();
+    when(factory.newInstance(any(), any(), anyBoolean())).thenThrow(IOException.class);
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().weakKeys();
+    var expected = assertThrows(IllegalStateException.class, () ->
+        LocalCacheFactory.newInstance(factory, builder, /* loader */ null, false));
+    assertThat(expected).hasCauseThat().isInstanceOf(IOException.class);
+    assertThat(expected).hasMessageThat().isEqualTo("WS");
   }
 
-  @Test(groups = "isolated")
+  @Test
   public void cacheFactory_error() throws Throwable {
-    try {
-      LocalCacheFactory factory = Mockito.mock();
-      LocalCacheFactory.FACTORIES.put("WS", factory);
-
-      Caffeine<Object, Object> builder = Caffeine.newBuilder().weakKeys();
-      when(factory.newInstance(any(), any(), anyBoolean())).thenThrow(Error.class);
-      assertThrows(Error.class, () ->
-          LocalCacheFactory.newBoundedLocalCache(builder, /* loader */ null, false));
-    } finally {
-      LocalCacheFactory.FACTORIES.clear();
-    }
+    LocalCacheFactory factory = Mockito.mock();
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().weakKeys();
+    when(factory.newInstance(any(), any(), anyBoolean())).thenThrow(Error.class);
+    assertThrows(Error.class, () ->
+        LocalCacheFactory.newInstance(factory, builder, /* loader */ null, false));
   }
 
   @Test
@@ -2608,6 +2758,18 @@ public final class BoundedLocalCacheTest {
     assertThat(c1.getClass()).isEqualTo(c2.getClass());
   }
 
+  @Test(dataProvider = "caches")
+  @CacheSpec(population = Population.EMPTY)
+  public void cacheFactory_registry(
+      BoundedLocalCache<Int, Int> cache, CacheContext context) throws Throwable {
+    var factory = LocalCacheFactories.get(LocalCacheFactory.getFeatures(context.caffeine()));
+    assertThat(factory).isNotNull();
+
+    var other = factory.newInstance(context.caffeine(), /* cacheLoader */ null, context.isAsync());
+    assertThat(other.getClass()).isEqualTo(cache.getClass());
+    assertThat(LocalCacheFactories.get(-1)).isNull();
+  }
+
   @Test
   public void nodeFactory_null() {
     assertThrows(NullPointerException.class, () -> NodeFactory.loadFactory(/* className */ null));
@@ -2638,6 +2800,16 @@ public final class BoundedLocalCacheTest {
     assertThat(factory2).isSameInstanceAs(factory1);
   }
 
+  @Test(dataProvider = "caches")
+  @CacheSpec(population = Population.EMPTY)
+  public void nodeFactory_registry(BoundedLocalCache<Int, Int> cache, CacheContext context) {
+    var features = NodeFactory.getFeatures(context.caffeine(), context.isAsync());
+    var factory = NodeFactories.get(features);
+    assertThat(factory).isNotNull();
+    assertThat(factory.getClass()).isEqualTo(cache.nodeFactory.getClass());
+    assertThat(NodeFactories.get(-1)).isNull();
+  }
+
   @Test
   public void cache_unsupported() {
     BoundedLocalCache<Object, Object> cache = Mockito.mock(CALLS_REAL_METHODS);
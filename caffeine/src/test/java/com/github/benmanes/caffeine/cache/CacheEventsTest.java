@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.testng.annotations.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@Test(groups = "isolated", singleThreaded = true)
+public final class CacheEventsTest {
+  static final String CATEGORY = "com.github.benmanes.caffeine";
+
+  @Test
+  public void available() {
+    assertThat(CacheEvents.AVAILABLE).isTrue();
+  }
+
+  @Test
+  public void disabled() {
+    assertThat(CacheEvents.beginMaintenance()).isNull();
+    assertThat(CacheEvents.loadStartTime()).isEqualTo(0L);
+    assertThat(CacheEvents.refreshStartTime()).isEqualTo(0L);
+
+    Caffeine.newBuilder().executor(Runnable::run).maximumSize(10).build(key -> key).get(1);
+  }
+
+  @Test
+  public void recorded() throws IOException {
+    List<RecordedEvent> events = record(() -> {
+      LoadingCache<Integer, Integer> cache = Caffeine.newBuilder()
+          .executor(Runnable::run)
+          .maximumSize(1_000)
+          .build(key -> key);
+      var random = ThreadLocalRandom.current();
+      for (int i = 0; i < 200_000; i++) {
+        cache.get(random.nextInt(1 + (i % 4_000)));
+      }
+      cache.refresh(1).join();
+    });
+
+    Set<String> names = events.stream()
+        .map(event -> event.getEventType().getName())
+        .collect(toSet());
+    assertThat(names).containsExactly(CATEGORY + ".Maintenance", CATEGORY + ".Eviction",
+        CATEGORY + ".Adaptation", CATEGORY + ".SketchReset", CATEGORY + ".Load",
+        CATEGORY + ".Refresh");
+    for (var event : events) {
+      assertThat(event.getEventType().getCategoryNames()).containsExactly(CATEGORY);
+    }
+  }
+
+  @Test
+  public void recorded_eviction() throws IOException {
+    List<RecordedEvent> events = record(() -> {
+      Cache<Integer, Integer> cache = Caffeine.newBuilder()
+          .executor(Runnable::run)
+          .maximumSize(10)
+          .build();
+      for (int i = 0; i < 20; i++) {
+        cache.put(i, i);
+      }
+    });
+
+    long evicted = events.stream()
+        .filter(event -> event.getEventType().getName().equals(CATEGORY + ".Eviction"))
+        .mapToLong(event -> event.getLong("evictedWeight"))
+        .sum();
+    assertThat(evicted).isEqualTo(10);
+  }
+
+  private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+    var file = Files.createTempFile("caffeine", ".jfr");
+    try (var recording = new Recording()) {
+      for (var name : List.of("Maintenance", "Eviction", "Adaptation", "SketchReset",
+          "Load", "Refresh", "WriteBufferBackpressure")) {
+        recording.enable(CATEGORY + "." + name);
+      }
+      recording.start();
+      runnable.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class CacheGroupTest {
+
+  @Test
+  public void withMaximum_negative() {
+    assertThrows(IllegalArgumentException.class, () -> CacheGroup.withMaximum(-1));
+  }
+
+  @Test
+  public void register_unbounded() {
+    var group = CacheGroup.withMaximum(100);
+    var cache = Caffeine.newBuilder().build();
+    assertThrows(IllegalArgumentException.class, () -> group.register(cache));
+  }
+
+  @Test
+  public void register_expiring() {
+    var group = CacheGroup.withMaximum(100);
+    var cache = Caffeine.newBuilder().expireAfterAccess(Duration.ofMinutes(1)).build();
+    assertThrows(IllegalArgumentException.class, () -> group.register(cache));
+  }
+
+  @Test
+  public void register_twice() {
+    var cache = newCache();
+    var group = CacheGroup.withMaximum(100);
+    group.register(cache);
+
+    assertThrows(IllegalArgumentException.class, () -> group.register(cache));
+    assertThrows(IllegalArgumentException.class,
+        () -> CacheGroup.withMaximum(100).register(cache));
+  }
+
+  @Test
+  public void register_split() {
+    var group = CacheGroup.withMaximum(100);
+    var first = newCache();
+    var second = newCache();
+    var third = Caffeine.newBuilder().executor(Runnable::run).maximumSize(0).buildAsync();
+
+    group.register(first);
+    assertThat(group.size()).isEqualTo(1);
+    assertThat(maximumOf(first)).isEqualTo(100);
+
+    group.register(second);
+    assertThat(group.size()).isEqualTo(2);
+    assertThat(maximumOf(first)).isEqualTo(50);
+    assertThat(maximumOf(second)).isEqualTo(50);
+
+    group.register(third.synchronous());
+    assertThat(group.size()).isEqualTo(3);
+    assertThat(maximumOf(first) + maximumOf(second) + maximumOf(third.synchronous()))
+        .isEqualTo(100);
+    assertThat(group.maximumOf(third.synchronous())).isEqualTo(maximumOf(third.synchronous()));
+  }
+
+  @Test
+  public void unregister() {
+    var group = CacheGroup.withMaximum(100);
+    var first = newCache();
+    var second = newCache();
+    group.register(first);
+    group.register(second);
+
+    assertThat(group.unregister(second)).isTrue();
+    assertThat(group.unregister(second)).isFalse();
+    assertThat(group.size()).isEqualTo(1);
+    assertThat(maximumOf(first)).isEqualTo(100);
+    assertThat(maximumOf(second)).isEqualTo(50);
+    assertThat(group.maximumOf(second)).isEqualTo(-1);
+
+    CacheGroup.withMaximum(100).register(second);
+  }
+
+  @Test
+  public void rebalance_single() {
+    var group = CacheGroup.withMaximum(100);
+    var cache = newCache();
+    group.register(cache);
+
+    group.rebalance();
+    assertThat(maximumOf(cache)).isEqualTo(100);
+  }
+
+  @Test
+  public void rebalance_towardsGain() {
+    var group = CacheGroup.withMaximum(1_000);
+    var busy = newCache();
+    var idle = newCache();
+    group.register(busy);
+    group.register(idle);
+
+    // a looping scan that exceeds the capacity misses on recently seen keys
+    for (int i = 0; i < 10; i++) {
+      for (int key = 0; key < 800; key++) {
+        busy.get(key, k -> -k);
+      }
+    }
+    busy.cleanUp();
+    group.rebalance();
+
+    long step = (long) (CacheGroup.STEP_PERCENT * group.maximum());
+    assertThat(maximumOf(busy)).isEqualTo(500 + step);
+    assertThat(maximumOf(idle)).isEqualTo(500 - step);
+  }
+
+  @Test
+  public void rebalance_unsaturated() {
+    var group = CacheGroup.withMaximum(1_000);
+    var first = newCache();
+    var second = newCache();
+    group.register(first);
+    group.register(second);
+
+    // misses on recently seen keys do not benefit from a larger cache if it has free capacity
+    for (int i = 0; i < 10; i++) {
+      for (int key = 0; key < 300; key++) {
+        first.put(key, key);
+      }
+      first.invalidateAll();
+    }
+    first.cleanUp();
+    group.rebalance();
+
+    assertThat(maximumOf(first)).isEqualTo(500);
+    assertThat(maximumOf(second)).isEqualTo(500);
+  }
+
+  private static Cache<Integer, Integer> newCache() {
+    return Caffeine.newBuilder().executor(Runnable::run).maximumSize(0).build();
+  }
+
+  private static long maximumOf(Cache<?, ?> cache) {
+    return cache.policy().eviction().orElseThrow().getMaximum();
+  }
+}
@@ -43,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -1007,6 +1008,46 @@ public final class CacheTest {
     assertThat(cache.policy().refreshes().get(null)).isNull();
   }
 
+  /* --------------- Policy: forEach / reduce --------------- */
+
+  @CheckNoStats
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine,
+      removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void forEachParallel_null(Cache<Int, Int> cache, CacheContext context) {
+    assertThrows(NullPointerException.class, () -> cache.policy().forEach(1, null));
+    assertThrows(NullPointerException.class, () -> cache.policy().reduce(1, null, Int::add));
+    assertThrows(NullPointerException.class,
+        () -> cache.policy().reduce(1, (key, value) -> value, null));
+  }
+
+  @CheckNoStats
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine,
+      removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void forEachParallel(Cache<Int, Int> cache, CacheContext context) {
+    for (long threshold : new long[] { 1, Long.MAX_VALUE }) {
+      var seen = new ConcurrentHashMap<Int, Int>();
+      cache.policy().forEach(threshold, (key, value) -> {
+        assertThat(seen.put(key, value)).isNull();
+      });
+      assertThat(seen).containsExactlyEntriesIn(context.original());
+    }
+  }
+
+  @CheckNoStats
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine,
+      removalListener = { Listener.DISABLED, Listener.REJECTING })
+  public void reduce(Cache<Int, Int> cache, CacheContext context) {
+    Int expected = context.original().values().stream().reduce(Int::add).orElse(null);
+    for (long threshold : new long[] { 1, Long.MAX_VALUE }) {
+      assertThat(cache.policy().reduce(threshold, (key, value) -> value, Int::add))
+          .isEqualTo(expected);
+      assertThat(cache.policy().reduce(threshold, (key, value) -> null, Int::add)).isNull();
+    }
+  }
+
   /* --------------- Policy: CacheEntry --------------- */
 
   @Test
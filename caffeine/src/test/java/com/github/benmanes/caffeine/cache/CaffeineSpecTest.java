@@ -69,6 +69,62 @@ public final class CaffeineSpecTest {
     assertThrows(IllegalArgumentException.class, () -> CaffeineSpec.parseTimeUnit("key", "value"));
   }
 
+  @Test
+  public void applyTo_null() {
+    var spec = CaffeineSpec.parse("maximumSize=10");
+    assertThrows(NullPointerException.class, () -> spec.applyTo(null));
+  }
+
+  @Test
+  public void applyTo_reconfigures() {
+    Cache<Object, Object> cache = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofMinutes(1))
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .refreshAfterWrite(Duration.ofSeconds(30))
+        .maximumSize(100)
+        .recordStats()
+        .build(key -> key);
+    var spec = CaffeineSpec.parse("maximumSize=50, expireAfterAccess=2m, "
+        + "expireAfterWrite=3m, refreshAfterWrite=1m, recordStats");
+
+    assertThat(spec.applyTo(cache.policy())).isEmpty();
+    assertThat(cache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(50L);
+    assertThat(cache.policy().expireAfterAccess().orElseThrow().getExpiresAfter())
+        .isEqualTo(Duration.ofMinutes(2));
+    assertThat(cache.policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+        .isEqualTo(Duration.ofMinutes(3));
+    assertThat(cache.policy().refreshAfterWrite().orElseThrow().getRefreshesAfter())
+        .isEqualTo(Duration.ofMinutes(1));
+  }
+
+  @Test
+  public void applyTo_partial() {
+    Cache<Object, Object> cache = Caffeine.newBuilder().maximumSize(100).build();
+    var spec = CaffeineSpec.parse("initialCapacity=10, maximumSize=50, expireAfterWrite=3m");
+
+    assertThat(spec.applyTo(cache.policy()))
+        .containsExactly("initialCapacity", "expireAfterWrite").inOrder();
+    assertThat(cache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(50L);
+  }
+
+  @Test
+  public void applyTo_unsupported() {
+    Cache<Object, Object> cache = Caffeine.newBuilder().build();
+    var spec = CaffeineSpec.parse("maximumWeight=50, expireAfterAccess=2m, "
+        + "refreshAfterWrite=1m, weakKeys, softValues, recordStats");
+
+    assertThat(spec.applyTo(cache.policy())).containsExactly("maximumWeight",
+        "expireAfterAccess", "refreshAfterWrite", "weakKeys", "softValues", "recordStats")
+        .inOrder();
+  }
+
+  @Test
+  public void applyTo_invalid() {
+    Cache<Object, Object> cache = Caffeine.newBuilder().maximumSize(100).build();
+    var spec = CaffeineSpec.parse("maximumSize=-1");
+    assertThrows(IllegalArgumentException.class, () -> spec.applyTo(cache.policy()));
+  }
+
   @Test(dataProvider = "caches")
   @CacheSpec(implementation = Implementation.Caffeine, population = Population.EMPTY,
       initialCapacity = {InitialCapacity.DEFAULT, InitialCapacity.FULL},
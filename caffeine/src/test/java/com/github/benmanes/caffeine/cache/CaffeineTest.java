@@ -389,6 +389,64 @@ public final class CaffeineTest {
     assertThat(builder.build()).isNotNull();
   }
 
+  /* --------------- admissionDoorkeeper --------------- */
+
+  @Test
+  public void admissionDoorkeeper_twice() {
+    var builder = Caffeine.newBuilder().admissionDoorkeeper();
+    assertThrows(IllegalStateException.class, builder::admissionDoorkeeper);
+  }
+
+  @Test
+  public void admissionDoorkeeper_unbounded() {
+    var builder = Caffeine.newBuilder().admissionDoorkeeper();
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  public void admissionDoorkeeper_toString() {
+    var builder = Caffeine.newBuilder().admissionDoorkeeper().maximumSize(10);
+    assertThat(builder.hasAdmissionDoorkeeper()).isTrue();
+    assertThat(builder.toString()).contains("admissionDoorkeeper");
+  }
+
+  @Test
+  public void admissionDoorkeeper_sketch() {
+    var cache = Caffeine.newBuilder().admissionDoorkeeper().maximumSize(10).build();
+    var sketch = CacheGroup.boundedLocalCacheOf(cache).frequencySketch();
+    assertThat(sketch.useDoorkeeper).isTrue();
+  }
+
+  /* --------------- coalesceWeightUpdates --------------- */
+
+  @Test
+  public void coalesceWeightUpdates_twice() {
+    var builder = Caffeine.newBuilder().coalesceWeightUpdates();
+    assertThrows(IllegalStateException.class, builder::coalesceWeightUpdates);
+  }
+
+  @Test
+  public void coalesceWeightUpdates_unbounded() {
+    var builder = Caffeine.newBuilder().coalesceWeightUpdates();
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  public void coalesceWeightUpdates_maximumSize() {
+    var builder = Caffeine.newBuilder().maximumSize(10).coalesceWeightUpdates();
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  public void coalesceWeightUpdates_toString() {
+    var builder = Caffeine.newBuilder()
+        .weigher(Weigher.singletonWeigher())
+        .coalesceWeightUpdates()
+        .maximumWeight(10);
+    assertThat(builder.isCoalescingWeights()).isTrue();
+    assertThat(builder.toString()).contains("coalesceWeightUpdates");
+  }
+
   /* --------------- expireAfterAccess --------------- */
 
   @Test
@@ -0,0 +1,533 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.ceilingPowerOfTwo;
+import static com.github.benmanes.caffeine.cache.Caffeine.requireArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compact storage of cache entries where each entry is identified by a slot index instead of
+ * being a separate object. The keys and values are held in object arrays, and the policy metadata
+ * is held in parallel primitive arrays so that an entry does not pay for an object header, a hash
+ * table node, or reference-sized links. The deque links are int indices into the arrays and the
+ * optional metadata arrays, such as the timestamps and weights, are only allocated when the
+ * configuration requires them.
+ * <p>
+ * The keys are located by an open addressing index that holds the slot of each entry. For a cache
+ * bounded by a maximum size this costs between 20 and 30 bytes per entry with compressed
+ * references, depending on the index's load factor. Each timestamp adds 8 bytes, a weight adds 4
+ * bytes, and the write order links add another 8 bytes. The arrays grow by doubling, so very large
+ * caches should be sized up front to avoid the transient cost of copying.
+ * <p>
+ * This class is not thread-safe and must be guarded by the caller, such as the eviction lock. The
+ * deques mirror the operations of {@link AccessOrderDeque} and {@link WriteOrderDeque} using slots
+ * in place of the nodes.
+ * <p>
+ * This is a prototype of the storage layout that is measured by {@code MemoryBenchmark}, and is not
+ * used by the caches.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+final class CompactNodeTable<K, V> {
+  /** The slot that represents the absence of an entry. */
+  static final int NIL = -1;
+  static final int MIN_CAPACITY = 16;
+
+  final IndexedDeque accessOrderWindowDeque;
+  final IndexedDeque accessOrderProbationDeque;
+  final IndexedDeque accessOrderProtectedDeque;
+  final @Nullable IndexedDeque writeOrderDeque;
+
+  @Nullable Object[] keys;
+  @Nullable Object[] values;
+  byte[] queueTypes;
+  int[] accessPrev;
+  int[] accessNext;
+  int @Nullable [] writePrev;
+  int @Nullable [] writeNext;
+  long @Nullable [] accessTimes;
+  long @Nullable [] writeTimes;
+  int @Nullable [] weights;
+
+  /** The open addressing table of slot + 1, where zero is an empty bucket. */
+  int[] index;
+  /** The head of the chain of released slots, which is linked through the access order. */
+  int freeHead;
+  /** The number of slots that have been allocated at least once. */
+  int allocated;
+  int size;
+
+  /**
+   * Creates a table with the given initial capacity and the metadata required by the configuration.
+   *
+   * @param initialCapacity the number of entries to size the arrays for
+   * @param weighted if the entries have a weight
+   * @param expiresAfterAccess if the entries record their access time
+   * @param expiresAfterWrite if the entries record their write time and are kept in write order
+   */
+  CompactNodeTable(int initialCapacity, boolean weighted,
+      boolean expiresAfterAccess, boolean expiresAfterWrite) {
+    requireArgument(initialCapacity >= 0);
+    int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+    keys = new Object[capacity];
+    values = new Object[capacity];
+    queueTypes = new byte[capacity];
+    accessPrev = new int[capacity];
+    accessNext = new int[capacity];
+    if (expiresAfterWrite) {
+      writePrev = new int[capacity];
+      writeNext = new int[capacity];
+      writeTimes = new long[capacity];
+    }
+    if (expiresAfterAccess) {
+      accessTimes = new long[capacity];
+    }
+    if (weighted) {
+      weights = new int[capacity];
+    }
+    index = new int[indexCapacityFor(capacity)];
+    freeHead = NIL;
+
+    accessOrderWindowDeque = new IndexedDeque(/* writeOrder */ false);
+    accessOrderProbationDeque = new IndexedDeque(/* writeOrder */ false);
+    accessOrderProtectedDeque = new IndexedDeque(/* writeOrder */ false);
+    writeOrderDeque = expiresAfterWrite ? new IndexedDeque(/* writeOrder */ true) : null;
+  }
+
+  /** Returns the number of entries in the table. */
+  int size() {
+    return size;
+  }
+
+  /** Returns the slot holding the key, or {@link #NIL} if absent. */
+  int find(Object key) {
+    int mask = index.length - 1;
+    for (int i = spread(key.hashCode()) & mask; ; i = (i + 1) & mask) {
+      int bucket = index[i];
+      if (bucket == 0) {
+        return NIL;
+      }
+      Object candidate = keys[bucket - 1];
+      if ((candidate == key) || key.equals(candidate)) {
+        return bucket - 1;
+      }
+    }
+  }
+
+  /**
+   * Adds the entry to the table in the window's queue type without linking it on a deque.
+   *
+   * @return the slot assigned to the entry
+   * @throws IllegalArgumentException if the key is already present
+   */
+  int add(K key, V value) {
+    requireNonNull(key);
+    requireNonNull(value);
+    requireArgument(find(key) == NIL, "The key is already present: %s", key);
+
+    if (((size + 1) << 2) > (3 * index.length)) {
+      rehash(index.length << 1);
+    }
+    int slot = allocate();
+    keys[slot] = key;
+    values[slot] = value;
+    queueTypes[slot] = Node.WINDOW;
+    accessPrev[slot] = NIL;
+    accessNext[slot] = NIL;
+    if (writeOrderDeque != null) {
+      requireNonNull(writePrev)[slot] = NIL;
+      requireNonNull(writeNext)[slot] = NIL;
+    }
+    insertIntoIndex(slot);
+    size++;
+    return slot;
+  }
+
+  /** Removes the entry from the table and from the deques that it is linked on. */
+  void remove(int slot) {
+    checkSlot(slot);
+    dequeOf(slot).remove(slot);
+    if (writeOrderDeque != null) {
+      writeOrderDeque.remove(slot);
+    }
+    removeFromIndex(slot);
+
+    keys[slot] = null;
+    values[slot] = null;
+    accessPrev[slot] = NIL;
+    accessNext[slot] = freeHead;
+    freeHead = slot;
+    size--;
+  }
+
+  /** Removes all of the entries. */
+  void clear() {
+    Arrays.fill(keys, null);
+    Arrays.fill(values, null);
+    Arrays.fill(index, 0);
+    accessOrderWindowDeque.reset();
+    accessOrderProbationDeque.reset();
+    accessOrderProtectedDeque.reset();
+    if (writeOrderDeque != null) {
+      writeOrderDeque.reset();
+    }
+    freeHead = NIL;
+    allocated = 0;
+    size = 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  K getKey(int slot) {
+    return (K) requireNonNull(keys[slot]);
+  }
+
+  @SuppressWarnings("unchecked")
+  V getValue(int slot) {
+    return (V) requireNonNull(values[slot]);
+  }
+
+  void setValue(int slot, V value) {
+    checkSlot(slot);
+    values[slot] = requireNonNull(value);
+  }
+
+  int getWeight(int slot) {
+    return (weights == null) ? 1 : weights[slot];
+  }
+
+  void setWeight(int slot, int weight) {
+    requireNonNull(weights)[slot] = weight;
+  }
+
+  long getAccessTime(int slot) {
+    return (accessTimes == null) ? 0L : accessTimes[slot];
+  }
+
+  void setAccessTime(int slot, long time) {
+    requireNonNull(accessTimes)[slot] = time;
+  }
+
+  long getWriteTime(int slot) {
+    return (writeTimes == null) ? 0L : writeTimes[slot];
+  }
+
+  void setWriteTime(int slot, long time) {
+    requireNonNull(writeTimes)[slot] = time;
+  }
+
+  int getQueueType(int slot) {
+    return queueTypes[slot];
+  }
+
+  /** Sets the queue type, which the caller must keep consistent with the deque it is linked on. */
+  void setQueueType(int slot, int queueType) {
+    queueTypes[slot] = (byte) queueType;
+  }
+
+  /** Returns the access order deque that corresponds to the entry's queue type. */
+  IndexedDeque dequeOf(int slot) {
+    switch (queueTypes[slot]) {
+      case Node.WINDOW:
+        return accessOrderWindowDeque;
+      case Node.PROBATION:
+        return accessOrderProbationDeque;
+      case Node.PROTECTED:
+        return accessOrderProtectedDeque;
+      default:
+        throw new IllegalStateException("Unknown queue type: " + queueTypes[slot]);
+    }
+  }
+
+  private void checkSlot(int slot) {
+    if ((slot < 0) || (slot >= allocated) || (keys[slot] == null)) {
+      throw new IllegalArgumentException("Not an occupied slot: " + slot);
+    }
+  }
+
+  /** Returns a free slot, growing the arrays if all of the slots are occupied. */
+  private int allocate() {
+    if (freeHead != NIL) {
+      int slot = freeHead;
+      freeHead = accessNext[slot];
+      return slot;
+    }
+    if (allocated == keys.length) {
+      resize(Math.max(MIN_CAPACITY, keys.length << 1));
+    }
+    return allocated++;
+  }
+
+  private void resize(int capacity) {
+    keys = Arrays.copyOf(keys, capacity);
+    values = Arrays.copyOf(values, capacity);
+    queueTypes = Arrays.copyOf(queueTypes, capacity);
+    accessPrev = Arrays.copyOf(accessPrev, capacity);
+    accessNext = Arrays.copyOf(accessNext, capacity);
+    if (writePrev != null) {
+      writePrev = Arrays.copyOf(writePrev, capacity);
+    }
+    if (writeNext != null) {
+      writeNext = Arrays.copyOf(writeNext, capacity);
+    }
+    if (writeTimes != null) {
+      writeTimes = Arrays.copyOf(writeTimes, capacity);
+    }
+    if (accessTimes != null) {
+      accessTimes = Arrays.copyOf(accessTimes, capacity);
+    }
+    if (weights != null) {
+      weights = Arrays.copyOf(weights, capacity);
+    }
+  }
+
+  private void rehash(int capacity) {
+    index = new int[capacity];
+    for (int slot = 0; slot < allocated; slot++) {
+      if (keys[slot] != null) {
+        insertIntoIndex(slot);
+      }
+    }
+  }
+
+  private void insertIntoIndex(int slot) {
+    int mask = index.length - 1;
+    int i = spread(requireNonNull(keys[slot]).hashCode()) & mask;
+    while (index[i] != 0) {
+      i = (i + 1) & mask;
+    }
+    index[i] = slot + 1;
+  }
+
+  /** Removes the slot from the index by shifting back the entries that probed past it. */
+  private void removeFromIndex(int slot) {
+    int mask = index.length - 1;
+    int i = spread(requireNonNull(keys[slot]).hashCode()) & mask;
+    while (index[i] != (slot + 1)) {
+      i = (i + 1) & mask;
+    }
+    for (int j = i; ; ) {
+      j = (j + 1) & mask;
+      int bucket = index[j];
+      if (bucket == 0) {
+        break;
+      }
+      int home = spread(requireNonNull(keys[bucket - 1]).hashCode()) & mask;
+      boolean reachable = (i <= j) ? ((i < home) && (home <= j)) : ((i < home) || (home <= j));
+      if (!reachable) {
+        index[i] = bucket;
+        i = j;
+      }
+    }
+    index[i] = 0;
+  }
+
+  /** Returns the index capacity that keeps the load factor under 75% for the slot capacity. */
+  static int indexCapacityFor(int capacity) {
+    return ceilingPowerOfTwo((int) Math.min(1L << 30, ((4L * capacity) / 3) + 1));
+  }
+
+  /** Applies a supplemental hash function to defend against poor quality hash codes. */
+  static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+
+  /** A doubly-linked deque of slots, whose links are held by the table's arrays. */
+  final class IndexedDeque {
+    final boolean writeOrder;
+
+    int first;
+    int last;
+    int size;
+
+    IndexedDeque(boolean writeOrder) {
+      this.writeOrder = writeOrder;
+      this.first = NIL;
+      this.last = NIL;
+    }
+
+    boolean isEmpty() {
+      return (first == NIL);
+    }
+
+    int size() {
+      return size;
+    }
+
+    /** Returns the first slot, or {@link #NIL} if empty. */
+    int peekFirst() {
+      return first;
+    }
+
+    /** Returns the last slot, or {@link #NIL} if empty. */
+    int peekLast() {
+      return last;
+    }
+
+    int getPrevious(int slot) {
+      return writeOrder ? requireNonNull(writePrev)[slot] : accessPrev[slot];
+    }
+
+    int getNext(int slot) {
+      return writeOrder ? requireNonNull(writeNext)[slot] : accessNext[slot];
+    }
+
+    private void setPrevious(int slot, int previous) {
+      if (writeOrder) {
+        requireNonNull(writePrev)[slot] = previous;
+      } else {
+        accessPrev[slot] = previous;
+      }
+    }
+
+    private void setNext(int slot, int next) {
+      if (writeOrder) {
+        requireNonNull(writeNext)[slot] = next;
+      } else {
+        accessNext[slot] = next;
+      }
+    }
+
+    // A fast-path containment check
+    boolean contains(int slot) {
+      return (getPrevious(slot) != NIL) || (getNext(slot) != NIL) || (slot == first);
+    }
+
+    void offerFirst(int slot) {
+      int f = first;
+      first = slot;
+      if (f == NIL) {
+        last = slot;
+      } else {
+        setPrevious(f, slot);
+        setNext(slot, f);
+      }
+      size++;
+    }
+
+    void offerLast(int slot) {
+      int l = last;
+      last = slot;
+      if (l == NIL) {
+        first = slot;
+      } else {
+        setNext(l, slot);
+        setPrevious(slot, l);
+      }
+      size++;
+    }
+
+    /** Removes and returns the first slot, or {@link #NIL} if empty. */
+    int pollFirst() {
+      int f = first;
+      if (f != NIL) {
+        unlink(f);
+      }
+      return f;
+    }
+
+    // A fast-path removal
+    boolean remove(int slot) {
+      if (contains(slot)) {
+        unlink(slot);
+        return true;
+      }
+      return false;
+    }
+
+    void moveToFront(int slot) {
+      if (slot != first) {
+        unlink(slot);
+        offerFirst(slot);
+      }
+    }
+
+    void moveToBack(int slot) {
+      if (slot != last) {
+        unlink(slot);
+        offerLast(slot);
+      }
+    }
+
+    void unlink(int slot) {
+      int prev = getPrevious(slot);
+      int next = getNext(slot);
+      if (prev == NIL) {
+        first = next;
+      } else {
+        setNext(prev, next);
+        setPrevious(slot, NIL);
+      }
+      if (next == NIL) {
+        last = prev;
+      } else {
+        setPrevious(next, prev);
+        setNext(slot, NIL);
+      }
+      size--;
+    }
+
+    void reset() {
+      first = NIL;
+      last = NIL;
+      size = 0;
+    }
+
+    /** Returns the slots from first to last. */
+    PrimitiveIterator.OfInt iterator() {
+      return new SlotIterator(first, /* ascending */ true);
+    }
+
+    /** Returns the slots from last to first. */
+    PrimitiveIterator.OfInt descendingIterator() {
+      return new SlotIterator(last, /* ascending */ false);
+    }
+
+    final class SlotIterator implements PrimitiveIterator.OfInt {
+      final boolean ascending;
+      int cursor;
+
+      SlotIterator(int start, boolean ascending) {
+        this.ascending = ascending;
+        this.cursor = start;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return (cursor != NIL);
+      }
+
+      @Override
+      public int nextInt() {
+        if (cursor == NIL) {
+          throw new NoSuchElementException();
+        }
+        int slot = cursor;
+        cursor = ascending ? getNext(slot) : getPrevious(slot);
+        return slot;
+      }
+    }
+  }
+}
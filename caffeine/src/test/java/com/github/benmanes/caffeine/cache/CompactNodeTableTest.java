@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.github.benmanes.caffeine.cache.CompactNodeTable.NIL;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class CompactNodeTableTest {
+
+  @Test
+  public void add_find() {
+    var table = newTable();
+    for (int i = 0; i < 1_000; i++) {
+      int slot = table.add(i, -i);
+      assertThat(table.getKey(slot)).isEqualTo(i);
+      assertThat(table.getValue(slot)).isEqualTo(-i);
+    }
+    assertThat(table.size()).isEqualTo(1_000);
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(table.getValue(table.find(i))).isEqualTo(-i);
+    }
+    assertThat(table.find(1_000)).isEqualTo(NIL);
+  }
+
+  @Test
+  public void add_duplicate() {
+    var table = newTable();
+    table.add(1, 1);
+    assertThrows(IllegalArgumentException.class, () -> table.add(1, 2));
+  }
+
+  @Test
+  public void remove_collisions() {
+    var table = new CompactNodeTable<CollidingKey, Integer>(0, false, false, false);
+    var keys = new ArrayList<CollidingKey>();
+    for (int i = 0; i < 100; i++) {
+      var key = new CollidingKey(i);
+      table.add(key, i);
+      keys.add(key);
+    }
+    for (int i = 0; i < 100; i += 2) {
+      table.remove(table.find(keys.get(i)));
+    }
+    for (int i = 0; i < 100; i++) {
+      int slot = table.find(keys.get(i));
+      if ((i % 2) == 0) {
+        assertThat(slot).isEqualTo(NIL);
+      } else {
+        assertThat(table.getValue(slot)).isEqualTo(i);
+      }
+    }
+  }
+
+  @Test
+  public void remove_reusesSlot() {
+    var table = newTable();
+    int slot = table.add(1, 1);
+    table.add(2, 2);
+    table.remove(slot);
+    assertThat(table.find(1)).isEqualTo(NIL);
+    assertThat(table.add(3, 3)).isEqualTo(slot);
+    assertThat(table.size()).isEqualTo(2);
+    assertThrows(IllegalArgumentException.class, () -> table.remove(table.allocated));
+  }
+
+  @Test
+  public void remove_random() {
+    var random = new Random(1_000);
+    var table = newTable();
+    var present = new ArrayList<Integer>();
+    for (int i = 0; i < 10_000; i++) {
+      if (present.isEmpty() || random.nextBoolean()) {
+        int key = random.nextInt();
+        if (table.find(key) == NIL) {
+          table.accessOrderWindowDeque.offerLast(table.add(key, key));
+          present.add(key);
+        }
+      } else {
+        int key = present.remove(random.nextInt(present.size()));
+        table.remove(table.find(key));
+      }
+    }
+    assertThat(table.size()).isEqualTo(present.size());
+    assertThat(table.accessOrderWindowDeque.size()).isEqualTo(present.size());
+    for (int key : present) {
+      assertThat(table.getValue(table.find(key))).isEqualTo(key);
+    }
+  }
+
+  @Test
+  public void deque_accessOrder() {
+    var table = newTable();
+    var deque = table.accessOrderProbationDeque;
+    int a = table.add(1, 1);
+    int b = table.add(2, 2);
+    int c = table.add(3, 3);
+    for (int slot : new int[] { a, b, c }) {
+      table.setQueueType(slot, Node.PROBATION);
+      deque.offerLast(slot);
+    }
+    assertThat(slots(deque.iterator())).containsExactly(a, b, c).inOrder();
+
+    deque.moveToBack(a);
+    assertThat(slots(deque.iterator())).containsExactly(b, c, a).inOrder();
+    deque.moveToFront(c);
+    assertThat(slots(deque.descendingIterator())).containsExactly(a, b, c).inOrder();
+
+    table.remove(b);
+    assertThat(deque.size()).isEqualTo(2);
+    assertThat(deque.contains(b)).isFalse();
+    assertThat(deque.pollFirst()).isEqualTo(c);
+    assertThat(deque.pollFirst()).isEqualTo(a);
+    assertThat(deque.pollFirst()).isEqualTo(NIL);
+    assertThat(deque.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void deque_writeOrder() {
+    var table = new CompactNodeTable<Integer, Integer>(0, true, true, true);
+    var writeOrder = table.writeOrderDeque;
+    assertThat(writeOrder).isNotNull();
+
+    int a = table.add(1, 1);
+    int b = table.add(2, 2);
+    table.accessOrderWindowDeque.offerLast(a);
+    table.accessOrderWindowDeque.offerLast(b);
+    writeOrder.offerLast(b);
+    writeOrder.offerLast(a);
+    table.setWeight(a, 5);
+    table.setWriteTime(a, 10L);
+    table.setAccessTime(a, 20L);
+
+    assertThat(table.getWeight(a)).isEqualTo(5);
+    assertThat(table.getWriteTime(a)).isEqualTo(10L);
+    assertThat(table.getAccessTime(a)).isEqualTo(20L);
+    assertThat(slots(writeOrder.iterator())).containsExactly(b, a).inOrder();
+    assertThat(slots(table.accessOrderWindowDeque.iterator())).containsExactly(a, b).inOrder();
+
+    table.remove(a);
+    assertThat(slots(writeOrder.iterator())).containsExactly(b);
+    assertThat(slots(table.accessOrderWindowDeque.iterator())).containsExactly(b);
+  }
+
+  @Test
+  public void optionalMetadata() {
+    var table = newTable();
+    int slot = table.add(1, 1);
+    assertThat(table.writeOrderDeque).isNull();
+    assertThat(table.getWeight(slot)).isEqualTo(1);
+    assertThat(table.getAccessTime(slot)).isEqualTo(0L);
+    assertThat(table.getWriteTime(slot)).isEqualTo(0L);
+    assertThrows(NullPointerException.class, () -> table.setWeight(slot, 2));
+  }
+
+  @Test
+  public void clear() {
+    var table = newTable();
+    for (int i = 0; i < 100; i++) {
+      table.accessOrderWindowDeque.offerLast(table.add(i, i));
+    }
+    table.clear();
+    assertThat(table.size()).isEqualTo(0);
+    assertThat(table.find(1)).isEqualTo(NIL);
+    assertThat(table.accessOrderWindowDeque.isEmpty()).isTrue();
+    assertThat(table.add(1, 1)).isEqualTo(0);
+  }
+
+  private static CompactNodeTable<Integer, Integer> newTable() {
+    return new CompactNodeTable<>(0, false, false, false);
+  }
+
+  private static List<Integer> slots(PrimitiveIterator.OfInt iterator) {
+    var slots = new ArrayList<Integer>();
+    iterator.forEachRemaining((int slot) -> slots.add(slot));
+    return slots;
+  }
+
+  static final class CollidingKey {
+    final int id;
+
+    CollidingKey(int id) {
+      this.id = id;
+    }
+    @Override public boolean equals(Object o) {
+      return (o instanceof CollidingKey) && (((CollidingKey) o).id == id);
+    }
+    @Override public int hashCode() {
+      return 42;
+    }
+  }
+}
@@ -1237,4 +1237,104 @@ public final class EvictionTest {
     coldest.remove(context.lastKey());
     assertThat(coldest).containsExactlyElementsIn(keys).inOrder();
   }
+
+  /* --------------- Policy: Chunked --------------- */
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine, maximumSize = Maximum.FULL)
+  public void inChunks_nonPositive(CacheContext context, Eviction<Int, Int> eviction) {
+    assertThrows(IllegalArgumentException.class, () -> eviction.coldestInChunks(0));
+    assertThrows(IllegalArgumentException.class, () -> eviction.hottestInChunks(-1));
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine, population = Population.FULL,
+      initialCapacity = InitialCapacity.EXCESSIVE, maximumSize = Maximum.FULL,
+      weigher = {CacheWeigher.DISABLED, CacheWeigher.TEN},
+      removalListener = {Listener.DISABLED, Listener.REJECTING})
+  public void coldestInChunks_order(CacheContext context, Eviction<Int, Int> eviction) {
+    var expected = eviction.coldest(stream -> stream
+        .map(Map.Entry::getKey).collect(toImmutableList()));
+    for (int chunkSize : new int[] { 1, 7, Integer.MAX_VALUE }) {
+      var coldest = eviction.coldestInChunks(chunkSize)
+          .map(Map.Entry::getKey).collect(toImmutableList());
+      assertThat(coldest).containsExactlyElementsIn(expected).inOrder();
+    }
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine, population = Population.FULL,
+      initialCapacity = InitialCapacity.EXCESSIVE, maximumSize = Maximum.FULL,
+      weigher = {CacheWeigher.DISABLED, CacheWeigher.TEN},
+      removalListener = {Listener.DISABLED, Listener.REJECTING})
+  public void hottestInChunks_order(CacheContext context, Eviction<Int, Int> eviction) {
+    var expected = eviction.hottest(stream -> stream
+        .map(Map.Entry::getKey).collect(toImmutableList()));
+    for (int chunkSize : new int[] { 1, 7, Integer.MAX_VALUE }) {
+      var hottest = eviction.hottestInChunks(chunkSize)
+          .map(Map.Entry::getKey).collect(toImmutableList());
+      assertThat(hottest).containsExactlyElementsIn(expected).inOrder();
+    }
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine, population = Population.FULL,
+      initialCapacity = InitialCapacity.EXCESSIVE, maximumSize = Maximum.FULL,
+      removalListener = {Listener.DISABLED, Listener.REJECTING})
+  public void coldestInChunks_reordered(Cache<Int, Int> cache,
+      CacheContext context, Eviction<Int, Int> eviction) {
+    var keys = new LinkedHashSet<Int>();
+    var iterator = eviction.coldestInChunks(2).iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      assertThat(keys.add(entry.getKey())).isTrue();
+      assertThat(context).containsEntry(entry);
+
+      // Reorder the entries while the traversal is paused
+      if ((keys.size() % 5) == 0) {
+        for (var key : context.original().keySet()) {
+          cache.getIfPresent(key);
+        }
+        cache.cleanUp();
+      }
+    }
+    assertThat(keys).containsExactlyElementsIn(context.original().keySet());
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine, population = Population.FULL,
+      initialCapacity = InitialCapacity.EXCESSIVE, maximumSize = Maximum.FULL,
+      removalListener = {Listener.DISABLED, Listener.REJECTING})
+  public void hottestInChunks_reordered(Cache<Int, Int> cache,
+      CacheContext context, Eviction<Int, Int> eviction) {
+    var keys = new LinkedHashSet<Int>();
+    var iterator = eviction.hottestInChunks(2).iterator();
+    while (iterator.hasNext()) {
+      assertThat(keys.add(iterator.next().getKey())).isTrue();
+      if ((keys.size() % 5) == 0) {
+        cache.getIfPresent(context.lastKey());
+        cache.invalidate(context.firstKey());
+        cache.cleanUp();
+      }
+    }
+    assertThat(context.original().keySet()).containsAtLeastElementsIn(keys);
+  }
+
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine, population = Population.FULL,
+      initialCapacity = InitialCapacity.EXCESSIVE, maximumSize = Maximum.FULL,
+      removalListener = {Listener.DISABLED, Listener.REJECTING})
+  public void coldestInChunks_reorderedEveryChunk(Cache<Int, Int> cache,
+      CacheContext context, Eviction<Int, Int> eviction) {
+    var keys = new LinkedHashSet<Int>();
+    var iterator = eviction.coldestInChunks(1).iterator();
+    while (iterator.hasNext()) {
+      assertThat(keys.add(iterator.next().getKey())).isTrue();
+      for (var key : context.original().keySet()) {
+        cache.getIfPresent(key);
+      }
+      cache.cleanUp();
+    }
+    assertThat(keys).containsExactlyElementsIn(context.original().keySet());
+  }
 }
@@ -47,6 +47,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.mockito.ArgumentCaptor;
@@ -1686,6 +1687,26 @@ public final class ExpirationTest {
     assertThat(cache.policy().getIfPresentQuietly(context.firstKey())).isNull();
   }
 
+  @CheckNoStats
+  @Test(dataProvider = "caches")
+  @CacheSpec(implementation = Implementation.Caffeine,
+    population = { Population.SINGLETON, Population.PARTIAL, Population.FULL },
+    expiryTime = Expire.ONE_MINUTE, mustExpireWithAnyOf = { AFTER_ACCESS, AFTER_WRITE, VARIABLE },
+    expiry = { CacheExpiry.DISABLED, CacheExpiry.CREATE, CacheExpiry.WRITE, CacheExpiry.ACCESS },
+    expireAfterAccess = {Expire.DISABLED, Expire.ONE_MINUTE},
+    expireAfterWrite = {Expire.DISABLED, Expire.ONE_MINUTE})
+  public void forEachParallel_expired(Cache<Int, Int> cache, CacheContext context) {
+    context.ticker().advance(Duration.ofSeconds(30));
+    cache.put(context.absentKey(), context.absentValue());
+    context.ticker().advance(Duration.ofSeconds(45));
+
+    var seen = new ConcurrentHashMap<Int, Int>();
+    cache.policy().forEach(/* parallelismThreshold */ 1, seen::put);
+    assertThat(seen).containsExactly(context.absentKey(), context.absentValue());
+    assertThat(cache.policy().reduce(/* parallelismThreshold */ 1,
+        (key, value) -> 1L, Long::sum)).isEqualTo(1L);
+  }
+
   /**
    * Ensures that variable expiration is run, as it may not have due to expiring in coarse batches.
    */
@@ -18,6 +18,8 @@ package com.github.benmanes.caffeine.cache;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.testng.annotations.DataProvider;
@@ -117,6 +119,71 @@ public final class FrequencySketchTest {
     assertThat(sketch.size).isAtMost(sketch.sampleSize / 2);
   }
 
+  @Test
+  public void reset_oddCounters() {
+    FrequencySketch<Integer> sketch = makeSketch(512);
+    int odd = 0;
+    for (int i = 0; i < sketch.table.length; i++) {
+      sketch.table[i] = ThreadLocalRandom.current().nextLong();
+      odd += Long.bitCount(sketch.table[i] & FrequencySketch.ONE_MASK);
+    }
+    long[] expected = Arrays.stream(sketch.table)
+        .map(slot -> (slot >>> 1) & FrequencySketch.RESET_MASK)
+        .toArray();
+    sketch.size = sketch.sampleSize - 1;
+    int size = (sketch.size - (odd >>> 2)) >>> 1;
+
+    sketch.reset();
+    assertThat(sketch.size).isEqualTo(size);
+    assertThat(sketch.table).isEqualTo(expected);
+  }
+
+  @Test
+  public void age_incremental() {
+    FrequencySketch<Integer> sketch = makeSketch(4 * FrequencySketch.AGING_SLICE);
+    for (int i = 0; i < sketch.table.length; i++) {
+      sketch.table[i] = ThreadLocalRandom.current().nextLong();
+    }
+    long[] expected = Arrays.stream(sketch.table)
+        .map(slot -> (slot >>> 1) & FrequencySketch.RESET_MASK)
+        .toArray();
+
+    sketch.age();
+    assertThat(sketch.isAging()).isFalse();
+
+    sketch.size = sketch.sampleSize - 1;
+    sketch.recordAddition();
+    assertThat(sketch.isAging()).isTrue();
+    assertThat(sketch.size).isEqualTo(sketch.sampleSize);
+
+    for (int i = 1; i <= 4; i++) {
+      assertThat(sketch.isAging()).isTrue();
+      sketch.age();
+      assertThat(sketch.agingIndex).isEqualTo(i * FrequencySketch.AGING_SLICE);
+    }
+    assertThat(sketch.isAging()).isFalse();
+    assertThat(sketch.size).isLessThan(sketch.sampleSize / 2);
+    assertThat(sketch.table).isEqualTo(expected);
+  }
+
+  @Test
+  public void age_resetCompletes() {
+    FrequencySketch<Integer> sketch = makeSketch(4 * FrequencySketch.AGING_SLICE);
+    sketch.sampleSize = Integer.MAX_VALUE;
+    for (int i = 0; i < 100_000; i++) {
+      sketch.increment(i);
+    }
+    long[] expected = Arrays.stream(sketch.table)
+        .map(slot -> (slot >>> 1) & FrequencySketch.RESET_MASK)
+        .toArray();
+
+    sketch.agingIndex = 0;
+    sketch.age();
+    sketch.reset();
+    assertThat(sketch.isAging()).isFalse();
+    assertThat(sketch.table).isEqualTo(expected);
+  }
+
   @Test
   public void full() {
     FrequencySketch<Integer> sketch = makeSketch(512);
@@ -134,6 +201,96 @@ public final class FrequencySketchTest {
     }
   }
 
+  @Test
+  public void doorkeeper_ensureCapacity() {
+    var sketch = new FrequencySketch<Integer>(/* useDoorkeeper */ true);
+    sketch.ensureCapacity(512);
+    assertThat(sketch.table).hasLength(512 >>> FrequencySketch.DOORKEEPER_SHIFT);
+    assertThat(sketch.doorkeeper).hasLength(512 >>> FrequencySketch.DOORKEEPER_SHIFT);
+    assertThat(sketch.blockMask).isEqualTo((sketch.table.length >> 3) - 1);
+    assertThat(sketch.sampleSize).isEqualTo(10 * 512);
+
+    sketch.ensureCapacity(256);
+    assertThat(sketch.table).hasLength(512 >>> FrequencySketch.DOORKEEPER_SHIFT);
+  }
+
+  @Test
+  public void doorkeeper_increment_once() {
+    var sketch = new FrequencySketch<Integer>(/* useDoorkeeper */ true);
+    sketch.ensureCapacity(512);
+
+    sketch.increment(item);
+    assertThat(sketch.size).isEqualTo(1);
+    assertThat(sketch.frequency(item)).isEqualTo(1);
+    assertThat(Arrays.stream(sketch.table).allMatch(slot -> slot == 0L)).isTrue();
+  }
+
+  @Test
+  public void doorkeeper_increment_max() {
+    var sketch = new FrequencySketch<Integer>(/* useDoorkeeper */ true);
+    sketch.ensureCapacity(512);
+    for (int i = 0; i < 20; i++) {
+      sketch.increment(item);
+    }
+    assertThat(sketch.frequency(item)).isEqualTo(15);
+  }
+
+  @Test
+  public void doorkeeper_reset() {
+    var sketch = new FrequencySketch<Integer>(/* useDoorkeeper */ true);
+    sketch.ensureCapacity(512);
+    for (int i = 0; i < 3; i++) {
+      sketch.increment(item);
+    }
+    assertThat(sketch.frequency(item)).isEqualTo(3);
+
+    sketch.reset();
+    assertThat(sketch.frequency(item)).isEqualTo(1);
+    assertThat(Arrays.stream(sketch.doorkeeper).allMatch(slot -> slot == 0L)).isTrue();
+  }
+
+  @Test
+  public void doorkeeper_falsePositiveRate() {
+    var sketch = new FrequencySketch<Integer>(/* useDoorkeeper */ true);
+    sketch.ensureCapacity(4096);
+    for (int i = 0; i < 4096; i++) {
+      sketch.increment(i);
+    }
+
+    int falsePositives = 0;
+    int probes = 100_000;
+    for (int i = 4096; i < (4096 + probes); i++) {
+      if (sketch.frequency(i) > 0) {
+        falsePositives++;
+      }
+    }
+    assertThat((double) falsePositives / probes).isLessThan(0.01);
+  }
+
+  @Test
+  public void doorkeeper_falsePositiveRate_counterCollisions() {
+    var sketch = new FrequencySketch<Integer>(/* useDoorkeeper */ true);
+    sketch.ensureCapacity(4096);
+    var counters = new HashSet<Long>();
+    for (int i = 0; i < 4096; i++) {
+      counters.add(countersOf(sketch, i));
+      sketch.increment(i);
+    }
+
+    // Probe the absent elements that share all of their counters with a present element
+    int probes = 0;
+    int falsePositives = 0;
+    for (int i = 4096; probes < 2_000; i++) {
+      if (counters.contains(countersOf(sketch, i))) {
+        probes++;
+        if (sketch.frequency(i) > 0) {
+          falsePositives++;
+        }
+      }
+    }
+    assertThat((double) falsePositives / probes).isLessThan(0.02);
+  }
+
   @Test
   public void heavyHitters() {
     FrequencySketch<Double> sketch = makeSketch(512);
@@ -169,6 +326,17 @@ public final class FrequencySketchTest {
     return new Object[][] {{ makeSketch(512) }};
   }
 
+  /** Returns the block and the four counters of the element, packed into a single value. */
+  private static long countersOf(FrequencySketch<?> sketch, Object e) {
+    int blockHash = FrequencySketch.spread(e.hashCode());
+    int counterHash = FrequencySketch.rehash(blockHash);
+    long counters = blockHash & sketch.blockMask;
+    for (int i = 0; i < 4; i++) {
+      counters = (counters << 5) | ((counterHash >>> (i << 3)) & 31);
+    }
+    return counters;
+  }
+
   private static <E> FrequencySketch<E> makeSketch(long maximumSize) {
     var sketch = new FrequencySketch<E>();
     sketch.ensureCapacity(maximumSize);
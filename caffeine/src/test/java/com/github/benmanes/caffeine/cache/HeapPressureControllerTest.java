@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.github.benmanes.caffeine.cache.HeapPressureController.COOL_DOWN_NANOS;
+import static com.github.benmanes.caffeine.cache.HeapPressureController.GC_NOTIFICATION;
+import static com.github.benmanes.caffeine.cache.HeapPressureController.HIGH_WATERMARK;
+import static com.github.benmanes.caffeine.cache.HeapPressureController.LOW_WATERMARK;
+import static com.github.benmanes.caffeine.cache.HeapPressureController.MAJOR_GC_ACTION;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+import javax.management.Notification;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+
+import org.testng.annotations.Test;
+
+import com.google.common.testing.FakeTicker;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class HeapPressureControllerTest {
+
+  @Test
+  public void start_unbounded() {
+    var cache = Caffeine.newBuilder().build();
+    assertThrows(IllegalArgumentException.class, () -> HeapPressureController.start(cache, 0));
+  }
+
+  @Test
+  public void start_invalidMinimum() {
+    var cache = newCache(100);
+    assertThrows(IllegalArgumentException.class, () -> HeapPressureController.start(cache, -1));
+    assertThrows(IllegalArgumentException.class, () -> HeapPressureController.start(cache, 101));
+  }
+
+  @Test
+  public void start_close() {
+    var cache = newCache(100);
+    var controller = HeapPressureController.start(cache, 10);
+    assertThat(controller.minimum()).isEqualTo(10);
+    assertThat(controller.maximum()).isEqualTo(100);
+
+    controller.close();
+    assertThat(controller.emitters).isEmpty();
+    assertThat(controller.collectors).isEmpty();
+    assertThat(controller.tenured).isEmpty();
+
+    controller.adjust(1.0);
+    assertThat(maximumOf(cache)).isEqualTo(100);
+    controller.close();
+  }
+
+  @Test
+  public void adjust_shrink() {
+    var cache = newCache(1_000);
+    var controller = newController(cache, 800);
+    for (int i = 0; i < 1_000; i++) {
+      cache.put(i, i);
+    }
+
+    controller.adjust(HIGH_WATERMARK);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+    assertThat(cache.estimatedSize()).isEqualTo(900);
+
+    controller.adjust(1.0);
+    assertThat(maximumOf(cache)).isEqualTo(810);
+
+    controller.adjust(1.0);
+    assertThat(maximumOf(cache)).isEqualTo(800);
+  }
+
+  @Test
+  public void adjust_hysteresis() {
+    var cache = newCache(1_000);
+    var controller = newController(cache, 0);
+
+    controller.adjust(HIGH_WATERMARK);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+
+    controller.adjust((HIGH_WATERMARK + LOW_WATERMARK) / 2);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+  }
+
+  @Test
+  public void adjust_grow() {
+    var cache = newCache(1_000);
+    var controller = newController(cache, 0);
+    controller.adjust(HIGH_WATERMARK);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+
+    for (int i = 1; i <= 5; i++) {
+      controller.adjust(LOW_WATERMARK);
+      assertThat(maximumOf(cache)).isEqualTo(Math.min(1_000, 900 + (20 * i)));
+    }
+    for (int i = 0; i < 10; i++) {
+      controller.adjust(0.0);
+    }
+    assertThat(maximumOf(cache)).isEqualTo(1_000);
+  }
+
+  @Test
+  public void adjust_coolDown() {
+    var ticker = new FakeTicker();
+    var cache = newCache(1_000);
+    var controller = newController(cache, ticker, 0);
+
+    controller.adjust(1.0);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+
+    ticker.advance(Duration.ofNanos(COOL_DOWN_NANOS - 1));
+    controller.adjust(1.0);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+
+    ticker.advance(Duration.ofNanos(1));
+    controller.adjust(1.0);
+    assertThat(maximumOf(cache)).isEqualTo(810);
+  }
+
+  @Test
+  public void onCollection_sameCount() {
+    var cache = newCache(1_000);
+    var controller = newController(cache, 0);
+
+    controller.onCollection(1, 1.0);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+
+    controller.onCollection(1, 1.0);
+    assertThat(maximumOf(cache)).isEqualTo(900);
+
+    controller.onCollection(2, 1.0);
+    assertThat(maximumOf(cache)).isEqualTo(810);
+  }
+
+  @Test
+  public void adjust_outsideMonitor() {
+    var holdsLock = new ArrayList<Boolean>();
+    var controller = new HeapPressureController[1];
+    Cache<Integer, Integer> cache = Caffeine.newBuilder()
+        .evictionListener((key, value, cause) -> holdsLock.add(Thread.holdsLock(controller[0])))
+        .executor(Runnable::run)
+        .maximumSize(10)
+        .build();
+    controller[0] = newController(cache, 0);
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, i);
+    }
+
+    controller[0].adjust(1.0);
+    assertThat(maximumOf(cache)).isEqualTo(9);
+    assertThat(holdsLock).containsExactly(false);
+  }
+
+  @Test
+  public void onNotification_minor() throws OpenDataException {
+    var tasks = new ArrayList<Runnable>();
+    var cache = newCache(1_000);
+    var eviction = cache.policy().eviction().orElseThrow();
+    var controller = new HeapPressureController(eviction, tasks::add, new FakeTicker()::read, 0);
+
+    controller.onNotification(newNotification(GC_NOTIFICATION, "end of minor GC"), null);
+    controller.onNotification(newNotification("other", MAJOR_GC_ACTION), null);
+    assertThat(tasks).isEmpty();
+
+    controller.onNotification(newNotification(GC_NOTIFICATION, MAJOR_GC_ACTION), null);
+    assertThat(tasks).hasSize(1);
+  }
+
+  private static Notification newNotification(String type, String action)
+      throws OpenDataException {
+    var compositeType = new CompositeType("GarbageCollectionNotificationInfo", "gc",
+        new String[] { "gcAction" }, new String[] { "gcAction" },
+        new OpenType<?>[] { SimpleType.STRING });
+    var notification = new Notification(type, "collector", 1L);
+    notification.setUserData(new CompositeDataSupport(compositeType,
+        new String[] { "gcAction" }, new Object[] { action }));
+    return notification;
+  }
+
+  private static Cache<Integer, Integer> newCache(long maximumSize) {
+    return Caffeine.newBuilder().executor(Runnable::run).maximumSize(maximumSize).build();
+  }
+
+  private static HeapPressureController newController(Cache<?, ?> cache, long minimum) {
+    var ticker = new FakeTicker().setAutoIncrementStep(Duration.ofNanos(COOL_DOWN_NANOS));
+    return newController(cache, ticker, minimum);
+  }
+
+  private static HeapPressureController newController(
+      Cache<?, ?> cache, FakeTicker ticker, long minimum) {
+    var eviction = cache.policy().eviction().orElseThrow();
+    return new HeapPressureController(eviction, Runnable::run, ticker::read, minimum);
+  }
+
+  private static long maximumOf(Cache<?, ?> cache) {
+    return cache.policy().eviction().orElseThrow().getMaximum();
+  }
+}
@@ -20,6 +20,7 @@ import static com.github.benmanes.caffeine.cache.testing.CacheSubject.assertThat
 import static com.github.benmanes.caffeine.testing.MapSubject.assertThat;
 import static com.google.common.truth.Truth.assertAbout;
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
 import static org.junit.Assert.assertThrows;
 
 import java.lang.ref.WeakReference;
@@ -134,6 +135,61 @@ public final class InternerTest extends TestCase {
     assertThat(interner.cache.drainStatus).isEqualTo(BoundedLocalCache.IDLE);
   }
 
+  @Test
+  public void intern_bounded_evicts() {
+    var interner = (BoundedInterner<String>) Interner.newBoundedStringInterner(10);
+    for (int i = 0; i < 100; i++) {
+      interner.intern(Integer.toString(i % 10));
+    }
+    interner.cache.cleanUp();
+    assertThat(interner.cache.policy().eviction().orElseThrow().weightedSize()).hasValue(10);
+
+    for (int i = 0; i < 100; i++) {
+      interner.intern(Integer.toString(10 + i));
+    }
+    interner.cache.cleanUp();
+    assertThat(interner.cache.policy().eviction().orElseThrow().weightedSize().orElseThrow())
+        .isAtMost(10);
+  }
+
+  @Test
+  public void intern_bounded_admission() {
+    var interner = (BoundedInterner<String>) Interner.newBoundedStringInterner(100);
+    var canonical = new String("hot");
+    assertThat(interner.intern(canonical)).isSameInstanceAs(canonical);
+    for (int i = 0; i < 10; i++) {
+      assertThat(interner.intern(new String("hot"))).isSameInstanceAs(canonical);
+    }
+    for (int i = 0; i < 1_000; i++) {
+      interner.intern("cold-" + i);
+    }
+    interner.cache.cleanUp();
+    assertThat(interner.intern(new String("hot"))).isSameInstanceAs(canonical);
+  }
+
+  @Test
+  public void intern_byteArray() {
+    var interner = (ByteArrayInterner) Interner.newBoundedByteArrayInterner(100);
+    byte[] canonical = { 1, 2, 3 };
+    assertThat(interner.intern(canonical)).isSameInstanceAs(canonical);
+    assertThat(interner.intern(new byte[] { 1, 2, 3 })).isSameInstanceAs(canonical);
+    assertThat(interner.intern(new byte[] { 1, 2 })).isNotSameInstanceAs(canonical);
+    assertThat(ByteArrayInterner.lookupKey.get().bytes).isNull();
+
+    interner.cache.cleanUp();
+    assertThat(interner.cache.policy().eviction().orElseThrow().weightedSize()).hasValue(5);
+    assertThrows(NullPointerException.class, () -> interner.intern(null));
+  }
+
+  @Test
+  public void byteArrayKey() {
+    var key = new ByteArrayInterner.ByteArrayKey(new byte[] { 1, 2, 3 });
+    assertThat(key).isEqualTo(new ByteArrayInterner.ByteArrayKey(new byte[] { 1, 2, 3 }));
+    assertThat(key).isNotEqualTo(new ByteArrayInterner.ByteArrayKey(new byte[] { 3, 2, 1 }));
+    assertThat(key).isNotEqualTo(new Object());
+    assertThat(key.hashCode()).isEqualTo(Arrays.hashCode(new byte[] { 1, 2, 3 }));
+  }
+
   @Test
   public void nullPointerExceptions() {
     new NullPointerTester().testAllPublicStaticMethods(Interner.class);
@@ -180,6 +236,8 @@ public final class InternerTest extends TestCase {
         }
       };
       assertThat(cache).whenCleanedUp().hasSize(size);
+    } else if (interner instanceof BoundedInterner) {
+      assertThat(((BoundedInterner<Int>) interner).cache).whenCleanedUp().hasSize(size);
     } else {
       Assert.fail();
     }
@@ -193,6 +251,10 @@ public final class InternerTest extends TestCase {
 
   @DataProvider(name = "interners")
   Object[] providesInterners() {
-    return new Object[] { Interner.newStrongInterner(), Interner.newWeakInterner() };
+    return new Object[] {
+        Interner.newStrongInterner(),
+        Interner.newWeakInterner(),
+        Interner.newBoundedInterner(Long.MAX_VALUE, element -> 1),
+    };
   }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.google.common.testing.FakeTicker;
+import com.google.common.testing.SerializableTester;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class TagIndexTest {
+  static final Function<Integer, Object> BY_PARITY = key -> (key % 2 == 0) ? "even" : "odd";
+
+  @Test
+  public void tagExtractor_twice() {
+    var builder = Caffeine.newBuilder().tagExtractor(BY_PARITY);
+    assertThrows(IllegalStateException.class, () -> builder.tagExtractor(BY_PARITY));
+  }
+
+  @Test
+  public void tagging_absent() {
+    var cache = Caffeine.newBuilder().maximumSize(100).build();
+    assertThat(cache.policy().tagging()).isEmpty();
+  }
+
+  @Test
+  public void keysWithTag() {
+    var cache = newCache(Caffeine.newBuilder());
+    var tagging = cache.policy().tagging().orElseThrow();
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, -i);
+    }
+
+    assertThat(tagging.keysWithTag("even")).containsExactly(0, 2, 4, 6, 8);
+    assertThat(tagging.keysWithTag("odd")).containsExactly(1, 3, 5, 7, 9);
+    assertThat(tagging.keysWithTag("none")).isEmpty();
+    assertThrows(NullPointerException.class, () -> tagging.keysWithTag(null));
+  }
+
+  @Test
+  public void keysWithTag_untagged() {
+    var cache = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .tagExtractor((Integer key) -> (key < 5) ? null : "large")
+        .build();
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, -i);
+    }
+
+    var index = CacheGroup.boundedLocalCacheOf(cache).tagIndex;
+    assertThat(cache.policy().tagging().orElseThrow().keysWithTag("large"))
+        .containsExactly(5, 6, 7, 8, 9);
+    assertThat(index.size()).isEqualTo(5);
+  }
+
+  @Test
+  public void keysWithTag_removed() {
+    var cache = newCache(Caffeine.newBuilder());
+    var tagging = cache.policy().tagging().orElseThrow();
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, -i);
+    }
+
+    cache.invalidate(0);
+    cache.asMap().remove(2, -2);
+    cache.asMap().compute(4, (k, v) -> null);
+    cache.put(6, 6);
+
+    var index = CacheGroup.boundedLocalCacheOf(cache).tagIndex;
+    assertThat(tagging.keysWithTag("even")).containsExactly(6, 8);
+    assertThat(index.size()).isEqualTo(7);
+
+    cache.invalidateAll();
+    assertThat(tagging.keysWithTag("odd")).isEmpty();
+    assertThat(index.nodesByTag).isEmpty();
+    assertThat(index.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void keysWithTag_evicted() {
+    var cache = newCache(Caffeine.newBuilder().maximumSize(10));
+    for (int i = 0; i < 1_000; i++) {
+      cache.put(i, -i);
+    }
+    cache.cleanUp();
+
+    var index = CacheGroup.boundedLocalCacheOf(cache).tagIndex;
+    assertThat(index.size()).isEqualTo(cache.asMap().size());
+    assertThat(cache.policy().tagging().orElseThrow().keysWithTag("even"))
+        .containsExactlyElementsIn(cache.asMap().keySet().stream()
+            .filter(key -> key % 2 == 0).toArray());
+  }
+
+  @Test
+  public void keysWithTag_expired() {
+    var ticker = new FakeTicker();
+    var cache = newCache(Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .ticker(ticker::read));
+    cache.put(1, -1);
+    ticker.advance(Duration.ofMinutes(2));
+    cache.put(3, -3);
+
+    assertThat(cache.policy().tagging().orElseThrow().keysWithTag("odd")).containsExactly(3);
+    cache.cleanUp();
+    assertThat(CacheGroup.boundedLocalCacheOf(cache).tagIndex.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void keysWithTag_extractorFails() {
+    var cache = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .tagExtractor((Integer key) -> {
+          if (key == 3) {
+            throw new IllegalStateException();
+          }
+          return BY_PARITY.apply(key);
+        })
+        .build();
+    for (int i = 0; i < 5; i++) {
+      cache.put(i, -i);
+    }
+
+    var tagging = cache.policy().tagging().orElseThrow();
+    assertThat(tagging.keysWithTag("odd")).containsExactly(1);
+    assertThat(tagging.keysWithTag("even")).containsExactly(0, 2, 4);
+    assertThat(cache.getIfPresent(3)).isEqualTo(-3);
+    assertThat(CacheGroup.boundedLocalCacheOf(cache).tagIndex.size()).isEqualTo(4);
+
+    tagging.invalidateTag("odd");
+    assertThat(cache.asMap()).containsExactly(0, 0, 2, -2, 3, -3, 4, -4);
+  }
+
+  @Test
+  public void tagging_serialize() {
+    Cache<Integer, Integer> cache = Caffeine.newBuilder()
+        .tagExtractor((Function<Integer, Object> & Serializable) BY_PARITY::apply)
+        .executor(Runnable::run)
+        .build();
+    Cache<Integer, Integer> copy = SerializableTester.reserialize(cache);
+    copy.put(1, -1);
+
+    var tagging = copy.policy().tagging().orElseThrow();
+    assertThat(tagging.keysWithTag("odd")).containsExactly(1);
+  }
+
+  @Test
+  public void invalidateTag() {
+    var removed = new ArrayList<Integer>();
+    Cache<Integer, Integer> cache = Caffeine.newBuilder()
+        .removalListener((Integer key, Integer value, RemovalCause cause) -> {
+          assertThat(cause).isEqualTo(RemovalCause.EXPLICIT);
+          removed.add(key);
+        })
+        .executor(Runnable::run)
+        .tagExtractor(BY_PARITY)
+        .build();
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, -i);
+    }
+
+    cache.policy().tagging().orElseThrow().invalidateTag("odd");
+    assertThat(removed).containsExactly(1, 3, 5, 7, 9);
+    assertThat(cache.asMap().keySet()).containsExactly(0, 2, 4, 6, 8);
+
+    cache.cleanUp();
+    assertThat(CacheGroup.boundedLocalCacheOf(cache).tagIndex.nodesByTag).hasSize(1);
+  }
+
+  @Test
+  public void invalidateTag_async() {
+    var cache = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .tagExtractor(BY_PARITY)
+        .buildAsync();
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, CompletableFuture.completedFuture(-i));
+    }
+
+    var tagging = cache.synchronous().policy().tagging().orElseThrow();
+    tagging.invalidateTag("even");
+    assertThat(cache.synchronous().asMap().keySet()).containsExactly(1, 3, 5, 7, 9);
+    assertThat(tagging.keysWithTag("odd")).containsExactly(1, 3, 5, 7, 9);
+  }
+
+  private static Cache<Integer, Integer> newCache(Caffeine<Object, Object> builder) {
+    return builder.executor(Runnable::run).tagExtractor(BY_PARITY).build();
+  }
+}
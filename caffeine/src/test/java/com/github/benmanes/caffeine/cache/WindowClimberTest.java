@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.testng.annotations.Test;
+
+import com.google.common.testing.SerializableTester;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class WindowClimberTest {
+
+  @Test
+  public void windowClimber_null() {
+    assertThrows(NullPointerException.class, () -> Caffeine.newBuilder().windowClimber(null));
+  }
+
+  @Test
+  public void windowClimber_twice() {
+    var builder = Caffeine.newBuilder().windowClimber(WindowClimber::miniSimulation);
+    assertThrows(IllegalStateException.class,
+        () -> builder.windowClimber(WindowClimber::miniSimulation));
+  }
+
+  @Test
+  public void windowClimber_unbounded() {
+    var builder = Caffeine.newBuilder().windowClimber(WindowClimber::miniSimulation);
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  public void windowClimber_nullSupplied() {
+    var builder = Caffeine.newBuilder().maximumSize(10).windowClimber(() -> null);
+    assertThrows(NullPointerException.class, builder::build);
+  }
+
+  @Test
+  public void windowClimber_toString() {
+    var builder = Caffeine.newBuilder()
+        .windowClimber(WindowClimber::miniSimulation)
+        .maximumSize(10);
+    assertThat(builder.toString()).contains("windowClimber");
+  }
+
+  @Test
+  public void windowClimber_serialize() {
+    Cache<Integer, Integer> cache = Caffeine.newBuilder()
+        .windowClimber((Supplier<WindowClimber> & Serializable) WindowClimber::miniSimulation)
+        .maximumSize(10)
+        .build();
+    var copy = SerializableTester.reserialize(cache);
+    assertThat(CacheGroup.boundedLocalCacheOf(copy).climber).isInstanceOf(MiniSimClimber.class);
+  }
+
+  @Test
+  public void adapt_custom() {
+    var climber = new RecordingClimber();
+    Cache<Integer, Integer> cache = Caffeine.newBuilder()
+        .windowClimber(() -> climber)
+        .executor(Runnable::run)
+        .maximumSize(1_000)
+        .build();
+    var bounded = CacheGroup.boundedLocalCacheOf(cache);
+    long windowMaximum = bounded.windowMaximum();
+    for (int i = 0; i < 1_000; i++) {
+      cache.put(i, i);
+    }
+    for (int i = 0; i < 1_000; i++) {
+      cache.getIfPresent(i);
+      cache.cleanUp();
+    }
+
+    climber.amount = 100;
+    cache.cleanUp();
+    climber.amount = 0;
+    cache.cleanUp();
+
+    assertThat(climber.misses).hasSize(1_000);
+    assertThat(climber.hits).hasSize(1_000);
+    assertThat(bounded.windowMaximum()).isEqualTo(windowMaximum + 100);
+    assertThat(bounded.mainProtectedMaximum() + bounded.windowMaximum())
+        .isAtMost(bounded.maximum());
+  }
+
+  @Test
+  public void adapt_custom_discardsSample() {
+    var climber = new RecordingClimber();
+    Cache<Integer, Integer> cache = Caffeine.newBuilder()
+        .windowClimber(() -> climber)
+        .executor(Runnable::run)
+        .maximumSize(1_000)
+        .build();
+    var bounded = CacheGroup.boundedLocalCacheOf(cache);
+    for (int i = 0; i < 1_000; i++) {
+      cache.put(i, i);
+      cache.getIfPresent(i);
+    }
+    cache.cleanUp();
+
+    assertThat(climber.misses).hasSize(1_000);
+    assertThat(climber.hits).hasSize(1_000);
+    assertThat(bounded.hitsInSample()).isEqualTo(0);
+    assertThat(bounded.missesInSample()).isEqualTo(0);
+  }
+
+  @Test
+  public void miniSimulation_recency() {
+    Cache<Long, Long> cache = Caffeine.newBuilder()
+        .windowClimber(WindowClimber::miniSimulation)
+        .executor(Runnable::run)
+        .maximumSize(5_000)
+        .build();
+    var bounded = CacheGroup.boundedLocalCacheOf(cache);
+    long windowMaximum = bounded.windowMaximum();
+
+    // Re-references recently introduced keys, which favors a large window
+    var random = new Random(7);
+    long next = 0;
+    for (int i = 0; i < 1_000_000; i++) {
+      long key = (random.nextInt(10) < 3)
+          ? next++
+          : next - 1 - (long) (4_000 * Math.pow(random.nextDouble(), 2));
+      if (cache.getIfPresent(key) == null) {
+        cache.put(key, key);
+      }
+    }
+    assertThat(bounded.windowMaximum()).isGreaterThan(windowMaximum);
+  }
+
+  @Test
+  public void miniSimulation_resized() {
+    var climber = new MiniSimClimber();
+    assertThat(climber.adapt(10, 1_000)).isEqualTo(0);
+    assertThat(climber.minis).hasLength(
+        (MiniSimClimber.MAX_WINDOW_PERCENT / MiniSimClimber.WINDOW_STEP_PERCENT) + 1);
+    assertThat(climber.period).isEqualTo(
+        MiniSimClimber.PERIOD_MULTIPLIER * MiniSimClimber.MIN_MINI_SIZE);
+    assertThat(climber.rate).isEqualTo(10);
+
+    climber.sample = 1;
+    assertThat(climber.adapt(10, 2_000)).isEqualTo(0);
+    assertThat(climber.rate).isEqualTo(20);
+    assertThat(climber.sample).isEqualTo(0);
+  }
+
+  @Test
+  public void miniSimulation_large() {
+    var climber = new MiniSimClimber();
+    long maximum = 50_000_000L;
+    assertThat(climber.adapt(10, maximum)).isEqualTo(0);
+    assertThat(climber.rate).isEqualTo(maximum / MiniSimClimber.MAX_MINI_SIZE);
+    assertThat(climber.period).isEqualTo(
+        MiniSimClimber.PERIOD_MULTIPLIER * MiniSimClimber.MAX_MINI_SIZE);
+    for (var mini : climber.minis) {
+      assertThat(mini.maxWindow + mini.maxMain).isEqualTo(MiniSimClimber.MAX_MINI_SIZE);
+    }
+  }
+
+  @Test
+  public void miniSimulation_aging() {
+    var climber = new MiniSimClimber();
+    climber.adapt(10, 1_000);
+    for (int i = 0; i < 1_000_000; i++) {
+      climber.onMiss(i);
+    }
+    assertThat(climber.sketch.isAging()).isFalse();
+    assertThat(climber.sketch.size).isLessThan(climber.sketch.sampleSize);
+  }
+
+  @Test
+  public void miniSimulation_selectsBest() {
+    var climber = new MiniSimClimber();
+    climber.adapt(10, 1_000);
+    for (int i = 0; i < climber.minis.length; i++) {
+      climber.minis[i].misses = (i == 8) ? 0 : 1;
+    }
+    climber.sample = climber.period;
+
+    assertThat(climber.adapt(10, 1_000)).isEqualTo(390);
+    assertThat(climber.sample).isEqualTo(0);
+    for (var mini : climber.minis) {
+      assertThat(mini.misses).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void miniCache_admission() {
+    var sketch = new FrequencySketch<Integer>();
+    sketch.ensureCapacity(10);
+    var mini = new MiniSimClimber.MiniCache(sketch, 10, 20);
+    for (int i = 0; i < 10; i++) {
+      sketch.increment(i);
+      mini.record(i);
+    }
+    assertThat(mini.misses).isEqualTo(10);
+    assertThat(mini.window).hasSize(2);
+    assertThat(mini.probation).hasSize(8);
+
+    mini.record(0);
+    assertThat(mini.protect).containsKey(0);
+    assertThat(mini.misses).isEqualTo(10);
+
+    // An unpopular candidate is rejected in favor of the victim
+    mini.record(100);
+    mini.record(101);
+    mini.record(102);
+    assertThat(mini.misses).isEqualTo(13);
+    assertThat(mini.window.size() + mini.probation.size() + mini.protect.size()).isEqualTo(10);
+  }
+
+  static final class RecordingClimber implements WindowClimber {
+    final List<Object> misses = new ArrayList<>();
+    final List<Object> hits = new ArrayList<>();
+    long amount;
+
+    @Override public void onHit(Object key) {
+      hits.add(key);
+    }
+    @Override public void onMiss(Object key) {
+      misses.add(key);
+    }
+    @Override public long adapt(long windowMaximum, long maximum) {
+      return amount;
+    }
+  }
+}
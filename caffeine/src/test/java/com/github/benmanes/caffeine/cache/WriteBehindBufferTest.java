@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class WriteBehindBufferTest {
+
+  @Test
+  public void builder_invalid() {
+    var builder = WriteBehindBuffer.<Integer, Integer>newBuilder();
+    assertThrows(IllegalArgumentException.class, () -> builder.batchSize(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.maximumPending(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.maximumDelay(Duration.ofNanos(-1)));
+    assertThrows(NullPointerException.class, () -> builder.failureHandler(null));
+  }
+
+  @Test
+  public void write_coalesce() {
+    var batches = new ArrayList<Map<Integer, Integer>>();
+    var buffer = newBuilder().coalescer(Integer::sum).build(batches::add);
+    buffer.write(1, 1);
+    buffer.write(1, 2);
+    buffer.write(2, 3);
+    assertThat(buffer.pendingCount()).isEqualTo(2);
+    assertThat(batches).isEmpty();
+
+    buffer.flush();
+    assertThat(buffer.pendingCount()).isEqualTo(0);
+    assertThat(batches).containsExactly(Map.of(1, 3, 2, 3));
+  }
+
+  @Test
+  public void write_batchSize() {
+    var batches = new ArrayList<Map<Integer, Integer>>();
+    var buffer = newBuilder().batchSize(2).build(batches::add);
+    for (int i = 0; i < 5; i++) {
+      buffer.write(i, i);
+    }
+    assertThat(batches).hasSize(2);
+    assertThat(buffer.pendingCount()).isEqualTo(1);
+    for (var batch : batches) {
+      assertThat(batch).hasSize(2);
+    }
+  }
+
+  @Test
+  public void write_maximumDelay() {
+    var batches = new ConcurrentLinkedQueue<Map<Integer, Integer>>();
+    var buffer = WriteBehindBuffer.<Integer, Integer>newBuilder()
+        .maximumDelay(Duration.ofMillis(10))
+        .build(batches::add);
+    buffer.write(1, 1);
+    for (int i = 0; (i < 500) && batches.isEmpty(); i++) {
+      Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+    }
+    assertThat(batches).containsExactly(Map.of(1, 1));
+  }
+
+  @Test
+  public void write_backpressure() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var batches = new ConcurrentLinkedQueue<Map<Integer, Integer>>();
+    var executor = Executors.newSingleThreadExecutor();
+    var buffer = newBuilder().executor(executor).batchSize(2).maximumPending(2).build(batch -> {
+      started.countDown();
+      Uninterruptibles.awaitUninterruptibly(release);
+      batches.add(batch);
+    });
+    try {
+      buffer.write(1, 1);
+      buffer.write(2, 2);
+      started.await();
+
+      var writer = new Thread(() -> buffer.write(3, 3));
+      writer.start();
+      writer.join(100);
+      assertThat(writer.isAlive()).isTrue();
+
+      release.countDown();
+      writer.join();
+      buffer.close();
+      assertThat(batches).containsExactly(Map.of(1, 1, 2, 2), Map.of(3, 3)).inOrder();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void write_ordered() {
+    List<Integer> observed = new ArrayList<>();
+    var buffer = newBuilder().batchSize(1).build(batch -> observed.addAll(batch.values()));
+    for (int i = 0; i < 100; i++) {
+      buffer.write(1, i);
+    }
+    buffer.close();
+    assertThat(observed).isInStrictOrder();
+    assertThat(observed).contains(99);
+  }
+
+  @Test
+  public void writer_fails() {
+    var buffer = newBuilder().batchSize(1).maximumPending(1).build(batch -> {
+      throw new IllegalStateException();
+    });
+    buffer.write(1, 1);
+    buffer.write(2, 2);
+    assertThat(buffer.pendingCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void writer_fails_handled() {
+    var failures = new ArrayList<Map<Integer, Integer>>();
+    var buffer = newBuilder()
+        .failureHandler((batch, error) -> {
+          assertThat(error).isInstanceOf(IllegalStateException.class);
+          failures.add(Map.copyOf(batch));
+        })
+        .build(batch -> {
+          throw new IllegalStateException();
+        });
+    buffer.write(1, 1);
+    buffer.write(2, 2);
+    buffer.close();
+
+    assertThat(failures).containsExactly(Map.of(1, 1, 2, 2));
+    assertThat(buffer.pendingCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void failureHandler_fails() {
+    var buffer = newBuilder()
+        .failureHandler((batch, error) -> { throw new IllegalArgumentException(); })
+        .build(batch -> { throw new IllegalStateException(); });
+    buffer.write(1, 1);
+    buffer.close();
+    assertThat(buffer.pendingCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void failureHandler_reenqueue_full() throws InterruptedException {
+    var filled = new CountDownLatch(1);
+    var handled = new CountDownLatch(1);
+    var failed = new AtomicBoolean();
+    var batches = new ConcurrentLinkedQueue<Map<Integer, Integer>>();
+    var buffer = new AtomicReference<WriteBehindBuffer<Integer, Integer>>();
+    var executor = Executors.newCachedThreadPool();
+    buffer.set(newBuilder().executor(executor).batchSize(10).maximumPending(1)
+        .failureHandler((batch, error) -> {
+          // another writer took the space that the failed batch released
+          Uninterruptibles.awaitUninterruptibly(filled);
+          batch.forEach(buffer.get()::write);
+          handled.countDown();
+        })
+        .build(batch -> {
+          if (failed.compareAndSet(false, true)) {
+            throw new IllegalStateException();
+          }
+          batches.add(batch);
+        }));
+    try {
+      buffer.get().write(1, 1);
+      buffer.get().flush();
+
+      var writer = new Thread(() -> {
+        buffer.get().write(2, 2);
+        filled.countDown();
+      });
+      writer.start();
+      writer.join();
+
+      assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+      buffer.get().close();
+      assertThat(batches).containsExactly(Map.of(2, 2), Map.of(1, 1)).inOrder();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void tryWrite_full() {
+    var batches = new ArrayList<Map<Integer, Integer>>();
+    var buffer = newBuilder().executor(task -> {}).batchSize(10).maximumPending(1)
+        .coalescer(Integer::sum).build(batches::add);
+    assertThat(buffer.tryWrite(1, 1)).isTrue();
+    assertThat(buffer.tryWrite(2, 2)).isFalse();
+    assertThat(buffer.tryWrite(1, 2)).isTrue();
+    assertThat(buffer.pendingCount()).isEqualTo(1);
+
+    buffer.close();
+    assertThat(batches).containsExactly(Map.of(1, 3));
+  }
+
+  @Test
+  public void close() {
+    var batches = new ArrayList<Map<Integer, Integer>>();
+    var buffer = newBuilder().build(batches::add);
+    buffer.write(1, 1);
+    buffer.close();
+    buffer.close();
+
+    assertThat(batches).containsExactly(Map.of(1, 1));
+    assertThrows(IllegalStateException.class, () -> buffer.write(2, 2));
+  }
+
+  private static WriteBehindBuffer.Builder<Integer, Integer> newBuilder() {
+    return WriteBehindBuffer.<Integer, Integer>newBuilder()
+        .scheduler(Scheduler.disabledScheduler())
+        .executor(Runnable::run);
+  }
+}
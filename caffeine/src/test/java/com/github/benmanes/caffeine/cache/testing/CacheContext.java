@@ -106,6 +106,7 @@ public final class CacheContext {
   final Loader loader;
   final Stats stats;
 
+  final boolean coalesceWeightUpdates;
   final boolean isAsyncLoader;
 
   CacheBuilder<Object, Object> guava;
@@ -158,6 +159,7 @@ public final class CacheContext {
     this.compute = compute;
     this.expiryType = expiryType;
     this.expiryTime = cacheSpec.expiryTime();
+    this.coalesceWeightUpdates = cacheSpec.coalesceWeightUpdates();
     this.expiry = expiryType.createExpiry(expiryTime);
   }
 
@@ -317,6 +319,10 @@ public final class CacheContext {
     return (cacheWeigher == CacheWeigher.ZERO);
   }
 
+  public boolean isCoalescingWeights() {
+    return coalesceWeightUpdates;
+  }
+
   public boolean refreshes() {
     return (refresh != Expire.DISABLED);
   }
@@ -492,6 +498,7 @@ public final class CacheContext {
         .add("population", population)
         .add("maximumSize", maximumSize)
         .add("weigher", cacheWeigher)
+        .add("coalesceWeightUpdates", coalesceWeightUpdates)
         .add("expiry", expiryType)
         .add("expiryTime", expiryTime)
         .add("afterAccess", afterAccess)
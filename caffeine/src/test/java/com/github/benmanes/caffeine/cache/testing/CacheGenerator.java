@@ -180,6 +180,8 @@ public final class CacheGenerator {
         && (!context.isAsync() || !context.isLoading());
     boolean refreshIncompatible = context.refreshes() && !context.isLoading();
     boolean weigherIncompatible = (context.maximum() == Maximum.DISABLED) && context.isWeighted();
+    boolean coalescingIncompatible = context.isCoalescingWeights()
+        && (!context.isWeighted() || !context.isCaffeine());
     boolean referenceIncompatible = cacheSpec.requiresWeakOrSoft()
         && context.isStrongKeys() && context.isStrongValues();
     boolean expiryIncompatible = (context.expiryType() != CacheExpiry.DISABLED)
@@ -194,8 +196,9 @@ public final class CacheGenerator {
         && (!context.isCaffeine() || (context.isAsync() && context.isWeakKeys()));
 
     boolean skip = asyncIncompatible || asyncLoaderIncompatible || evictionListenerIncompatible
-        || refreshIncompatible || weigherIncompatible || expiryIncompatible
-        || expirationIncompatible || referenceIncompatible || schedulerIgnored;
+        || refreshIncompatible || weigherIncompatible || coalescingIncompatible
+        || expiryIncompatible || expirationIncompatible || referenceIncompatible
+        || schedulerIgnored;
     return !skip;
   }
 
@@ -227,6 +227,9 @@ public @interface CacheSpec {
     }
   }
 
+  /** Indicates if the weigher's updates should be coalesced while awaiting maintenance. */
+  boolean coalesceWeightUpdates() default false;
+
   /* --------------- Expiration --------------- */
 
   /** Indicates that the combination must have any of the expiration settings. */
@@ -57,6 +57,9 @@ public final class CaffeineCacheFromContext {
       } else {
         builder.weigher(context.weigher());
         builder.maximumWeight(context.maximumWeight());
+        if (context.isCoalescingWeights()) {
+          builder.coalesceWeightUpdates();
+        }
       }
     }
     if (context.expiryType() != CacheExpiry.DISABLED) {
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.testing;
+
+import static com.github.benmanes.caffeine.testing.Awaits.await;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A subscriber that records the signals that it receives and requests on demand.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class RecordingSubscriber<T> implements Subscriber<T> {
+  private final List<T> items;
+  private final long initialRequest;
+
+  private volatile @Nullable Subscription subscription;
+  private volatile @Nullable Throwable error;
+  private volatile boolean completed;
+
+  public RecordingSubscriber(long initialRequest) {
+    this.items = Collections.synchronizedList(new ArrayList<>());
+    this.initialRequest = initialRequest;
+  }
+
+  /** Returns a subscriber that requests all of the items. */
+  public static <T> RecordingSubscriber<T> unbounded() {
+    return new RecordingSubscriber<>(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void onSubscribe(Subscription subscription) {
+    this.subscription = requireNonNull(subscription);
+    if (initialRequest > 0) {
+      subscription.request(initialRequest);
+    }
+  }
+
+  @Override
+  public void onNext(T item) {
+    items.add(requireNonNull(item));
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    error = requireNonNull(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    completed = true;
+  }
+
+  /** Requests more items from the publisher. */
+  public void request(long n) {
+    requireNonNull(subscription).request(n);
+  }
+
+  /** Cancels the subscription. */
+  public void cancel() {
+    requireNonNull(subscription).cancel();
+  }
+
+  /** Returns a snapshot of the items received. */
+  public List<T> items() {
+    synchronized (items) {
+      return List.copyOf(items);
+    }
+  }
+
+  /** Returns the error received, if any. */
+  public @Nullable Throwable error() {
+    return error;
+  }
+
+  /** Returns whether the publisher completed successfully. */
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  /** Waits until the publisher signals that it terminated and returns this subscriber. */
+  public RecordingSubscriber<T> awaitTermination() {
+    await().until(() -> completed || (error != null));
+    return this;
+  }
+
+  /** Returns a cold publisher that emits the elements on demand and then completes. */
+  public static <T> Publisher<T> publisherOf(Iterable<? extends T> elements) {
+    return subscriber -> {
+      Iterator<? extends T> iterator = elements.iterator();
+      subscriber.onSubscribe(new Subscription() {
+        boolean done;
+
+        @Override public synchronized void request(long n) {
+          for (long i = 0; (i < n) && !done && iterator.hasNext(); i++) {
+            subscriber.onNext(iterator.next());
+          }
+          if (!done && !iterator.hasNext()) {
+            done = true;
+            subscriber.onComplete();
+          }
+        }
+        @Override public synchronized void cancel() {
+          done = true;
+        }
+      });
+    };
+  }
+}
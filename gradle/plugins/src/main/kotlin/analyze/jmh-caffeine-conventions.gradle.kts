@@ -25,7 +25,9 @@ dependencies {
 jmh {
   jmhVersion = libs.versions.jmh.core
 
-  benchmarkMode.add("thrpt")
+  // Benchmark modes: Separated by ',' for multiple modes, e.g. thrpt,sample
+  val modes = findProperty("benchmarkMode") as String? ?: "thrpt"
+  benchmarkMode.addAll(modes.split(","))
   warmupIterations = 3
   iterations = 3
   timeUnit = "s"
@@ -45,6 +47,11 @@ jmh {
   }
   jvmArgs = jvmArguments
 
+  val benchmarkThreads = findProperty("threads") as String?
+  if (benchmarkThreads != null) {
+    threads = benchmarkThreads.toInt()
+  }
+
   val includePattern: String? by project
   if (includePattern != null) {
     includes = listOf(includePattern)
@@ -57,7 +57,8 @@ subprojects {
   }
 }
 
-listOf(project(":caffeine"), project(":guava"), project(":jcache")).forEach { coveredProject ->
+listOf(project(":caffeine"), project(":guava"),
+    project(":hibernate"), project(":jcache")).forEach { coveredProject ->
   coveredProject.plugins.withId("java-library") {
     val extension = coveredProject.the<JavaPluginExtension>()
     coveralls.sourceDirs.addAll(
@@ -89,6 +89,10 @@ public final class CaffeinatedGuava {
     return hasMethod(cacheLoader, "loadAll", Iterable.class);
   }
 
+  static boolean hasReload(CacheLoader<?, ?> cacheLoader) {
+    return hasMethod(cacheLoader, "reload", Object.class, Object.class);
+  }
+
   static boolean hasMethod(CacheLoader<?, ?> cacheLoader, String name, Class<?>... paramTypes) {
     try {
       Method method = cacheLoader.getClass().getMethod(name, paramTypes);
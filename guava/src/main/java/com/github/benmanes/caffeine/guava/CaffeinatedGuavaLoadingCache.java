@@ -18,10 +18,12 @@ package com.github.benmanes.caffeine.guava;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 
@@ -32,7 +34,6 @@ import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ExecutionError;
-import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.UncheckedExecutionException;
@@ -99,9 +100,15 @@ final class CaffeinatedGuavaLoadingCache<K, V>
         nullBulkLoad.set(false);
         throw new InvalidCacheLoadException("null key or value");
       }
-      for (K key : keys) {
-        if (!result.containsKey(key)) {
-          throw new InvalidCacheLoadException("loadAll failed to return a value for " + key);
+
+      // The result only contains the requested keys, so if its size matches then none are missing
+      boolean complete = (keys instanceof Collection<?>)
+          && (result.size() == ((Collection<?>) keys).size());
+      if (!complete) {
+        for (K key : keys) {
+          if (!result.containsKey(key)) {
+            throw new InvalidCacheLoadException("loadAll failed to return a value for " + key);
+          }
         }
       }
       return ImmutableMap.copyOf(result);
@@ -132,23 +139,38 @@ final class CaffeinatedGuavaLoadingCache<K, V>
     private static final long serialVersionUID = 1L;
 
     final com.google.common.cache.CacheLoader<K, V> cacheLoader;
+    final boolean hasReload;
 
     CaffeinatedLoader(com.google.common.cache.CacheLoader<K, V> cacheLoader) {
       this.cacheLoader = requireNonNull(cacheLoader);
+      this.hasReload = CaffeinatedGuava.hasReload(cacheLoader);
     }
     @Override public CompletableFuture<V> asyncReload(K key, V oldValue, Executor executor) {
-      var future = new CompletableFuture<V>();
+      if (!hasReload) {
+        // Guava's default reload loads on the calling thread, so instead load on the executor
+        return CompletableFuture.supplyAsync(() -> loadForReload(key), executor);
+      }
       try {
         ListenableFuture<V> reloader = cacheLoader.reload(key, oldValue);
-        if (reloader == null) {
-          future.completeExceptionally(new InvalidCacheLoadException("null future"));
-        } else {
-          Futures.addCallback(reloader, new FutureCompleter<>(future), Runnable::run);
-        }
+        return (reloader == null)
+            ? CompletableFuture.failedFuture(new InvalidCacheLoadException("null future"))
+            : FutureCompleter.toCompletableFuture(reloader);
       } catch (Throwable t) {
-        future.completeExceptionally(t);
+        return CompletableFuture.failedFuture(t);
+      }
+    }
+    private V loadForReload(K key) {
+      try {
+        V value = cacheLoader.load(key);
+        if (value == null) {
+          throw new InvalidCacheLoadException("null value");
+        }
+        return value;
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new CompletionException(e);
       }
-      return future;
     }
   }
 
@@ -234,21 +256,40 @@ final class CaffeinatedGuavaLoadingCache<K, V>
     }
   }
 
-  static final class FutureCompleter<V> implements FutureCallback<V> {
+  /** Completes a future with the result of a Guava future, without an intermediate callback. */
+  static final class FutureCompleter<V> implements Runnable {
+    final ListenableFuture<V> listenable;
     final CompletableFuture<V> future;
 
-    FutureCompleter(CompletableFuture<V> future) {
+    FutureCompleter(ListenableFuture<V> listenable, CompletableFuture<V> future) {
+      this.listenable = listenable;
       this.future = future;
     }
-    @Override public void onSuccess(@Nullable V value) {
-      if (value == null) {
-        future.completeExceptionally(new InvalidCacheLoadException("null value"));
+
+    /** Returns a future that is completed on the thread that completes the Guava future. */
+    static <V> CompletableFuture<V> toCompletableFuture(ListenableFuture<V> listenable) {
+      var completer = new FutureCompleter<>(listenable, new CompletableFuture<V>());
+      if (listenable.isDone()) {
+        completer.run();
       } else {
-        future.complete(value);
+        listenable.addListener(completer, Runnable::run);
       }
+      return completer.future;
     }
-    @Override public void onFailure(Throwable t) {
-      future.completeExceptionally(t);
+
+    @Override public void run() {
+      try {
+        V value = Futures.getDone(listenable);
+        if (value == null) {
+          future.completeExceptionally(new InvalidCacheLoadException("null value"));
+        } else {
+          future.complete(value);
+        }
+      } catch (ExecutionException e) {
+        future.completeExceptionally(e.getCause());
+      } catch (RuntimeException | Error e) {
+        future.completeExceptionally(e);
+      }
     }
   }
 }
@@ -19,6 +19,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
@@ -38,6 +39,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import com.google.common.testing.SerializableTester;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
@@ -206,6 +208,33 @@ public final class CaffeinatedGuavaTest extends TestCase {
     assertThat(future.join()).isEqualTo(3);
   }
 
+  public void testCacheLoader_reload_default() throws Exception {
+    var caffeine = CaffeinatedGuava.caffeinate(CacheLoader.from((Integer key) -> -key));
+    var tasks = new ArrayList<Runnable>();
+
+    var future = caffeine.asyncReload(1, 2, tasks::add);
+    assertFalse(future.isDone());
+    assertThat(tasks).hasSize(1);
+
+    tasks.get(0).run();
+    assertThat(future.join()).isEqualTo(-1);
+  }
+
+  public void testCacheLoader_reload_immediate() throws Exception {
+    var caffeine = CaffeinatedGuava.caffeinate(new CacheLoader<Integer, Integer>() {
+      @Override public Integer load(Integer key) {
+        throw new UnsupportedOperationException();
+      }
+      @Override
+      public ListenableFuture<Integer> reload(Integer key, Integer oldValue) {
+        return Futures.immediateFuture(3);
+      }
+    });
+    var future = caffeine.asyncReload(1, 2, Runnable::run);
+    assertTrue(future.isDone());
+    assertThat(future.join()).isEqualTo(3);
+  }
+
   public void testCacheLoader_reloadFailure() throws Exception {
     SettableFuture<Integer> reloader = SettableFuture.create();
     var caffeine = CaffeinatedGuava.caffeinate(new CacheLoader<Integer, Integer>() {
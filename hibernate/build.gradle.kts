@@ -0,0 +1,59 @@
+/** Hibernate second-level cache provider. */
+import de.thetaphi.forbiddenapis.gradle.CheckForbiddenApis
+
+plugins {
+  id("java-library-caffeine-conventions")
+  id("jmh-caffeine-conventions")
+}
+
+dependencies {
+  api(project(":caffeine"))
+  api(libs.hibernate.core)
+
+  testImplementation(libs.h2)
+  testImplementation(libs.bundles.slf4j.nop)
+
+  jmh(libs.h2)
+  jmh(project(":jcache"))
+  jmh(libs.hibernate.jcache)
+  jmh(libs.bundles.slf4j.nop)
+}
+
+tasks.named<JavaCompile>("compileJava").configure {
+  modularity.inferModulePath = true
+}
+
+tasks.jar {
+  bundle.bnd(mapOf(
+    "Automatic-Module-Name" to "com.github.benmanes.caffeine.hibernate",
+    "Bundle-SymbolicName" to "com.github.ben-manes.caffeine.hibernate",
+    "Import-Package" to listOf(
+      "!org.checkerframework.*",
+      "!com.google.errorprone.annotations.*",
+      "*").joinToString(","),
+    "Export-Package" to "com.github.benmanes.caffeine.hibernate"))
+}
+
+tasks.withType<Javadoc>().configureEach {
+  javadocOptions {
+    addStringOption("Xdoclint:none", "-quiet")
+  }
+}
+
+tasks.withType<Test>().configureEach {
+  useJUnitPlatform()
+}
+
+tasks.named<CheckForbiddenApis>("forbiddenApisMain").configure {
+  bundledSignatures.addAll(listOf("jdk-deprecated", "jdk-internal",
+    "jdk-non-portable", "jdk-reflection", "jdk-system-out", "jdk-unsafe"))
+}
+
+tasks.named<CheckForbiddenApis>("forbiddenApisTest").configure {
+  bundledSignatures.addAll(listOf("jdk-deprecated", "jdk-internal",
+    "jdk-non-portable", "jdk-reflection", "jdk-unsafe"))
+}
+
+tasks.named<CheckForbiddenApis>("forbiddenApisJmh").configure {
+  bundledSignatures.addAll(listOf("jdk-deprecated", "jdk-reflection"))
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.hibernate;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * A benchmark that loads entities that are present in the second-level cache, comparing the
+ * Caffeine region factory to Hibernate's JCache region factory backed by Caffeine's JCache
+ * provider. Each load opens a session, so the cost includes the session's overhead in addition to
+ * the region lookup.
+ * <p>
+ * <pre>{@code
+ *   ./gradlew :hibernate:jmh -PincludePattern=EntityLoadBenchmark
+ * }</pre>
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"LexicographicalAnnotationAttributeListing", "PMD.MethodNamingConventions"})
+public class EntityLoadBenchmark {
+  private static final int ENTITIES = 1_000;
+
+  @Param({"Caffeine", "JCache"})
+  RegionFactoryType regionFactory;
+
+  SessionFactory sessionFactory;
+
+  @Setup
+  public void setup() {
+    var registry = new StandardServiceRegistryBuilder()
+        .applySettings(Map.of(
+            AvailableSettings.URL, "jdbc:h2:mem:benchmark",
+            AvailableSettings.HBM2DDL_AUTO, "create-drop",
+            AvailableSettings.USE_SECOND_LEVEL_CACHE, "true"))
+        .applySettings(regionFactory.settings())
+        .build();
+    sessionFactory = new MetadataSources(registry)
+        .addAnnotatedClass(Book.class)
+        .buildMetadata().buildSessionFactory();
+    sessionFactory.inTransaction(session -> {
+      for (long i = 0; i < ENTITIES; i++) {
+        var book = new Book();
+        book.id = i;
+        book.title = "title-" + i;
+        book.pages = (int) i;
+        session.persist(book);
+      }
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public Book load() {
+    long id = ThreadLocalRandom.current().nextInt(ENTITIES);
+    return sessionFactory.fromSession(session -> session.get(Book.class, id));
+  }
+
+  enum RegionFactoryType {
+    Caffeine {
+      @Override Map<String, Object> settings() {
+        return Map.of(AvailableSettings.CACHE_REGION_FACTORY,
+            CaffeineRegionFactory.class.getName());
+      }
+    },
+    JCache {
+      @Override Map<String, Object> settings() {
+        return Map.of(AvailableSettings.CACHE_REGION_FACTORY, "jcache",
+            "hibernate.javax.cache.provider", CaffeineCachingProvider.class.getName(),
+            "hibernate.javax.cache.missing_cache_strategy", "create");
+      }
+    };
+
+    abstract Map<String, Object> settings();
+  }
+
+  @Entity
+  @Cacheable
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+  public static class Book {
+    @Id
+    @Nullable Long id;
+    @Nullable String title;
+    int pages;
+  }
+}
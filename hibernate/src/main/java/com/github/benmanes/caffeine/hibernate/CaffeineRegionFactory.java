@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.hibernate;
+
+import static com.github.benmanes.caffeine.hibernate.CaffeineSettings.DEFAULT_MAXIMUM_WEIGHT;
+import static com.github.benmanes.caffeine.hibernate.CaffeineSettings.EXPIRE_AFTER_WRITE;
+import static com.github.benmanes.caffeine.hibernate.CaffeineSettings.MAXIMUM_WEIGHT;
+import static com.github.benmanes.caffeine.hibernate.CaffeineSettings.PREFIX;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A Hibernate second-level cache provider that stores each region in a Caffeine cache. The entity,
+ * collection, natural-id, and query result regions are bounded by their weight and may expire
+ * their entries after a write, as configured by the {@link CaffeineSettings}. The timestamps region
+ * is unbounded. The provider is enabled by setting {@code hibernate.cache.region.factory_class} to
+ * this class's name.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class CaffeineRegionFactory extends RegionFactoryTemplate {
+  private static final long serialVersionUID = 1L;
+
+  private transient Map<String, Object> configValues = Map.of();
+
+  @Override
+  protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    this.configValues = new HashMap<>(configValues);
+  }
+
+  @Override
+  protected void releaseFromUse() {
+    configValues = Map.of();
+  }
+
+  @Override
+  protected DomainDataStorageAccess createDomainDataStorageAccess(
+      DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+    return new CaffeineStorageAccess(newRegionCache(regionConfig.getRegionName()));
+  }
+
+  @Override
+  protected StorageAccess createQueryResultsRegionStorageAccess(
+      String regionName, SessionFactoryImplementor sessionFactory) {
+    return new CaffeineStorageAccess(newRegionCache(regionName));
+  }
+
+  @Override
+  protected StorageAccess createTimestampsRegionStorageAccess(
+      String regionName, SessionFactoryImplementor sessionFactory) {
+    return new CaffeineStorageAccess(Caffeine.newBuilder().build());
+  }
+
+  @Override
+  public AccessType getDefaultAccessType() {
+    return AccessType.READ_WRITE;
+  }
+
+  @Override
+  public boolean isMinimalPutsEnabledByDefault() {
+    return false;
+  }
+
+  @Override
+  public long nextTimestamp() {
+    return System.currentTimeMillis();
+  }
+
+  /** Returns a new cache that is bounded by weight for the region. */
+  Cache<Object, Object> newRegionCache(String regionName) {
+    var builder = Caffeine.newBuilder()
+        .maximumWeight(getSetting(regionName, MAXIMUM_WEIGHT, DEFAULT_MAXIMUM_WEIGHT))
+        .weigher(new EntryWeigher());
+    long expireAfterWrite = getSetting(regionName, EXPIRE_AFTER_WRITE, 0L);
+    if (expireAfterWrite > 0) {
+      builder.expireAfterWrite(Duration.ofSeconds(expireAfterWrite));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the region's setting, or the setting for all regions if not overridden.
+   *
+   * @param regionName the name of the region
+   * @param setting the name of the setting, without the prefix
+   * @param defaultValue the value if the setting is not specified
+   * @return the configured value or the default value
+   * @throws CacheException if the value is not a number
+   */
+  long getSetting(String regionName, String setting, long defaultValue) {
+    Object value = configValues.get(PREFIX + regionName + '.' + setting);
+    if (value == null) {
+      value = configValues.get(PREFIX + setting);
+    }
+    if (value == null) {
+      return defaultValue;
+    } else if (value instanceof Number) {
+      return ((Number) value).longValue();
+    }
+    try {
+      return Long.parseLong(value.toString().trim());
+    } catch (NumberFormatException e) {
+      throw new CacheException("Invalid value for " + setting + " of " + regionName, e);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.hibernate;
+
+/**
+ * The configuration settings of the {@link CaffeineRegionFactory}. A setting may be specified for
+ * all of the regions as {@code hibernate.cache.caffeine.<setting>} and overridden for a single
+ * region as {@code hibernate.cache.caffeine.<region name>.<setting>}. The timestamps region is
+ * always unbounded, as an evicted timestamp could allow a stale query result to be served.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class CaffeineSettings {
+  /** The prefix of the settings. */
+  public static final String PREFIX = "hibernate.cache.caffeine.";
+
+  /**
+   * The maximum weight of a region, where an entry's weight is estimated by the
+   * {@link EntryWeigher} from the number of values in its disassembled state. Defaults to 100,000.
+   */
+  public static final String MAXIMUM_WEIGHT = "maximum_weight";
+
+  /**
+   * The number of seconds after an entry is written that it expires, or zero if entries do not
+   * expire. Defaults to zero.
+   */
+  public static final String EXPIRE_AFTER_WRITE = "expire_after_write";
+
+  static final long DEFAULT_MAXIMUM_WEIGHT = 100_000L;
+
+  private CaffeineSettings() {}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.hibernate;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * The storage of a cache region that reads and writes the Caffeine cache directly, without the
+ * copying and event dispatching of the JCache provider.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+final class CaffeineStorageAccess implements DomainDataStorageAccess {
+  final Cache<Object, Object> cache;
+
+  CaffeineStorageAccess(Cache<Object, Object> cache) {
+    this.cache = requireNonNull(cache);
+  }
+
+  @Override
+  public @Nullable Object getFromCache(Object key, SharedSessionContractImplementor session) {
+    return cache.getIfPresent(key);
+  }
+
+  @Override
+  public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+    cache.put(key, value);
+  }
+
+  @Override
+  public boolean contains(Object key) {
+    return cache.asMap().containsKey(key);
+  }
+
+  @Override
+  public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void clearCache(SharedSessionContractImplementor session) {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void evictData() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void evictData(Object key) {
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void release() {
+    cache.invalidateAll();
+    cache.cleanUp();
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.hibernate;
+
+import java.util.Collection;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * A weigher that estimates the size of a cached value by the number of elements that it holds. An
+ * entity's weight is derived from the length of its disassembled state, a collection's from the
+ * number of its elements, and any other value, such as a natural id or a query result, has a
+ * weight of one. The values that a read-write region wraps are weighed by their contents.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class EntryWeigher implements Weigher<Object, Object> {
+
+  @Override
+  public @NonNegative int weigh(Object key, Object value) {
+    Object target = (value instanceof AbstractReadWriteAccess.Item)
+        ? ((AbstractReadWriteAccess.Item) value).getValue()
+        : value;
+    if (target instanceof CacheEntry) {
+      return 1 + ((CacheEntry) target).getDisassembledState().length;
+    } else if (target instanceof CollectionCacheEntry) {
+      return 1 + ((CollectionCacheEntry) target).getState().length;
+    } else if (target instanceof Object[]) {
+      return 1 + ((Object[]) target).length;
+    } else if (target instanceof Collection<?>) {
+      return 1 + ((Collection<?>) target).size();
+    }
+    return 1;
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.hibernate;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public final class CaffeineRegionFactoryTest {
+  SessionFactory sessionFactory;
+  Statistics statistics;
+
+  @BeforeMethod
+  public void before() {
+    var registry = new StandardServiceRegistryBuilder().applySettings(Map.of(
+        AvailableSettings.URL, "jdbc:h2:mem:test",
+        AvailableSettings.HBM2DDL_AUTO, "create-drop",
+        AvailableSettings.GENERATE_STATISTICS, "true",
+        AvailableSettings.USE_QUERY_CACHE, "true",
+        AvailableSettings.USE_SECOND_LEVEL_CACHE, "true",
+        AvailableSettings.CACHE_REGION_FACTORY, CaffeineRegionFactory.class.getName(),
+        CaffeineSettings.PREFIX + CaffeineSettings.MAXIMUM_WEIGHT, "1000")).build();
+    sessionFactory = new MetadataSources(registry)
+        .addAnnotatedClass(Person.class)
+        .buildMetadata().buildSessionFactory();
+    statistics = sessionFactory.getStatistics();
+  }
+
+  @AfterMethod
+  public void after() {
+    sessionFactory.close();
+  }
+
+  @Test
+  public void entity() {
+    long id = persist("ben@example.com");
+    for (int i = 0; i < 2; i++) {
+      sessionFactory.inSession(session -> {
+        assertThat(session.get(Person.class, id).getEmail()).isEqualTo("ben@example.com");
+      });
+    }
+    assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2L);
+    assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(0L);
+  }
+
+  @Test
+  public void entity_evicted() {
+    long id = persist("ben@example.com");
+    sessionFactory.getCache().evictEntityData(Person.class, id);
+    sessionFactory.inSession(session -> session.get(Person.class, id));
+
+    assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1L);
+  }
+
+  @Test
+  public void naturalId() {
+    persist("ben@example.com");
+    for (int i = 0; i < 2; i++) {
+      sessionFactory.inSession(session -> {
+        var person = session.bySimpleNaturalId(Person.class).load("ben@example.com");
+        assertThat(person).isNotNull();
+      });
+    }
+    assertThat(statistics.getNaturalIdCacheHitCount()).isAtLeast(1L);
+  }
+
+  @Test
+  public void query() {
+    persist("ben@example.com");
+    for (int i = 0; i < 2; i++) {
+      sessionFactory.inSession(session -> {
+        List<Person> people = session
+            .createQuery("from Person where email = :email", Person.class)
+            .setParameter("email", "ben@example.com")
+            .setCacheable(true)
+            .list();
+        assertThat(people).hasSize(1);
+      });
+    }
+    assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1L);
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1L);
+  }
+
+  @Test
+  public void query_invalidated() {
+    persist("ben@example.com");
+    for (int i = 0; i < 2; i++) {
+      sessionFactory.inSession(session -> {
+        session.createQuery("from Person", Person.class).setCacheable(true).list();
+      });
+      persist("ben" + i + "@example.com");
+    }
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(0L);
+  }
+
+  @Test
+  public void getSetting() {
+    var regionFactory = new CaffeineRegionFactory();
+    regionFactory.prepareForUse(/* settings */ null, Map.of(
+        CaffeineSettings.PREFIX + CaffeineSettings.MAXIMUM_WEIGHT, 10L,
+        CaffeineSettings.PREFIX + "people." + CaffeineSettings.MAXIMUM_WEIGHT, " 20 ",
+        CaffeineSettings.PREFIX + "invalid." + CaffeineSettings.MAXIMUM_WEIGHT, "abc"));
+
+    assertThat(regionFactory.getSetting("other", CaffeineSettings.MAXIMUM_WEIGHT, 0))
+        .isEqualTo(10L);
+    assertThat(regionFactory.getSetting("people", CaffeineSettings.MAXIMUM_WEIGHT, 0))
+        .isEqualTo(20L);
+    assertThat(regionFactory.getSetting("other", CaffeineSettings.EXPIRE_AFTER_WRITE, 5))
+        .isEqualTo(5L);
+    assertThrows(CacheException.class, () ->
+        regionFactory.getSetting("invalid", CaffeineSettings.MAXIMUM_WEIGHT, 0));
+  }
+
+  @Test
+  public void weigher() {
+    var weigher = new EntryWeigher();
+    assertThat(weigher.weigh("key", "value")).isEqualTo(1);
+    assertThat(weigher.weigh("key", new Object[3])).isEqualTo(4);
+    assertThat(weigher.weigh("key", List.of(1, 2))).isEqualTo(3);
+  }
+
+  private long persist(String email) {
+    return sessionFactory.fromTransaction(session -> {
+      var person = new Person();
+      person.setEmail(email);
+      person.setName("name");
+      session.persist(person);
+      return requireNonNull(person.getId());
+    });
+  }
+}
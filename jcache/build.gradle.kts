@@ -5,6 +5,7 @@ import org.gradle.plugins.ide.eclipse.model.Library
 
 plugins {
   id("java-library-caffeine-conventions")
+  id("jmh-caffeine-conventions")
 }
 
 val jcacheJavadoc: Configuration by configurations.creating
@@ -134,6 +135,10 @@ tasks.named<CheckForbiddenApis>("forbiddenApisTest").configure {
     "jdk-non-portable", "jdk-reflection", "jdk-unsafe"))
 }
 
+tasks.named<CheckForbiddenApis>("forbiddenApisJmh").configure {
+  bundledSignatures.addAll(listOf("jdk-deprecated", "jdk-reflection"))
+}
+
 eclipse.classpath.file.whenMerged {
   if (this is Classpath) {
     val regex = ".*cache-tests.*-tests.jar".toRegex()
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.jcache;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.Set;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import javax.cache.integration.CacheLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * A benchmark that evaluates the read-through performance of a JCache bulk lookup. The cache holds
+ * half of the key space, so a batch of uniformly distributed keys is partially present and the
+ * remainder is loaded. The bulk lookup is compared to looking up each key individually.
+ * <p>
+ * <pre>{@code
+ *   ./gradlew :jcache:jmh -PincludePattern=GetAllBenchmark
+ * }</pre>
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"LexicographicalAnnotationAttributeListing", "PMD.MethodNamingConventions"})
+public class GetAllBenchmark {
+  private static final int SIZE = (2 << 14);
+  private static final int BATCHES = 1_024;
+  private static final int MASK = BATCHES - 1;
+
+  @Param({"10", "100", "1000"})
+  int batchSize;
+
+  CacheManager cacheManager;
+  Cache<Integer, Integer> cache;
+  Set<Integer>[] batches;
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    static final Random random = new Random();
+    int index = random.nextInt();
+  }
+
+  @Setup
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void setup() {
+    var configuration = new CaffeineConfiguration<Integer, Integer>();
+    configuration.setExpiryPolicyFactory(() -> new CreatedExpiryPolicy(Duration.FIVE_MINUTES));
+    configuration.setCacheLoaderFactory(NegatingCacheLoader::new);
+    configuration.setMaximumSize(OptionalLong.of(SIZE / 2));
+    configuration.setStatisticsEnabled(true);
+    configuration.setStoreByValue(false);
+    configuration.setReadThrough(true);
+
+    var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+    cacheManager = provider.getCacheManager(
+        provider.getDefaultURI(), provider.getDefaultClassLoader());
+    cache = cacheManager.createCache("benchmark", configuration);
+
+    var random = new Random(1_000);
+    batches = new Set[BATCHES];
+    for (int i = 0; i < BATCHES; i++) {
+      var batch = new LinkedHashSet<Integer>();
+      while (batch.size() < batchSize) {
+        batch.add(random.nextInt(SIZE));
+      }
+      batches[i] = Set.copyOf(batch);
+    }
+    for (int i = 0; i < SIZE; i += 2) {
+      cache.put(i, -i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    cacheManager.close();
+  }
+
+  @Benchmark
+  public Map<Integer, Integer> getAll(ThreadState threadState) {
+    return cache.getAll(batches[threadState.index++ & MASK]);
+  }
+
+  @Benchmark
+  public Map<Integer, Integer> get_sequential(ThreadState threadState) {
+    var batch = batches[threadState.index++ & MASK];
+    var result = new HashMap<Integer, Integer>(batch.size(), 1.0f);
+    for (Integer key : batch) {
+      result.put(key, cache.get(key));
+    }
+    return result;
+  }
+
+  static final class NegatingCacheLoader implements CacheLoader<Integer, Integer> {
+    @Override
+    public Integer load(Integer key) {
+      return -key;
+    }
+
+    @Override
+    public Map<Integer, Integer> loadAll(Iterable<? extends Integer> keys) {
+      var result = new HashMap<Integer, Integer>();
+      for (Integer key : keys) {
+        result.put(key, -key);
+      }
+      return result;
+    }
+  }
+}
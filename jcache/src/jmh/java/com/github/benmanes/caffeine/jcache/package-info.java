@@ -0,0 +1,4 @@
+@CheckReturnValue
+package com.github.benmanes.caffeine.jcache;
+
+import com.google.errorprone.annotations.CheckReturnValue;
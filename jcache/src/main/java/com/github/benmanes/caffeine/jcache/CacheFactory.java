@@ -20,7 +20,6 @@ import static java.util.Objects.requireNonNull;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 
 import javax.cache.CacheManager;
 import javax.cache.configuration.CompleteConfiguration;
@@ -33,7 +32,6 @@ import javax.cache.integration.CacheLoader;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.github.benmanes.caffeine.cache.Ticker;
 import com.github.benmanes.caffeine.cache.Weigher;
@@ -136,6 +134,7 @@ final class CacheFactory {
     final Scheduler scheduler;
     final CacheManager cacheManager;
     final ExpiryPolicy expiryPolicy;
+    final JCacheExpiry<K, V> expiry;
     final EventDispatcher<K, V> dispatcher;
     final JCacheStatisticsMXBean statistics;
     final Caffeine<Object, Object> caffeine;
@@ -146,11 +145,12 @@ final class CacheFactory {
       this.cacheName = cacheName;
       this.cacheManager = cacheManager;
       this.caffeine = Caffeine.newBuilder();
-      this.statistics = new JCacheStatisticsMXBean();
+      this.statistics = new JCacheStatisticsMXBean(config.getStatisticsSampleRate());
       this.ticker = config.getTickerFactory().create();
       this.executor = config.getExecutorFactory().create();
       this.scheduler = config.getSchedulerFactory().create();
       this.expiryPolicy = config.getExpiryPolicyFactory().create();
+      this.expiry = new JCacheExpiry<>(expiryPolicy);
       this.dispatcher = new EventDispatcher<>(executor);
 
       caffeine.ticker(ticker);
@@ -207,16 +207,16 @@ final class CacheFactory {
       Optional<CacheLoader<K, V>> cacheLoader =
           Optional.ofNullable(config.getCacheLoaderFactory()).map(Factory::create);
       return new CacheProxy<>(cacheName, executor, cacheManager, config, caffeine.build(),
-          dispatcher, cacheLoader, expiryPolicy, ticker, statistics);
+          dispatcher, cacheLoader, expiry, ticker, statistics);
     }
 
     /** Creates a cache that reads through on a cache miss. */
     private CacheProxy<K, V> newLoadingCacheProxy() {
       CacheLoader<K, V> cacheLoader = config.getCacheLoaderFactory().create();
       JCacheLoaderAdapter<K, V> adapter = new JCacheLoaderAdapter<>(
-          cacheLoader, dispatcher, expiryPolicy, ticker, statistics);
+          cacheLoader, dispatcher, ticker, statistics);
       CacheProxy<K, V> cache = new LoadingCacheProxy<>(cacheName, executor, cacheManager, config,
-          caffeine.build(adapter), dispatcher, cacheLoader, expiryPolicy, ticker, statistics);
+          caffeine.build(adapter), dispatcher, cacheLoader, expiry, ticker, statistics);
       adapter.setCache(cache);
       return cache;
     }
@@ -235,9 +235,7 @@ final class CacheFactory {
         caffeine.maximumWeight(config.getMaximumWeight().getAsLong());
         Weigher<K, V> weigher = config.getWeigherFactory().map(Factory::create)
             .orElseThrow(() -> new IllegalStateException("Weigher not configured"));
-        caffeine.weigher((K key, Expirable<V> expirable) -> {
-          return weigher.weigh(key, expirable.get());
-        });
+        caffeine.weigher(weigher);
       }
       return config.getMaximumWeight().isPresent();
     }
@@ -265,15 +263,16 @@ final class CacheFactory {
       if (config.getExpiryFactory().isEmpty()) {
         return false;
       }
-      caffeine.expireAfter(new ExpiryAdapter<>(config.getExpiryFactory().orElseThrow().create()));
+      caffeine.expireAfter(config.getExpiryFactory().orElseThrow().create());
       return true;
     }
 
+    /** Configures the JCache expiry policy as variable expiration and returns if set. */
     private boolean configureJCacheExpiry() {
       if (expiryPolicy instanceof EternalExpiryPolicy) {
         return false;
       }
-      caffeine.expireAfter(new ExpirableToExpiry<>(ticker));
+      caffeine.expireAfter(expiry);
       return true;
     }
 
@@ -283,50 +282,4 @@ final class CacheFactory {
       }
     }
   }
-
-  private static final class ExpiryAdapter<K, V> implements Expiry<K, Expirable<V>> {
-    private final Expiry<K, V> expiry;
-
-    public ExpiryAdapter(Expiry<K, V> expiry) {
-      this.expiry = requireNonNull(expiry);
-    }
-    @Override public long expireAfterCreate(K key, Expirable<V> expirable, long currentTime) {
-      return expiry.expireAfterCreate(key, expirable.get(), currentTime);
-    }
-    @Override public long expireAfterUpdate(K key, Expirable<V> expirable,
-        long currentTime, long currentDuration) {
-      return expiry.expireAfterUpdate(key, expirable.get(), currentTime, currentDuration);
-    }
-    @Override public long expireAfterRead(K key, Expirable<V> expirable,
-        long currentTime, long currentDuration) {
-      return expiry.expireAfterRead(key, expirable.get(), currentTime, currentDuration);
-    }
-  }
-
-  private static final class ExpirableToExpiry<K, V> implements Expiry<K, Expirable<V>> {
-    private final Ticker ticker;
-
-    public ExpirableToExpiry(Ticker ticker) {
-      this.ticker = requireNonNull(ticker);
-    }
-    @Override public long expireAfterCreate(K key, Expirable<V> expirable, long currentTime) {
-      return toNanos(expirable);
-    }
-    @Override public long expireAfterUpdate(K key, Expirable<V> expirable,
-        long currentTime, long currentDuration) {
-      return toNanos(expirable);
-    }
-    @Override public long expireAfterRead(K key, Expirable<V> expirable,
-        long currentTime, long currentDuration) {
-      return toNanos(expirable);
-    }
-    private long toNanos(Expirable<V> expirable) {
-      if (expirable.getExpireTimeMS() == 0L) {
-        return -1L;
-      } else if (expirable.isEternal()) {
-        return Long.MAX_VALUE;
-      }
-      return TimeUnit.MILLISECONDS.toNanos(expirable.getExpireTimeMS()) - ticker.read();
-    }
-  }
 }
@@ -24,6 +24,7 @@ import static java.util.stream.Collectors.toUnmodifiableList;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -34,6 +35,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
@@ -48,8 +50,6 @@ import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.configuration.CacheEntryListenerConfiguration;
 import javax.cache.configuration.Configuration;
-import javax.cache.expiry.Duration;
-import javax.cache.expiry.ExpiryPolicy;
 import javax.cache.integration.CacheLoader;
 import javax.cache.integration.CacheLoaderException;
 import javax.cache.integration.CacheWriter;
@@ -83,11 +83,17 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 public class CacheProxy<K, V> implements Cache<K, V> {
   private static final Logger logger = System.getLogger(CacheProxy.class.getName());
 
-  protected final com.github.benmanes.caffeine.cache.Cache<K, Expirable<V>> cache;
+  /** The number of keys that an {@link #invokeAll} task processes. */
+  static final int INVOKE_ALL_BATCH_SIZE = 256;
+  /** The start time of an operation whose duration is not recorded. */
+  static final long UNTIMED = Long.MIN_VALUE;
+
+  protected final com.github.benmanes.caffeine.cache.Cache<K, V> cache;
   protected final Optional<CacheLoader<K, V>> cacheLoader;
   protected final Set<CompletableFuture<?>> inFlight;
   protected final JCacheStatisticsMXBean statistics;
   protected final EventDispatcher<K, V> dispatcher;
+  protected final JCacheExpiry<K, V> expiry;
   protected final Executor executor;
   protected final Ticker ticker;
 
@@ -95,7 +101,6 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   private final CacheManager cacheManager;
   private final CacheWriter<K, V> writer;
   private final JCacheMXBean cacheMXBean;
-  private final ExpiryPolicy expiry;
   private final Copier copier;
   private final String name;
 
@@ -104,9 +109,9 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   @SuppressWarnings({"PMD.ExcessiveParameterList", "this-escape"})
   public CacheProxy(String name, Executor executor, CacheManager cacheManager,
       CaffeineConfiguration<K, V> configuration,
-      com.github.benmanes.caffeine.cache.Cache<K, Expirable<V>> cache,
+      com.github.benmanes.caffeine.cache.Cache<K, V> cache,
       EventDispatcher<K, V> dispatcher, Optional<CacheLoader<K, V>> cacheLoader,
-      ExpiryPolicy expiry, Ticker ticker, JCacheStatisticsMXBean statistics) {
+      JCacheExpiry<K, V> expiry, Ticker ticker, JCacheStatisticsMXBean statistics) {
     this.writer = requireNonNullElse(configuration.getCacheWriter(), DisabledCacheWriter.get());
     this.configuration = requireNonNull(configuration);
     this.cacheManager = requireNonNull(cacheManager);
@@ -129,66 +134,27 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   @Override
   public boolean containsKey(K key) {
     requireNotClosed();
-    Expirable<V> expirable = cache.getIfPresent(key);
-    if (expirable == null) {
-      return false;
-    }
-    if (!expirable.isEternal() && expirable.hasExpired(currentTimeMillis())) {
-      cache.asMap().computeIfPresent(key, (k, e) -> {
-        if (e == expirable) {
-          dispatcher.publishExpired(this, key, expirable.get());
-          statistics.recordEvictions(1);
-          return null;
-        }
-        return e;
-      });
-      dispatcher.awaitSynchronous();
-      return false;
-    }
-    return true;
+    return cache.asMap().containsKey(key);
   }
 
   @Override
   public @Nullable V get(K key) {
     requireNotClosed();
-    Expirable<V> expirable = cache.getIfPresent(key);
-    if (expirable == null) {
+    boolean statsEnabled = statistics.isEnabled();
+    long start = startTimer(statsEnabled);
+
+    V value = cache.getIfPresent(key);
+    if (value == null) {
       statistics.recordMisses(1L);
       return null;
     }
 
-    long start, millis;
-    boolean statsEnabled = statistics.isEnabled();
-    if (!expirable.isEternal()) {
-      start = ticker.read();
-      millis = nanosToMillis(start);
-      if (expirable.hasExpired(millis)) {
-        cache.asMap().computeIfPresent(key, (k, e) -> {
-          if (e == expirable) {
-            dispatcher.publishExpired(this, key, expirable.get());
-            statistics.recordEvictions(1);
-            return null;
-          }
-          return e;
-        });
-        dispatcher.awaitSynchronous();
-        statistics.recordMisses(1L);
-        return null;
-      }
-    } else if (statsEnabled) {
-      start = ticker.read();
-      millis = nanosToMillis(start);
-    } else {
-      start = millis = 0L;
-    }
-
-    setAccessExpireTime(key, expirable, millis);
-    V value = copyValue(expirable);
+    V copy = copyOf(value);
     if (statsEnabled) {
       statistics.recordHits(1L);
-      statistics.recordGetTime(ticker.read() - start);
+      statistics.recordGetTime(elapsedTime(start));
     }
-    return value;
+    return copy;
   }
 
   @Override
@@ -196,50 +162,35 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNotClosed();
 
     boolean statsEnabled = statistics.isEnabled();
-    long now = statsEnabled ? ticker.read() : 0L;
+    long now = startTimer(statsEnabled);
 
-    Map<K, Expirable<V>> result = getAndFilterExpiredEntries(keys, true);
+    Map<K, V> result = getAllPresent(keys, /* updateAccessTime */ true);
 
     if (statsEnabled) {
-      statistics.recordGetTime(ticker.read() - now);
+      statistics.recordGetTime(elapsedTime(now));
     }
     return copyMap(result);
   }
 
   /**
-   * Returns all of the mappings present, expiring as required, and optionally updates their access
-   * expiry time.
+   * Returns all of the unexpired mappings present and optionally updates their access expiry time.
    */
-  protected Map<K, Expirable<V>> getAndFilterExpiredEntries(
-      Set<? extends K> keys, boolean updateAccessTime) {
-    var result = new HashMap<K, Expirable<V>>(cache.getAllPresent(keys));
-
-    int[] expired = { 0 };
-    long[] millis = { 0L };
-    result.entrySet().removeIf(entry -> {
-      if (!entry.getValue().isEternal() && (millis[0] == 0L)) {
-        millis[0] = currentTimeMillis();
-      }
-      if (entry.getValue().hasExpired(millis[0])) {
-        cache.asMap().computeIfPresent(entry.getKey(), (k, expirable) -> {
-          if (expirable == entry.getValue()) {
-            dispatcher.publishExpired(this, entry.getKey(), entry.getValue().get());
-            expired[0]++;
-            return null;
-          }
-          return expirable;
-        });
-        return true;
-      }
-      if (updateAccessTime) {
-        setAccessExpireTime(entry.getKey(), entry.getValue(), millis[0]);
+  protected Map<K, V> getAllPresent(Set<? extends K> keys, boolean updateAccessTime) {
+    Map<K, V> result;
+    if (updateAccessTime) {
+      result = new HashMap<>(cache.getAllPresent(keys));
+    } else {
+      result = new HashMap<>(keys.size(), 1.0f);
+      for (K key : keys) {
+        V value = cache.policy().getIfPresentQuietly(key);
+        if (value != null) {
+          result.put(key, value);
+        }
       }
-      return false;
-    });
+    }
 
     statistics.recordHits(result.size());
     statistics.recordMisses(keys.size() - result.size());
-    statistics.recordEvictions(expired[0]);
     return result;
   }
 
@@ -304,7 +255,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   public void put(K key, V value) {
     requireNotClosed();
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     var result = putNoCopyOrAwait(key, value, /* publishToWriter */ true);
     dispatcher.awaitSynchronous();
@@ -313,7 +264,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       if (result.written) {
         statistics.recordPuts(1);
       }
-      statistics.recordPutTime(ticker.read() - start);
+      statistics.recordPutTime(elapsedTime(start));
     }
   }
 
@@ -321,7 +272,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   public @Nullable V getAndPut(K key, V value) {
     requireNotClosed();
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     var result = putNoCopyOrAwait(key, value, true);
     dispatcher.awaitSynchronous();
@@ -335,7 +286,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       if (result.written) {
         statistics.recordPuts(1);
       }
-      long duration = ticker.read() - start;
+      long duration = elapsedTime(start);
       statistics.recordGetTime(duration);
       statistics.recordPutTime(duration);
     }
@@ -356,40 +307,32 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNonNull(value);
 
     var result = new PutResult<V>();
-    cache.asMap().compute(copyOf(key), (k, expirable) -> {
+    cache.asMap().compute(copyOf(key), (k, oldValue) -> {
       V newValue = copyOf(value);
       if (publishToWriter) {
         publishToCacheWriter(writer::write, () -> new EntryProxy<>(key, value));
       }
-      if ((expirable != null) && !expirable.isEternal()
-          && expirable.hasExpired(currentTimeMillis())) {
-        dispatcher.publishExpired(this, key, expirable.get());
-        statistics.recordEvictions(1L);
-        expirable = null;
-      }
-      long expireTimeMS = getWriteExpireTimeMS((expirable == null));
-      if ((expirable != null) && (expireTimeMS == Long.MIN_VALUE)) {
-        expireTimeMS = expirable.getExpireTimeMS();
-      }
-      if (expireTimeMS == 0) {
+      long duration = getWriteExpiresAfter((oldValue == null));
+      if (duration == 0L) {
         // The TCK asserts that expired entry is not counted in the puts stats, despite the javadoc
         // saying otherwise. See CacheMBStatisticsBeanTest.testExpiryOnCreation()
         result.written = false;
 
         // The TCK asserts that a create is not published, so skipping on update for consistency.
         // See CacheExpiryTest.expire_whenCreated_CreatedExpiryPolicy()
-        result.oldValue = (expirable == null) ? null : expirable.get();
+        result.oldValue = oldValue;
 
         dispatcher.publishExpired(this, key, value);
         return null;
-      } else if (expirable == null) {
+      } else if (oldValue == null) {
         dispatcher.publishCreated(this, key, newValue);
       } else {
-        result.oldValue = expirable.get();
-        dispatcher.publishUpdated(this, key, expirable.get(), newValue);
+        result.oldValue = oldValue;
+        dispatcher.publishUpdated(this, key, oldValue, newValue);
       }
       result.written = true;
-      return new Expirable<>(newValue, expireTimeMS);
+      expiry.setPending(duration);
+      return newValue;
     });
     return result;
   }
@@ -405,7 +348,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     CacheWriterException error = null;
     Set<? extends K> failedKeys = Set.of();
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
     if (configuration.isWriteThrough() && !map.isEmpty()) {
       var entries = new ArrayList<Cache.Entry<? extends K, ? extends V>>(map.size());
       for (var entry : map.entrySet()) {
@@ -436,7 +379,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
 
     if (statsEnabled) {
       statistics.recordPuts(puts);
-      statistics.recordPutTime(ticker.read() - start);
+      statistics.recordPutTime(elapsedTime(start));
     }
     if (error != null) {
       throw error;
@@ -449,7 +392,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNotClosed();
     requireNonNull(value);
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     boolean added = putIfAbsentNoAwait(key, value, /* publishToWriter */ true);
     dispatcher.awaitSynchronous();
@@ -461,7 +404,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       } else {
         statistics.recordHits(1L);
       }
-      statistics.recordPutTime(ticker.read() - start);
+      statistics.recordPutTime(elapsedTime(start));
     }
     return added;
   }
@@ -478,15 +421,9 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   @CanIgnoreReturnValue
   private boolean putIfAbsentNoAwait(K key, V value, boolean publishToWriter) {
     boolean[] absent = { false };
-    cache.asMap().compute(copyOf(key), (k, expirable) -> {
-      if ((expirable != null) && !expirable.isEternal()
-          && expirable.hasExpired(currentTimeMillis())) {
-        dispatcher.publishExpired(this, key, expirable.get());
-        statistics.recordEvictions(1L);
-        expirable = null;
-      }
-      if (expirable != null) {
-        return expirable;
+    cache.asMap().compute(copyOf(key), (k, oldValue) -> {
+      if (oldValue != null) {
+        return oldValue;
       }
       if (publishToWriter) {
         publishToCacheWriter(writer::write, () -> new EntryProxy<>(key, value));
@@ -494,16 +431,16 @@ public class CacheProxy<K, V> implements Cache<K, V> {
 
       absent[0] = true;
       V copy = copyOf(value);
-      long expireTimeMS = getWriteExpireTimeMS(/* created */ true);
-      if (expireTimeMS == 0) {
+      long duration = getWriteExpiresAfter(/* created */ true);
+      if (duration == 0L) {
         // The TCK asserts that a create is not published in
         // CacheExpiryTest.expire_whenCreated_CreatedExpiryPolicy()
         dispatcher.publishExpired(this, key, copy);
         return null;
-      } else {
-        dispatcher.publishCreated(this, key, copy);
-        return new Expirable<>(copy, expireTimeMS);
       }
+      dispatcher.publishCreated(this, key, copy);
+      expiry.setPending(duration);
+      return copy;
     });
     return absent[0];
   }
@@ -514,14 +451,14 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNotClosed();
     requireNonNull(key);
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     publishToCacheWriter(writer::delete, () -> key);
     V value = removeNoCopyOrAwait(key);
     dispatcher.awaitSynchronous();
 
     if (statsEnabled) {
-      statistics.recordRemoveTime(ticker.read() - start);
+      statistics.recordRemoveTime(elapsedTime(start));
     }
     if (value != null) {
       statistics.recordRemovals(1L);
@@ -540,15 +477,9 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   private V removeNoCopyOrAwait(K key) {
     @SuppressWarnings("unchecked")
     V[] removed = (V[]) new Object[1];
-    cache.asMap().computeIfPresent(key, (k, expirable) -> {
-      if (!expirable.isEternal() && expirable.hasExpired(currentTimeMillis())) {
-        dispatcher.publishExpired(this, key, expirable.get());
-        statistics.recordEvictions(1L);
-        return null;
-      }
-
-      dispatcher.publishRemoved(this, key, expirable.get());
-      removed[0] = expirable.get();
+    cache.asMap().computeIfPresent(key, (k, value) -> {
+      dispatcher.publishRemoved(this, key, value);
+      removed[0] = value;
       return null;
     });
     return removed[0];
@@ -562,26 +493,18 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNonNull(oldValue);
 
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     boolean[] removed = { false };
-    cache.asMap().computeIfPresent(key, (k, expirable) -> {
-      long millis = expirable.isEternal()
-          ? 0L
-          : nanosToMillis((start == 0L) ? ticker.read() : start);
-      if (expirable.hasExpired(millis)) {
-        dispatcher.publishExpired(this, key, expirable.get());
-        statistics.recordEvictions(1L);
-        return null;
-      }
-      if (oldValue.equals(expirable.get())) {
+    cache.asMap().computeIfPresent(key, (k, value) -> {
+      if (oldValue.equals(value)) {
         publishToCacheWriter(writer::delete, () -> key);
-        dispatcher.publishRemoved(this, key, expirable.get());
+        dispatcher.publishRemoved(this, key, value);
         removed[0] = true;
         return null;
       }
-      setAccessExpireTime(key, expirable, millis);
-      return expirable;
+      expiry.setPending(expiry.getExpiryForAccess());
+      return value;
     });
     dispatcher.awaitSynchronous();
     if (statsEnabled) {
@@ -591,7 +514,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       } else {
         statistics.recordMisses(1L);
       }
-      statistics.recordRemoveTime(ticker.read() - start);
+      statistics.recordRemoveTime(elapsedTime(start));
     }
     return removed[0];
   }
@@ -601,7 +524,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNotClosed();
     requireNonNull(key);
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     publishToCacheWriter(writer::delete, () -> key);
     V value = removeNoCopyOrAwait(key);
@@ -615,7 +538,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
         statistics.recordHits(1L);
         statistics.recordRemovals(1L);
       }
-      long duration = ticker.read() - start;
+      long duration = elapsedTime(start);
       statistics.recordRemoveTime(duration);
       statistics.recordGetTime(duration);
     }
@@ -630,34 +553,22 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNonNull(newValue);
 
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     boolean[] found = { false };
     boolean[] replaced = { false };
-    cache.asMap().computeIfPresent(key, (k, expirable) -> {
-      long millis = expirable.isEternal()
-          ? 0L
-          : nanosToMillis((start == 0L) ? ticker.read() : start);
-      if (expirable.hasExpired(millis)) {
-        dispatcher.publishExpired(this, key, expirable.get());
-        statistics.recordEvictions(1L);
-        return null;
-      }
-
+    cache.asMap().computeIfPresent(key, (k, value) -> {
       found[0] = true;
-      Expirable<V> result;
-      if (oldValue.equals(expirable.get())) {
-        publishToCacheWriter(writer::write, () -> new EntryProxy<>(key, expirable.get()));
-        dispatcher.publishUpdated(this, key, expirable.get(), copyOf(newValue));
-        long expireTimeMS = getWriteExpireTimeMS(/* created */ false);
-        if (expireTimeMS == Long.MIN_VALUE) {
-          expireTimeMS = expirable.getExpireTimeMS();
-        }
-        result = new Expirable<>(newValue, expireTimeMS);
+      V result;
+      if (oldValue.equals(value)) {
+        publishToCacheWriter(writer::write, () -> new EntryProxy<>(key, value));
+        dispatcher.publishUpdated(this, key, value, copyOf(newValue));
+        expiry.setPending(getWriteExpiresAfter(/* created */ false));
+        result = newValue;
         replaced[0] = true;
       } else {
-        result = expirable;
-        setAccessExpireTime(key, expirable, millis);
+        expiry.setPending(expiry.getExpiryForAccess());
+        result = value;
       }
       return result;
     });
@@ -667,7 +578,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       statistics.recordPuts(replaced[0] ? 1L : 0L);
       statistics.recordMisses(found[0] ? 0L : 1L);
       statistics.recordHits(found[0] ? 1L : 0L);
-      long duration = ticker.read() - start;
+      long duration = elapsedTime(start);
       statistics.recordGetTime(duration);
       statistics.recordPutTime(duration);
     }
@@ -680,7 +591,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   public boolean replace(K key, V value) {
     requireNotClosed();
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     V oldValue = replaceNoCopyOrAwait(key, value);
     dispatcher.awaitSynchronous();
@@ -692,7 +603,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     if (statsEnabled) {
       statistics.recordHits(1L);
       statistics.recordPuts(1L);
-      statistics.recordPutTime(ticker.read() - start);
+      statistics.recordPutTime(elapsedTime(start));
     }
     return true;
   }
@@ -701,7 +612,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
   public V getAndReplace(K key, V value) {
     requireNotClosed();
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
 
     V oldValue = replaceNoCopyOrAwait(key, value);
     dispatcher.awaitSynchronous();
@@ -714,7 +625,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
         statistics.recordHits(1L);
         statistics.recordPuts(1L);
       }
-      long duration = ticker.read() - start;
+      long duration = elapsedTime(start);
       statistics.recordGetTime(duration);
       statistics.recordPutTime(duration);
     }
@@ -735,21 +646,12 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     V copy = copyOf(value);
     @SuppressWarnings("unchecked")
     V[] replaced = (V[]) new Object[1];
-    cache.asMap().computeIfPresent(key, (k, expirable) -> {
-      if (!expirable.isEternal() && expirable.hasExpired(currentTimeMillis())) {
-        dispatcher.publishExpired(this, key, expirable.get());
-        statistics.recordEvictions(1L);
-        return null;
-      }
-
+    cache.asMap().computeIfPresent(key, (k, oldValue) -> {
       publishToCacheWriter(writer::write, () -> new EntryProxy<>(key, value));
-      long expireTimeMS = getWriteExpireTimeMS(/* created */ false);
-      if (expireTimeMS == Long.MIN_VALUE) {
-        expireTimeMS = expirable.getExpireTimeMS();
-      }
-      dispatcher.publishUpdated(this, key, expirable.get(), copy);
-      replaced[0] = expirable.get();
-      return new Expirable<>(copy, expireTimeMS);
+      dispatcher.publishUpdated(this, key, oldValue, copy);
+      expiry.setPending(getWriteExpiresAfter(/* created */ false));
+      replaced[0] = oldValue;
+      return copy;
     });
     return replaced[0];
   }
@@ -762,7 +664,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     CacheWriterException error = null;
     Set<? extends K> failedKeys = Set.of();
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
     if (configuration.isWriteThrough() && !keys.isEmpty()) {
       var keysToWrite = new LinkedHashSet<>(keys);
       try {
@@ -786,7 +688,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
 
     if (statsEnabled) {
       statistics.recordRemovals(removed);
-      statistics.recordRemoveTime(ticker.read() - start);
+      statistics.recordRemoveTime(elapsedTime(start));
     }
     if (error != null) {
       throw error;
@@ -822,66 +724,65 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     requireNonNull(arguments);
     requireNotClosed();
 
+    try {
+      T result = invokeNoAwait(key, entryProcessor, arguments);
+      dispatcher.awaitSynchronous();
+      return result;
+    } catch (Throwable thr) {
+      dispatcher.ignoreSynchronous();
+      throw thr;
+    }
+  }
+
+  /**
+   * Invokes the entry processor against the entry. The method does not wait for synchronous
+   * listeners to complete.
+   *
+   * @param key the key to the entry
+   * @param entryProcessor the processor to invoke
+   * @param arguments the additional arguments to pass to the processor
+   * @return the result of the processing, if any
+   */
+  private @Nullable <T> T invokeNoAwait(K key,
+      EntryProcessor<K, V, T> entryProcessor, Object... arguments) {
     Object[] result = new Object[1];
-    BiFunction<K, Expirable<V>, Expirable<V>> remappingFunction = (k, expirable) -> {
+    BiFunction<K, V, V> remappingFunction = (k, oldValue) -> {
       V value;
-      long millis = 0L;
-      if ((expirable == null)
-          || (!expirable.isEternal() && expirable.hasExpired(millis = currentTimeMillis()))) {
+      if (oldValue == null) {
         statistics.recordMisses(1L);
         value = null;
       } else {
-        value = copyValue(expirable);
+        value = copyOf(oldValue);
         statistics.recordHits(1L);
       }
       EntryProcessorEntry<K, V> entry = new EntryProcessorEntry<>(key, value,
           configuration.isReadThrough() ? cacheLoader : Optional.empty());
       try {
         result[0] = entryProcessor.process(entry, arguments);
-        return postProcess(expirable, entry, millis);
+        return postProcess(oldValue, entry);
       } catch (EntryProcessorException e) {
         throw e;
       } catch (RuntimeException e) {
         throw new EntryProcessorException(e);
       }
     };
-    try {
-      cache.asMap().compute(copyOf(key), remappingFunction);
-      dispatcher.awaitSynchronous();
-    } catch (Throwable thr) {
-      dispatcher.ignoreSynchronous();
-      throw thr;
-    }
+    cache.asMap().compute(copyOf(key), remappingFunction);
 
     @SuppressWarnings("unchecked")
     T castedResult = (T) result[0];
     return castedResult;
   }
 
-  /** Returns the updated expirable value after performing the post-processing actions. */
+  /** Returns the updated value after performing the post-processing actions. */
   @SuppressWarnings({"fallthrough", "NullAway",
     "PMD.MissingBreakInSwitch", "PMD.SwitchStmtsShouldHaveDefault"})
-  private @Nullable Expirable<V> postProcess(@Nullable Expirable<V> expirable,
-      EntryProcessorEntry<K, V> entry, long currentTimeMS) {
+  private @Nullable V postProcess(@Nullable V oldValue, EntryProcessorEntry<K, V> entry) {
     switch (entry.getAction()) {
       case NONE:
-        if (expirable == null) {
-          return null;
-        } else if (expirable.isEternal()) {
-          return expirable;
-        }
-        if (currentTimeMS == 0) {
-          currentTimeMS = currentTimeMillis();
-        }
-        if (expirable.hasExpired(currentTimeMS)) {
-          dispatcher.publishExpired(this, entry.getKey(), expirable.get());
-          statistics.recordEvictions(1);
-          return null;
-        }
-        return expirable;
+        return oldValue;
       case READ: {
-        setAccessExpireTime(entry.getKey(), expirable, 0L);
-        return expirable;
+        expiry.setPending(expiry.getExpiryForAccess());
+        return oldValue;
       }
       case CREATED:
         this.publishToCacheWriter(writer::write, () -> entry);
@@ -889,46 +790,111 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       case LOADED:
         statistics.recordPuts(1L);
         dispatcher.publishCreated(this, entry.getKey(), entry.getValue());
-        return new Expirable<>(entry.getValue(), getWriteExpireTimeMS(/* created */ true));
+        expiry.setPending(getWriteExpiresAfter(/* created */ true));
+        return entry.getValue();
       case UPDATED: {
         statistics.recordPuts(1L);
         publishToCacheWriter(writer::write, () -> entry);
-        requireNonNull(expirable, "Expected a previous value but was null");
-        dispatcher.publishUpdated(this, entry.getKey(), expirable.get(), entry.getValue());
-        long expireTimeMS = getWriteExpireTimeMS(/* created */ false);
-        if (expireTimeMS == Long.MIN_VALUE) {
-          expireTimeMS = expirable.getExpireTimeMS();
-        }
-        return new Expirable<>(entry.getValue(), expireTimeMS);
+        requireNonNull(oldValue, "Expected a previous value but was null");
+        dispatcher.publishUpdated(this, entry.getKey(), oldValue, entry.getValue());
+        expiry.setPending(getWriteExpiresAfter(/* created */ false));
+        return entry.getValue();
       }
       case DELETED:
         statistics.recordRemovals(1L);
         publishToCacheWriter(writer::delete, entry::getKey);
-        if (expirable != null) {
-          dispatcher.publishRemoved(this, entry.getKey(), expirable.get());
+        if (oldValue != null) {
+          dispatcher.publishRemoved(this, entry.getKey(), oldValue);
         }
         return null;
     }
     throw new IllegalStateException("Unknown state: " + entry.getAction());
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * A large set of keys is partitioned into batches that are processed in parallel by the cache's
+   * executor, with the calling thread processing the last batch. Each entry is computed atomically
+   * as by {@link #invoke}, and the synchronous listeners are awaited once per batch. The entry
+   * processor may therefore be invoked concurrently for different keys, and on the executor's
+   * threads it does not observe the caller's thread context, such as its thread locals or context
+   * class loader. This method returns or throws only after all of the batches have completed.
+   */
   @Override
   public <T> Map<K, EntryProcessorResult<T>> invokeAll(Set<? extends K> keys,
       EntryProcessor<K, V, T> entryProcessor, Object... arguments) {
-    Map<K, EntryProcessorResult<T>> results = new HashMap<>(keys.size(), 1.0f);
-    for (K key : keys) {
-      try {
-        T result = invoke(key, entryProcessor, arguments);
-        if (result != null) {
-          results.put(key, () -> result);
-        }
-      } catch (EntryProcessorException e) {
-        results.put(key, () -> { throw e; });
+    requireNonNull(entryProcessor);
+    requireNonNull(arguments);
+    requireNotClosed();
+    keys.forEach(Objects::requireNonNull);
+
+    if (keys.size() <= INVOKE_ALL_BATCH_SIZE) {
+      Map<K, EntryProcessorResult<T>> results = new HashMap<>(keys.size(), 1.0f);
+      invokeBatch(keys, entryProcessor, arguments, results);
+      return results;
+    }
+
+    List<K> keysToProcess = new ArrayList<>(keys);
+    Map<K, EntryProcessorResult<T>> results = new ConcurrentHashMap<>(keysToProcess.size());
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    int start = 0;
+    for (; start + INVOKE_ALL_BATCH_SIZE < keysToProcess.size(); start += INVOKE_ALL_BATCH_SIZE) {
+      var batch = keysToProcess.subList(start, start + INVOKE_ALL_BATCH_SIZE);
+      futures.add(CompletableFuture.runAsync(() ->
+          invokeBatch(batch, entryProcessor, arguments, results), executor));
+    }
+    var batches = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    var remaining = keysToProcess.subList(start, keysToProcess.size());
+    try {
+      invokeBatch(remaining, entryProcessor, arguments, results);
+    } finally {
+      // Await the other batches even if this one failed, so that none modify the cache afterwards
+      batches.exceptionally(error -> null).join();
+    }
+
+    try {
+      batches.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
       }
+      throw e;
     }
     return results;
   }
 
+  /**
+   * Invokes the entry processor against each of the entries and waits for the synchronous
+   * listeners to complete.
+   *
+   * @param keys the keys to the entries
+   * @param entryProcessor the processor to invoke
+   * @param arguments the additional arguments to pass to the processor
+   * @param results the mapping of keys to the results of processing
+   */
+  private <T> void invokeBatch(Collection<? extends K> keys, EntryProcessor<K, V, T> entryProcessor,
+      Object[] arguments, Map<K, EntryProcessorResult<T>> results) {
+    try {
+      for (K key : keys) {
+        try {
+          T result = invokeNoAwait(key, entryProcessor, arguments);
+          if (result != null) {
+            results.put(key, () -> result);
+          }
+        } catch (EntryProcessorException e) {
+          results.put(key, () -> { throw e; });
+        }
+      }
+      dispatcher.awaitSynchronous();
+    } catch (Throwable thr) {
+      dispatcher.ignoreSynchronous();
+      throw thr;
+    }
+  }
+
   @Override
   public String getName() {
     return name;
@@ -957,7 +923,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
         closed = true;
 
         var thrown = shutdownExecutor();
-        thrown = tryClose(expiry, thrown);
+        thrown = tryClose(expiry.policy, thrown);
         thrown = tryClose(writer, thrown);
         thrown = tryClose(executor, thrown);
         thrown = tryClose(cacheLoader.orElse(null), thrown);
@@ -1102,6 +1068,27 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     }
   }
 
+  /**
+   * Returns the start time of an operation if its duration should be recorded. When statistics are
+   * enabled only a sample of the operations are timed, as configured by the statistics.
+   *
+   * @param statsEnabled if statistics are being recorded
+   * @return the current time or {@link #UNTIMED} if the operation is not timed
+   */
+  protected final long startTimer(boolean statsEnabled) {
+    return (statsEnabled && statistics.isSampled()) ? ticker.read() : UNTIMED;
+  }
+
+  /**
+   * Returns the elapsed time of an operation.
+   *
+   * @param start the start time returned by {@link #startTimer}
+   * @return the duration in nanoseconds or zero if the operation is not timed
+   */
+  protected final long elapsedTime(long start) {
+    return (start == UNTIMED) ? 0L : ticker.read() - start;
+  }
+
   /**
    * Returns a copy of the value if value-based caching is enabled.
    *
@@ -1118,115 +1105,56 @@ public class CacheProxy<K, V> implements Cache<K, V> {
     return requireNonNull(copy);
   }
 
-  /**
-   * Returns a copy of the value if value-based caching is enabled.
-   *
-   * @param expirable the expirable value to be copied
-   * @return a copy of the value if storing by value or the same instance if by reference
-   */
-  @SuppressWarnings("NullAway")
-  protected final @PolyNull V copyValue(@PolyNull Expirable<V> expirable) {
-    if (expirable == null) {
-      return null;
-    }
-    V copy = copier.copy(expirable.get(), cacheManager.getClassLoader());
-    return requireNonNull(copy);
-  }
-
   /**
    * Returns a deep copy of the map if value-based caching is enabled.
    *
-   * @param map the mapping of keys to expirable values
+   * @param map the mapping of keys to values
    * @return a deep or shallow copy of the mappings depending on the store by value setting
    */
   @SuppressWarnings("CollectorMutability")
-  protected final Map<K, V> copyMap(Map<K, Expirable<V>> map) {
+  protected final Map<K, V> copyMap(Map<K, V> map) {
     ClassLoader classLoader = cacheManager.getClassLoader();
     return map.entrySet().stream().collect(toMap(
         entry -> copier.copy(entry.getKey(), classLoader),
-        entry -> copier.copy(entry.getValue().get(), classLoader)));
-  }
-
-  /** Returns the current time in milliseconds. */
-  protected final long currentTimeMillis() {
-    return nanosToMillis(ticker.read());
-  }
-
-  /** Returns the nanosecond time in milliseconds. */
-  protected static long nanosToMillis(long nanos) {
-    return TimeUnit.NANOSECONDS.toMillis(nanos);
+        entry -> copier.copy(entry.getValue(), classLoader)));
   }
 
   /**
-   * Sets the access expiration time.
+   * Sets the access expiration time of an entry that was read without the cache applying it.
    *
    * @param key the entry's key
-   * @param expirable the entry that was operated on
-   * @param currentTimeMS the current time, or 0 if not read yet
    */
-  protected final void setAccessExpireTime(K key, Expirable<?> expirable, long currentTimeMS) {
-    try {
-      Duration duration = expiry.getExpiryForAccess();
-      if (duration == null) {
-        return;
-      } else if (duration.isZero()) {
-        expirable.setExpireTimeMS(0L);
-      } else if (duration.isEternal()) {
-        expirable.setExpireTimeMS(Long.MAX_VALUE);
-      } else {
-        if (currentTimeMS == 0L) {
-          currentTimeMS = currentTimeMillis();
-        }
-        long expireTimeMS = duration.getAdjustedTime(currentTimeMS);
-        expirable.setExpireTimeMS(expireTimeMS);
-      }
+  protected final void setAccessExpireTime(K key) {
+    long duration = expiry.getExpiryForAccess();
+    if (duration != JCacheExpiry.UNCHANGED) {
       cache.policy().expireVariably().ifPresent(policy -> {
-        policy.setExpiresAfter(key, duration.getDurationAmount(), duration.getTimeUnit());
+        policy.setExpiresAfter(key, duration, TimeUnit.NANOSECONDS);
       });
-    } catch (RuntimeException e) {
-      logger.log(Level.WARNING, "Failed to set the entry's expiration time", e);
     }
   }
 
   /**
-   * Returns the time when the entry will expire.
+   * Returns the duration until a written entry will expire.
    *
    * @param created if the write operation is an insert or an update
-   * @return the time when the entry will expire, zero if it should expire immediately,
-   *         Long.MIN_VALUE if it should not be changed, or Long.MAX_VALUE if eternal
+   * @return the duration in nanoseconds, zero if it should expire immediately, Long.MIN_VALUE if
+   *         it should not be changed, or Long.MAX_VALUE if eternal
    */
-  protected final long getWriteExpireTimeMS(boolean created) {
-    try {
-      Duration duration = created ? expiry.getExpiryForCreation() : expiry.getExpiryForUpdate();
-      if (duration == null) {
-        return Long.MIN_VALUE;
-      } else if (duration.isZero()) {
-        return 0L;
-      } else if (duration.isEternal()) {
-        return Long.MAX_VALUE;
-      }
-      return duration.getAdjustedTime(currentTimeMillis());
-    } catch (RuntimeException e) {
-      logger.log(Level.WARNING, "Failed to get the policy's expiration time", e);
-      return Long.MIN_VALUE;
-    }
+  protected final long getWriteExpiresAfter(boolean created) {
+    return created ? expiry.getExpiryForCreation() : expiry.getExpiryForUpdate();
   }
 
   /** An iterator to safely expose the cache entries. */
   final class EntryIterator implements Iterator<Cache.Entry<K, V>> {
-    final Iterator<Map.Entry<K, Expirable<V>>> delegate = cache.asMap().entrySet().iterator();
-    Map.@Nullable Entry<K, Expirable<V>> current;
-    Map.@Nullable Entry<K, Expirable<V>> cursor;
+    final Iterator<Map.Entry<K, V>> delegate = cache.asMap().entrySet().iterator();
+    Map.@Nullable Entry<K, V> current;
+    Map.@Nullable Entry<K, V> cursor;
 
     @Override
     public boolean hasNext() {
-      while ((cursor == null) && delegate.hasNext()) {
-        Map.Entry<K, Expirable<V>> entry = delegate.next();
-        long millis = entry.getValue().isEternal() ? 0L : currentTimeMillis();
-        if (!entry.getValue().hasExpired(millis)) {
-          setAccessExpireTime(entry.getKey(), entry.getValue(), millis);
-          cursor = entry;
-        }
+      if ((cursor == null) && delegate.hasNext()) {
+        cursor = delegate.next();
+        setAccessExpireTime(cursor.getKey());
       }
       return (cursor != null);
     }
@@ -1239,7 +1167,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       current = cursor;
       cursor = null;
       @SuppressWarnings("NullAway")
-      var entry = new EntryProxy<K, V>(copyOf(current.getKey()), copyValue(current.getValue()));
+      var entry = new EntryProxy<K, V>(copyOf(current.getKey()), copyOf(current.getValue()));
       return entry;
     }
 
@@ -1248,7 +1176,7 @@ public class CacheProxy<K, V> implements Cache<K, V> {
       if (current == null) {
         throw new IllegalStateException();
       }
-      CacheProxy.this.remove(current.getKey(), current.getValue().get());
+      CacheProxy.this.remove(current.getKey(), current.getValue());
       current = null;
     }
   }
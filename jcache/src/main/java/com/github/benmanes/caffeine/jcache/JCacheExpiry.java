@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.jcache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.ExpiryPolicy;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * An adapter from a JCache expiry policy to Caffeine's variable expiration. The TCK asserts that
+ * the policy is called exactly once per operation, so an operation that computes an entry consults
+ * the policy itself and hands the duration to the next create or update that this thread performs
+ * on the cache. An entry that is created without a pending duration, such as by a read-through
+ * load, has its creation expiry set by the policy, and an entry that is read from the cache has
+ * its access expiry set by the policy. A bulk load may share the creation expiry across the entries
+ * that it creates, so that the policy is consulted once per batch.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+final class JCacheExpiry<K, V> implements Expiry<K, V> {
+  static final Logger logger = System.getLogger(JCacheExpiry.class.getName());
+
+  /** The duration that indicates that the entry's expiration time should not be changed. */
+  static final long UNCHANGED = Long.MIN_VALUE;
+  /** The duration that indicates that the batch's creation expiry has not been computed yet. */
+  static final long UNCOMPUTED = Long.MIN_VALUE + 1;
+
+  /** The index of the duration for the next entry to be created or updated. */
+  static final int PENDING = 0;
+  /** The index of the creation duration shared by a batch, or {@link #UNCHANGED} if none. */
+  static final int BATCH = 1;
+
+  final ThreadLocal<long[]> pending;
+  final ExpiryPolicy policy;
+
+  JCacheExpiry(ExpiryPolicy policy) {
+    this.pending = ThreadLocal.withInitial(() -> new long[] { UNCHANGED, UNCHANGED });
+    this.policy = requireNonNull(policy);
+  }
+
+  @Override
+  public long expireAfterCreate(K key, V value, long currentTime) {
+    long[] slot = pending.get();
+    long duration = slot[PENDING];
+    if (duration != UNCHANGED) {
+      slot[PENDING] = UNCHANGED;
+      return duration;
+    } else if (slot[BATCH] == UNCHANGED) {
+      return getExpiryForCreation();
+    } else if (slot[BATCH] == UNCOMPUTED) {
+      slot[BATCH] = getExpiryForCreation();
+    }
+    return slot[BATCH];
+  }
+
+  @Override
+  public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+    long duration = takePending();
+    return (duration == UNCHANGED) ? currentDuration : duration;
+  }
+
+  @Override
+  public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+    long duration = getExpiryForAccess();
+    return (duration == UNCHANGED) ? currentDuration : duration;
+  }
+
+  /**
+   * Specifies the duration to use when this thread next creates or updates an entry. This must be
+   * called only when the computation is about to return a non-null value.
+   *
+   * @param duration the duration, in nanoseconds, or {@link #UNCHANGED}
+   */
+  void setPending(long duration) {
+    pending.get()[PENDING] = duration;
+  }
+
+  /**
+   * Starts a batch where the entries that this thread creates without a pending duration share the
+   * creation expiry. The policy is consulted when the first entry is created.
+   */
+  void startBatch() {
+    pending.get()[BATCH] = UNCOMPUTED;
+  }
+
+  /** Ends the batch that this thread started. */
+  void endBatch() {
+    pending.get()[BATCH] = UNCHANGED;
+  }
+
+  /** Returns and clears the duration that this thread specified for the entry being computed. */
+  private long takePending() {
+    long[] slot = pending.get();
+    long duration = slot[PENDING];
+    slot[PENDING] = UNCHANGED;
+    return duration;
+  }
+
+  /**
+   * Returns the duration until a created entry expires.
+   *
+   * @return the duration in nanoseconds, zero if it should expire immediately, or
+   *         {@code Long.MAX_VALUE} if eternal
+   */
+  long getExpiryForCreation() {
+    try {
+      long duration = toNanos(policy.getExpiryForCreation());
+      return (duration == UNCHANGED) ? Long.MAX_VALUE : duration;
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to get the policy's expiration time", e);
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * Returns the duration until an updated entry expires.
+   *
+   * @return the duration in nanoseconds, zero if it should expire immediately,
+   *         {@code Long.MAX_VALUE} if eternal, or {@link #UNCHANGED} if it should not be changed
+   */
+  long getExpiryForUpdate() {
+    try {
+      return toNanos(policy.getExpiryForUpdate());
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to get the policy's expiration time", e);
+      return UNCHANGED;
+    }
+  }
+
+  /**
+   * Returns the duration until an accessed entry expires.
+   *
+   * @return the duration in nanoseconds, zero if it should expire immediately,
+   *         {@code Long.MAX_VALUE} if eternal, or {@link #UNCHANGED} if it should not be changed
+   */
+  long getExpiryForAccess() {
+    try {
+      return toNanos(policy.getExpiryForAccess());
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to set the entry's expiration time", e);
+      return UNCHANGED;
+    }
+  }
+
+  /** Returns the duration in nanoseconds, or {@link #UNCHANGED} if not specified. */
+  static long toNanos(@Nullable Duration duration) {
+    if (duration == null) {
+      return UNCHANGED;
+    } else if (duration.isEternal()) {
+      return Long.MAX_VALUE;
+    } else if (duration.isZero()) {
+      return 0L;
+    }
+    return duration.getTimeUnit().toNanos(duration.getDurationAmount());
+  }
+}
@@ -15,8 +15,7 @@
  */
 package com.github.benmanes.caffeine.jcache;
 
-import static java.util.stream.Collectors.toUnmodifiableList;
-
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,7 +27,6 @@ import java.util.concurrent.Executor;
 import javax.cache.Cache;
 import javax.cache.CacheException;
 import javax.cache.CacheManager;
-import javax.cache.expiry.ExpiryPolicy;
 import javax.cache.integration.CacheLoader;
 import javax.cache.integration.CompletionListener;
 
@@ -47,13 +45,13 @@ import com.github.benmanes.caffeine.jcache.management.JCacheStatisticsMXBean;
  */
 @SuppressWarnings("OvershadowingSubclassFields")
 public final class LoadingCacheProxy<K, V> extends CacheProxy<K, V> {
-  private final LoadingCache<K, Expirable<V>> cache;
+  private final LoadingCache<K, V> cache;
 
   @SuppressWarnings("PMD.ExcessiveParameterList")
   public LoadingCacheProxy(String name, Executor executor, CacheManager cacheManager,
-      CaffeineConfiguration<K, V> configuration, LoadingCache<K, Expirable<V>> cache,
+      CaffeineConfiguration<K, V> configuration, LoadingCache<K, V> cache,
       EventDispatcher<K, V> dispatcher, CacheLoader<K, V> cacheLoader,
-      ExpiryPolicy expiry, Ticker ticker, JCacheStatisticsMXBean statistics) {
+      JCacheExpiry<K, V> expiry, Ticker ticker, JCacheStatisticsMXBean statistics) {
     super(name, executor, cacheManager, configuration, cache, dispatcher,
         Optional.of(cacheLoader), expiry, ticker, statistics);
     this.cache = cache;
@@ -75,45 +73,26 @@ public final class LoadingCacheProxy<K, V> extends CacheProxy<K, V> {
   }
 
   /** Retrieves the value from the cache, loading it if necessary. */
-  @SuppressWarnings("PMD.AvoidDeeplyNestedIfStmts")
   private @Nullable V getOrLoad(K key) {
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
-
-    long millis = 0L;
-    Expirable<V> expirable = cache.getIfPresent(key);
-    if ((expirable != null) && !expirable.isEternal()) {
-      millis = nanosToMillis((start == 0L) ? ticker.read() : start);
-      if (expirable.hasExpired(millis)) {
-        var expired = expirable;
-        cache.asMap().computeIfPresent(key, (k, e) -> {
-          if (e == expired) {
-            dispatcher.publishExpired(this, key, expired.get());
-            statistics.recordEvictions(1);
-            return null;
-          }
-          return e;
-        });
-        expirable = null;
-      }
-    }
+    long start = startTimer(statsEnabled);
 
-    if (expirable == null) {
-      expirable = cache.get(key);
+    V value = cache.getIfPresent(key);
+    if (value == null) {
+      value = cache.get(key);
       statistics.recordMisses(1L);
+      if (value != null) {
+        setAccessExpireTime(key);
+      }
     } else {
       statistics.recordHits(1L);
     }
 
-    V value = null;
-    if (expirable != null) {
-      setAccessExpireTime(key, expirable, millis);
-      value = copyValue(expirable);
-    }
+    V copy = copyOf(value);
     if (statsEnabled) {
-      statistics.recordGetTime(ticker.read() - start);
+      statistics.recordGetTime(elapsedTime(start));
     }
-    return value;
+    return copy;
   }
 
   @Override
@@ -126,20 +105,23 @@ public final class LoadingCacheProxy<K, V> extends CacheProxy<K, V> {
   private Map<K, V> getAll(Set<? extends K> keys, boolean updateAccessTime) {
     requireNotClosed();
     boolean statsEnabled = statistics.isEnabled();
-    long start = statsEnabled ? ticker.read() : 0L;
+    long start = startTimer(statsEnabled);
     try {
-      Map<K, Expirable<V>> entries = getAndFilterExpiredEntries(keys, updateAccessTime);
+      Map<K, V> entries = getAllPresent(keys, updateAccessTime);
 
       if (entries.size() != keys.size()) {
-        List<K> keysToLoad = keys.stream()
-            .filter(key -> !entries.containsKey(key))
-            .collect(toUnmodifiableList());
-        entries.putAll(cache.getAll(keysToLoad));
+        var keysToLoad = new ArrayList<K>(keys.size() - entries.size());
+        for (K key : keys) {
+          if (!entries.containsKey(key)) {
+            keysToLoad.add(key);
+          }
+        }
+        entries.putAll(loadAll(keysToLoad));
       }
 
       Map<K, V> result = copyMap(entries);
       if (statsEnabled) {
-        statistics.recordGetTime(ticker.read() - start);
+        statistics.recordGetTime(elapsedTime(start));
       }
       return result;
     } catch (NullPointerException | IllegalStateException | ClassCastException | CacheException e) {
@@ -151,6 +133,19 @@ public final class LoadingCacheProxy<K, V> extends CacheProxy<K, V> {
     }
   }
 
+  /**
+   * Loads the absent entries with a single call to the cache loader. The entries that are created
+   * share the creation expiry, so that the expiry policy is consulted once for the batch.
+   */
+  private Map<K, V> loadAll(List<K> keysToLoad) {
+    expiry.startBatch();
+    try {
+      return cache.getAll(keysToLoad);
+    } finally {
+      expiry.endBatch();
+    }
+  }
+
   @Override
   @SuppressWarnings({"CheckReturnValue", "FutureReturnValueIgnored"})
   public void loadAll(Set<? extends K> keys, boolean replaceExistingValues,
@@ -76,9 +76,11 @@ public final class CaffeineConfiguration<K, V> implements CompleteConfiguration<
   private @Nullable Long maximumWeight;
   private @Nullable Long maximumSize;
   private boolean nativeStatistics;
+  private int statisticsSampleRate;
 
   public CaffeineConfiguration() {
     delegate = new MutableConfiguration<>();
+    statisticsSampleRate = 1;
     delegate.setStoreByValue(false);
     schedulerFactory = DISABLED_SCHEDULER;
     tickerFactory = SYSTEM_TICKER;
@@ -99,6 +101,7 @@ public final class CaffeineConfiguration<K, V> implements CompleteConfiguration<
       refreshAfterWriteNanos = config.refreshAfterWriteNanos;
       expireAfterAccessNanos = config.expireAfterAccessNanos;
       expireAfterWriteNanos = config.expireAfterWriteNanos;
+      statisticsSampleRate = config.statisticsSampleRate;
       nativeStatistics = config.nativeStatistics;
       schedulerFactory = config.schedulerFactory;
       executorFactory = config.executorFactory;
@@ -109,6 +112,7 @@ public final class CaffeineConfiguration<K, V> implements CompleteConfiguration<
       maximumWeight = config.maximumWeight;
       maximumSize = config.maximumSize;
     } else {
+      statisticsSampleRate = 1;
       schedulerFactory = DISABLED_SCHEDULER;
       tickerFactory = SYSTEM_TICKER;
       executorFactory = COMMON_POOL;
@@ -276,6 +280,33 @@ public final class CaffeineConfiguration<K, V> implements CompleteConfiguration<
     delegate.setStatisticsEnabled(enabled);
   }
 
+  /**
+   * Returns the rate at which the statistics time the cache operations, where one in this number
+   * of operations has its duration recorded and the total time is extrapolated from the sample.
+   * <p>
+   * The default value is <code>1</code>, which times every operation.
+   *
+   * @return the number of operations per timed operation
+   */
+  public int getStatisticsSampleRate() {
+    return statisticsSampleRate;
+  }
+
+  /**
+   * Sets the rate at which the statistics time the cache operations. A higher rate reduces the
+   * overhead of reading the clock at the cost of the accuracy of the reported times.
+   *
+   * @param sampleRate the number of operations per timed operation
+   * @throws IllegalArgumentException if the sample rate is not positive
+   */
+  public void setStatisticsSampleRate(int sampleRate) {
+    checkIfReadOnly();
+    if (sampleRate <= 0) {
+      throw new IllegalArgumentException("The sample rate must be positive: " + sampleRate);
+    }
+    this.statisticsSampleRate = sampleRate;
+  }
+
   /** See {@link CompleteConfiguration#isManagementEnabled}. */
   @Override
   public boolean isManagementEnabled() {
@@ -536,6 +567,7 @@ public final class CaffeineConfiguration<K, V> implements CompleteConfiguration<
         && Objects.equals(weigherFactory, config.weigherFactory)
         && Objects.equals(maximumWeight, config.maximumWeight)
         && Objects.equals(maximumSize, config.maximumSize)
+        && (statisticsSampleRate == config.statisticsSampleRate)
         && delegate.equals(config.delegate);
   }
 
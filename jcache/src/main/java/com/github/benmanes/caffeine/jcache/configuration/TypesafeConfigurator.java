@@ -299,6 +299,7 @@ public final class TypesafeConfigurator {
     private void addMonitoring() {
       configuration.setNativeStatisticsEnabled(merged.getBoolean("monitoring.native-statistics"));
       configuration.setStatisticsEnabled(merged.getBoolean("monitoring.statistics"));
+      configuration.setStatisticsSampleRate(merged.getInt("monitoring.statistics-sample-rate"));
       configuration.setManagementEnabled(merged.getBoolean("monitoring.management"));
     }
 
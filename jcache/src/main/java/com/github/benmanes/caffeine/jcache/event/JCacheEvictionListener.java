@@ -23,7 +23,6 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
-import com.github.benmanes.caffeine.jcache.Expirable;
 import com.github.benmanes.caffeine.jcache.management.JCacheStatisticsMXBean;
 
 /**
@@ -32,7 +31,7 @@ import com.github.benmanes.caffeine.jcache.management.JCacheStatisticsMXBean;
  *
  * @author ben.manes@gmail.com (Ben Manes)
  */
-public final class JCacheEvictionListener<K, V> implements RemovalListener<K, Expirable<V>> {
+public final class JCacheEvictionListener<K, V> implements RemovalListener<K, V> {
   private final JCacheStatisticsMXBean statistics;
   private final EventDispatcher<K, V> dispatcher;
 
@@ -56,9 +55,8 @@ public final class JCacheEvictionListener<K, V> implements RemovalListener<K, Ex
 
   @Override
   @SuppressWarnings("NullAway")
-  public void onRemoval(K key, @Nullable Expirable<V> expirable, RemovalCause cause) {
-    if (expirable != null) {
-      V value = expirable.get();
+  public void onRemoval(K key, @Nullable V value, RemovalCause cause) {
+    if (value != null) {
       if (cause == RemovalCause.EXPIRED) {
         dispatcher.publishExpiredQuietly(cache, key, value);
       } else {
@@ -16,16 +16,11 @@
 package com.github.benmanes.caffeine.jcache.integration;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import java.lang.System.Logger;
-import java.lang.System.Logger.Level;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
-import javax.cache.expiry.Duration;
-import javax.cache.expiry.ExpiryPolicy;
 import javax.cache.integration.CacheLoader;
 import javax.cache.integration.CacheLoaderException;
 
@@ -33,7 +28,6 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import com.github.benmanes.caffeine.cache.Ticker;
 import com.github.benmanes.caffeine.jcache.CacheProxy;
-import com.github.benmanes.caffeine.jcache.Expirable;
 import com.github.benmanes.caffeine.jcache.event.EventDispatcher;
 import com.github.benmanes.caffeine.jcache.management.JCacheStatisticsMXBean;
 
@@ -43,24 +37,20 @@ import com.github.benmanes.caffeine.jcache.management.JCacheStatisticsMXBean;
  * @author ben.manes@gmail.com (Ben Manes)
  */
 public final class JCacheLoaderAdapter<K, V>
-    implements com.github.benmanes.caffeine.cache.CacheLoader<K, Expirable<V>> {
-  private static final Logger logger = System.getLogger(JCacheLoaderAdapter.class.getName());
-
+    implements com.github.benmanes.caffeine.cache.CacheLoader<K, V> {
   private final JCacheStatisticsMXBean statistics;
   private final EventDispatcher<K, V> dispatcher;
   private final CacheLoader<K, V> delegate;
-  private final ExpiryPolicy expiry;
   private final Ticker ticker;
 
   private CacheProxy<K, V> cache;
 
   @SuppressWarnings("NullAway.Init")
   public JCacheLoaderAdapter(CacheLoader<K, V> delegate, EventDispatcher<K, V> dispatcher,
-      ExpiryPolicy expiry, Ticker ticker, JCacheStatisticsMXBean statistics) {
+      Ticker ticker, JCacheStatisticsMXBean statistics) {
     this.dispatcher = requireNonNull(dispatcher);
     this.statistics = requireNonNull(statistics);
     this.delegate = requireNonNull(delegate);
-    this.expiry = requireNonNull(expiry);
     this.ticker = requireNonNull(ticker);
   }
 
@@ -74,7 +64,7 @@ public final class JCacheLoaderAdapter<K, V>
   }
 
   @Override
-  public @Nullable Expirable<V> load(K key) {
+  public @Nullable V load(K key) {
     try {
       boolean statsEnabled = statistics.isEnabled();
       long start = statsEnabled ? ticker.read() : 0L;
@@ -90,7 +80,7 @@ public final class JCacheLoaderAdapter<K, V>
         // Subtracts the load time from the get time
         statistics.recordGetTime(start - ticker.read());
       }
-      return new Expirable<>(value, expireTimeMS());
+      return value;
     } catch (CacheLoaderException e) {
       throw e;
     } catch (RuntimeException e) {
@@ -99,17 +89,18 @@ public final class JCacheLoaderAdapter<K, V>
   }
 
   @Override
-  public Map<K, Expirable<V>> loadAll(Set<? extends K> keys) {
+  public Map<K, V> loadAll(Set<? extends K> keys) {
     try {
       boolean statsEnabled = statistics.isEnabled();
       long start = statsEnabled ? ticker.read() : 0L;
 
-      Map<K, Expirable<V>> result = delegate.loadAll(keys).entrySet().stream()
-          .filter(entry -> (entry.getKey() != null) && (entry.getValue() != null))
-          .collect(toUnmodifiableMap(Map.Entry::getKey,
-              entry -> new Expirable<>(entry.getValue(), expireTimeMS())));
-      for (var entry : result.entrySet()) {
-        dispatcher.publishCreated(cache, entry.getKey(), entry.getValue().get());
+      Map<K, V> loaded = delegate.loadAll(keys);
+      var result = new HashMap<K, V>(loaded.size(), 1.0f);
+      for (var entry : loaded.entrySet()) {
+        if ((entry.getKey() != null) && (entry.getValue() != null)) {
+          dispatcher.publishCreated(cache, entry.getKey(), entry.getValue());
+          result.put(entry.getKey(), entry.getValue());
+        }
       }
 
       if (statsEnabled) {
@@ -123,20 +114,4 @@ public final class JCacheLoaderAdapter<K, V>
       throw new CacheLoaderException(e);
     }
   }
-
-  private long expireTimeMS() {
-    try {
-      Duration duration = expiry.getExpiryForCreation();
-      if (duration.isZero()) {
-        return 0;
-      } else if (duration.isEternal()) {
-        return Long.MAX_VALUE;
-      }
-      long millis = TimeUnit.NANOSECONDS.toMillis(ticker.read());
-      return duration.getAdjustedTime(millis);
-    } catch (RuntimeException e) {
-      logger.log(Level.WARNING, "Exception thrown by expiry policy", e);
-      throw e;
-    }
-  }
 }
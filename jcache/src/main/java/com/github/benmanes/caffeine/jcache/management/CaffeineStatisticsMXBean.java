@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.jcache.management;
+
+import javax.cache.management.CacheStatisticsMXBean;
+
+/**
+ * The JCache statistics extended with the latency distribution of the cache operations. The
+ * percentiles are estimated from the operations that were sampled for timing and are reported in
+ * microseconds, like the averages.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+public interface CaffeineStatisticsMXBean extends CacheStatisticsMXBean {
+
+  /**
+   * Returns the rate at which operations are timed, where one in this number of operations has
+   * its duration recorded and the total time is extrapolated from the sample.
+   *
+   * @return the number of operations per timed operation
+   */
+  int getTimerSampleRate();
+
+  /**
+   * Returns the median time to execute a get operation.
+   *
+   * @return the time in µs
+   */
+  float getGetTime50thPercentile();
+
+  /**
+   * Returns the 99th percentile time to execute a get operation.
+   *
+   * @return the time in µs
+   */
+  float getGetTime99thPercentile();
+
+  /**
+   * Returns the median time to execute a put operation.
+   *
+   * @return the time in µs
+   */
+  float getPutTime50thPercentile();
+
+  /**
+   * Returns the 99th percentile time to execute a put operation.
+   *
+   * @return the time in µs
+   */
+  float getPutTime99thPercentile();
+
+  /**
+   * Returns the median time to execute a remove operation.
+   *
+   * @return the time in µs
+   */
+  float getRemoveTime50thPercentile();
+
+  /**
+   * Returns the 99th percentile time to execute a remove operation.
+   *
+   * @return the time in µs
+   */
+  float getRemoveTime99thPercentile();
+}
@@ -15,19 +15,30 @@
  */
 package com.github.benmanes.caffeine.jcache.management;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 
-import javax.cache.management.CacheStatisticsMXBean;
-
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Caffeine JCache statistics.
+ * <p>
+ * To reduce the cost of reading the clock, only one in the sample rate of the operations are timed
+ * and the total time is extrapolated from that sample. The sampled durations are also recorded in
+ * a histogram of power-of-two buckets, from which the latency percentiles are estimated. The
+ * histograms are allocated when the statistics are first enabled.
  *
  * @author ben.manes@gmail.com (Ben Manes)
  */
-public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
+public final class JCacheStatisticsMXBean implements CaffeineStatisticsMXBean {
+  /** The number of histogram buckets, where the last bucket holds all of the larger durations. */
+  static final int BUCKETS = 40;
+  static final int GET_HISTOGRAM = 0;
+  static final int PUT_HISTOGRAM = GET_HISTOGRAM + BUCKETS;
+  static final int REMOVE_HISTOGRAM = PUT_HISTOGRAM + BUCKETS;
+
   private final LongAdder puts = new LongAdder();
   private final LongAdder hits = new LongAdder();
   private final LongAdder misses = new LongAdder();
@@ -36,9 +47,28 @@ public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
   private final LongAdder putTimeNanos = new LongAdder();
   private final LongAdder getTimeNanos = new LongAdder();
   private final LongAdder removeTimeNanos = new LongAdder();
+  private final int sampleRate;
 
+  private volatile LongAdder @Nullable [] histograms;
   private volatile boolean enabled;
 
+  public JCacheStatisticsMXBean() {
+    this(/* sampleRate */ 1);
+  }
+
+  /**
+   * Creates the statistics where one in the given number of operations is timed.
+   *
+   * @param sampleRate the number of operations per timed operation
+   * @throws IllegalArgumentException if the sample rate is not positive
+   */
+  public JCacheStatisticsMXBean(int sampleRate) {
+    if (sampleRate <= 0) {
+      throw new IllegalArgumentException("The sample rate must be positive: " + sampleRate);
+    }
+    this.sampleRate = sampleRate;
+  }
+
   /** Returns if statistic collection is enabled. */
   public boolean isEnabled() {
     return enabled;
@@ -50,9 +80,30 @@ public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
    * @param enabled whether to collect statistics
    */
   public void enable(boolean enabled) {
+    if (enabled && (histograms == null)) {
+      synchronized (this) {
+        if (histograms == null) {
+          var buckets = new LongAdder[REMOVE_HISTOGRAM + BUCKETS];
+          for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+          }
+          histograms = buckets;
+        }
+      }
+    }
     this.enabled = enabled;
   }
 
+  /** Returns if the duration of the current operation should be recorded. */
+  public boolean isSampled() {
+    return (sampleRate == 1) || (ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+  }
+
+  @Override
+  public int getTimerSampleRate() {
+    return sampleRate;
+  }
+
   @Override
   public void clear() {
     puts.reset();
@@ -63,6 +114,12 @@ public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
     getTimeNanos.reset();
     putTimeNanos.reset();
     removeTimeNanos.reset();
+    var histograms = this.histograms;
+    if (histograms != null) {
+      for (var bucket : histograms) {
+        bucket.reset();
+      }
+    }
   }
 
   @Override
@@ -165,7 +222,7 @@ public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
 
   @Override
   public float getAverageGetTime() {
-    return average(getCacheGets(), getTimeNanos.sum());
+    return average(getCacheGets(), sampleRate * getTimeNanos.sum());
   }
 
   /**
@@ -176,13 +233,13 @@ public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
    */
   public void recordGetTime(long durationNanos) {
     if (enabled && (durationNanos != 0)) {
-      getTimeNanos.add(durationNanos);
+      recordTime(getTimeNanos, GET_HISTOGRAM, durationNanos);
     }
   }
 
   @Override
   public float getAveragePutTime() {
-    return average(getCachePuts(), putTimeNanos.sum());
+    return average(getCachePuts(), sampleRate * putTimeNanos.sum());
   }
 
   /**
@@ -192,13 +249,13 @@ public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
    */
   public void recordPutTime(long durationNanos) {
     if (enabled && (durationNanos != 0)) {
-      putTimeNanos.add(durationNanos);
+      recordTime(putTimeNanos, PUT_HISTOGRAM, durationNanos);
     }
   }
 
   @Override
   public float getAverageRemoveTime() {
-    return average(getCacheRemovals(), removeTimeNanos.sum());
+    return average(getCacheRemovals(), sampleRate * removeTimeNanos.sum());
   }
 
   /**
@@ -208,10 +265,89 @@ public final class JCacheStatisticsMXBean implements CacheStatisticsMXBean {
    */
   public void recordRemoveTime(long durationNanos) {
     if (enabled && (durationNanos != 0)) {
-      removeTimeNanos.add(durationNanos);
+      recordTime(removeTimeNanos, REMOVE_HISTOGRAM, durationNanos);
     }
   }
 
+  @Override
+  public float getGetTime50thPercentile() {
+    return percentile(GET_HISTOGRAM, 0.5);
+  }
+
+  @Override
+  public float getGetTime99thPercentile() {
+    return percentile(GET_HISTOGRAM, 0.99);
+  }
+
+  @Override
+  public float getPutTime50thPercentile() {
+    return percentile(PUT_HISTOGRAM, 0.5);
+  }
+
+  @Override
+  public float getPutTime99thPercentile() {
+    return percentile(PUT_HISTOGRAM, 0.99);
+  }
+
+  @Override
+  public float getRemoveTime50thPercentile() {
+    return percentile(REMOVE_HISTOGRAM, 0.5);
+  }
+
+  @Override
+  public float getRemoveTime99thPercentile() {
+    return percentile(REMOVE_HISTOGRAM, 0.99);
+  }
+
+  /** Adds the duration to the total time and to its histogram. */
+  private void recordTime(LongAdder totalTimeNanos, int histogram, long durationNanos) {
+    totalTimeNanos.add(durationNanos);
+    var histograms = this.histograms;
+    if (histograms != null) {
+      histograms[histogram + bucket(durationNanos)].increment();
+    }
+  }
+
+  /**
+   * Returns the estimated duration, in microseconds, at the quantile of the histogram. The duration
+   * is linearly interpolated within the bucket that the quantile falls into.
+   */
+  private float percentile(int histogram, double quantile) {
+    var histograms = this.histograms;
+    if (histograms == null) {
+      return 0;
+    }
+    long[] counts = new long[BUCKETS];
+    long total = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = histograms[histogram + i].sum();
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    double rank = quantile * total;
+    long seen = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      if ((counts[i] != 0) && (seen + counts[i] >= rank)) {
+        double lower = (i == 0) ? 0.0 : (1L << (i - 1));
+        double upper = (i == 0) ? 0.0 : (1L << i);
+        double nanos = lower + ((upper - lower) * (rank - seen) / counts[i]);
+        return (float) (nanos / TimeUnit.MICROSECONDS.toNanos(1));
+      }
+      seen += counts[i];
+    }
+    return 0;
+  }
+
+  /** Returns the histogram bucket, where bucket i holds the durations in [2^(i-1), 2^i). */
+  static int bucket(long durationNanos) {
+    return (durationNanos <= 0)
+        ? 0
+        : Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(durationNanos));
+  }
+
   private static float average(long requestCount, long opsTimeNanos) {
     if ((requestCount == 0) || (opsTimeNanos == 0)) {
       return 0;
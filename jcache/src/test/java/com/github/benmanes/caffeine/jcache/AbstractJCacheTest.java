@@ -15,9 +15,12 @@
  */
 package com.github.benmanes.caffeine.jcache;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import javax.cache.CacheManager;
 import javax.cache.Caching;
@@ -29,6 +32,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import com.github.benmanes.caffeine.cache.Policy.CacheEntry;
 import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
 import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
 import com.google.common.collect.ImmutableMap;
@@ -89,10 +93,22 @@ public abstract class AbstractJCacheTest {
 
   /* --------------- Utility methods ------------- */
 
-  @Nullable
-  protected static Expirable<Integer> getExpirable(
+  /** Returns the entry without updating its expiration time, or null if absent or expired. */
+  protected static @Nullable CacheEntry<Integer, Integer> getEntry(
       CacheProxy<Integer, Integer> cache, Integer key) {
-    return cache.cache.getIfPresent(key);
+    return cache.cache.policy().getEntryIfPresentQuietly(key);
+  }
+
+  /** Returns the time that the entry expires, in milliseconds. */
+  protected static long getExpireTimeMS(CacheProxy<Integer, Integer> cache, Integer key) {
+    var entry = requireNonNull(getEntry(cache, key));
+    return Duration.ofNanos(entry.expiresAt()).toMillis();
+  }
+
+  /** Sets the entry to never expire, without consulting the expiry policy. */
+  protected static void setEternal(CacheProxy<Integer, Integer> cache, Integer key) {
+    cache.cache.policy().expireVariably().orElseThrow()
+        .setExpiresAfter(key, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
   }
 
   protected void advanceHalfExpiry() {
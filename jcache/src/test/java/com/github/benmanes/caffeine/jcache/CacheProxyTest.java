@@ -13,6 +13,7 @@
  */
 package com.github.benmanes.caffeine.jcache;
 
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.atLeastOnce;
@@ -26,6 +27,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import javax.cache.Cache;
 import javax.cache.configuration.Configuration;
@@ -37,6 +40,7 @@ import javax.cache.integration.CacheLoader;
 import javax.cache.integration.CacheLoaderException;
 import javax.cache.integration.CacheWriter;
 import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessorException;
 
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
@@ -99,6 +103,7 @@ public final class CacheProxyTest extends AbstractJCacheTest {
     assertThrows(type, () -> config.setRefreshAfterWrite(OptionalLong.empty()));
     assertThrows(type, () -> config.setSchedulerFactory(null));
     assertThrows(type, () -> config.setStatisticsEnabled(false));
+    assertThrows(type, () -> config.setStatisticsSampleRate(1));
     assertThrows(type, () -> config.setStoreByValue(false));
     assertThrows(type, () -> config.setTickerFactory(null));
     assertThrows(type, () -> config.setTypes(String.class, String.class));
@@ -133,31 +138,90 @@ public final class CacheProxyTest extends AbstractJCacheTest {
   }
 
   @Test
-  public void copyValue_null() {
-    assertThat(jcache.copyValue(null)).isNull();
+  public void copyOf_null() {
+    assertThat(jcache.copyOf(null)).isNull();
   }
 
   @Test
   public void setAccessExpireTime_eternal() {
+    when(expiry.getExpiryForCreation()).thenReturn(Duration.ONE_MINUTE);
+    jcache.put(KEY_1, VALUE_1);
+    long expireTime = getExpireTimeMS(jcache, KEY_1);
+
     when(expiry.getExpiryForAccess()).thenReturn(Duration.ETERNAL);
-    var expirable = new Expirable<Integer>(KEY_1, 0);
-    jcache.setAccessExpireTime(KEY_1, expirable, 0);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(Long.MAX_VALUE);
+    jcache.setAccessExpireTime(KEY_1);
+    assertThat(getExpireTimeMS(jcache, KEY_1))
+        .isGreaterThan(expireTime + TimeUnit.DAYS.toMillis(365));
   }
 
   @Test
   public void setAccessExpireTime_exception() {
+    when(expiry.getExpiryForCreation()).thenReturn(Duration.ONE_MINUTE);
+    jcache.put(KEY_1, VALUE_1);
+    long expireTime = getExpireTimeMS(jcache, KEY_1);
+
     when(expiry.getExpiryForAccess()).thenThrow(IllegalStateException.class);
-    var expirable = new Expirable<Integer>(KEY_1, 0);
-    jcache.setAccessExpireTime(KEY_1, expirable, 0);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(0);
+    jcache.setAccessExpireTime(KEY_1);
+    assertThat(getExpireTimeMS(jcache, KEY_1)).isEqualTo(expireTime);
   }
 
   @Test
-  public void getWriteExpireTime_exception() {
+  public void getWriteExpiresAfter_exception() {
     when(expiry.getExpiryForCreation()).thenThrow(IllegalStateException.class);
-    long time = jcache.getWriteExpireTimeMS(true);
-    assertThat(time).isEqualTo(Long.MIN_VALUE);
+    long duration = jcache.getWriteExpiresAfter(true);
+    assertThat(duration).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void invokeAll_batched() {
+    var keysToProcess = IntStream.range(0, (3 * CacheProxy.INVOKE_ALL_BATCH_SIZE) + 1)
+        .boxed().collect(toImmutableSet());
+    var results = jcache.invokeAll(keysToProcess, (entry, args) -> {
+      entry.setValue(-entry.getKey());
+      return entry.getKey();
+    });
+
+    assertThat(results).hasSize(keysToProcess.size());
+    for (Integer key : keysToProcess) {
+      assertThat(results.get(key).get()).isEqualTo(key);
+      assertThat(jcache.get(key)).isEqualTo(-key);
+    }
+  }
+
+  @Test
+  public void invokeAll_batched_failure() {
+    var keysToProcess = IntStream.range(0, (3 * CacheProxy.INVOKE_ALL_BATCH_SIZE) + 1)
+        .boxed().collect(toImmutableSet());
+    var results = jcache.invokeAll(keysToProcess, (entry, args) -> {
+      if (entry.getKey().equals(KEY_1)) {
+        throw new IllegalStateException();
+      }
+      entry.setValue(-entry.getKey());
+      return null;
+    });
+
+    assertThat(results.keySet()).containsExactly(KEY_1);
+    assertThrows(EntryProcessorException.class, () -> results.get(KEY_1).get());
+    assertThat(jcache.containsKey(KEY_1)).isFalse();
+    assertThat(jcache.get(KEY_2)).isEqualTo(-KEY_2);
+  }
+
+  @Test
+  public void invokeAll_batched_callerError() {
+    int last = 3 * CacheProxy.INVOKE_ALL_BATCH_SIZE;
+    var keysToProcess = IntStream.rangeClosed(0, last).boxed().collect(toImmutableSet());
+    assertThrows(LinkageError.class, () -> jcache.invokeAll(keysToProcess, (entry, args) -> {
+      if (entry.getKey() == last) {
+        throw new LinkageError();
+      }
+      entry.setValue(-entry.getKey());
+      return null;
+    }));
+
+    assertThat(jcache.containsKey(last)).isFalse();
+    for (int key = 0; key < last; key++) {
+      assertThat(jcache.get(key)).isEqualTo(-key);
+    }
   }
 
   @Test
@@ -187,6 +187,7 @@ public final class TypesafeConfigurationTest {
     assertThat(config.getKeyType()).isAssignableTo(String.class);
     assertThat(config.getValueType()).isAssignableTo(Integer.class);
     assertThat(config.isNativeStatisticsEnabled()).isFalse();
+    assertThat(config.getStatisticsSampleRate()).isEqualTo(1);
     assertThat(config.getExpiryPolicyFactory().create().getExpiryForAccess()).isNull();
     assertThat(config.getExpiryFactory().orElseThrow().create()).isInstanceOf(TestExpiry.class);
     assertThat(config.getExecutorFactory().create()).isEqualTo(ForkJoinPool.commonPool());
@@ -217,6 +218,7 @@ public final class TypesafeConfigurationTest {
     assertThat(config.getCacheWriter()).isInstanceOf(TestCacheWriter.class);
     assertThat(config.isNativeStatisticsEnabled()).isTrue();
     assertThat(config.isStatisticsEnabled()).isTrue();
+    assertThat(config.getStatisticsSampleRate()).isEqualTo(4);
     assertThat(config.isManagementEnabled()).isTrue();
 
     checkSize(config);
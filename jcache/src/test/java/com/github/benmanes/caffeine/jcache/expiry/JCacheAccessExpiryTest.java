@@ -82,7 +82,7 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
     ticker.setAutoIncrementStep(EXPIRY_DURATION.dividedBy(2));
 
     assertThat(jcache.containsKey(KEY_1)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- get --------------- */
@@ -93,18 +93,17 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
 
     advancePastExpiry();
     assertThat(jcache.get(KEY_1)).isNull();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   @Test(dataProvider = "eternal")
   public void get_present(boolean eternal) {
-    var expirable = getExpirable(jcache, KEY_1);
     if (eternal) {
-      expirable.setExpireTimeMS(Long.MAX_VALUE);
+      setEternal(jcache, KEY_1);
     }
 
     assertThat(jcache.get(KEY_1)).isEqualTo(VALUE_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -114,7 +113,7 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
     ticker.setAutoIncrementStep(EXPIRY_DURATION.dividedBy(2));
 
     assertThat(jcache.get(KEY_1)).isNull();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- get (loading) --------------- */
@@ -126,20 +125,18 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
     assertThat(jcacheLoading.get(KEY_1)).isEqualTo(KEY_1);
 
-    var expirable = getExpirable(jcacheLoading, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcacheLoading, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
   @Test(dataProvider = "eternal")
   public void get_loading_present(boolean eternal) {
-    var expirable = getExpirable(jcacheLoading, KEY_1);
     if (eternal) {
-      expirable.setExpireTimeMS(Long.MAX_VALUE);
+      setEternal(jcacheLoading, KEY_1);
     }
 
     assertThat(jcacheLoading.get(KEY_1)).isEqualTo(VALUE_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcacheLoading, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -153,24 +150,22 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
     assertThat(jcache.getAll(keys)).isEmpty();
 
     for (Integer key : keys) {
-      assertThat(getExpirable(jcache, key)).isNull();
+      assertThat(getEntry(jcache, key)).isNull();
     }
   }
 
   @Test(dataProvider = "eternal")
   public void getAll_present(boolean eternal) {
     for (Integer key : keys) {
-      var expirable = getExpirable(jcacheLoading, key);
       if (eternal) {
-        expirable.setExpireTimeMS(Long.MAX_VALUE);
+        setEternal(jcacheLoading, key);
       }
     }
 
     assertThat(jcache.getAll(keys)).isEqualTo(entries);
 
     for (Integer key : keys) {
-      var expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -185,19 +180,18 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
     var result = jcache.invoke(KEY_1, (entry, args) -> entry.getValue());
     assertThat(result).isNull();
 
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   @Test(dataProvider = "eternal")
   public void invoke_present(boolean eternal) {
-    var expirable = getExpirable(jcache, KEY_1);
     if (eternal) {
-      expirable.setExpireTimeMS(Long.MAX_VALUE);
+      setEternal(jcache, KEY_1);
     }
 
     Integer result = jcache.invoke(KEY_1, (entry, args) -> entry.getValue());
     assertThat(result).isEqualTo(VALUE_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -211,7 +205,7 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
     assertThat(jcache.invokeAll(keys, (entry, args) -> entry.getValue())).isEmpty();
 
     for (Integer key : keys) {
-      assertThat(getExpirable(jcache, key)).isNull();
+      assertThat(getEntry(jcache, key)).isNull();
     }
   }
 
@@ -222,8 +216,7 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
     assertThat(unwrapped).isEqualTo(entries);
 
     for (Integer key : keys) {
-      var expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -234,8 +227,7 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
   public void removeConditionally() {
     assertThat(jcache.remove(KEY_1, VALUE_2)).isFalse();
 
-    var expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -245,8 +237,7 @@ public final class JCacheAccessExpiryTest extends AbstractJCacheTest {
   public void replaceConditionally() {
     assertThat(jcache.replace(KEY_1, VALUE_2, VALUE_3)).isFalse();
 
-    var expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 }
@@ -28,7 +28,6 @@ import javax.cache.expiry.ExpiryPolicy;
 import org.testng.annotations.Test;
 
 import com.github.benmanes.caffeine.jcache.AbstractJCacheTest;
-import com.github.benmanes.caffeine.jcache.Expirable;
 import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
 
 /**
@@ -58,7 +57,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.containsKey(KEY_1)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- get --------------- */
@@ -69,7 +68,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.get(KEY_1)).isNull();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   @Test
@@ -88,7 +87,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.getAll(Set.of(KEY_1))).isEmpty();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- put --------------- */
@@ -99,8 +98,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     jcache.put(KEY_1, VALUE_2);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -112,9 +110,8 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.putIfAbsent(KEY_1, VALUE_2)).isTrue();
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.get()).isEqualTo(VALUE_2);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getEntry(jcache, KEY_1).getValue()).isEqualTo(VALUE_2);
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -126,7 +123,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.remove(KEY_1)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   @Test
@@ -135,7 +132,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.remove(KEY_1, VALUE_1)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- replace --------------- */
@@ -146,7 +143,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.replace(KEY_1, VALUE_2)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   @Test
@@ -155,7 +152,7 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.replace(KEY_1, VALUE_1, VALUE_2)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- invoke --------------- */
@@ -169,6 +166,6 @@ public final class JCacheCombinedExpiryTest extends AbstractJCacheTest {
       return null;
     });
     assertThat(result).isNull();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 }
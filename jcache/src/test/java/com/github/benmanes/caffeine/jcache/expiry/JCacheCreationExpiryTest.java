@@ -26,7 +26,6 @@ import javax.cache.expiry.ExpiryPolicy;
 import org.testng.annotations.Test;
 
 import com.github.benmanes.caffeine.jcache.AbstractJCacheTest;
-import com.github.benmanes.caffeine.jcache.Expirable;
 import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
 import com.google.common.util.concurrent.MoreExecutors;
 
@@ -68,7 +67,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     ticker.setAutoIncrementStep(EXPIRY_DURATION.dividedBy(2));
 
     assertThat(jcache.containsKey(KEY_1)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- get --------------- */
@@ -79,7 +78,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     ticker.setAutoIncrementStep(EXPIRY_DURATION.dividedBy(2));
 
     assertThat(jcache.get(KEY_1)).isNull();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   /* --------------- get (loading) --------------- */
@@ -87,8 +86,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
   @Test
   public void get_loading_absent() {
     assertThat(jcacheLoading.get(KEY_1)).isEqualTo(KEY_1);
-    Expirable<Integer> expirable = getExpirable(jcacheLoading, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcacheLoading, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -98,8 +96,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcacheLoading.get(KEY_1)).isEqualTo(KEY_1);
-    Expirable<Integer> expirable = getExpirable(jcacheLoading, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcacheLoading, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -119,8 +116,8 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     assertThat(jcacheLoading.get(KEY_1)).isEqualTo(VALUE_1);
-    Expirable<Integer> expirable = getExpirable(jcacheLoading, KEY_1);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
+    assertThat(getExpireTimeMS(jcacheLoading, KEY_1))
+        .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
   }
 
   /* --------------- getAndPut --------------- */
@@ -129,8 +126,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
   public void getAndPut_absent() {
     assertThat(jcache.getAndPut(KEY_1, VALUE_1)).isNull();
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -140,8 +136,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.getAndPut(KEY_1, VALUE_1)).isNull();
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -151,8 +146,8 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     assertThat(jcache.getAndPut(KEY_1, VALUE_2)).isEqualTo(VALUE_1);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
+    assertThat(getExpireTimeMS(jcache, KEY_1))
+        .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
   }
 
   /* --------------- put --------------- */
@@ -161,8 +156,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
   public void put_absent() {
     jcache.put(KEY_1, VALUE_1);
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -172,8 +166,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     jcache.put(KEY_1, VALUE_2);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -183,8 +176,8 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     jcache.put(KEY_1, VALUE_2);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
+    assertThat(getExpireTimeMS(jcache, KEY_1))
+        .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
   }
 
   /* --------------- putAll --------------- */
@@ -194,8 +187,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     jcache.putAll(entries);
 
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -207,8 +199,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
 
     jcache.putAll(entries);
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -220,8 +211,8 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
 
     jcache.putAll(entries);
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS()).isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
+      assertThat(getExpireTimeMS(jcache, key))
+          .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
     }
   }
 
@@ -231,8 +222,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
   public void putIfAbsent_absent() {
     jcache.putIfAbsent(KEY_1, VALUE_1);
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -242,9 +232,8 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advancePastExpiry();
 
     assertThat(jcache.putIfAbsent(KEY_1, VALUE_2)).isTrue();
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.get()).isEqualTo(VALUE_2);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getEntry(jcache, KEY_1).getValue()).isEqualTo(VALUE_2);
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -262,8 +251,8 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     jcache.putIfAbsent(KEY_1, VALUE_2);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
+    assertThat(getExpireTimeMS(jcache, KEY_1))
+        .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
   }
 
   /* --------------- invoke --------------- */
@@ -276,8 +265,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     });
     assertThat(result).isNull();
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -292,8 +280,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     });
     assertThat(result).isNull();
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -308,8 +295,8 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     });
     assertThat(result).isNull();
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
+    assertThat(getExpireTimeMS(jcache, KEY_1))
+        .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
   }
 
   /* --------------- invokeAll --------------- */
@@ -323,8 +310,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     assertThat(result).isEmpty();
 
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -341,8 +327,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     assertThat(result).isEmpty();
 
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -359,8 +344,7 @@ public final class JCacheCreationExpiryTest extends AbstractJCacheTest {
     assertThat(result).isEmpty();
 
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -26,7 +26,6 @@ import javax.cache.expiry.ModifiedExpiryPolicy;
 import org.testng.annotations.Test;
 
 import com.github.benmanes.caffeine.jcache.AbstractJCacheTest;
-import com.github.benmanes.caffeine.jcache.Expirable;
 import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
 
 /**
@@ -64,7 +63,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     ticker.setAutoIncrementStep(EXPIRY_DURATION.dividedBy(2));
 
     assertThat(jcache.containsKey(KEY_1)).isFalse();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   @Test
@@ -73,7 +72,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     ticker.setAutoIncrementStep(EXPIRY_DURATION.dividedBy(2));
 
     assertThat(jcache.get(KEY_1)).isNull();
-    assertThat(getExpirable(jcache, KEY_1)).isNull();
+    assertThat(getEntry(jcache, KEY_1)).isNull();
   }
 
   @Test
@@ -84,8 +83,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     var value = jcache.getAndPut(KEY_1, VALUE_1);
     assertThat(value).isEqualTo(VALUE_1);
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -95,8 +93,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     assertThat(jcache.getAndReplace(KEY_1, VALUE_2)).isEqualTo(VALUE_1);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -106,8 +103,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     jcache.put(KEY_1, VALUE_2);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS()
+    assertThat(getExpireTimeMS(jcache, KEY_1)
             ).isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -118,8 +114,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
 
     jcache.putAll(entries);
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
@@ -130,8 +125,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     jcache.replace(KEY_1, VALUE_2);
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -141,8 +135,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     assertThat(jcache.replace(KEY_1, VALUE_1, VALUE_2)).isTrue();
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -152,8 +145,8 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     advanceHalfExpiry();
 
     assertThat(jcache.replace(KEY_1, VALUE_2, VALUE_3)).isFalse();
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS()).isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
+    assertThat(getExpireTimeMS(jcache, KEY_1))
+        .isEqualTo(START_TIME.plus(EXPIRY_DURATION).toMillis());
   }
 
   @Test
@@ -167,8 +160,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     });
     assertThat(result).isNull();
 
-    Expirable<Integer> expirable = getExpirable(jcache, KEY_1);
-    assertThat(expirable.getExpireTimeMS())
+    assertThat(getExpireTimeMS(jcache, KEY_1))
         .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
   }
 
@@ -184,8 +176,7 @@ public final class JCacheUpdateExpiryTest extends AbstractJCacheTest {
     assertThat(result).isEmpty();
 
     for (Integer key : keys) {
-      Expirable<Integer> expirable = getExpirable(jcache, key);
-      assertThat(expirable.getExpireTimeMS())
+      assertThat(getExpireTimeMS(jcache, key))
           .isEqualTo(currentTime().plus(EXPIRY_DURATION).toMillis());
     }
   }
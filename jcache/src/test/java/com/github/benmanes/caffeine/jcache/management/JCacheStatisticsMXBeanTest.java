@@ -16,6 +16,7 @@
 package com.github.benmanes.caffeine.jcache.management;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.testng.annotations.Test;
 
@@ -46,4 +47,49 @@ public final class JCacheStatisticsMXBeanTest {
     assertThat(stats.getAveragePutTime()).isEqualTo(0F);
     assertThat(stats.getAverageRemoveTime()).isEqualTo(0F);
   }
+
+  @Test
+  public void disabled() {
+    JCacheStatisticsMXBean stats = new JCacheStatisticsMXBean();
+    stats.recordHits(1);
+    stats.recordGetTime(1_000);
+
+    assertThat(stats.getCacheHits()).isEqualTo(0L);
+    assertThat(stats.getGetTime50thPercentile()).isEqualTo(0F);
+  }
+
+  @Test
+  public void sampleRate_invalid() {
+    assertThrows(IllegalArgumentException.class, () -> new JCacheStatisticsMXBean(0));
+  }
+
+  @Test
+  public void sampleRate_extrapolated() {
+    JCacheStatisticsMXBean stats = new JCacheStatisticsMXBean(4);
+    stats.enable(true);
+    stats.recordPuts(8);
+    stats.recordPutTime(2_000);
+    stats.recordPutTime(2_000);
+
+    assertThat(stats.getTimerSampleRate()).isEqualTo(4);
+    assertThat(stats.getAveragePutTime()).isEqualTo(2F);
+  }
+
+  @Test
+  public void percentiles() {
+    JCacheStatisticsMXBean stats = new JCacheStatisticsMXBean();
+    stats.enable(true);
+    for (int i = 0; i < 99; i++) {
+      stats.recordGetTime(1_500);
+    }
+    stats.recordGetTime(2_000_000);
+
+    assertThat(stats.getGetTime50thPercentile()).isWithin(1F).of(1.5F);
+    assertThat(stats.getGetTime99thPercentile()).isLessThan(2.1F);
+    assertThat(stats.getPutTime99thPercentile()).isEqualTo(0F);
+    assertThat(stats.getRemoveTime50thPercentile()).isEqualTo(0F);
+
+    stats.clear();
+    assertThat(stats.getGetTime99thPercentile()).isEqualTo(0F);
+  }
 }
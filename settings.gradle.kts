@@ -18,5 +18,6 @@ apply(from = "$rootDir/gradle/gradle-enterprise.gradle")
 rootProject.name = "caffeine"
 include("caffeine")
 include("guava")
+include("hibernate")
 include("jcache")
 include("simulator")
@@ -211,6 +211,9 @@ public class BasicSettings {
     public TraceFormat format() {
       return TraceFormat.named(config().getString("files.format"));
     }
+    public boolean interleave() {
+      return config().getBoolean("files.interleave");
+    }
   }
 
   public final class SyntheticSettings {
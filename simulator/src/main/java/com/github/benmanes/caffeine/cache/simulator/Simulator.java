@@ -125,7 +125,9 @@ public final class Simulator {
     }
     List<String> filePaths = settings.trace().traceFiles().paths();
     TraceFormat format = settings.trace().traceFiles().format();
-    return format.readFiles(filePaths);
+    return settings.trace().traceFiles().interleave()
+        ? format.interleaveFiles(filePaths)
+        : format.readFiles(filePaths);
   }
 
   /** Returns the policy actors that asynchronously apply the trace events. */
@@ -15,10 +15,14 @@
  */
 package com.github.benmanes.caffeine.cache.simulator.parser;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Sets.toImmutableEnumSet;
 import static java.util.Locale.US;
+import static java.util.stream.Collectors.toCollection;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -52,9 +56,11 @@ import com.github.benmanes.caffeine.cache.simulator.parser.wikipedia.WikipediaTr
 import com.github.benmanes.caffeine.cache.simulator.policy.AccessEvent;
 import com.github.benmanes.caffeine.cache.simulator.policy.Policy.Characteristic;
 import com.google.common.base.Splitter;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Streams;
 
 /**
  * The trace file formats.
@@ -90,6 +96,9 @@ public enum TraceFormat {
   UMASS_YOUTUBE(YoutubeTraceReader::new),
   WIKIPEDIA(WikipediaTraceReader::new);
 
+  private static final int TRACE_INDEX_SHIFT = 56;
+  private static final long KEY_MASK = (1L << TRACE_INDEX_SHIFT) - 1;
+
   private final Function<String, TraceReader> factory;
 
   TraceFormat(Function<String, TraceReader> factory) {
@@ -106,25 +115,81 @@ public enum TraceFormat {
     return new TraceReader() {
 
       @Override public ImmutableSet<Characteristic> characteristics() {
-        return readers().stream()
-            .flatMap(reader -> reader.characteristics().stream())
-            .collect(toImmutableEnumSet());
+        return characteristicsOf(readers(filePaths));
       }
 
       @Override public Stream<AccessEvent> events() {
-        return readers().stream().flatMap(TraceReader::events);
+        return readers(filePaths).stream().flatMap(TraceReader::events);
+      }
+    };
+  }
+
+  /**
+   * Returns a new reader that alternates between the events of the trace files, as if the workloads
+   * were served concurrently by a shared cache. Each event's key is tagged by the index of the file
+   * that it was read from, which can be recovered using {@link #traceIndexOf(long)}, so that the
+   * workloads do not share entries.
+   *
+   * @param filePaths the path to the files in the trace's format
+   * @return a reader for streaming the interleaved events from the files
+   */
+  public TraceReader interleaveFiles(List<String> filePaths) {
+    checkArgument(filePaths.size() <= (1 << (Long.SIZE - TRACE_INDEX_SHIFT)),
+        "Too many files to interleave: %s", filePaths.size());
+    return new TraceReader() {
+
+      @Override public ImmutableSet<Characteristic> characteristics() {
+        return characteristicsOf(readers(filePaths));
       }
 
-      private ImmutableList<TraceReader> readers() {
-        return filePaths.stream().map(path -> {
-          List<String> parts = Splitter.on(':').limit(2).splitToList(path);
-          TraceFormat format = (parts.size() == 1) ? TraceFormat.this : named(parts.get(0));
-          return format.factory.apply(Iterables.getLast(parts));
-        }).collect(toImmutableList());
+      @Override public Stream<AccessEvent> events() {
+        List<Stream<AccessEvent>> streams = readers(filePaths).stream()
+            .map(TraceReader::events)
+            .collect(toImmutableList());
+        List<Iterator<AccessEvent>> iterators = streams.stream()
+            .map(Stream::iterator)
+            .collect(toCollection(ArrayList::new));
+        var interleaved = new AbstractIterator<AccessEvent>() {
+          int index = -1;
+
+          @Override protected AccessEvent computeNext() {
+            for (int i = 0; i < iterators.size(); i++) {
+              index = (index + 1) % iterators.size();
+              var iterator = iterators.get(index);
+              if (iterator.hasNext()) {
+                var event = iterator.next();
+                long key = ((long) index << TRACE_INDEX_SHIFT) | (event.key() & KEY_MASK);
+                return event.withKey(key);
+              }
+            }
+            return endOfData();
+          }
+        };
+        return Streams.stream(interleaved)
+            .onClose(() -> streams.forEach(Stream::close));
       }
     };
   }
 
+  /** Returns the index of the file that the key was read from by an interleaved reader. */
+  public static int traceIndexOf(long key) {
+    return (int) (key >>> TRACE_INDEX_SHIFT);
+  }
+
+  private ImmutableList<TraceReader> readers(List<String> filePaths) {
+    return filePaths.stream().map(path -> {
+      List<String> parts = Splitter.on(':').limit(2).splitToList(path);
+      TraceFormat format = (parts.size() == 1) ? this : named(parts.get(0));
+      return format.factory.apply(Iterables.getLast(parts));
+    }).collect(toImmutableList());
+  }
+
+  private static ImmutableSet<Characteristic> characteristicsOf(List<TraceReader> readers) {
+    return readers.stream()
+        .flatMap(reader -> reader.characteristics().stream())
+        .collect(toImmutableEnumSet());
+  }
+
   /** Returns the format based on its configuration name. */
   public static TraceFormat named(String name) {
     return TraceFormat.valueOf(name.replace('-', '_').toUpperCase(US));
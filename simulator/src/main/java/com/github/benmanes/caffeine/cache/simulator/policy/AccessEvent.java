@@ -58,6 +58,11 @@ public class AccessEvent {
     return false;
   }
 
+  /** Returns an event with the same metadata for the given key. */
+  public AccessEvent withKey(long key) {
+    return new AccessEvent(key);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == this) {
@@ -113,6 +118,9 @@ public class AccessEvent {
     @Override public int weight() {
       return weight;
     }
+    @Override public AccessEvent withKey(long key) {
+      return new WeightedAccessEvent(key, weight);
+    }
   }
 
   private static final class PenaltiesAccessEvent extends AccessEvent {
@@ -135,5 +143,8 @@ public class AccessEvent {
     @Override public boolean isPenaltyAware() {
       return true;
     }
+    @Override public AccessEvent withKey(long key) {
+      return new PenaltiesAccessEvent(key, hitPenalty, missPenalty);
+    }
   }
 }
@@ -52,6 +52,7 @@ import com.github.benmanes.caffeine.cache.simulator.policy.linked.SegmentedLruPo
 import com.github.benmanes.caffeine.cache.simulator.policy.opt.ClairvoyantPolicy;
 import com.github.benmanes.caffeine.cache.simulator.policy.opt.UnboundedPolicy;
 import com.github.benmanes.caffeine.cache.simulator.policy.product.Cache2kPolicy;
+import com.github.benmanes.caffeine.cache.simulator.policy.product.CaffeineGroupPolicy;
 import com.github.benmanes.caffeine.cache.simulator.policy.product.CaffeinePolicy;
 import com.github.benmanes.caffeine.cache.simulator.policy.product.CoherencePolicy;
 import com.github.benmanes.caffeine.cache.simulator.policy.product.Ehcache3Policy;
@@ -224,7 +225,10 @@ public final class Registry {
     register(GuavaPolicy.class, GuavaPolicy::new);
     register(Cache2kPolicy.class, Cache2kPolicy::new);
     registerMany(OhcPolicy.class, OhcPolicy::policies);
-    register(CaffeinePolicy.class, CaffeinePolicy::new);
+    registerMany(CaffeinePolicy.class,
+        config -> CaffeinePolicy.policies(config, characteristics));
+    registerMany(CaffeineGroupPolicy.class,
+        config -> CaffeineGroupPolicy.policies(config, characteristics));
     register(Ehcache3Policy.class, Ehcache3Policy::new);
     registerMany(TCachePolicy.class, TCachePolicy::policies);
     registerMany(CoherencePolicy.class, CoherencePolicy::policies);
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.benmanes.caffeine.cache.simulator.policy.product;
+
+import static com.github.benmanes.caffeine.cache.simulator.policy.Policy.Characteristic.WEIGHTED;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheGroup;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.simulator.BasicSettings;
+import com.github.benmanes.caffeine.cache.simulator.parser.TraceFormat;
+import com.github.benmanes.caffeine.cache.simulator.policy.AccessEvent;
+import com.github.benmanes.caffeine.cache.simulator.policy.Policy;
+import com.github.benmanes.caffeine.cache.simulator.policy.Policy.PolicySpec;
+import com.github.benmanes.caffeine.cache.simulator.policy.PolicyStats;
+import com.typesafe.config.Config;
+
+/**
+ * A group of Caffeine caches that share the maximum size, with one cache per trace file when the
+ * files are interleaved. The static variant splits the capacity evenly, whereas the adaptive
+ * variant periodically rebalances the capacity towards the caches that benefit the most.
+ *
+ * @author ben.manes@gmail.com (Ben Manes)
+ */
+@PolicySpec(name = "product.CaffeineGroup", characteristics = WEIGHTED)
+public final class CaffeineGroupPolicy implements Policy {
+  private final List<Cache<Long, AccessEvent>> caches;
+  private final PolicyStats policyStats;
+  private final long rebalanceInterval;
+  private final CacheGroup group;
+
+  private long events;
+
+  public CaffeineGroupPolicy(CaffeineGroupSettings settings,
+      Set<Characteristic> characteristics, boolean adaptive) {
+    policyStats = new PolicyStats(name() + " (%s)", adaptive ? "adaptive" : "static");
+    rebalanceInterval = adaptive ? settings.rebalanceInterval() : Long.MAX_VALUE;
+    group = CacheGroup.withMaximum(settings.maximumSize());
+    caches = new ArrayList<>();
+
+    var traceFiles = settings.trace().traceFiles();
+    int members = traceFiles.interleave() ? traceFiles.paths().size() : 1;
+    for (int i = 0; i < members; i++) {
+      Caffeine<Long, AccessEvent> builder = Caffeine.newBuilder()
+          .removalListener((Long key, AccessEvent value, RemovalCause cause) -> {
+            if (cause.wasEvicted()) {
+              policyStats.recordEviction();
+            }
+          })
+          .executor(Runnable::run);
+      if (characteristics.contains(WEIGHTED)) {
+        builder.maximumWeight(0);
+        builder.weigher((key, value) -> value.weight());
+      } else {
+        builder.maximumSize(0);
+      }
+      Cache<Long, AccessEvent> cache = builder.build();
+      group.register(cache);
+      caches.add(cache);
+    }
+  }
+
+  /** Returns all variations of this policy based on the configuration parameters. */
+  public static Set<Policy> policies(Config config, Set<Characteristic> characteristics) {
+    var settings = new CaffeineGroupSettings(config);
+    return Stream.of(false, true)
+        .map(adaptive -> new CaffeineGroupPolicy(settings, characteristics, adaptive))
+        .collect(toUnmodifiableSet());
+  }
+
+  @Override
+  public void record(AccessEvent event) {
+    var cache = caches.get(TraceFormat.traceIndexOf(event.key()) % caches.size());
+    AccessEvent value = cache.getIfPresent(event.key());
+    if (value == null) {
+      cache.put(event.key(), event);
+      policyStats.recordWeightedMiss(event.weight());
+    } else {
+      policyStats.recordWeightedHit(event.weight());
+      if (event.weight() != value.weight()) {
+        cache.put(event.key(), event);
+      }
+    }
+
+    events++;
+    if ((events % rebalanceInterval) == 0) {
+      group.rebalance();
+    }
+  }
+
+  @Override
+  public PolicyStats stats() {
+    return policyStats;
+  }
+
+  public static final class CaffeineGroupSettings extends BasicSettings {
+    public CaffeineGroupSettings(Config config) {
+      super(config);
+    }
+    public long rebalanceInterval() {
+      return config().getLong("caffeine-group.rebalance-interval");
+    }
+  }
+}
@@ -16,7 +16,9 @@
 package com.github.benmanes.caffeine.cache.simulator.policy.product;
 
 import static com.github.benmanes.caffeine.cache.simulator.policy.Policy.Characteristic.WEIGHTED;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
+import java.util.List;
 import java.util.Set;
 
 import com.github.benmanes.caffeine.cache.Cache;
@@ -31,7 +33,8 @@ import com.google.common.primitives.Ints;
 import com.typesafe.config.Config;
 
 /**
- * Caffeine cache implementation.
+ * Caffeine cache implementation. The variant with a doorkeeper evaluates the hit rate when the
+ * admission policy's frequency sketch is halved in size by absorbing the one-hit wonders.
  *
  * @author ben.manes@gmail.com (Ben Manes)
  */
@@ -40,9 +43,11 @@ public final class CaffeinePolicy implements Policy {
   private final Cache<Long, AccessEvent> cache;
   private final PolicyStats policyStats;
 
-  public CaffeinePolicy(Config config, Set<Characteristic> characteristics) {
-    policyStats = new PolicyStats(name());
-    BasicSettings settings = new BasicSettings(config);
+  public CaffeinePolicy(CaffeineSettings settings,
+      Set<Characteristic> characteristics, boolean doorkeeper) {
+    policyStats = doorkeeper
+        ? new PolicyStats(name() + " (doorkeeper)")
+        : new PolicyStats(name());
     Caffeine<Long, AccessEvent> builder = Caffeine.newBuilder()
         .removalListener((Long key, AccessEvent value, RemovalCause cause) ->
             policyStats.recordEviction())
@@ -54,9 +59,20 @@ public final class CaffeinePolicy implements Policy {
       builder.maximumSize(settings.maximumSize());
       builder.initialCapacity(Ints.saturatedCast(settings.maximumSize()));
     }
+    if (doorkeeper) {
+      builder.admissionDoorkeeper();
+    }
     cache = builder.build();
   }
 
+  /** Returns all variations of this policy based on the configuration parameters. */
+  public static Set<Policy> policies(Config config, Set<Characteristic> characteristics) {
+    var settings = new CaffeineSettings(config);
+    return settings.doorkeeper().stream()
+        .map(doorkeeper -> new CaffeinePolicy(settings, characteristics, doorkeeper))
+        .collect(toUnmodifiableSet());
+  }
+
   @Override
   public void record(AccessEvent event) {
     AccessEvent value = cache.getIfPresent(event.key());
@@ -75,4 +91,13 @@ public final class CaffeinePolicy implements Policy {
   public PolicyStats stats() {
     return policyStats;
   }
+
+  public static final class CaffeineSettings extends BasicSettings {
+    public CaffeineSettings(Config config) {
+      super(config);
+    }
+    public List<Boolean> doorkeeper() {
+      return config().getBooleanList("caffeine.doorkeeper");
+    }
+  }
 }